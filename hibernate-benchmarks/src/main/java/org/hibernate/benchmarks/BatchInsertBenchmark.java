@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.benchmarks.model.Books;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Persisting and flushing {@code insertCount} new entities per transaction,
+ * executed as JDBC batches through {@code BatchingBatch} when
+ * {@code batchSize > 1}.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class BatchInsertBenchmark {
+	@Param( { "1", "50" } )
+	private int batchSize;
+
+	@Param( { "1000" } )
+	private int insertCount;
+
+	private SessionFactoryImplementor sessionFactory;
+	private long nextId;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build(
+				"insert",
+				Collections.singletonMap( AvailableSettings.STATEMENT_BATCH_SIZE, batchSize ),
+				Book.class
+		);
+	}
+
+	@TearDown( Level.Iteration )
+	public void deleteInserted() {
+		BenchmarkSessionFactories.inTransaction(
+				sessionFactory,
+				session -> session.createQuery( "delete from Book" ).executeUpdate()
+		);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchmarkSessionFactories.close( sessionFactory );
+	}
+
+	@Benchmark
+	public void insert() {
+		BenchmarkSessionFactories.inTransaction(
+				sessionFactory,
+				session -> {
+					for ( int i = 0; i < insertCount; i++ ) {
+						session.persist( Books.create( ++nextId ) );
+					}
+				}
+		);
+	}
+}
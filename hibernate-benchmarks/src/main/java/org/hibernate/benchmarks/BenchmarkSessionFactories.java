@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Bootstraps the {@link SessionFactory} used by the benchmarks against a
+ * private in-memory H2 database.
+ */
+public final class BenchmarkSessionFactories {
+	private BenchmarkSessionFactories() {
+	}
+
+	/**
+	 * Build a SessionFactory for the given annotated classes.  The schema is
+	 * created on start-up and dropped on close; the passed settings are applied
+	 * on top of the defaults, which disable the second-level cache.
+	 */
+	public static SessionFactoryImplementor build(
+			String databaseName,
+			Map<String, Object> settings,
+			Class<?>... annotatedClasses) {
+		final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.DRIVER, "org.h2.Driver" )
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1" )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.PASS, "" )
+				.applySetting( AvailableSettings.DIALECT, H2Dialect.class.getName() )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.USE_SECOND_LEVEL_CACHE, false )
+				.applySetting( AvailableSettings.SHOW_SQL, false )
+				.applySettings( settings )
+				.build();
+		try {
+			final MetadataSources metadataSources = new MetadataSources( serviceRegistry );
+			for ( Class<?> annotatedClass : annotatedClasses ) {
+				metadataSources.addAnnotatedClass( annotatedClass );
+			}
+			return (SessionFactoryImplementor) metadataSources.buildMetadata().buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+			throw e;
+		}
+	}
+
+	/**
+	 * Run the given work in a new Session and transaction, committing at the end.
+	 */
+	public static void inTransaction(SessionFactory sessionFactory, Consumer<Session> work) {
+		try ( Session session = sessionFactory.openSession() ) {
+			session.getTransaction().begin();
+			try {
+				work.accept( session );
+				session.getTransaction().commit();
+			}
+			catch (RuntimeException e) {
+				if ( session.getTransaction().isActive() ) {
+					session.getTransaction().rollback();
+				}
+				throw e;
+			}
+		}
+	}
+
+	public static void close(SessionFactory sessionFactory) {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+	}
+}
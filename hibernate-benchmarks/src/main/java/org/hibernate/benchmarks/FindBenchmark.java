@@ -0,0 +1,87 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Collections;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.benchmarks.model.Books;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Loading a single entity by id, i.e. {@code SessionImpl#find} down through
+ * {@code SingleIdEntityLoaderStandardImpl}, with the second-level cache
+ * disabled so that every call hits the database.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class FindBenchmark {
+	@Param( { "1000" } )
+	private int bookCount;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build( "find", Collections.emptyMap(), Book.class );
+		BenchmarkSessionFactories.inTransaction( sessionFactory, session -> Books.seed( session, bookCount ) );
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchmarkSessionFactories.close( sessionFactory );
+	}
+
+	/**
+	 * One find per Session - the typical request-scoped lookup.
+	 */
+	@Benchmark
+	public Book findInNewSession() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.find( Book.class, randomId() );
+		}
+	}
+
+	/**
+	 * Repeated finds of different ids in one Session, which also exercises
+	 * the persistence context as it fills up.
+	 */
+	@Benchmark
+	public int findManyInOneSession() {
+		int pages = 0;
+		try ( Session session = sessionFactory.openSession() ) {
+			for ( int i = 0; i < 100; i++ ) {
+				pages += session.find( Book.class, randomId() ).getPages();
+			}
+		}
+		return pages;
+	}
+
+	private long randomId() {
+		return ThreadLocalRandom.current().nextLong( 1, bookCount + 1 );
+	}
+}
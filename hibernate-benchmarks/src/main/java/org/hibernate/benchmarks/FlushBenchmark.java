@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.benchmarks.model.Books;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Flushing a Session which holds {@code managedCount} entities of which
+ * {@code dirtyCount} were modified, i.e. the dirty checking done by
+ * {@code DefaultFlushEntityEventListener} plus the resulting (batched) updates.
+ * <p>
+ * All the work happens in one long-running transaction which is rolled back
+ * at the end of each iteration, so the table content never changes.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class FlushBenchmark {
+	@Param( { "1000", "10000" } )
+	private int managedCount;
+
+	@Param( { "0", "10", "1000" } )
+	private int dirtyCount;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+	private List<Book> books;
+	private double priceDelta;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build(
+				"flush",
+				Collections.singletonMap( AvailableSettings.STATEMENT_BATCH_SIZE, 50 ),
+				Book.class
+		);
+		BenchmarkSessionFactories.inTransaction( sessionFactory, s -> Books.seed( s, managedCount ) );
+	}
+
+	@Setup( Level.Iteration )
+	public void openSession() {
+		session = sessionFactory.openSession();
+		session.getTransaction().begin();
+		books = session.createQuery( "from Book b order by b.id", Book.class ).list();
+	}
+
+	@TearDown( Level.Iteration )
+	public void closeSession() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchmarkSessionFactories.close( sessionFactory );
+	}
+
+	@Benchmark
+	public void flush() {
+		// alternate the value so that every invocation really changes the state
+		priceDelta = priceDelta == 0 ? 1 : 0;
+		final int dirty = Math.min( dirtyCount, books.size() );
+		for ( int i = 0; i < dirty; i++ ) {
+			final Book book = books.get( i );
+			book.setPrice( Math.floor( book.getPrice() ) + priceDelta );
+		}
+		session.flush();
+	}
+}
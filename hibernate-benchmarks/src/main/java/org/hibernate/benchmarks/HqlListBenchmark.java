@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.benchmarks.model.Books;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * HQL {@code list()} through {@code ConcreteSqmSelectQueryPlan} and
+ * {@code JdbcSelectExecutorStandardImpl}, for both entity and scalar results.
+ * The query plan cache is warm after the first invocation, so this measures
+ * execution and row processing rather than interpretation.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class HqlListBenchmark {
+	@Param( { "10", "1000" } )
+	private int resultSize;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build( "hql", Collections.emptyMap(), Book.class );
+		BenchmarkSessionFactories.inTransaction( sessionFactory, session -> Books.seed( session, resultSize ) );
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchmarkSessionFactories.close( sessionFactory );
+	}
+
+	@Benchmark
+	public List<Book> listEntities() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createQuery( "select b from Book b where b.id <= :max", Book.class )
+					.setParameter( "max", (long) resultSize )
+					.list();
+		}
+	}
+
+	@Benchmark
+	public List<Object[]> listScalars() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createQuery( "select b.id, b.pages, b.price from Book b where b.id <= :max", Object[].class )
+					.setParameter( "max", (long) resultSize )
+					.list();
+		}
+	}
+}
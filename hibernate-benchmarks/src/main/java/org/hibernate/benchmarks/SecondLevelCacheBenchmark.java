@@ -0,0 +1,81 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.benchmarks.model.Books;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Second-level cache hits through {@code EntityReadWriteAccess}.  The cache
+ * is backed by the Map based {@link CachingRegionFactory}, so the numbers
+ * reflect Hibernate's own overhead (key creation, lock checks, assembly)
+ * rather than that of a particular cache provider.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class SecondLevelCacheBenchmark {
+	@Param( { "1000" } )
+	private int bookCount;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup
+	public void setUp() {
+		final Map<String, Object> settings = new HashMap<>();
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, true );
+		settings.put( AvailableSettings.CACHE_REGION_FACTORY, CachingRegionFactory.class.getName() );
+		sessionFactory = BenchmarkSessionFactories.build( "cache", settings, Book.class );
+
+		BenchmarkSessionFactories.inTransaction( sessionFactory, session -> Books.seed( session, bookCount ) );
+		// warm the cache up, a read-write put only happens on load
+		try ( Session session = sessionFactory.openSession() ) {
+			for ( long id = 1; id <= bookCount; id++ ) {
+				session.find( Book.class, id );
+				session.clear();
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchmarkSessionFactories.close( sessionFactory );
+	}
+
+	@Benchmark
+	public Book cacheHit() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.find( Book.class, ThreadLocalRandom.current().nextLong( 1, bookCount + 1 ) );
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks.model;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+/**
+ * Plain entity with a handful of basic attributes, cached read-write so the
+ * same model serves both the JDBC and the second-level cache benchmarks.
+ */
+@Entity
+@Table( name = "bench_book" )
+@Cacheable
+@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+public class Book {
+	@Id
+	private Long id;
+	private String title;
+	private String isbn;
+	private int pages;
+	private double price;
+
+	protected Book() {
+	}
+
+	public Book(Long id, String title, String isbn, int pages, double price) {
+		this.id = id;
+		this.title = title;
+		this.isbn = isbn;
+		this.pages = pages;
+		this.price = price;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public String getIsbn() {
+		return isbn;
+	}
+
+	public int getPages() {
+		return pages;
+	}
+
+	public double getPrice() {
+		return price;
+	}
+
+	public void setPrice(double price) {
+		this.price = price;
+	}
+}
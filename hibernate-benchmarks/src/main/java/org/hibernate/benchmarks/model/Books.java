@@ -0,0 +1,41 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks.model;
+
+import org.hibernate.Session;
+
+/**
+ * Factory for deterministic {@link Book} test data.
+ */
+public final class Books {
+	private Books() {
+	}
+
+	public static Book create(long id) {
+		return new Book(
+				id,
+				"Title #" + id,
+				"978-" + ( 1_000_000_000L + id ),
+				100 + (int) ( id % 900 ),
+				10d + ( id % 50 )
+		);
+	}
+
+	/**
+	 * Persist books with identifiers {@code [1, count]}, flushing in chunks
+	 * so that seeding large data sets does not blow up the Session.
+	 */
+	public static void seed(Session session, int count) {
+		for ( long id = 1; id <= count; id++ ) {
+			session.persist( create( id ) );
+			if ( id % 500 == 0 ) {
+				session.flush();
+				session.clear();
+			}
+		}
+	}
+}
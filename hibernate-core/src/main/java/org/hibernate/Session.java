@@ -941,6 +941,19 @@ public interface Session extends SharedSessionContract, EntityManager {
 	 */
 	void setReadOnly(Object entityOrProxy, boolean readOnly);
 
+	/**
+	 * Report that a persistent object was modified, so that the next flush
+	 * visits it.  Only needed when flushes are limited to the entities known
+	 * to be dirty, per {@value org.hibernate.cfg.AvailableSettings#FLUSH_DIRTY_SET_ONLY};
+	 * otherwise every persistent object is dirty checked, and this method
+	 * does nothing.
+	 *
+	 * @param entityOrProxy an entity or HibernateProxy
+	 *
+	 * @throws TransientObjectException if the entity is not associated with this session
+	 */
+	void markDirty(Object entityOrProxy);
+
 	@Override
 	<T> RootGraph<T> createEntityGraph(Class<T> rootType);
 
@@ -6,6 +6,8 @@
  */
 package org.hibernate;
 
+import java.util.stream.Stream;
+
 /**
  * A command-oriented API for performing bulk operations against a database.
  * <p/>
@@ -47,6 +49,24 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	Object insert(String entityName, Object entity);
 
+	/**
+	 * Insert a row for each of the given entities, in bulk, for pure ingestion.
+	 * <p/>
+	 * Consecutive entities of the same entity type are loaded into their table by
+	 * the {@linkplain org.hibernate.dialect.Dialect#getBulkLoader() bulk loader} of
+	 * the dialect, {@code copy} on PostgreSQL, and batches of multi-row inserts
+	 * elsewhere.  Entities which span several tables, or have an identifier or other
+	 * values generated by the insert, are inserted one at a time, as by
+	 * {@link #insert(Object)}.  Generated identifiers are assigned to the entities,
+	 * for a chunk of entities at a time, before the rows of the chunk are loaded.
+	 * The stream is not closed.
+	 *
+	 * @param entities a stream of new transient instances
+	 *
+	 * @return the number of inserted rows
+	 */
+	long insertAll(Stream<?> entities);
+
 	/**
 	 * Update a row.
 	 *
@@ -62,6 +82,29 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	void update(String entityName, Object entity);
 
+	/**
+	 * Insert a row, or update the row with the same identifier if there is
+	 * one, with a single statement.
+	 * <p/>
+	 * Only supported by dialects which {@linkplain org.hibernate.dialect.Dialect#supportsUpsert()
+	 * support upserts}, for entities with assigned identifiers meeting the restrictions of
+	 * {@link org.hibernate.cfg.AvailableSettings#MERGE_UPSERT}.
+	 *
+	 * @param entity a new or detached entity instance
+	 */
+	void upsert(Object entity);
+
+	/**
+	 * Insert a row, or update the row with the same identifier if there is
+	 * one, with a single statement.
+	 *
+	 * @param entityName The entityName for the entity to be inserted or updated
+	 * @param entity a new or detached entity instance
+	 *
+	 * @see #upsert(Object)
+	 */
+	void upsert(String entityName, Object entity);
+
 	/**
 	 * Delete a row.
 	 *
@@ -0,0 +1,112 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.action.internal;
+
+import org.hibernate.AssertionFailure;
+import org.hibernate.HibernateException;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * The action for writing the state of an entity which may or may not already exist
+ * in the database, by a single {@linkplain EntityPersister#upsert upsert} statement.
+ * <p/>
+ * Queued along with the insertions, so that the row exists before any row referencing
+ * it is inserted.  As it is not known whether the row is inserted or updated, no insert
+ * or update event is fired, and the cached state of the entity is removed.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#MERGE_UPSERT
+ */
+public class EntityUpsertAction extends AbstractEntityInsertAction {
+	private SoftLock lock;
+
+	/**
+	 * Constructs an EntityUpsertAction.
+	 *
+	 * @param id The entity identifier
+	 * @param state The current (extracted) entity state
+	 * @param instance The entity instance
+	 * @param persister The entity's persister
+	 * @param session The session
+	 */
+	public EntityUpsertAction(
+			Object id,
+			Object[] state,
+			Object instance,
+			EntityPersister persister,
+			SharedSessionContractImplementor session) {
+		super( id, state, instance, false, persister, session );
+	}
+
+	@Override
+	public boolean isEarlyInsert() {
+		return false;
+	}
+
+	@Override
+	protected EntityKey getEntityKey() {
+		return getSession().generateEntityKey( getId(), getPersister() );
+	}
+
+	@Override
+	public void execute() throws HibernateException {
+		nullifyTransientReferencesIfNotAlready();
+
+		final EntityPersister persister = getPersister();
+		final SharedSessionContractImplementor session = getSession();
+		final Object instance = getInstance();
+		final Object id = getId();
+
+		final Object ck;
+		if ( persister.canWriteToCache() ) {
+			final EntityDataAccess cache = persister.getCacheAccessStrategy();
+			ck = cache.generateCacheKey( id, persister, session.getFactory(), session.getTenantIdentifier() );
+			lock = cache.lockItem( session, ck, null );
+		}
+		else {
+			ck = null;
+		}
+
+		persister.upsert( id, getState(), instance, session );
+
+		final EntityEntry entry = session.getPersistenceContextInternal().getEntry( instance );
+		if ( entry == null ) {
+			throw new AssertionFailure( "possible non-threadsafe access to session" );
+		}
+		entry.postInsert( getState() );
+
+		if ( persister.canWriteToCache() ) {
+			persister.getCacheAccessStrategy().remove( session, ck );
+		}
+
+		markExecuted();
+	}
+
+	@Override
+	public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) throws HibernateException {
+		final EntityPersister persister = getPersister();
+		if ( persister.canWriteToCache() ) {
+			final EntityDataAccess cache = persister.getCacheAccessStrategy();
+			final Object ck = cache.generateCacheKey(
+					getId(),
+					persister,
+					session.getFactory(),
+					session.getTenantIdentifier()
+			);
+			cache.unlockItem( session, ck, lock );
+		}
+	}
+
+	@Override
+	protected boolean hasPostCommitEventListeners() {
+		return false;
+	}
+}
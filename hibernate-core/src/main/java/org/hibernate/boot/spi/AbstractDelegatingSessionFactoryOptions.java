@@ -209,6 +209,31 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isOrderInsertsEnabled();
 	}
 
+	@Override
+	public int getOrderInsertsParallelism() {
+		return delegate.getOrderInsertsParallelism();
+	}
+
+	@Override
+	public boolean isDirtyCheckingOptimizerEnabled() {
+		return delegate.isDirtyCheckingOptimizerEnabled();
+	}
+
+	@Override
+	public boolean isDirtySetFlushEnabled() {
+		return delegate.isDirtySetFlushEnabled();
+	}
+
+	@Override
+	public int getParallelDirtyCheckingThreshold() {
+		return delegate.getParallelDirtyCheckingThreshold();
+	}
+
+	@Override
+	public boolean isMergeUpsertEnabled() {
+		return delegate.isMergeUpsertEnabled();
+	}
+
 	@Override
 	public boolean isMultiTenancyEnabled() {
 		return delegate.isMultiTenancyEnabled();
@@ -259,6 +284,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isQueryCacheEnabled();
 	}
 
+	@Override
+	public boolean isQueryCacheIdsOnlyEnabled() {
+		return delegate.isQueryCacheIdsOnlyEnabled();
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return delegate.getTimestampsCacheFactory();
@@ -279,6 +309,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isStructuredCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return delegate.isCompactCacheEntriesEnabled();
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return delegate.isDirectReferenceCacheEntriesEnabled();
@@ -173,6 +173,13 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isOrderInsertsEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#ORDER_INSERTS_PARALLELISM
+	 */
+	default int getOrderInsertsParallelism() {
+		return 1;
+	}
+
 	boolean isMultiTenancyEnabled();
 
 	CurrentTenantIdentifierResolver getCurrentTenantIdentifierResolver();
@@ -198,6 +205,13 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isQueryCacheEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_IDS_ONLY
+	 */
+	default boolean isQueryCacheIdsOnlyEnabled() {
+		return false;
+	}
+
 	TimestampsCacheFactory getTimestampsCacheFactory();
 
 	String getCacheRegionPrefix();
@@ -206,6 +220,13 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isStructuredCacheEntriesEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#USE_COMPACT_CACHE
+	 */
+	default boolean isCompactCacheEntriesEnabled() {
+		return false;
+	}
+
 	boolean isDirectReferenceCacheEntriesEnabled();
 
 	boolean isAutoEvictCollectionCache();
@@ -323,6 +344,34 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return true;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#USE_DIRTY_CHECKING_OPTIMIZER
+	 */
+	default boolean isDirtyCheckingOptimizerEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_DIRTY_SET_ONLY
+	 */
+	default boolean isDirtySetFlushEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD
+	 */
+	default int getParallelDirtyCheckingThreshold() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#MERGE_UPSERT
+	 */
+	default boolean isMergeUpsertEnabled() {
+		return false;
+	}
+
 	/**
 	 * Can bytecode-enhanced entity classes be used as a "proxy"?
 	 *
@@ -7,6 +7,8 @@
 package org.hibernate.bytecode.internal.bytebuddy;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.concurrent.Callable;
@@ -16,8 +18,10 @@ import org.hibernate.bytecode.enhance.internal.bytebuddy.EnhancerImpl;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.internal.util.StringHelper;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 
 import net.bytebuddy.ClassFileVersion;
@@ -41,10 +45,12 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 
 	private static final String INSTANTIATOR_PROXY_NAMING_SUFFIX = "HibernateInstantiator";
 	private static final String OPTIMIZER_PROXY_NAMING_SUFFIX = "HibernateAccessOptimizer";
+	private static final String DIRTY_CHECK_OPTIMIZER_NAMING_SUFFIX = "HibernateDirtyCheckOptimizer";
 	private static final ElementMatcher.Junction newInstanceMethodName = ElementMatchers.named( "newInstance" );
 	private static final ElementMatcher.Junction getPropertyValuesMethodName = ElementMatchers.named( "getPropertyValues" );
 	private static final ElementMatcher.Junction setPropertyValuesMethodName = ElementMatchers.named( "setPropertyValues" );
 	private static final ElementMatcher.Junction getPropertyNamesMethodName = ElementMatchers.named( "getPropertyNames" );
+	private static final ElementMatcher.Junction isUnmodifiedMethodName = ElementMatchers.named( "isUnmodified" );
 
 	private final ByteBuddyState byteBuddyState;
 
@@ -123,6 +129,57 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	@Override
+	public DirtyCheckOptimizer getDirtyCheckOptimizer(final Class clazz, final Member[] members) {
+		for ( Member member : members ) {
+			if ( !isAccessibleFromPackageOf( clazz, member ) ) {
+				return null;
+			}
+		}
+
+		final Class dirtyCheckOptimizer = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom( DIRTY_CHECK_OPTIMIZER_NAMING_SUFFIX,
+						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) ) )
+				.subclass( DirtyCheckOptimizer.class )
+				.method( isUnmodifiedMethodName )
+						.intercept( new Implementation.Simple( new IsUnmodified( members ) ) )
+		);
+
+		try {
+			return (DirtyCheckOptimizer) dirtyCheckOptimizer.newInstance();
+		}
+		catch (Exception exception) {
+			throw new HibernateException( exception );
+		}
+	}
+
+	/**
+	 * The generated classes are defined in the package of the reflected class: they can read
+	 * the non-private members declared by the classes of that package, and the public ones.
+	 */
+	private static boolean isAccessibleFromPackageOf(Class clazz, Member member) {
+		if ( member instanceof Method ) {
+			final Method method = (Method) member;
+			if ( method.getParameterCount() != 0 || method.getReturnType() == void.class ) {
+				return false;
+			}
+		}
+		else if ( !( member instanceof Field ) ) {
+			return false;
+		}
+
+		final int modifiers = member.getModifiers();
+		final Class declaringClass = member.getDeclaringClass();
+		if ( Modifier.isPrivate( modifiers ) || Modifier.isStatic( modifiers ) || declaringClass.isInterface() ) {
+			return false;
+		}
+		if ( Modifier.isPublic( modifiers ) && Modifier.isPublic( declaringClass.getModifiers() ) ) {
+			return true;
+		}
+		return declaringClass.getClassLoader() == clazz.getClassLoader()
+				&& StringHelper.qualifier( declaringClass.getName() ).equals( StringHelper.qualifier( clazz.getName() ) );
+	}
+
 	public ByteBuddyProxyHelper getByteBuddyProxyHelper() {
 		return byteBuddyProxyHelper;
 	}
@@ -222,6 +279,69 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	/**
+	 * Compares each member to its loaded value, without branching: the results of the
+	 * comparisons are combined in a single boolean.
+	 */
+	private static class IsUnmodified implements ByteCodeAppender {
+
+		private static final String IS_SAME_OWNER = Type.getInternalName( DirtyCheckSupport.class );
+
+		private final Member[] members;
+
+		public IsUnmodified(Member[] members) {
+			this.members = members;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			methodVisitor.visitInsn( Opcodes.ICONST_1 );
+			int index = 0;
+			for ( Member member : members ) {
+				final String owner = Type.getInternalName( member.getDeclaringClass() );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, owner );
+				final Class<?> type;
+				if ( member instanceof Field ) {
+					final Field field = (Field) member;
+					type = field.getType();
+					methodVisitor.visitFieldInsn( Opcodes.GETFIELD, owner, field.getName(), Type.getDescriptor( type ) );
+				}
+				else {
+					final Method getter = (Method) member;
+					type = getter.getReturnType();
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEVIRTUAL,
+							owner,
+							getter.getName(),
+							Type.getMethodDescriptor( getter ),
+							false
+					);
+				}
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
+				methodVisitor.visitLdcInsn( index++ );
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				methodVisitor.visitMethodInsn(
+						Opcodes.INVOKESTATIC,
+						IS_SAME_OWNER,
+						"isSame",
+						Type.getMethodDescriptor(
+								Type.BOOLEAN_TYPE,
+								Type.getType( type.isPrimitive() ? type : Object.class ),
+								Type.getType( Object.class )
+						),
+						false
+				);
+				methodVisitor.visitInsn( Opcodes.IAND );
+			}
+			methodVisitor.visitInsn( Opcodes.IRETURN );
+			return new Size( 6, instrumentedMethod.getStackSize() );
+		}
+	}
+
 	private static void findAccessors(
 			Class clazz,
 			String[] getterNames,
@@ -0,0 +1,60 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+/**
+ * Comparisons of a current property value to its loaded value, called by the
+ * {@link org.hibernate.bytecode.spi.DirtyCheckOptimizer} classes generated by
+ * {@link BytecodeProviderImpl}; public because those classes are defined in the
+ * package of the entity.
+ * <p/>
+ * Primitive values are compared unboxed, with the semantic of {@code equals()}
+ * on their wrapper, and references are compared by identity.
+ */
+public final class DirtyCheckSupport {
+
+	private DirtyCheckSupport() {
+	}
+
+	public static boolean isSame(boolean value, Object loaded) {
+		return loaded instanceof Boolean && (Boolean) loaded == value;
+	}
+
+	public static boolean isSame(byte value, Object loaded) {
+		return loaded instanceof Byte && (Byte) loaded == value;
+	}
+
+	public static boolean isSame(short value, Object loaded) {
+		return loaded instanceof Short && (Short) loaded == value;
+	}
+
+	public static boolean isSame(char value, Object loaded) {
+		return loaded instanceof Character && (Character) loaded == value;
+	}
+
+	public static boolean isSame(int value, Object loaded) {
+		return loaded instanceof Integer && (Integer) loaded == value;
+	}
+
+	public static boolean isSame(long value, Object loaded) {
+		return loaded instanceof Long && (Long) loaded == value;
+	}
+
+	public static boolean isSame(float value, Object loaded) {
+		return loaded instanceof Float
+				&& Float.floatToIntBits( (Float) loaded ) == Float.floatToIntBits( value );
+	}
+
+	public static boolean isSame(double value, Object loaded) {
+		return loaded instanceof Double
+				&& Double.doubleToLongBits( (Double) loaded ) == Double.doubleToLongBits( value );
+	}
+
+	public static boolean isSame(Object value, Object loaded) {
+		return value == loaded;
+	}
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.bytecode.spi;
 
+import java.lang.reflect.Member;
+
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.service.Service;
@@ -41,6 +43,19 @@ public interface BytecodeProvider extends Service {
 	 */
 	ReflectionOptimizer getReflectionOptimizer(Class clazz, String[] getterNames, String[] setterNames, Class[] types);
 
+	/**
+	 * Retrieve a DirtyCheckOptimizer comparing the given persistent members of the
+	 * instances of a class to their loaded state.
+	 *
+	 * @param clazz The class to be reflected upon.
+	 * @param members The field or getter method of each persistent property, in the order of the loaded state.
+	 * @return The dirty check optimizer, or {@code null} if this provider does not support
+	 * generating one for these members (for example, because one of them is private).
+	 */
+	default DirtyCheckOptimizer getDirtyCheckOptimizer(Class clazz, Member[] members) {
+		return null;
+	}
+
 	/**
 	 * Returns a byte code enhancer that implements the enhancements described in the supplied enhancement context.
 	 *
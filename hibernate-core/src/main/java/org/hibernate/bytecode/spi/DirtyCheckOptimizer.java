@@ -0,0 +1,28 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.spi;
+
+/**
+ * Compares the persistent state of the instances of a particular class to their
+ * loaded state, without extracting the current state into an array.
+ *
+ * @see BytecodeProvider#getDirtyCheckOptimizer
+ */
+public interface DirtyCheckOptimizer {
+	/**
+	 * Whether each persistent property of the given entity still holds its loaded value:
+	 * the same instance for a reference, or an equal value for a primitive.
+	 *
+	 * @param entity The entity instance
+	 * @param loadedState The loaded state of the entity, in the order of the members
+	 * given to the {@link BytecodeProvider}
+	 *
+	 * @return {@code true} if no property was modified, {@code false} if at least
+	 * one property might have been modified
+	 */
+	boolean isUnmodified(Object entity, Object[] loadedState);
+}
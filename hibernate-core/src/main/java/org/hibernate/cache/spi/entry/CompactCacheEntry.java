@@ -0,0 +1,457 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.CacheException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+
+/**
+ * Compact binary CacheEntry format for entities.  Used to store the entry into the second-level
+ * cache as a {@code byte[]}, which remote or off-heap cache providers can store as-is instead of
+ * serializing a {@link StandardCacheEntryImpl}.
+ * <p/>
+ * The entry holds the id of the subclass within its hierarchy (the index of its name among the
+ * sorted entity names of the hierarchy), the version and the disassembled state, in the order
+ * of the properties of the subclass.  Each value is written with a one byte tag: integers and
+ * lengths are variable-length encoded, the values of the wrapper types, {@code String},
+ * {@code byte[]}, {@code BigDecimal}, {@code BigInteger}, {@code UUID} and common temporal types
+ * are written as primitives, and the arrays of disassembled embeddables are written element by
+ * element.  Other values fall back to Java serialization.
+ * <p/>
+ * The format depends on the mapping of the hierarchy: all the nodes sharing a cache must use the
+ * same mapping.
+ */
+public class CompactCacheEntry implements CacheEntryStructure {
+	private static final byte FORMAT_VERSION = 1;
+
+	private static final byte NULL = 0;
+	private static final byte TRUE = 1;
+	private static final byte FALSE = 2;
+	private static final byte BYTE = 3;
+	private static final byte SHORT = 4;
+	private static final byte INTEGER = 5;
+	private static final byte LONG = 6;
+	private static final byte FLOAT = 7;
+	private static final byte DOUBLE = 8;
+	private static final byte CHARACTER = 9;
+	private static final byte STRING = 10;
+	private static final byte BYTES = 11;
+	private static final byte BIG_DECIMAL = 12;
+	private static final byte BIG_INTEGER = 13;
+	private static final byte UUID_VALUE = 14;
+	private static final byte DATE = 15;
+	private static final byte TIMESTAMP = 16;
+	private static final byte SQL_DATE = 17;
+	private static final byte INSTANT = 18;
+	private static final byte LOCAL_DATE = 19;
+	private static final byte LOCAL_DATE_TIME = 20;
+	private static final byte OBJECT_ARRAY = 21;
+	private static final byte SERIALIZABLE_ARRAY = 22;
+	private static final byte UNFETCHED = 23;
+	private static final byte UNKNOWN_BACKREF = 24;
+	private static final byte SERIALIZED = 25;
+
+	private final EntityPersister persister;
+	private volatile String[] hierarchyEntityNames;
+
+	/**
+	 * Constructs a CompactCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public CompactCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		final Serializable[] state = entry.getDisassembledState();
+		final Output output = new Output( 16 + state.length * 8 );
+		output.writeByte( FORMAT_VERSION );
+		output.writeVarInt( subclassId( entry.getSubclass() ) );
+		writeValue( output, entry.getVersion() );
+		output.writeVarInt( state.length );
+		for ( Serializable value : state ) {
+			writeValue( output, value );
+		}
+		return output.toByteArray();
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		final Input input = new Input( (byte[]) structured );
+		final byte format = input.readByte();
+		if ( format != FORMAT_VERSION ) {
+			throw new CacheException( "Unsupported compact cache entry format: " + format );
+		}
+		final String subclass = hierarchyEntityNames()[ input.readVarInt() ];
+		final EntityPersister subclassPersister = factory.getEntityPersister( subclass );
+		final ClassLoader classLoader = subclassPersister.getMappedClass() == null
+				? null
+				: subclassPersister.getMappedClass().getClassLoader();
+		final Object version = readValue( input, classLoader );
+		final int length = input.readVarInt();
+		if ( length != subclassPersister.getPropertyNames().length ) {
+			throw new CacheException(
+					"Compact cache entry of " + subclass + " has " + length + " values, the mapping has "
+							+ subclassPersister.getPropertyNames().length + " properties"
+			);
+		}
+		final Serializable[] disassembledState = new Serializable[length];
+		for ( int i = 0; i < length; i++ ) {
+			disassembledState[i] = (Serializable) readValue( input, classLoader );
+		}
+		return new StandardCacheEntryImpl( disassembledState, subclass, version );
+	}
+
+	private int subclassId(String entityName) {
+		final int id = Arrays.binarySearch( hierarchyEntityNames(), entityName );
+		if ( id < 0 ) {
+			throw new CacheException( "Entity " + entityName + " is not part of the hierarchy of " + persister.getEntityName() );
+		}
+		return id;
+	}
+
+	/**
+	 * The sorted names of the entities of the hierarchy, resolved from the root entity so that
+	 * every persister of the hierarchy assigns the same ids
+	 */
+	private String[] hierarchyEntityNames() {
+		String[] names = hierarchyEntityNames;
+		if ( names == null ) {
+			final EntityPersister rootPersister = persister.getFactory().getEntityPersister( persister.getRootEntityName() );
+			names = rootPersister.getEntityMetamodel().getSubclassEntityNames().toArray( new String[0] );
+			Arrays.sort( names );
+			hierarchyEntityNames = names;
+		}
+		return names;
+	}
+
+	private static void writeValue(Output output, Object value) {
+		if ( value == null ) {
+			output.writeByte( NULL );
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			output.writeByte( UNFETCHED );
+		}
+		else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+			output.writeByte( UNKNOWN_BACKREF );
+		}
+		else {
+			final Class<?> valueClass = value.getClass();
+			if ( valueClass == Integer.class ) {
+				output.writeByte( INTEGER );
+				output.writeVarLong( zigZag( (Integer) value ) );
+			}
+			else if ( valueClass == Long.class ) {
+				output.writeByte( LONG );
+				output.writeVarLong( zigZag( (Long) value ) );
+			}
+			else if ( valueClass == String.class ) {
+				output.writeByte( STRING );
+				output.writeBytes( ( (String) value ).getBytes( StandardCharsets.UTF_8 ) );
+			}
+			else if ( valueClass == Boolean.class ) {
+				output.writeByte( (Boolean) value ? TRUE : FALSE );
+			}
+			else if ( valueClass == Short.class ) {
+				output.writeByte( SHORT );
+				output.writeVarLong( zigZag( (Short) value ) );
+			}
+			else if ( valueClass == Byte.class ) {
+				output.writeByte( BYTE );
+				output.writeByte( (Byte) value );
+			}
+			else if ( valueClass == Character.class ) {
+				output.writeByte( CHARACTER );
+				output.writeVarInt( (Character) value );
+			}
+			else if ( valueClass == Double.class ) {
+				output.writeByte( DOUBLE );
+				output.writeLong( Double.doubleToRawLongBits( (Double) value ) );
+			}
+			else if ( valueClass == Float.class ) {
+				output.writeByte( FLOAT );
+				output.writeInt( Float.floatToRawIntBits( (Float) value ) );
+			}
+			else if ( valueClass == byte[].class ) {
+				output.writeByte( BYTES );
+				output.writeBytes( (byte[]) value );
+			}
+			else if ( valueClass == BigDecimal.class ) {
+				final BigDecimal decimal = (BigDecimal) value;
+				output.writeByte( BIG_DECIMAL );
+				output.writeVarLong( zigZag( decimal.scale() ) );
+				output.writeBytes( decimal.unscaledValue().toByteArray() );
+			}
+			else if ( valueClass == BigInteger.class ) {
+				output.writeByte( BIG_INTEGER );
+				output.writeBytes( ( (BigInteger) value ).toByteArray() );
+			}
+			else if ( valueClass == UUID.class ) {
+				final UUID uuid = (UUID) value;
+				output.writeByte( UUID_VALUE );
+				output.writeLong( uuid.getMostSignificantBits() );
+				output.writeLong( uuid.getLeastSignificantBits() );
+			}
+			else if ( valueClass == Date.class ) {
+				output.writeByte( DATE );
+				output.writeVarLong( zigZag( ( (Date) value ).getTime() ) );
+			}
+			else if ( valueClass == Timestamp.class ) {
+				final Timestamp timestamp = (Timestamp) value;
+				output.writeByte( TIMESTAMP );
+				output.writeVarLong( zigZag( timestamp.getTime() ) );
+				output.writeVarInt( timestamp.getNanos() );
+			}
+			else if ( valueClass == java.sql.Date.class ) {
+				output.writeByte( SQL_DATE );
+				output.writeVarLong( zigZag( ( (java.sql.Date) value ).getTime() ) );
+			}
+			else if ( valueClass == Instant.class ) {
+				final Instant instant = (Instant) value;
+				output.writeByte( INSTANT );
+				output.writeVarLong( zigZag( instant.getEpochSecond() ) );
+				output.writeVarInt( instant.getNano() );
+			}
+			else if ( valueClass == LocalDate.class ) {
+				output.writeByte( LOCAL_DATE );
+				output.writeVarLong( zigZag( ( (LocalDate) value ).toEpochDay() ) );
+			}
+			else if ( valueClass == LocalDateTime.class ) {
+				final LocalDateTime dateTime = (LocalDateTime) value;
+				output.writeByte( LOCAL_DATE_TIME );
+				output.writeVarLong( zigZag( dateTime.toLocalDate().toEpochDay() ) );
+				output.writeVarLong( dateTime.toLocalTime().toNanoOfDay() );
+			}
+			else if ( valueClass == Object[].class || valueClass == Serializable[].class ) {
+				// the disassembled state of an embeddable
+				final Object[] values = (Object[]) value;
+				output.writeByte( valueClass == Object[].class ? OBJECT_ARRAY : SERIALIZABLE_ARRAY );
+				output.writeVarInt( values.length );
+				for ( Object element : values ) {
+					writeValue( output, element );
+				}
+			}
+			else {
+				output.writeByte( SERIALIZED );
+				output.writeBytes( SerializationHelper.serialize( (Serializable) value ) );
+			}
+		}
+	}
+
+	private static Object readValue(Input input, ClassLoader classLoader) {
+		final byte tag = input.readByte();
+		switch ( tag ) {
+			case NULL:
+				return null;
+			case UNFETCHED:
+				return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			case UNKNOWN_BACKREF:
+				return PropertyAccessStrategyBackRefImpl.UNKNOWN;
+			case TRUE:
+				return Boolean.TRUE;
+			case FALSE:
+				return Boolean.FALSE;
+			case BYTE:
+				return input.readByte();
+			case SHORT:
+				return (short) unZigZag( input.readVarLong() );
+			case INTEGER:
+				return (int) unZigZag( input.readVarLong() );
+			case LONG:
+				return unZigZag( input.readVarLong() );
+			case FLOAT:
+				return Float.intBitsToFloat( input.readInt() );
+			case DOUBLE:
+				return Double.longBitsToDouble( input.readLong() );
+			case CHARACTER:
+				return (char) input.readVarInt();
+			case STRING:
+				return new String( input.readBytes(), StandardCharsets.UTF_8 );
+			case BYTES:
+				return input.readBytes();
+			case BIG_DECIMAL: {
+				final int scale = (int) unZigZag( input.readVarLong() );
+				return new BigDecimal( new BigInteger( input.readBytes() ), scale );
+			}
+			case BIG_INTEGER:
+				return new BigInteger( input.readBytes() );
+			case UUID_VALUE:
+				return new UUID( input.readLong(), input.readLong() );
+			case DATE:
+				return new Date( unZigZag( input.readVarLong() ) );
+			case TIMESTAMP: {
+				final Timestamp timestamp = new Timestamp( unZigZag( input.readVarLong() ) );
+				timestamp.setNanos( input.readVarInt() );
+				return timestamp;
+			}
+			case SQL_DATE:
+				return new java.sql.Date( unZigZag( input.readVarLong() ) );
+			case INSTANT:
+				return Instant.ofEpochSecond( unZigZag( input.readVarLong() ), input.readVarInt() );
+			case LOCAL_DATE:
+				return LocalDate.ofEpochDay( unZigZag( input.readVarLong() ) );
+			case LOCAL_DATE_TIME:
+				return LocalDateTime.of(
+						LocalDate.ofEpochDay( unZigZag( input.readVarLong() ) ),
+						LocalTime.ofNanoOfDay( input.readVarLong() )
+				);
+			case OBJECT_ARRAY:
+			case SERIALIZABLE_ARRAY: {
+				final int length = input.readVarInt();
+				final Object[] values = tag == OBJECT_ARRAY ? new Object[length] : new Serializable[length];
+				for ( int i = 0; i < length; i++ ) {
+					values[i] = readValue( input, classLoader );
+				}
+				return values;
+			}
+			case SERIALIZED:
+				return classLoader == null
+						? SerializationHelper.deserialize( input.readBytes() )
+						: SerializationHelper.deserialize( input.readBytes(), classLoader );
+			default:
+				throw new CacheException( "Unknown value tag in compact cache entry: " + tag );
+		}
+	}
+
+	private static long zigZag(long value) {
+		return ( value << 1 ) ^ ( value >> 63 );
+	}
+
+	private static long unZigZag(long value) {
+		return ( value >>> 1 ) ^ -( value & 1 );
+	}
+
+	private static final class Output {
+		private byte[] buffer;
+		private int position;
+
+		private Output(int initialCapacity) {
+			buffer = new byte[initialCapacity];
+		}
+
+		private void ensureCapacity(int length) {
+			if ( position + length > buffer.length ) {
+				buffer = Arrays.copyOf( buffer, Math.max( buffer.length * 2, position + length ) );
+			}
+		}
+
+		private void writeByte(int value) {
+			ensureCapacity( 1 );
+			buffer[position++] = (byte) value;
+		}
+
+		private void writeVarInt(int value) {
+			writeVarLong( value & 0xFFFFFFFFL );
+		}
+
+		private void writeVarLong(long value) {
+			ensureCapacity( 10 );
+			while ( ( value & ~0x7FL ) != 0 ) {
+				buffer[position++] = (byte) ( ( value & 0x7F ) | 0x80 );
+				value >>>= 7;
+			}
+			buffer[position++] = (byte) value;
+		}
+
+		private void writeInt(int value) {
+			ensureCapacity( 4 );
+			for ( int shift = 24; shift >= 0; shift -= 8 ) {
+				buffer[position++] = (byte) ( value >>> shift );
+			}
+		}
+
+		private void writeLong(long value) {
+			ensureCapacity( 8 );
+			for ( int shift = 56; shift >= 0; shift -= 8 ) {
+				buffer[position++] = (byte) ( value >>> shift );
+			}
+		}
+
+		private void writeBytes(byte[] bytes) {
+			writeVarInt( bytes.length );
+			ensureCapacity( bytes.length );
+			System.arraycopy( bytes, 0, buffer, position, bytes.length );
+			position += bytes.length;
+		}
+
+		private byte[] toByteArray() {
+			return Arrays.copyOf( buffer, position );
+		}
+	}
+
+	private static final class Input {
+		private final byte[] buffer;
+		private int position;
+
+		private Input(byte[] buffer) {
+			this.buffer = buffer;
+		}
+
+		private byte readByte() {
+			return buffer[position++];
+		}
+
+		private int readVarInt() {
+			return (int) readVarLong();
+		}
+
+		private long readVarLong() {
+			long value = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = buffer[position++];
+				value |= (long) ( b & 0x7F ) << shift;
+				shift += 7;
+			} while ( b < 0 );
+			return value;
+		}
+
+		private int readInt() {
+			int value = 0;
+			for ( int i = 0; i < 4; i++ ) {
+				value = ( value << 8 ) | ( buffer[position++] & 0xFF );
+			}
+			return value;
+		}
+
+		private long readLong() {
+			long value = 0;
+			for ( int i = 0; i < 8; i++ ) {
+				value = ( value << 8 ) | ( buffer[position++] & 0xFF );
+			}
+			return value;
+		}
+
+		private byte[] readBytes() {
+			final int length = readVarInt();
+			final byte[] bytes = Arrays.copyOfRange( buffer, position, position + length );
+			position += length;
+			return bytes;
+		}
+	}
+}
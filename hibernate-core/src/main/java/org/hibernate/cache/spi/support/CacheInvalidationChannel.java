@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.support;
+
+/**
+ * Transport of the invalidations of the {@link NearCacheStorageAccess near-caches}
+ * of the nodes sharing a second-level cache.  Typically backed by the messaging
+ * facility of the clustered cache itself.
+ * <p/>
+ * Keys are passed as they are handed to the {@link DomainDataStorageAccess}, and
+ * must be serialized by implementations sending them to other JVMs.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_INVALIDATION_CHANNEL
+ */
+public interface CacheInvalidationChannel {
+	/**
+	 * Registers the listener to be notified of the invalidations of the named region
+	 * published by the other near-caches.
+	 */
+	void subscribe(String regionName, CacheInvalidationListener listener);
+
+	/**
+	 * Stops notifying the listener.
+	 */
+	void unsubscribe(String regionName, CacheInvalidationListener listener);
+
+	/**
+	 * Notifies all the listeners of the region but the publisher that the entry was changed or removed.
+	 */
+	void publishInvalidation(String regionName, Object key, CacheInvalidationListener publisher);
+
+	/**
+	 * Notifies all the listeners of the region but the publisher that all the entries were removed.
+	 */
+	void publishClear(String regionName, CacheInvalidationListener publisher);
+}
@@ -0,0 +1,22 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.support;
+
+/**
+ * Receiver of the invalidations delivered by a {@link CacheInvalidationChannel}
+ */
+public interface CacheInvalidationListener {
+	/**
+	 * The entry was changed or removed by another node.
+	 */
+	void invalidate(Object key);
+
+	/**
+	 * All the entries were removed by another node.
+	 */
+	void invalidateAll();
+}
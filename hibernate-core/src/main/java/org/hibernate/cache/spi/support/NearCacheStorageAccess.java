@@ -0,0 +1,226 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+
+/**
+ * DomainDataStorageAccess keeping a bounded local copy of the most recently used
+ * entries of another, typically remote or clustered, storage.
+ * <p/>
+ * Every change made through a near-cache is published to the near-caches of the
+ * other nodes via the {@link CacheInvalidationChannel}, after it was applied to
+ * the underlying storage.  This includes the soft locks and the updated items
+ * written by {@link AbstractReadWriteAccess}, so that peers go back to the
+ * underlying storage as soon as an entry is locked.
+ * <p/>
+ * A value read from the underlying storage is only kept locally if no
+ * invalidation happened in the region while it was read, so that an
+ * invalidation racing with the read cannot leave a stale copy behind.
+ * <p/>
+ * The expiration or eviction of an entry by the underlying storage itself is not
+ * published, so local copies are only trusted for a maximum age, after which they
+ * are read from the underlying storage again.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_NEAR_CACHE_MAX_ENTRIES
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_NEAR_CACHE_MAX_AGE
+ */
+public class NearCacheStorageAccess implements DomainDataStorageAccess, CacheInvalidationListener {
+	private final String regionName;
+	private final DomainDataStorageAccess underlyingStorageAccess;
+	private final CacheInvalidationChannel invalidationChannel;
+	private final long maxAge;
+	private final BoundedConcurrentHashMap<Object, LocalEntry> localEntries;
+	private final AtomicLong invalidationCount = new AtomicLong();
+
+	/**
+	 * @param invalidationChannel The channel to the other nodes, or {@code null} if the
+	 * underlying storage is not shared with other JVMs
+	 */
+	public NearCacheStorageAccess(
+			String regionName,
+			DomainDataStorageAccess underlyingStorageAccess,
+			CacheInvalidationChannel invalidationChannel,
+			int maxEntries) {
+		this( regionName, underlyingStorageAccess, invalidationChannel, maxEntries, 0 );
+	}
+
+	/**
+	 * @param invalidationChannel The channel to the other nodes, or {@code null} if the
+	 * underlying storage is not shared with other JVMs
+	 * @param maxAge The number of milliseconds after which a local copy is read from the
+	 * underlying storage again, or {@code 0} to keep it until it is evicted or invalidated
+	 */
+	public NearCacheStorageAccess(
+			String regionName,
+			DomainDataStorageAccess underlyingStorageAccess,
+			CacheInvalidationChannel invalidationChannel,
+			int maxEntries,
+			long maxAge) {
+		this.regionName = regionName;
+		this.underlyingStorageAccess = underlyingStorageAccess;
+		this.invalidationChannel = invalidationChannel;
+		this.maxAge = TimeUnit.MILLISECONDS.toNanos( Math.max( maxAge, 0 ) );
+		// rather than a TinyLfuCache: local copies must be removed or replaced exactly on each
+		// invalidation, concurrently with reads and writes, and a recently read entry is the one
+		// most likely to be read again by the same unit of work
+		this.localEntries = new BoundedConcurrentHashMap<>(
+				maxEntries,
+				Math.max( 1, Math.min( 16, maxEntries / 16 ) ),
+				BoundedConcurrentHashMap.Eviction.LRU
+		);
+		if ( invalidationChannel != null ) {
+			invalidationChannel.subscribe( regionName, this );
+		}
+	}
+
+	public DomainDataStorageAccess getUnderlyingStorageAccess() {
+		return underlyingStorageAccess;
+	}
+
+	/**
+	 * The number of entries currently kept locally
+	 */
+	public int getLocalEntryCount() {
+		return localEntries.size();
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final Object localValue = getLocally( key );
+		if ( localValue != null ) {
+			return localValue;
+		}
+		final long invalidationStamp = invalidationCount.get();
+		final Object value = underlyingStorageAccess.getFromCache( key, session );
+		if ( value != null ) {
+			keepLocally( key, value, invalidationStamp );
+		}
+		return value;
+	}
+
+	@Override
+	public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+		final long invalidationStamp = invalidationCount.get();
+		underlyingStorageAccess.putFromLoad( key, value, session );
+		keepLocally( key, value, invalidationStamp );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		underlyingStorageAccess.putIntoCache( key, value, session );
+		invalidateAndPublish( key );
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		underlyingStorageAccess.removeFromCache( key, session );
+		invalidateAndPublish( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		underlyingStorageAccess.clearCache( session );
+		invalidateAllAndPublish();
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return getLocally( key ) != null || underlyingStorageAccess.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		underlyingStorageAccess.evictData();
+		invalidateAllAndPublish();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		underlyingStorageAccess.evictData( key );
+		invalidateAndPublish( key );
+	}
+
+	@Override
+	public void release() {
+		try {
+			if ( invalidationChannel != null ) {
+				invalidationChannel.unsubscribe( regionName, this );
+			}
+			localEntries.clear();
+		}
+		finally {
+			underlyingStorageAccess.release();
+		}
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// CacheInvalidationListener
+
+	@Override
+	public void invalidate(Object key) {
+		invalidationCount.incrementAndGet();
+		localEntries.remove( key );
+	}
+
+	@Override
+	public void invalidateAll() {
+		invalidationCount.incrementAndGet();
+		localEntries.clear();
+	}
+
+	private Object getLocally(Object key) {
+		final LocalEntry entry = localEntries.get( key );
+		if ( entry == null ) {
+			return null;
+		}
+		if ( maxAge > 0 && System.nanoTime() - entry.keptAt > maxAge ) {
+			localEntries.remove( key, entry );
+			return null;
+		}
+		return entry.value;
+	}
+
+	private void keepLocally(Object key, Object value, long invalidationStamp) {
+		if ( invalidationCount.get() == invalidationStamp ) {
+			final LocalEntry entry = new LocalEntry( value );
+			localEntries.put( key, entry );
+			// an invalidation may have slipped in between the check and the put
+			if ( invalidationCount.get() != invalidationStamp ) {
+				localEntries.remove( key, entry );
+			}
+		}
+	}
+
+	private void invalidateAndPublish(Object key) {
+		invalidate( key );
+		if ( invalidationChannel != null ) {
+			invalidationChannel.publishInvalidation( regionName, key, this );
+		}
+	}
+
+	private void invalidateAllAndPublish() {
+		invalidateAll();
+		if ( invalidationChannel != null ) {
+			invalidationChannel.publishClear( regionName, this );
+		}
+	}
+
+	private static class LocalEntry {
+		private final Object value;
+		private final long keptAt = System.nanoTime();
+
+		private LocalEntry(Object value) {
+			this.value = value;
+		}
+	}
+}
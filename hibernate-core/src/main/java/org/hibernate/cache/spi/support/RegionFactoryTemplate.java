@@ -6,6 +6,9 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Map;
+
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
 import org.hibernate.cache.internal.DefaultCacheKeysFactory;
@@ -14,12 +17,17 @@ import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 
 /**
  * @author Steve Ebersole
  */
 public abstract class RegionFactoryTemplate extends AbstractRegionFactory {
+	private volatile CacheInvalidationChannel invalidationChannel;
+
 	@Override
 	public DomainDataRegion buildDomainDataRegion(
 			DomainDataRegionConfig regionConfig,
@@ -28,7 +36,7 @@ public abstract class RegionFactoryTemplate extends AbstractRegionFactory {
 		return new DomainDataRegionTemplate(
 				regionConfig,
 				this,
-				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				buildDomainDataStorageAccess( regionConfig, buildingContext ),
 				getImplicitCacheKeysFactory(),
 				buildingContext
 		);
@@ -44,6 +52,44 @@ public abstract class RegionFactoryTemplate extends AbstractRegionFactory {
 		throw new UnsupportedOperationException( "Not implemented by caching provider" );
 	}
 
+	/**
+	 * Creates the storage of a domain data region, fronted by a {@link NearCacheStorageAccess}
+	 * if {@value AvailableSettings#CACHE_NEAR_CACHE_MAX_ENTRIES} is set.
+	 */
+	protected final DomainDataStorageAccess buildDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		final DomainDataStorageAccess storageAccess = createDomainDataStorageAccess( regionConfig, buildingContext );
+		final Map settings = getOptions().getServiceRegistry().getService( ConfigurationService.class ).getSettings();
+		final int maxEntries = ConfigurationHelper.getInt( AvailableSettings.CACHE_NEAR_CACHE_MAX_ENTRIES, settings, 0 );
+		if ( maxEntries <= 0 ) {
+			return storageAccess;
+		}
+		return new NearCacheStorageAccess(
+				RegionNameQualifier.INSTANCE.qualify( regionConfig.getRegionName(), getOptions() ),
+				storageAccess,
+				getInvalidationChannel( settings ),
+				maxEntries,
+				ConfigurationHelper.getLong( AvailableSettings.CACHE_NEAR_CACHE_MAX_AGE, settings, 60_000 )
+		);
+	}
+
+	private CacheInvalidationChannel getInvalidationChannel(Map settings) {
+		if ( invalidationChannel == null ) {
+			synchronized ( this ) {
+				if ( invalidationChannel == null ) {
+					invalidationChannel = getOptions().getServiceRegistry()
+							.getService( StrategySelector.class )
+							.resolveStrategy(
+									CacheInvalidationChannel.class,
+									settings.get( AvailableSettings.CACHE_INVALIDATION_CHANNEL )
+							);
+				}
+			}
+		}
+		return invalidationChannel;
+	}
+
 	@Override
 	public QueryResultsRegion buildQueryResultsRegion(
 			String regionName,
@@ -67,7 +113,32 @@ public abstract class RegionFactoryTemplate extends AbstractRegionFactory {
 		return new TimestampsRegionTemplate(
 				regionName,
 				this,
-				createTimestampsRegionStorageAccess( regionName, sessionFactory )
+				buildTimestampsRegionStorageAccess( regionName, sessionFactory )
+		);
+	}
+
+	/**
+	 * Creates the storage of the timestamps region, fronted by a {@link TimestampsLocalViewStorageAccess}
+	 * if {@value AvailableSettings#CACHE_TIMESTAMPS_LOCAL_VIEW_MAX_STALENESS} is set.
+	 */
+	protected final StorageAccess buildTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		final StorageAccess storageAccess = createTimestampsRegionStorageAccess( regionName, sessionFactory );
+		final Map settings = getOptions().getServiceRegistry().getService( ConfigurationService.class ).getSettings();
+		final long maxStaleness = ConfigurationHelper.getLong(
+				AvailableSettings.CACHE_TIMESTAMPS_LOCAL_VIEW_MAX_STALENESS,
+				settings,
+				0
+		);
+		if ( maxStaleness <= 0 ) {
+			return storageAccess;
+		}
+		return new TimestampsLocalViewStorageAccess(
+				RegionNameQualifier.INSTANCE.qualify( regionName, getOptions() ),
+				storageAccess,
+				getInvalidationChannel( settings ),
+				maxStaleness
 		);
 	}
 
@@ -0,0 +1,191 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * StorageAccess for the timestamps region keeping a local view of the last update
+ * timestamp of each query space, so that most query cache hits are validated
+ * without a round trip to a remote or clustered storage.
+ * <p/>
+ * A timestamp read from the underlying storage is trusted for at most the given
+ * staleness window.  The timestamps written by this node are applied to the local
+ * view directly, and published to the other nodes via the
+ * {@link CacheInvalidationChannel}; a node receiving such an invalidation reads
+ * the timestamp of the space from the underlying storage on its next use.
+ * Without a channel, the updates made by other nodes are seen once the window
+ * elapsed.
+ * <p/>
+ * Every change to the view is versioned with a monotonic counter: a timestamp
+ * read from the underlying storage never replaces a timestamp written, or an
+ * invalidation received, after the read started.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_TIMESTAMPS_LOCAL_VIEW_MAX_STALENESS
+ */
+public class TimestampsLocalViewStorageAccess implements StorageAccess, CacheInvalidationListener {
+	private final String regionName;
+	private final StorageAccess underlyingStorageAccess;
+	private final CacheInvalidationChannel invalidationChannel;
+	private final long maxStalenessNanos;
+
+	private final ConcurrentMap<Object, LocalTimestamp> localTimestamps = new ConcurrentHashMap<>();
+	private final AtomicLong version = new AtomicLong();
+	private volatile long clearVersion;
+
+	/**
+	 * @param invalidationChannel The channel to the other nodes, or {@code null} if the
+	 * underlying storage is not shared with other JVMs
+	 * @param maxStaleness How long, in milliseconds, a timestamp read from the underlying
+	 * storage is trusted
+	 */
+	public TimestampsLocalViewStorageAccess(
+			String regionName,
+			StorageAccess underlyingStorageAccess,
+			CacheInvalidationChannel invalidationChannel,
+			long maxStaleness) {
+		this.regionName = regionName;
+		this.underlyingStorageAccess = underlyingStorageAccess;
+		this.invalidationChannel = invalidationChannel;
+		this.maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos( maxStaleness );
+		if ( invalidationChannel != null ) {
+			invalidationChannel.subscribe( regionName, this );
+		}
+	}
+
+	public StorageAccess getUnderlyingStorageAccess() {
+		return underlyingStorageAccess;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final long now = System.nanoTime();
+		final LocalTimestamp localTimestamp = localTimestamps.get( key );
+		if ( localTimestamp != null && localTimestamp.isValid( now, clearVersion ) ) {
+			return localTimestamp.value;
+		}
+
+		final long readVersion = version.get();
+		final Object value = underlyingStorageAccess.getFromCache( key, session );
+		// a missing timestamp is kept as well, as most spaces are never written
+		update( key, new LocalTimestamp( value, readVersion, now + maxStalenessNanos ) );
+		return value;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		underlyingStorageAccess.putIntoCache( key, value, session );
+		update( key, new LocalTimestamp( value, version.incrementAndGet(), System.nanoTime() + maxStalenessNanos ) );
+		publishInvalidation( key );
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		underlyingStorageAccess.removeFromCache( key, session );
+		invalidate( key );
+		publishInvalidation( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		underlyingStorageAccess.clearCache( session );
+		invalidateAll();
+		publishClear();
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return underlyingStorageAccess.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		underlyingStorageAccess.evictData();
+		invalidateAll();
+		publishClear();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		underlyingStorageAccess.evictData( key );
+		invalidate( key );
+		publishInvalidation( key );
+	}
+
+	@Override
+	public void release() {
+		try {
+			if ( invalidationChannel != null ) {
+				invalidationChannel.unsubscribe( regionName, this );
+			}
+			localTimestamps.clear();
+		}
+		finally {
+			underlyingStorageAccess.release();
+		}
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// CacheInvalidationListener
+
+	@Override
+	public void invalidate(Object key) {
+		// an expired entry rather than none, so that a read started before cannot fill it in
+		update( key, new LocalTimestamp( null, version.incrementAndGet(), System.nanoTime() ) );
+	}
+
+	@Override
+	public void invalidateAll() {
+		clearVersion = version.incrementAndGet();
+		localTimestamps.clear();
+	}
+
+	private void update(Object key, LocalTimestamp localTimestamp) {
+		if ( localTimestamp.version < clearVersion ) {
+			return;
+		}
+		localTimestamps.merge(
+				key,
+				localTimestamp,
+				(current, candidate) -> current.version > candidate.version ? current : candidate
+		);
+	}
+
+	private void publishInvalidation(Object key) {
+		if ( invalidationChannel != null ) {
+			invalidationChannel.publishInvalidation( regionName, key, this );
+		}
+	}
+
+	private void publishClear() {
+		if ( invalidationChannel != null ) {
+			invalidationChannel.publishClear( regionName, this );
+		}
+	}
+
+	private static final class LocalTimestamp {
+		private final Object value;
+		private final long version;
+		private final long validUntil;
+
+		private LocalTimestamp(Object value, long version, long validUntil) {
+			this.value = value;
+			this.version = version;
+			this.validUntil = validUntil;
+		}
+
+		private boolean isValid(long now, long clearVersion) {
+			return version >= clearVersion && now - validUntil < 0;
+		}
+	}
+}
@@ -781,6 +781,58 @@ public interface AvailableSettings {
 	 * Maximum JDBC batch size. A nonzero value enables batch updates.
 	 */
 	String STATEMENT_BATCH_SIZE = "hibernate.jdbc.batch_size";
+
+	/**
+	 * The maximum number of full JDBC batches which may be executing while the Session keeps
+	 * binding the rows of the next batch of the same statement.  A nonzero value enables
+	 * pipelined batch execution: a full batch is executed by a background thread, on the same
+	 * connection, and the row counts it returns are verified when the batch is later collected,
+	 * at the latest when the batch is explicitly executed at the end of the flush.  Each batch
+	 * in flight has its own statements; the rows of the next batch are bound to new ones.
+	 * <p/>
+	 * The Session thread keeps preparing and binding statements of the connection while the
+	 * background thread executes, which JDBC does not guarantee to be safe.  The setting is
+	 * therefore ignored unless the {@link org.hibernate.dialect.Dialect} declares the driver
+	 * safe for it, see {@link org.hibernate.dialect.Dialect#supportsPipelinedBatchExecution()}:
+	 * out of the box, the drivers of PostgreSQL and H2.  It is also ignored, with a warning
+	 * at startup, when {@link #STATEMENT_BATCH_ROWS_PER_INSERT} is greater than {@code 1}.
+	 * <p/>
+	 * Default value is {@code 0}, meaning that full batches are executed by the Session thread.
+	 */
+	String STATEMENT_BATCH_PIPELINE_DEPTH = "hibernate.jdbc.batch_pipeline_depth";
+
+	/**
+	 * The maximum number of rows inserted by each statement of a JDBC batch of single-row
+	 * {@code insert ... values (...)} statements of entities, which are then rewritten as
+	 * multi-row {@code insert ... values (...), (...)} statements, the rows of which are bound
+	 * when the batch is executed.  Only used along with
+	 * {@link #STATEMENT_BATCH_SIZE JDBC batching}, and limited by
+	 * {@link org.hibernate.dialect.Dialect#getMaxRowsPerInsert(int)}.
+	 * <p/>
+	 * A value greater than {@code 1} disables {@link #STATEMENT_BATCH_PIPELINE_DEPTH pipelining}
+	 * for all batches, including those of updates and deletes.
+	 * <p/>
+	 * Entities with identifiers generated by the insert itself are never batched, and so
+	 * always inserted one row at a time.
+	 * <p/>
+	 * Default value is {@code 1}, meaning that each statement inserts a single row.
+	 */
+	String STATEMENT_BATCH_ROWS_PER_INSERT = "hibernate.jdbc.batch_rows_per_insert";
+
+	/**
+	 * The {@link java.util.concurrent.Executor} running the operations submitted to the
+	 * {@linkplain org.hibernate.engine.jdbc.spi.JdbcServices#getAsyncJdbcSelectExecutor() asynchronous}
+	 * JDBC executors.  May be an {@code Executor} instance, or the name of a class implementing
+	 * {@code Executor}, having a no-arg constructor.  An executor passed as an instance is
+	 * not shut down by Hibernate.
+	 * <p/>
+	 * Since JDBC calls block, this would typically be an executor dedicated to database access,
+	 * or one running each operation on a new virtual thread.
+	 * <p/>
+	 * By default, operations run on a cached pool of daemon threads.
+	 */
+	String JDBC_ASYNC_EXECUTOR = "hibernate.jdbc.async_executor";
+
 	/**
 	 * Select a custom batcher.
 	 */
@@ -808,6 +860,65 @@ public interface AvailableSettings {
 	 */
 	String FLUSH_BEFORE_COMPLETION = "hibernate.transaction.flush_before_completion";
 
+	/**
+	 * Make flushes visit only the entities known to be dirty, instead of dirty checking every
+	 * entity of the persistence context.  An entity is known to be dirty when it was persisted,
+	 * merged, updated, replicated or removed, when one of its collections was modified, or when
+	 * it was passed to {@link org.hibernate.Session#markDirty}.  Entities enhanced for dirty
+	 * tracking are also known to be dirty once one of their attributes is set.  Any other change
+	 * made to a managed entity is ignored unless the application reports it via
+	 * {@code Session#markDirty}.
+	 * <p/>
+	 * Meant for long sessions holding many entities, where only a few of them change between
+	 * flushes.  Default value is {@code false}.
+	 */
+	String FLUSH_DIRTY_SET_ONLY = "hibernate.flush.dirty_set_only";
+
+	/**
+	 * The number of managed entities from which a flush compares the state of the entities to
+	 * their loaded state on a dedicated {@link java.util.concurrent.ForkJoinPool}, rather than on
+	 * the thread of the session only.  The entities found unmodified there are not dirty checked
+	 * again by the flush; all other entities are, and actions are created in the same order as
+	 * without this setting.  Once the flush invoked the {@link jakarta.persistence.PreUpdate}
+	 * callbacks of an entity, which may modify other entities, it dirty checks all the remaining
+	 * entities itself.
+	 * <p/>
+	 * Not used when an {@link org.hibernate.Interceptor} or a
+	 * {@link org.hibernate.CustomEntityDirtinessStrategy} is in use.  Getters of entities accessed
+	 * through properties must be safe to call from another thread.
+	 * <p/>
+	 * Default value is {@code 0}, meaning that dirty checking never happens in parallel.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#getParallelDirtyCheckingThreshold()
+	 */
+	String FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD = "hibernate.flush.parallel_dirty_checking_threshold";
+
+	/**
+	 * Make {@link org.hibernate.Session#merge} write entities not associated with the session
+	 * using a single insert-or-update statement of the
+	 * {@link org.hibernate.dialect.Dialect#getUpsertString Dialect}, executed on flush along with
+	 * the other inserts, rather than by selecting the entity first.  The statements of the
+	 * entities of the same type are batched according to {@link #STATEMENT_BATCH_SIZE}.
+	 * <p/>
+	 * Only used for entities mapped to a single table, with assigned identifiers and without
+	 * version, collections, natural id, lazy attributes or generated values, and whose columns
+	 * are all either both insertable and updatable or neither.  On databases where the upsert
+	 * updates the row colliding on any unique key, such as MySQL, entities whose table has a
+	 * unique key other than the primary key are not upserted either; unique indexes unknown to
+	 * the mapping are not detected.  Default value is {@code false}.
+	 * <p/>
+	 * Since an upserted entity is neither known to be inserted nor updated, its
+	 * {@link jakarta.persistence.PrePersist}, {@link jakarta.persistence.PostPersist},
+	 * {@link jakarta.persistence.PreUpdate} and {@link jakarta.persistence.PostUpdate} callbacks
+	 * are not invoked, and the {@link org.hibernate.Interceptor} and the persist, save, insert and
+	 * update event listeners are not notified.  Only the
+	 * {@link org.hibernate.event.spi.MergeEventListener merge event listeners} are.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#isMergeUpsertEnabled()
+	 * @see org.hibernate.dialect.Dialect#isUpsertMatchedOnAnyUniqueKey()
+	 */
+	String MERGE_UPSERT = "hibernate.merge.upsert";
+
 	/**
 	 * Specifies how Hibernate should manage JDBC connections in terms of acquiring and releasing.
 	 *
@@ -838,6 +949,20 @@ public interface AvailableSettings {
 	 */
 	String ENFORCE_LEGACY_PROXY_CLASSNAMES = "hibernate.bytecode.enforce_legacy_proxy_classnames";
 
+	/**
+	 * Generate, for each entity class which is not enhanced for dirty tracking, a class comparing
+	 * the current value of each property to its loaded state, so that flushing entities which were
+	 * not modified neither extracts their state into a new array nor boxes primitive values.
+	 * <p/>
+	 * Only used for entities without mutable properties (for example, no embeddables, dates or
+	 * arrays) whose persistent attributes are all accessed through non-private fields or getters.
+	 * <p/>
+	 * Default value is {@code false}.
+	 *
+	 * @see org.hibernate.bytecode.spi.BytecodeProvider#getDirtyCheckOptimizer
+	 */
+	String USE_DIRTY_CHECKING_OPTIMIZER = "hibernate.bytecode.use_dirty_checking_optimizer";
+
 
 	/**
 	 * Controls the base integer for binding JDBC-style ({@code ?}) ordinal
@@ -1009,6 +1134,32 @@ public interface AvailableSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * The maximum number of JDBC connections used to execute the batched inserts of a flush
+	 * concurrently.  When greater than {@code 1}, the groups of inserts formed by
+	 * {@link #ORDER_INSERTS ordering} which have no association with the entities of the other
+	 * groups of the flush (nor with entities of their own type, nor with collections) are
+	 * executed on additional connections, so that their round trips overlap.
+	 * <p/>
+	 * Only used when inserts are ordered, JDBC batching is enabled and the Session is bound to
+	 * a JTA transaction, in which the additional connections are enlisted by the DataSource.
+	 * The DataSource must hand out a distinct connection for each request within the transaction
+	 * (an unshareable resource reference): when it hands out the connection of the Session again,
+	 * as DataSources sharing connections within a transaction do, the inserts stay on that connection.
+	 * Whether those connections see the rows previously written by the Session in the same
+	 * transaction depends on the transaction manager and the database.  Likewise, the rows
+	 * inserted on the additional connections are not visible to the connection of the Session
+	 * until the transaction commits, unless the transaction manager couples the branches of the
+	 * transaction tightly: foreign key checks and later statements of the same transaction
+	 * (including queries and later flushes of the Session) may not see them.  This is meant for
+	 * bulk imports of entities which neither reference such rows nor are referenced before commit.
+	 * <p/>
+	 * Default value is {@code 1}, meaning that all statements go through the connection of the Session.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#getOrderInsertsParallelism()
+	 */
+	String ORDER_INSERTS_PARALLELISM = "hibernate.order_inserts.parallelism";
+
 	/**
 	 * JPA Callbacks are enabled by default. Set this to {@code false} to disable them.
 	 * Mostly useful to save a bit of memory when they are not used.
@@ -1187,6 +1338,17 @@ public interface AvailableSettings {
 	 */
 	String USE_QUERY_CACHE = "hibernate.cache.use_query_cache";
 
+	/**
+	 * Cache only the identifiers of the entities returned by a cacheable query returning a
+	 * single entity, instead of the full rows.  On a hit, the entities are loaded by id in a
+	 * single batch, from the entity cache region when they are cached there and from the
+	 * database otherwise.  Disabled by default.
+	 * <p/>
+	 * Queries fetching associations or returning more than a single entity are still
+	 * cached with their full rows.
+	 */
+	String QUERY_CACHE_IDS_ONLY = "hibernate.cache.query_cache_ids_only";
+
 	/**
 	 * The {@link TimestampsCacheFactory} implementation class.
 	 */
@@ -1207,6 +1369,15 @@ public interface AvailableSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enable use of compact binary second-level cache entries for entities: their state is
+	 * stored as a {@code byte[]} rather than as a serializable array.  Takes precedence over
+	 * {@link #USE_STRUCTURED_CACHE}.
+	 *
+	 * @see org.hibernate.cache.spi.entry.CompactCacheEntry
+	 */
+	String USE_COMPACT_CACHE = "hibernate.cache.use_compact_entries";
+
 	/**
 	 * Enables the automatic eviction of a bi-directional association's collection cache when an element in the
 	 * ManyToOne collection is added/updated/removed without properly managing the change on the OneToMany side.
@@ -1219,6 +1390,49 @@ public interface AvailableSettings {
 	 */
 	String USE_DIRECT_REFERENCE_CACHE_ENTRIES = "hibernate.cache.use_reference_entries";
 
+	/**
+	 * The maximum number of entries of each domain data region kept in a local near-cache,
+	 * in front of the storage of caching providers built on
+	 * {@link org.hibernate.cache.spi.support.RegionFactoryTemplate}.  Mostly useful when the
+	 * second-level cache is remote or clustered.  Default is {@code 0}, no near-cache.
+	 *
+	 * @see org.hibernate.cache.spi.support.NearCacheStorageAccess
+	 */
+	String CACHE_NEAR_CACHE_MAX_ENTRIES = "hibernate.cache.near_cache.max_entries";
+
+	/**
+	 * The number of milliseconds after which an entry kept in a near-cache is read from the
+	 * storage of the caching provider again, since the expiration or eviction of entries by
+	 * the provider is not seen by near-caches.  Should not exceed the expiration time of the
+	 * regions.  Default is {@code 60000}; {@code 0} keeps entries until they are evicted or
+	 * invalidated.
+	 *
+	 * @see #CACHE_NEAR_CACHE_MAX_ENTRIES
+	 */
+	String CACHE_NEAR_CACHE_MAX_AGE = "hibernate.cache.near_cache.max_age";
+
+	/**
+	 * The {@link org.hibernate.cache.spi.support.CacheInvalidationChannel} used to invalidate
+	 * the near-caches of the other nodes sharing the second-level cache.  Accepts an instance,
+	 * a class or a class name.  Required when the second-level cache is shared with other JVMs.
+	 *
+	 * @see #CACHE_NEAR_CACHE_MAX_ENTRIES
+	 * @see #CACHE_TIMESTAMPS_LOCAL_VIEW_MAX_STALENESS
+	 */
+	String CACHE_INVALIDATION_CHANNEL = "hibernate.cache.near_cache.invalidation_channel";
+
+	/**
+	 * How long, in milliseconds, a query space timestamp read from the timestamps region of
+	 * a caching provider built on {@link org.hibernate.cache.spi.support.RegionFactoryTemplate}
+	 * is trusted locally, for validating query cache hits without reading the region again.
+	 * The timestamps written by the other nodes are pushed via the
+	 * {@link #CACHE_INVALIDATION_CHANNEL}, if any, and are otherwise seen once that window
+	 * elapsed.  Default is {@code 0}, no local view.
+	 *
+	 * @see org.hibernate.cache.spi.support.TimestampsLocalViewStorageAccess
+	 */
+	String CACHE_TIMESTAMPS_LOCAL_VIEW_MAX_STALENESS = "hibernate.cache.timestamps_local_view.max_staleness";
+
 
 
 
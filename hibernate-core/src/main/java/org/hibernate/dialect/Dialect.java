@@ -26,6 +26,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashSet;
@@ -83,6 +84,8 @@ import org.hibernate.dialect.unique.DefaultUniqueDelegate;
 import org.hibernate.dialect.unique.UniqueDelegate;
 import org.hibernate.engine.jdbc.LobCreator;
 import org.hibernate.engine.jdbc.Size;
+import org.hibernate.engine.jdbc.bulk.internal.StandardBulkLoader;
+import org.hibernate.engine.jdbc.bulk.spi.BulkLoader;
 import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
 import org.hibernate.engine.jdbc.env.internal.DefaultSchemaNameResolver;
 import org.hibernate.engine.jdbc.env.spi.AnsiSqlKeywords;
@@ -3367,6 +3370,35 @@ public abstract class Dialect implements ConversionContext {
 		return 0;
 	}
 
+	/**
+	 * Does this dialect support binding a whole array of values to a single
+	 * JDBC parameter, via {@link java.sql.Connection#createArrayOf}, and
+	 * restricting a column to the elements of such an array?
+	 * <p/>
+	 * When supported, loading multiple entities by id binds all the ids as one
+	 * array rather than splitting them into {@code IN} lists of varying length.
+	 *
+	 * @return {@code true} if arrays may be bound as parameters
+	 *
+	 * @see #getArrayContainsPattern()
+	 */
+	public boolean supportsStandardArrays() {
+		return false;
+	}
+
+	/**
+	 * The pattern used to restrict a column to the elements of an array bound
+	 * to a single JDBC parameter, where {@code ?1} is the column and {@code ?2}
+	 * the array parameter.
+	 *
+	 * @return The pattern
+	 *
+	 * @see #supportsStandardArrays()
+	 */
+	public String getArrayContainsPattern() {
+		return "?1 = any(?2)";
+	}
+
 	/**
 	 * HHH-4635
 	 * Oracle expects all Lob values to be last in inserts and updates.
@@ -3623,6 +3655,132 @@ public abstract class Dialect implements ConversionContext {
 		return true;
 	}
 
+	/**
+	 * The maximum number of rows a single {@code insert ... values (...), (...)} statement
+	 * may insert, given the number of parameters bound per row.
+	 *
+	 * @param parametersPerRow The number of JDBC parameters of each row
+	 *
+	 * @return The maximum number of rows, or {@code 1} if rows should be inserted one
+	 * statement at a time
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_ROWS_PER_INSERT
+	 */
+	public int getMaxRowsPerInsert(int parametersPerRow) {
+		return supportsValuesListForInsert() ? Integer.MAX_VALUE : 1;
+	}
+
+	/**
+	 * Does the JDBC driver allow a thread to prepare statements of a connection, and bind their
+	 * parameters, while another thread executes a batch of another statement of that connection?
+	 * <p/>
+	 * JDBC does not require this, so it is only assumed of drivers known to serialize the use of
+	 * a connection internally, and to bind parameters on the client.
+	 *
+	 * @return {@code true} if batches may be executed in the background
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_PIPELINE_DEPTH
+	 */
+	public boolean supportsPipelinedBatchExecution() {
+		return false;
+	}
+
+	/**
+	 * The {@link BulkLoader} which inserts the rows of entities loaded in bulk
+	 * by {@link org.hibernate.StatelessSession#insertAll}.
+	 *
+	 * @return By default, a loader executing batches of multi-row inserts
+	 */
+	public BulkLoader getBulkLoader() {
+		return StandardBulkLoader.INSTANCE;
+	}
+
+	/**
+	 * Does this dialect support inserting a row, or updating the row with
+	 * the same key if there is one, with a single statement?
+	 *
+	 * @return {@code true} if {@link #getUpsertString} is supported
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MERGE_UPSERT
+	 */
+	public boolean supportsUpsert() {
+		return false;
+	}
+
+	/**
+	 * Does the {@linkplain #getUpsertString upsert} of this dialect update the
+	 * row matching the new row on any unique key of the table, rather than on
+	 * the given key columns only?  Entities whose table has a unique key other
+	 * than the primary key are then never upserted, since their upsert could
+	 * overwrite another row.
+	 *
+	 * @return {@code true} if any unique key may select the updated row
+	 */
+	public boolean isUpsertMatchedOnAnyUniqueKey() {
+		return false;
+	}
+
+	/**
+	 * Build a statement which inserts a row into the given table, or updates
+	 * all its other columns if a row with the same key already exists.
+	 * The statement binds the given values in the order of the columns.
+	 *
+	 * @param tableName The name of the table
+	 * @param keyColumns The columns of the key, a subset of the columns
+	 * @param columns All the columns written by the statement
+	 * @param values The value expressions of the columns, usually {@code ?}
+	 *
+	 * @return The upsert statement
+	 */
+	public String getUpsertString(String tableName, String[] keyColumns, String[] columns, String[] values) {
+		throw new UnsupportedOperationException( getClass().getName() + " does not support upserts" );
+	}
+
+	/**
+	 * Build an upsert as a SQL standard {@code merge} statement with a single
+	 * row source, for {@link #getUpsertString}.
+	 *
+	 * @param fromDual The {@code from} clause of a select with no table, if needed
+	 */
+	protected String getMergeUpsertString(
+			String tableName,
+			String[] keyColumns,
+			String[] columns,
+			String[] values,
+			String fromDual) {
+		final List<String> keys = Arrays.asList( keyColumns );
+		final StringBuilder buf = new StringBuilder( "merge into " ).append( tableName ).append( " t using (select " );
+		for ( int i = 0; i < columns.length; i++ ) {
+			if ( i > 0 ) {
+				buf.append( ", " );
+			}
+			buf.append( values[i] ).append( " as " ).append( columns[i] );
+		}
+		buf.append( fromDual ).append( ") s on (" );
+		for ( int i = 0; i < keyColumns.length; i++ ) {
+			if ( i > 0 ) {
+				buf.append( " and " );
+			}
+			buf.append( "t." ).append( keyColumns[i] ).append( "=s." ).append( keyColumns[i] );
+		}
+		buf.append( ')' );
+		String separator = " when matched then update set ";
+		for ( String column : columns ) {
+			if ( !keys.contains( column ) ) {
+				buf.append( separator ).append( "t." ).append( column ).append( "=s." ).append( column );
+				separator = ", ";
+			}
+		}
+		buf.append( " when not matched then insert (" ).append( String.join( ", ", columns ) ).append( ") values (" );
+		for ( int i = 0; i < columns.length; i++ ) {
+			if ( i > 0 ) {
+				buf.append( ", " );
+			}
+			buf.append( "s." ).append( columns[i] );
+		}
+		return buf.append( ')' ).toString();
+	}
+
 	/**
 	 * Does this dialect/database support SKIP_LOCKED timeout.
 	 *
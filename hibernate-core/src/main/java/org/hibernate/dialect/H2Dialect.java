@@ -505,6 +505,11 @@ public class H2Dialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsStandardArrays() {
+		return true;
+	}
+
 	@Override
 	public boolean requiresParensForTupleDistinctCounts() {
 		return true;
@@ -541,6 +546,25 @@ public class H2Dialect extends Dialect {
 		return IndexQueryHintHandler.INSTANCE.addQueryHints( query, hints );
 	}
 
+	@Override
+	public boolean supportsPipelinedBatchExecution() {
+		// the commands of a session are executed one at a time
+		return true;
+	}
+
+	@Override
+	public boolean supportsUpsert() {
+		return true;
+	}
+
+	@Override
+	public String getUpsertString(String tableName, String[] keyColumns, String[] columns, String[] values) {
+		return "merge into " + tableName
+				+ " (" + String.join( ", ", columns )
+				+ ") key (" + String.join( ", ", keyColumns )
+				+ ") values (" + String.join( ", ", values ) + ')';
+	}
+
 	@Override
 	public void appendDatetimeFormat(SqlAppender appender, String format) {
 		if ( getVersion().isSame( 1, 4, 200 ) ) {
@@ -12,6 +12,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.hibernate.LockOptions;
@@ -616,6 +617,40 @@ public class MySQLDialect extends Dialect {
 				: IndexQueryHintHandler.INSTANCE.addQueryHints( query, hints );
 	}
 
+	@Override
+	public boolean supportsUpsert() {
+		return true;
+	}
+
+	/**
+	 * {@code on duplicate key update} applies to a conflict on any unique index.
+	 */
+	@Override
+	public boolean isUpsertMatchedOnAnyUniqueKey() {
+		return true;
+	}
+
+	@Override
+	public String getUpsertString(String tableName, String[] keyColumns, String[] columns, String[] values) {
+		final List<String> keys = Arrays.asList( keyColumns );
+		final StringBuilder buf = new StringBuilder( "insert into " ).append( tableName )
+				.append( " (" ).append( String.join( ", ", columns ) )
+				.append( ") values (" ).append( String.join( ", ", values ) )
+				.append( ") on duplicate key update " );
+		boolean updated = false;
+		for ( String column : columns ) {
+			if ( !keys.contains( column ) ) {
+				buf.append( updated ? ", " : "" ).append( column ).append( "=values(" ).append( column ).append( ')' );
+				updated = true;
+			}
+		}
+		if ( !updated ) {
+			// there is nothing to update, but the clause needs an assignment
+			buf.append( keyColumns[0] ).append( '=' ).append( keyColumns[0] );
+		}
+		return buf.toString();
+	}
+
 	/**
 	 * No support for sequences.
 	 */
@@ -900,6 +900,22 @@ public class OracleDialect extends Dialect {
 		return PARAM_LIST_SIZE_LIMIT;
 	}
 
+	@Override
+	public int getMaxRowsPerInsert(int parametersPerRow) {
+		// a VALUES list of several rows is only supported as of 23c
+		return getVersion().isBefore( 23 ) ? 1 : super.getMaxRowsPerInsert( parametersPerRow );
+	}
+
+	@Override
+	public boolean supportsUpsert() {
+		return true;
+	}
+
+	@Override
+	public String getUpsertString(String tableName, String[] keyColumns, String[] columns, String[] values) {
+		return getMergeUpsertString( tableName, keyColumns, columns, values, " from dual" );
+	}
+
 	@Override
 	public boolean forceLobAsLastValue() {
 		return true;
@@ -0,0 +1,321 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Iterator;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.bulk.internal.StandardBulkLoader;
+import org.hibernate.engine.jdbc.bulk.spi.BulkLoadRow;
+import org.hibernate.engine.jdbc.bulk.spi.BulkLoadTarget;
+import org.hibernate.engine.jdbc.bulk.spi.BulkLoader;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+
+/**
+ * A {@link BulkLoader} streaming the rows to a {@code copy ... from stdin} statement,
+ * in the text format, through the {@code CopyManager} of the PostgreSQL JDBC driver.
+ * <p/>
+ * The values of each row are those the mappings bind to a statement, written as
+ * text.  When the connection is not one of the PostgreSQL driver, the rows are
+ * loaded by the {@link StandardBulkLoader}.
+ */
+public class PostgreSQLCopyBulkLoader implements BulkLoader {
+	/**
+	 * Singleton access
+	 */
+	public static final PostgreSQLCopyBulkLoader INSTANCE = new PostgreSQLCopyBulkLoader();
+
+	private static final Class<?> PG_CONNECTION;
+	private static final Method GET_COPY_API;
+	private static final Method COPY_IN;
+
+	static {
+		Class<?> pgConnectionClass;
+		Method getCopyApi;
+		Method copyIn;
+		try {
+			pgConnectionClass = ReflectHelper.classForName(
+					"org.postgresql.PGConnection",
+					PostgreSQLCopyBulkLoader.class
+			);
+			getCopyApi = pgConnectionClass.getMethod( "getCopyAPI" );
+			copyIn = getCopyApi.getReturnType().getMethod( "copyIn", String.class, Reader.class );
+		}
+		catch (Exception e) {
+			// the driver is not available
+			pgConnectionClass = null;
+			getCopyApi = null;
+			copyIn = null;
+		}
+		PG_CONNECTION = pgConnectionClass;
+		GET_COPY_API = getCopyApi;
+		COPY_IN = copyIn;
+	}
+
+	@Override
+	public long load(BulkLoadTarget target, Iterator<BulkLoadRow> rows, SharedSessionContractImplementor session) {
+		final String sql = "copy " + target.getTableName()
+				+ " (" + String.join( ", ", target.getColumnNames() ) + ") from stdin";
+		RowReader reader = null;
+		try {
+			final Connection connection = session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
+			if ( PG_CONNECTION == null || !connection.isWrapperFor( PG_CONNECTION ) ) {
+				return StandardBulkLoader.INSTANCE.load( target, rows, session );
+			}
+			final Object copyManager = GET_COPY_API.invoke( connection.unwrap( PG_CONNECTION ) );
+			reader = new RowReader( rows, target.getColumnNames().length, connection );
+
+			final JdbcObserver observer = session.getJdbcCoordinator()
+					.getJdbcSessionOwner()
+					.getJdbcSessionContext()
+					.getObserver();
+			try {
+				observer.jdbcExecuteStatementStart();
+				COPY_IN.invoke( copyManager, sql, reader );
+			}
+			finally {
+				observer.jdbcExecuteStatementEnd();
+			}
+		}
+		catch (InvocationTargetException e) {
+			// a failure to bind a row surfaces as a failure to read it
+			final Throwable cause = reader != null && reader.failure != null ? reader.failure : e.getCause();
+			if ( cause instanceof SQLException ) {
+				throw session.getJdbcServices().getSqlExceptionHelper().convert(
+						(SQLException) cause,
+						"could not copy rows into table " + target.getTableName(),
+						sql
+				);
+			}
+			else if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			throw new HibernateException( "could not copy rows into table " + target.getTableName(), cause );
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"could not copy rows into table " + target.getTableName(),
+					sql
+			);
+		}
+		catch (IllegalAccessException e) {
+			throw new HibernateException( "could not access the CopyManager of the PostgreSQL driver", e );
+		}
+		return reader.count;
+	}
+
+	/**
+	 * Renders the rows in the text format of {@code copy}, one row at a time, as it is read
+	 */
+	private static final class RowReader extends Reader implements InvocationHandler {
+		private final Iterator<BulkLoadRow> rows;
+		private final Connection connection;
+		private final Object[] values;
+		private final Calendar[] calendars;
+		private final PreparedStatement recorder;
+		private final StringBuilder buffer = new StringBuilder();
+		private int position;
+		private long count;
+		private SQLException failure;
+
+		private RowReader(Iterator<BulkLoadRow> rows, int columnCount, Connection connection) {
+			this.rows = rows;
+			this.connection = connection;
+			this.values = new Object[columnCount];
+			this.calendars = new Calendar[columnCount];
+			this.recorder = (PreparedStatement) Proxy.newProxyInstance(
+					PreparedStatement.class.getClassLoader(),
+					new Class[] { PreparedStatement.class },
+					this
+			);
+		}
+
+		@Override
+		public int read(char[] chars, int offset, int length) throws IOException {
+			if ( length == 0 ) {
+				return 0;
+			}
+			while ( position == buffer.length() ) {
+				if ( !rows.hasNext() ) {
+					return -1;
+				}
+				buffer.setLength( 0 );
+				position = 0;
+				appendRow();
+			}
+			final int read = Math.min( length, buffer.length() - position );
+			buffer.getChars( position, position + read, chars, offset );
+			position += read;
+			return read;
+		}
+
+		@Override
+		public void close() {
+		}
+
+		private void appendRow() throws IOException {
+			Arrays.fill( values, null );
+			Arrays.fill( calendars, null );
+			try {
+				rows.next().bind( recorder, 1 );
+				for ( int i = 0; i < values.length; i++ ) {
+					if ( i > 0 ) {
+						buffer.append( '\t' );
+					}
+					appendValue( values[i], calendars[i] );
+				}
+			}
+			catch (SQLException e) {
+				failure = e;
+				throw new IOException( e );
+			}
+			buffer.append( '\n' );
+			count++;
+		}
+
+		private void appendValue(Object value, Calendar calendar) throws SQLException, IOException {
+			if ( value == null ) {
+				buffer.append( "\\N" );
+			}
+			else if ( value instanceof Boolean ) {
+				buffer.append( (Boolean) value ? 't' : 'f' );
+			}
+			else if ( value instanceof byte[] ) {
+				appendBytes( (byte[]) value );
+			}
+			else if ( value instanceof Blob ) {
+				final Blob blob = (Blob) value;
+				appendBytes( blob.getBytes( 1, (int) blob.length() ) );
+			}
+			else if ( value instanceof InputStream ) {
+				final InputStream stream = (InputStream) value;
+				final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				final byte[] chunk = new byte[4096];
+				for ( int read = stream.read( chunk ); read >= 0; read = stream.read( chunk ) ) {
+					bytes.write( chunk, 0, read );
+				}
+				appendBytes( bytes.toByteArray() );
+			}
+			else if ( value instanceof Clob ) {
+				final Clob clob = (Clob) value;
+				appendText( clob.getSubString( 1, (int) clob.length() ) );
+			}
+			else if ( value instanceof Reader ) {
+				final Reader reader = (Reader) value;
+				final StringBuilder text = new StringBuilder();
+				final char[] chunk = new char[4096];
+				for ( int read = reader.read( chunk ); read >= 0; read = reader.read( chunk ) ) {
+					text.append( chunk, 0, read );
+				}
+				appendText( text );
+			}
+			else if ( value instanceof BigDecimal ) {
+				buffer.append( ( (BigDecimal) value ).toPlainString() );
+			}
+			else if ( value instanceof java.util.Date && calendar != null ) {
+				// the calendar gives the time zone in which the driver would write the value
+				final ZoneId zone = calendar.getTimeZone().toZoneId();
+				if ( value instanceof Timestamp ) {
+					buffer.append( ( (Timestamp) value ).toInstant().atZone( zone ).toLocalDateTime() );
+				}
+				else if ( value instanceof Time ) {
+					buffer.append( Instant.ofEpochMilli( ( (Time) value ).getTime() ).atZone( zone ).toLocalTime() );
+				}
+				else {
+					buffer.append( Instant.ofEpochMilli( ( (java.util.Date) value ).getTime() ).atZone( zone ).toLocalDate() );
+				}
+			}
+			else if ( value instanceof java.sql.Array ) {
+				throw new HibernateException( "Array values cannot be copied in bulk" );
+			}
+			else {
+				appendText( value.toString() );
+			}
+		}
+
+		private void appendBytes(byte[] bytes) {
+			buffer.append( "\\\\x" );
+			for ( byte b : bytes ) {
+				buffer.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) )
+						.append( Character.forDigit( b & 0xF, 16 ) );
+			}
+		}
+
+		private void appendText(CharSequence text) {
+			for ( int i = 0; i < text.length(); i++ ) {
+				final char c = text.charAt( i );
+				switch ( c ) {
+					case '\\':
+						buffer.append( "\\\\" );
+						break;
+					case '\t':
+						buffer.append( "\\t" );
+						break;
+					case '\n':
+						buffer.append( "\\n" );
+						break;
+					case '\r':
+						buffer.append( "\\r" );
+						break;
+					default:
+						buffer.append( c );
+				}
+			}
+		}
+
+		/**
+		 * Records the values bound to the statement passed to {@link BulkLoadRow#bind}
+		 */
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			final String name = method.getName();
+			if ( name.startsWith( "set" ) && args != null && args.length >= 2 && args[0] instanceof Integer ) {
+				final int index = (Integer) args[0] - 1;
+				values[index] = "setNull".equals( name ) ? null : args[1];
+				calendars[index] = args.length == 3 && args[2] instanceof Calendar ? (Calendar) args[2] : null;
+				return null;
+			}
+			switch ( name ) {
+				case "getConnection":
+					return connection;
+				case "toString":
+					return "PostgreSQLCopyBulkLoader recorder";
+				case "hashCode":
+					return System.identityHashCode( proxy );
+				case "equals":
+					return proxy == args[0];
+				default:
+					throw new UnsupportedOperationException(
+							"Statement of a bulk copy does not support " + name + "()"
+					);
+			}
+		}
+	}
+}
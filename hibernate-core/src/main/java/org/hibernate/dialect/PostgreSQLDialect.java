@@ -13,6 +13,7 @@ import java.sql.SQLException;
 import java.sql.Types;
 import java.time.temporal.TemporalAccessor;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Iterator;
@@ -35,6 +36,7 @@ import org.hibernate.dialect.pagination.OffsetFetchLimitHandler;
 import org.hibernate.dialect.sequence.PostgreSQLSequenceSupport;
 import org.hibernate.dialect.sequence.SequenceSupport;
 import org.hibernate.engine.jdbc.Size;
+import org.hibernate.engine.jdbc.bulk.spi.BulkLoader;
 import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
 import org.hibernate.engine.jdbc.env.spi.IdentifierCaseStrategy;
 import org.hibernate.engine.jdbc.env.spi.IdentifierHelper;
@@ -485,6 +487,50 @@ public class PostgreSQLDialect extends Dialect {
 		return getVersion().isSameOrAfter( 8, 2 );
 	}
 
+	@Override
+	public int getMaxRowsPerInsert(int parametersPerRow) {
+		// the protocol limits a statement to 32767 parameters
+		return getVersion().isSameOrAfter( 8, 2 )
+				? Math.max( 1, 32767 / Math.max( parametersPerRow, 1 ) )
+				: 1;
+	}
+
+	@Override
+	public boolean supportsPipelinedBatchExecution() {
+		// the driver binds on the client, and locks the protocol stream of the connection
+		return true;
+	}
+
+	@Override
+	public BulkLoader getBulkLoader() {
+		return PostgreSQLCopyBulkLoader.INSTANCE;
+	}
+
+	@Override
+	public boolean supportsUpsert() {
+		return getVersion().isSameOrAfter( 9, 5 );
+	}
+
+	@Override
+	public String getUpsertString(String tableName, String[] keyColumns, String[] columns, String[] values) {
+		final List<String> keys = Arrays.asList( keyColumns );
+		final StringBuilder buf = new StringBuilder( "insert into " ).append( tableName )
+				.append( " (" ).append( String.join( ", ", columns ) )
+				.append( ") values (" ).append( String.join( ", ", values ) )
+				.append( ") on conflict (" ).append( String.join( ", ", keyColumns ) ).append( ')' );
+		boolean updated = false;
+		for ( String column : columns ) {
+			if ( !keys.contains( column ) ) {
+				buf.append( updated ? ", " : " do update set " ).append( column ).append( "=excluded." ).append( column );
+				updated = true;
+			}
+		}
+		if ( !updated ) {
+			buf.append( " do nothing" );
+		}
+		return buf.toString();
+	}
+
 	@Override
 	public boolean supportsPartitionBy() {
 		return getVersion().isSameOrAfter( 9, 1 );
@@ -630,6 +676,11 @@ public class PostgreSQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsStandardArrays() {
+		return true;
+	}
+
 	@Override
 	public boolean requiresParensForTupleDistinctCounts() {
 		return true;
@@ -475,6 +475,25 @@ public class SQLServerDialect extends AbstractTransactSQLDialect {
 		return PARAM_LIST_SIZE_LIMIT;
 	}
 
+	@Override
+	public int getMaxRowsPerInsert(int parametersPerRow) {
+		// a VALUES list is limited to 1000 rows, and a statement to 2100 parameters
+		return getVersion().isSameOrAfter( 10 )
+				? Math.max( 1, Math.min( 1000, ( PARAM_LIST_SIZE_LIMIT - 1 ) / Math.max( parametersPerRow, 1 ) ) )
+				: 1;
+	}
+
+	@Override
+	public boolean supportsUpsert() {
+		return getVersion().isSameOrAfter( 10 );
+	}
+
+	@Override
+	public String getUpsertString(String tableName, String[] keyColumns, String[] columns, String[] values) {
+		// a merge statement must be terminated by a semicolon
+		return getMergeUpsertString( tableName, keyColumns, columns, values, "" ) + ';';
+	}
+
 	@Override
 	public IdentityColumnSupport getIdentityColumnSupport() {
 		return new SQLServerIdentityColumnSupport();
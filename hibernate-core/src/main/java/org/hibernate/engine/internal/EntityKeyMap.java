@@ -0,0 +1,714 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.java.IntegerJavaTypeDescriptor;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.LongJavaTypeDescriptor;
+import org.hibernate.type.descriptor.java.UUIDJavaTypeDescriptor;
+
+/**
+ * A {@link Map} keyed by {@link EntityKey}, used by {@link StatefulPersistenceContext}
+ * for the entities and the database snapshots it manages.
+ * <p/>
+ * Entries are partitioned into one open-addressing table per entity hierarchy
+ * (the root entity name being what {@link EntityKey#equals} compares).  Tables
+ * for {@code Long}, {@code Integer} and {@code UUID} identifiers keep the
+ * identifier values in primitive arrays; any other identifier type is compared
+ * through its {@link Type}, exactly like {@link EntityKey} does.  Neither the
+ * {@code EntityKey} nor a per-entry node object is retained, so a managed entity
+ * costs a few array slots instead of a {@code HashMap.Node}, an {@code EntityKey}
+ * and usually a boxed identifier.  This also allows lookups by persister and
+ * identifier, see {@link #get(EntityPersister, Object)}, which do not need an
+ * {@code EntityKey} at all.
+ * <p/>
+ * The {@code EntityKey} instances exposed through {@link #entrySet()} and
+ * {@link #keySet()} are re-created on iteration; they are equal to, but not
+ * the same as, the instances used to add the entries.  Iterating {@link #values()}
+ * allocates nothing per entry.
+ *
+ * @param <V> The type of the mapped values
+ */
+final class EntityKeyMap<V> extends AbstractMap<EntityKey, V> {
+	private static final int MIN_CAPACITY = 8;
+
+	private final HashMap<String, IdTable> tablesByRootEntityName = new HashMap<>();
+
+	// lookups tend to come in runs for the same entity type, avoid the HashMap hop for those
+	private IdTable lastTable;
+
+	private int size;
+	private int modCount;
+
+	private Set<Entry<EntityKey, V>> entrySet;
+	private Set<EntityKey> keySet;
+	private Collection<V> values;
+
+	/**
+	 * Lookup the value associated with the entity of the given type and identifier.
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(EntityPersister persister, Object identifier) {
+		final IdTable table = locateTable( persister, false );
+		if ( table == null ) {
+			return null;
+		}
+		final int slot = table.find( identifier );
+		return slot < 0 ? null : (V) table.values[slot];
+	}
+
+	@Override
+	public V get(Object key) {
+		if ( !( key instanceof EntityKey ) ) {
+			return null;
+		}
+		final EntityKey entityKey = (EntityKey) key;
+		return get( entityKey.getPersister(), entityKey.getIdentifier() );
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		if ( !( key instanceof EntityKey ) ) {
+			return false;
+		}
+		final EntityKey entityKey = (EntityKey) key;
+		final IdTable table = locateTable( entityKey.getPersister(), false );
+		return table != null && table.find( entityKey.getIdentifier() ) >= 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(EntityKey key, V value) {
+		final EntityPersister persister = key.getPersister();
+		final Object identifier = key.getIdentifier();
+		IdTable table = locateTable( persister, true );
+		if ( !table.accepts( identifier ) ) {
+			// should not happen since the table was chosen based on the identifier type,
+			// but never lose an entry over it
+			table = widen( table, persister );
+		}
+		final Object previous = table.put( identifier, persister, value );
+		modCount++;
+		if ( previous == null ) {
+			size++;
+		}
+		return (V) previous;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		if ( !( key instanceof EntityKey ) ) {
+			return null;
+		}
+		final EntityKey entityKey = (EntityKey) key;
+		final IdTable table = locateTable( entityKey.getPersister(), false );
+		if ( table == null ) {
+			return null;
+		}
+		final int slot = table.find( entityKey.getIdentifier() );
+		if ( slot < 0 ) {
+			return null;
+		}
+		final Object previous = table.values[slot];
+		table.removeAt( slot );
+		modCount++;
+		size--;
+		return (V) previous;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public void clear() {
+		tablesByRootEntityName.clear();
+		lastTable = null;
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public Set<Entry<EntityKey, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new AbstractSet<Entry<EntityKey, V>>() {
+				@Override
+				public Iterator<Entry<EntityKey, V>> iterator() {
+					return new EntryIterator();
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public boolean contains(Object o) {
+					if ( !( o instanceof Entry ) ) {
+						return false;
+					}
+					final Entry<?, ?> entry = (Entry<?, ?>) o;
+					final Object value = entry.getValue();
+					return value != null && value.equals( get( entry.getKey() ) );
+				}
+
+				@Override
+				public void clear() {
+					EntityKeyMap.this.clear();
+				}
+			};
+		}
+		return entrySet;
+	}
+
+	@Override
+	public Set<EntityKey> keySet() {
+		if ( keySet == null ) {
+			keySet = new AbstractSet<EntityKey>() {
+				@Override
+				public Iterator<EntityKey> iterator() {
+					return new KeyIterator();
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public boolean contains(Object o) {
+					return containsKey( o );
+				}
+
+				@Override
+				public boolean remove(Object o) {
+					final boolean contained = containsKey( o );
+					if ( contained ) {
+						EntityKeyMap.this.remove( o );
+					}
+					return contained;
+				}
+
+				@Override
+				public void clear() {
+					EntityKeyMap.this.clear();
+				}
+			};
+		}
+		return keySet;
+	}
+
+	@Override
+	public Collection<V> values() {
+		if ( values == null ) {
+			values = new AbstractCollection<V>() {
+				@Override
+				public Iterator<V> iterator() {
+					return new ValueIterator();
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public void clear() {
+					EntityKeyMap.this.clear();
+				}
+			};
+		}
+		return values;
+	}
+
+	private IdTable locateTable(EntityPersister persister, boolean create) {
+		final String rootEntityName = persister.getRootEntityName();
+		final IdTable last = lastTable;
+		if ( last != null && last.rootEntityName.equals( rootEntityName ) ) {
+			return last;
+		}
+		IdTable table = tablesByRootEntityName.get( rootEntityName );
+		if ( table == null ) {
+			if ( !create ) {
+				return null;
+			}
+			table = createTable( rootEntityName, persister );
+			tablesByRootEntityName.put( rootEntityName, table );
+		}
+		lastTable = table;
+		return table;
+	}
+
+	private IdTable widen(IdTable table, EntityPersister persister) {
+		final IdTable generic = new ObjectIdTable( table.rootEntityName, persister, table.persisters.length );
+		for ( int i = 0; i < table.persisters.length; i++ ) {
+			if ( table.isOccupied( i ) ) {
+				generic.put( table.identifierAt( i ), table.persisters[i], table.values[i] );
+			}
+		}
+		tablesByRootEntityName.put( table.rootEntityName, generic );
+		lastTable = generic;
+		return generic;
+	}
+
+	private static IdTable createTable(String rootEntityName, EntityPersister persister) {
+		final Type identifierType = persister.getIdentifierType();
+		if ( identifierType instanceof BasicType ) {
+			final JavaType<?> javaType = ( (BasicType<?>) identifierType ).getJavaTypeDescriptor();
+			if ( javaType instanceof LongJavaTypeDescriptor ) {
+				return new LongIdTable( rootEntityName, false );
+			}
+			else if ( javaType instanceof IntegerJavaTypeDescriptor ) {
+				return new LongIdTable( rootEntityName, true );
+			}
+			else if ( javaType instanceof UUIDJavaTypeDescriptor ) {
+				return new UuidIdTable( rootEntityName );
+			}
+		}
+		return new ObjectIdTable( rootEntityName, persister, MIN_CAPACITY );
+	}
+
+	private static int mix(long value) {
+		final long h = value * 0x9E3779B97F4A7C15L;
+		return (int) ( h ^ ( h >>> 32 ) );
+	}
+
+	/**
+	 * Linear probing table for the entities of one hierarchy.  A slot is free when
+	 * its persister is {@code null} and deleted when its value is {@link #REMOVED};
+	 * removals leave a tombstone so that iteration is never disturbed by them.
+	 */
+	private abstract static class IdTable {
+		private static final Object REMOVED = new Object();
+
+		final String rootEntityName;
+
+		EntityPersister[] persisters;
+		Object[] values;
+		int used;
+
+		IdTable(String rootEntityName) {
+			this.rootEntityName = rootEntityName;
+		}
+
+		abstract boolean accepts(Object identifier);
+
+		abstract int hash(Object identifier);
+
+		abstract boolean matches(int slot, Object identifier);
+
+		abstract void storeIdentifier(int slot, Object identifier);
+
+		abstract Object identifierAt(int slot);
+
+		/**
+		 * Allocate the identifier storage for the given capacity, returning the
+		 * previous storage so that its content can be re-hashed.
+		 */
+		abstract Object allocateIdentifiers(int capacity);
+
+		abstract int hashAt(Object storage, int slot);
+
+		abstract void transferIdentifier(Object storage, int oldSlot, int newSlot);
+
+		final void allocate(int capacity) {
+			persisters = new EntityPersister[capacity];
+			values = new Object[capacity];
+			allocateIdentifiers( capacity );
+		}
+
+		boolean isOccupied(int slot) {
+			return persisters[slot] != null && values[slot] != REMOVED;
+		}
+
+		int find(Object identifier) {
+			if ( !accepts( identifier ) ) {
+				return -1;
+			}
+			final int mask = persisters.length - 1;
+			int slot = hash( identifier ) & mask;
+			while ( persisters[slot] != null ) {
+				if ( values[slot] != REMOVED && matches( slot, identifier ) ) {
+					return slot;
+				}
+				slot = ( slot + 1 ) & mask;
+			}
+			return -1;
+		}
+
+		Object put(Object identifier, EntityPersister persister, Object value) {
+			final int existing = find( identifier );
+			if ( existing >= 0 ) {
+				final Object previous = values[existing];
+				persisters[existing] = persister;
+				values[existing] = value;
+				return previous;
+			}
+			if ( ( used + 1 ) * 4 > persisters.length * 3 ) {
+				resize();
+			}
+			final int slot = freeSlot( hash( identifier ) );
+			persisters[slot] = persister;
+			values[slot] = value;
+			storeIdentifier( slot, identifier );
+			used++;
+			return null;
+		}
+
+		void removeAt(int slot) {
+			values[slot] = REMOVED;
+			storeIdentifier( slot, null );
+		}
+
+		private int freeSlot(int hash) {
+			final int mask = persisters.length - 1;
+			int slot = hash & mask;
+			while ( persisters[slot] != null ) {
+				slot = ( slot + 1 ) & mask;
+			}
+			return slot;
+		}
+
+		private void resize() {
+			int live = 0;
+			for ( int i = 0; i < persisters.length; i++ ) {
+				if ( isOccupied( i ) ) {
+					live++;
+				}
+			}
+			// only grow when the table is really filling up, otherwise just purge the tombstones
+			int capacity = persisters.length;
+			while ( ( live + 1 ) * 2 > capacity ) {
+				capacity <<= 1;
+			}
+
+			final EntityPersister[] oldPersisters = persisters;
+			final Object[] oldValues = values;
+			persisters = new EntityPersister[capacity];
+			values = new Object[capacity];
+			final Object oldIdentifiers = allocateIdentifiers( capacity );
+			used = 0;
+			for ( int i = 0; i < oldPersisters.length; i++ ) {
+				if ( oldPersisters[i] != null && oldValues[i] != REMOVED ) {
+					final int slot = freeSlot( hashAt( oldIdentifiers, i ) );
+					persisters[slot] = oldPersisters[i];
+					values[slot] = oldValues[i];
+					transferIdentifier( oldIdentifiers, i, slot );
+					used++;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Table for {@code Long} and {@code Integer} identifiers.
+	 */
+	private static final class LongIdTable extends IdTable {
+		private final boolean integer;
+		private long[] ids;
+
+		LongIdTable(String rootEntityName, boolean integer) {
+			super( rootEntityName );
+			this.integer = integer;
+			allocate( MIN_CAPACITY );
+		}
+
+		@Override
+		boolean accepts(Object identifier) {
+			return integer ? identifier instanceof Integer : identifier instanceof Long;
+		}
+
+		@Override
+		int hash(Object identifier) {
+			return mix( ( (Number) identifier ).longValue() );
+		}
+
+		@Override
+		boolean matches(int slot, Object identifier) {
+			return ids[slot] == ( (Number) identifier ).longValue();
+		}
+
+		@Override
+		void storeIdentifier(int slot, Object identifier) {
+			if ( identifier != null ) {
+				ids[slot] = ( (Number) identifier ).longValue();
+			}
+		}
+
+		@Override
+		Object identifierAt(int slot) {
+			return integer ? (Object) (int) ids[slot] : (Object) ids[slot];
+		}
+
+		@Override
+		Object allocateIdentifiers(int capacity) {
+			final long[] old = ids;
+			ids = new long[capacity];
+			return old;
+		}
+
+		@Override
+		int hashAt(Object storage, int slot) {
+			return mix( ( (long[]) storage )[slot] );
+		}
+
+		@Override
+		void transferIdentifier(Object storage, int oldSlot, int newSlot) {
+			ids[newSlot] = ( (long[]) storage )[oldSlot];
+		}
+	}
+
+	/**
+	 * Table for {@code UUID} identifiers, stored as their two halves.
+	 */
+	private static final class UuidIdTable extends IdTable {
+		// most significant bits at even, least significant bits at odd positions
+		private long[] bits;
+
+		UuidIdTable(String rootEntityName) {
+			super( rootEntityName );
+			allocate( MIN_CAPACITY );
+		}
+
+		@Override
+		boolean accepts(Object identifier) {
+			return identifier instanceof UUID;
+		}
+
+		@Override
+		int hash(Object identifier) {
+			final UUID uuid = (UUID) identifier;
+			return mix( uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits() );
+		}
+
+		@Override
+		boolean matches(int slot, Object identifier) {
+			final UUID uuid = (UUID) identifier;
+			return bits[2 * slot + 1] == uuid.getLeastSignificantBits()
+					&& bits[2 * slot] == uuid.getMostSignificantBits();
+		}
+
+		@Override
+		void storeIdentifier(int slot, Object identifier) {
+			if ( identifier != null ) {
+				final UUID uuid = (UUID) identifier;
+				bits[2 * slot] = uuid.getMostSignificantBits();
+				bits[2 * slot + 1] = uuid.getLeastSignificantBits();
+			}
+		}
+
+		@Override
+		Object identifierAt(int slot) {
+			return new UUID( bits[2 * slot], bits[2 * slot + 1] );
+		}
+
+		@Override
+		Object allocateIdentifiers(int capacity) {
+			final long[] old = bits;
+			bits = new long[2 * capacity];
+			return old;
+		}
+
+		@Override
+		int hashAt(Object storage, int slot) {
+			final long[] old = (long[]) storage;
+			return mix( old[2 * slot] ^ old[2 * slot + 1] );
+		}
+
+		@Override
+		void transferIdentifier(Object storage, int oldSlot, int newSlot) {
+			final long[] old = (long[]) storage;
+			bits[2 * newSlot] = old[2 * oldSlot];
+			bits[2 * newSlot + 1] = old[2 * oldSlot + 1];
+		}
+	}
+
+	/**
+	 * Table for any other identifier type, hashed and compared through the
+	 * identifier {@link Type} like {@link EntityKey} does.
+	 */
+	private static final class ObjectIdTable extends IdTable {
+		private final EntityPersister persister;
+		private Object[] ids;
+		private int[] hashes;
+
+		ObjectIdTable(String rootEntityName, EntityPersister persister, int capacity) {
+			super( rootEntityName );
+			this.persister = persister;
+			allocate( capacity );
+		}
+
+		@Override
+		boolean accepts(Object identifier) {
+			return true;
+		}
+
+		@Override
+		int hash(Object identifier) {
+			return mix( persister.getIdentifierType().getHashCode( identifier, persister.getFactory() ) );
+		}
+
+		@Override
+		boolean matches(int slot, Object identifier) {
+			return persister.getIdentifierType().isEqual( ids[slot], identifier, persister.getFactory() );
+		}
+
+		@Override
+		void storeIdentifier(int slot, Object identifier) {
+			ids[slot] = identifier;
+			if ( identifier != null ) {
+				hashes[slot] = hash( identifier );
+			}
+		}
+
+		@Override
+		Object identifierAt(int slot) {
+			return ids[slot];
+		}
+
+		@Override
+		Object allocateIdentifiers(int capacity) {
+			final Object[] old = new Object[] { ids, hashes };
+			ids = new Object[capacity];
+			hashes = new int[capacity];
+			return old;
+		}
+
+		@Override
+		int hashAt(Object storage, int slot) {
+			return ( (int[]) ( (Object[]) storage )[1] )[slot];
+		}
+
+		@Override
+		void transferIdentifier(Object storage, int oldSlot, int newSlot) {
+			final Object[] old = (Object[]) storage;
+			ids[newSlot] = ( (Object[]) old[0] )[oldSlot];
+			hashes[newSlot] = ( (int[]) old[1] )[oldSlot];
+		}
+	}
+
+	/**
+	 * Walks the slot arrays of the tables, so that iterating the values does not
+	 * allocate anything per entry.
+	 */
+	private abstract class SlotIterator<T> implements Iterator<T> {
+		private final Iterator<IdTable> tables = tablesByRootEntityName.values().iterator();
+		private int expectedModCount = modCount;
+
+		private IdTable table;
+		private int nextSlot = -1;
+		private IdTable lastReturnedTable;
+		private int lastReturnedSlot = -1;
+
+		private SlotIterator() {
+			advance();
+		}
+
+		abstract T element(IdTable table, int slot);
+
+		private void advance() {
+			while ( true ) {
+				if ( table != null ) {
+					while ( ++nextSlot < table.persisters.length ) {
+						if ( table.isOccupied( nextSlot ) ) {
+							return;
+						}
+					}
+				}
+				if ( !tables.hasNext() ) {
+					table = null;
+					return;
+				}
+				table = tables.next();
+				nextSlot = -1;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return table != null;
+		}
+
+		@Override
+		public T next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( table == null ) {
+				throw new NoSuchElementException();
+			}
+			lastReturnedTable = table;
+			lastReturnedSlot = nextSlot;
+			final T element = element( table, nextSlot );
+			advance();
+			return element;
+		}
+
+		@Override
+		public void remove() {
+			if ( lastReturnedSlot < 0 ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			lastReturnedTable.removeAt( lastReturnedSlot );
+			lastReturnedSlot = -1;
+			size--;
+			expectedModCount = ++modCount;
+		}
+	}
+
+	private final class EntryIterator extends SlotIterator<Entry<EntityKey, V>> {
+		@Override
+		@SuppressWarnings("unchecked")
+		Entry<EntityKey, V> element(IdTable table, int slot) {
+			return new SimpleImmutableEntry<>(
+					new EntityKey( table.identifierAt( slot ), table.persisters[slot] ),
+					(V) table.values[slot]
+			);
+		}
+	}
+
+	private final class KeyIterator extends SlotIterator<EntityKey> {
+		@Override
+		EntityKey element(IdTable table, int slot) {
+			return new EntityKey( table.identifierAt( slot ), table.persisters[slot] );
+		}
+	}
+
+	private final class ValueIterator extends SlotIterator<V> {
+		@Override
+		@SuppressWarnings("unchecked")
+		V element(IdTable table, int slot) {
+			return (V) table.values[slot];
+		}
+	}
+}
@@ -54,6 +54,7 @@ import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.collections.ConcurrentReferenceHashMap;
 import org.hibernate.internal.util.collections.IdentityMap;
@@ -93,6 +94,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	private SharedSessionContractImplementor session;
 	private EntityEntryContext entityEntryContext;
+	private final boolean trackingDirtyEntities;
 
 	/*
 		Everything else below should be carefully initialized only on first need;
@@ -103,7 +105,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, Object> entitiesByKey;
+	private EntityKeyMap<Object> entitiesByKey;
 
 	// Loaded entity instances, by EntityUniqueKey
 	private HashMap<EntityUniqueKey, Object> entitiesByUniqueKey;
@@ -113,7 +115,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	// Snapshots of current database state for entities
 	// that have *not* been loaded
-	private HashMap<EntityKey, Object> entitySnapshotsByKey;
+	private EntityKeyMap<Object> entitySnapshotsByKey;
 
 	// Identity map of array holder ArrayHolder instances, by the array instance
 	private IdentityHashMap<Object, PersistentCollection> arrayHolders;
@@ -142,6 +144,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	// May be empty or not contains all relation
 	private IdentityHashMap<Object,Object> parentsByChild;
 
+	// Entities to visit on the next flush, when only those are dirty checked
+	private IdentityMap<Object,Object> dirtyEntities;
+
 	private int cascading;
 	private int loadCounter;
 	private int removeOrphanBeforeUpdatesCounter;
@@ -161,6 +166,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public StatefulPersistenceContext(SharedSessionContractImplementor session) {
 		this.session = session;
 		this.entityEntryContext = new EntityEntryContext( this );
+		this.trackingDirtyEntities = session.getFactory().getSessionFactoryOptions().isDirtySetFlushEnabled();
 	}
 
 	private ConcurrentMap<EntityKey, Object> getOrInitializeProxiesByKey() {
@@ -246,6 +252,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		entitiesByUniqueKey = null;
 		entityEntryContext.clear();
 		parentsByChild = null;
+		dirtyEntities = null;
 		entitySnapshotsByKey = null;
 		collectionsByKey = null;
 		nonlazyCollections = null;
@@ -285,6 +292,31 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		setHasNonReadOnlyEnties( status );
 	}
 
+	@Override
+	public boolean isTrackingDirtyEntities() {
+		return trackingDirtyEntities;
+	}
+
+	@Override
+	public void markDirty(Object entity) {
+		if ( trackingDirtyEntities ) {
+			if ( dirtyEntities == null ) {
+				dirtyEntities = IdentityMap.instantiateSequenced( INIT_COLL_SIZE );
+			}
+			dirtyEntities.put( entity, entity );
+		}
+	}
+
+	@Override
+	public Object[] reentrantSafeDirtyEntities() {
+		return dirtyEntities == null ? ArrayHelper.EMPTY_OBJECT_ARRAY : dirtyEntities.values().toArray();
+	}
+
+	@Override
+	public void clearDirtyEntities() {
+		dirtyEntities = null;
+	}
+
 	private void setHasNonReadOnlyEnties(Status status) {
 		if ( status==Status.DELETED || status==Status.MANAGED || status==Status.SAVING ) {
 			hasNonReadOnlyEntities = true;
@@ -306,17 +338,16 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	@Override
 	public Object[] getDatabaseSnapshot(Object id, EntityPersister persister) throws HibernateException {
-		final EntityKey key = session.generateEntityKey( id, persister );
-		final Object cached = entitySnapshotsByKey == null ? null : entitySnapshotsByKey.get( key );
+		final Object cached = entitySnapshotsByKey == null ? null : entitySnapshotsByKey.get( persister, id );
 		if ( cached != null ) {
 			return cached == NO_ROW ? null : (Object[]) cached;
 		}
 		else {
 			final Object[] snapshot = persister.getDatabaseSnapshot( id, session );
 			if ( entitySnapshotsByKey == null ) {
-				entitySnapshotsByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+				entitySnapshotsByKey = new EntityKeyMap<>();
 			}
-			entitySnapshotsByKey.put( key, snapshot == null ? NO_ROW : snapshot );
+			entitySnapshotsByKey.put( session.generateEntityKey( id, persister ), snapshot == null ? NO_ROW : snapshot );
 			return snapshot;
 		}
 	}
@@ -384,7 +415,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEntity(EntityKey key, Object entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = new EntityKeyMap<>();
 		}
 		entitiesByKey.put( key, entity );
 		final BatchFetchQueue fetchQueue = this.batchFetchQueue;
@@ -398,6 +429,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entitiesByKey == null ? null : entitiesByKey.get( key );
 	}
 
+	@Override
+	public Object getEntity(Object id, EntityPersister persister) {
+		return entitiesByKey == null ? null : entitiesByKey.get( persister, id );
+	}
+
 	@Override
 	public boolean containsEntity(EntityKey key) {
 		return entitiesByKey != null && entitiesByKey.containsKey( key );
@@ -457,6 +493,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public EntityEntry removeEntry(Object entity) {
+		if ( dirtyEntities != null ) {
+			dirtyEntities.remove( entity );
+		}
 		return entityEntryContext.removeEntityEntry( entity );
 	}
 
@@ -766,7 +805,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEnhancedProxy(EntityKey key, PersistentAttributeInterceptable entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = new EntityKeyMap<>();
 		}
 		entitiesByKey.put( key, entity );
 	}
@@ -1678,7 +1717,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = CollectionHelper.mapOfSize( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.entitiesByKey = new EntityKeyMap<>();
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitiesByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -1717,7 +1756,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitySnapshotsByKey entries" );
 			}
-			rtn.entitySnapshotsByKey = CollectionHelper.mapOfSize( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.entitySnapshotsByKey = new EntityKeyMap<>();
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitySnapshotsByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -137,10 +137,18 @@ public abstract class AbstractBatchImpl implements Batch {
 		return jdbcCoordinator.getStatementPreparer().prepareStatement( sql, callable );
 	}
 
+	/**
+	 * Whether statements previously removed from {@link #getStatements()} still have to be
+	 * completed by {@link #doExecuteBatch()}.
+	 */
+	protected boolean hasPendingExecutions() {
+		return false;
+	}
+
 	@Override
 	public final void execute() {
 		notifyObserversExplicitExecution();
-		if ( getStatements().isEmpty() ) {
+		if ( getStatements().isEmpty() && !hasPendingExecutions() ) {
 			return;
 		}
 
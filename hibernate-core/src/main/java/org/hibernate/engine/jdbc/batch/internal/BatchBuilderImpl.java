@@ -6,6 +6,7 @@
  */
 package org.hibernate.engine.jdbc.batch.internal;
 
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
@@ -23,10 +24,14 @@ public class BatchBuilderImpl implements BatchBuilder, BatchBuilderMXBean {
 
 	private volatile int jdbcBatchSize;
 
+	private final int pipelineDepth;
+	private final int rowsPerInsert;
+
 	/**
 	 * Constructs a BatchBuilderImpl
 	 */
 	public BatchBuilderImpl() {
+		this( 0 );
 	}
 
 	/**
@@ -35,7 +40,51 @@ public class BatchBuilderImpl implements BatchBuilder, BatchBuilderMXBean {
 	 * @param jdbcBatchSize The batch jdbcBatchSize to use.
 	 */
 	public BatchBuilderImpl(int jdbcBatchSize) {
+		this( jdbcBatchSize, 0 );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param jdbcBatchSize The batch jdbcBatchSize to use.
+	 * @param pipelineDepth The maximum number of full batches executing in the background
+	 * per batch, on the {@link org.hibernate.engine.jdbc.spi.JdbcServices#getBatchExecutor()
+	 * batch executor}, or {@code 0} to execute them synchronously.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_PIPELINE_DEPTH
+	 */
+	public BatchBuilderImpl(int jdbcBatchSize, int pipelineDepth) {
+		this( jdbcBatchSize, pipelineDepth, 1 );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param jdbcBatchSize The batch jdbcBatchSize to use.
+	 * @param pipelineDepth The maximum number of full batches executing in the background
+	 * per batch, or {@code 0} to execute them synchronously; ignored, with a warning, when
+	 * {@code rowsPerInsert} is greater than {@code 1}.
+	 * @param rowsPerInsert The maximum number of rows inserted by each statement of a batch
+	 * of single-row inserts, or {@code 1} to insert them one at a time.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_ROWS_PER_INSERT
+	 */
+	public BatchBuilderImpl(int jdbcBatchSize, int pipelineDepth, int rowsPerInsert) {
 		this.jdbcBatchSize = jdbcBatchSize;
+		this.rowsPerInsert = Math.max( rowsPerInsert, 1 );
+		if ( this.rowsPerInsert > 1 && pipelineDepth > 0 ) {
+			// the rows of multi-row inserts are bound when the batch executes, not while it does
+			LOG.warnf(
+					"Ignoring %s=%s since %s is greater than 1: batches are not pipelined",
+					AvailableSettings.STATEMENT_BATCH_PIPELINE_DEPTH,
+					pipelineDepth,
+					AvailableSettings.STATEMENT_BATCH_ROWS_PER_INSERT
+			);
+			this.pipelineDepth = 0;
+		}
+		else {
+			this.pipelineDepth = Math.max( pipelineDepth, 0 );
+		}
 	}
 
 	@Override
@@ -50,7 +99,13 @@ public class BatchBuilderImpl implements BatchBuilder, BatchBuilderMXBean {
 
 	@Override
 	public Batch buildBatch(BatchKey key, JdbcCoordinator jdbcCoordinator) {
-		return SharedBatchBuildingCode.buildBatch( jdbcBatchSize, key, jdbcCoordinator );
+		return SharedBatchBuildingCode.buildBatch(
+				jdbcBatchSize,
+				key,
+				jdbcCoordinator,
+				pipelineDepth,
+				rowsPerInsert
+		);
 	}
 
 }
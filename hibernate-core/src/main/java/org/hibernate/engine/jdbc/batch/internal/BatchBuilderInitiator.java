@@ -42,7 +42,9 @@ public class BatchBuilderInitiator implements StandardServiceInitiator<BatchBuil
 		final Object builder = configurationValues.get( BUILDER );
 		if ( builder == null ) {
 			return new BatchBuilderImpl(
-					ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, 1 )
+					ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, 1 ),
+					ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_PIPELINE_DEPTH, configurationValues, 0 ),
+					ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_ROWS_PER_INSERT, configurationValues, 1 )
 			);
 		}
 
@@ -8,19 +8,31 @@ package org.hibernate.engine.jdbc.batch.internal;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.internal.CoreMessageLogger;
 
+import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.jboss.logging.Logger;
 
 /**
  * A {@link org.hibernate.engine.jdbc.batch.spi.Batch} implementation which does bathing based on a given size.  Once
  * the batch size is reached for a statement in the batch, the entire batch is implicitly executed.
+ * <p/>
+ * When given a pipeline executor, the implicit executions happen in the background: the statements of the full
+ * batch are handed to the executor, and the following rows are bound to new statements.  At most
+ * {@code pipelineDepth} such executions are pending; their row counts are verified when they are collected,
+ * which happens at the latest on the explicit execution of the batch.
  *
  * @author Steve Ebersole
  */
@@ -38,6 +50,10 @@ public class BatchingBatch extends AbstractBatchImpl {
 	private boolean batchExecuted;
 	private int statementPosition;
 
+	private final Executor pipelineExecutor;
+	private final int pipelineDepth;
+	private final ArrayDeque<PipelinedExecution> pipelinedExecutions;
+
 	/**
 	 * Constructs a BatchingBatch
 	 *
@@ -49,12 +65,40 @@ public class BatchingBatch extends AbstractBatchImpl {
 			BatchKey key,
 			JdbcCoordinator jdbcCoordinator,
 			int batchSize) {
+		this( key, jdbcCoordinator, batchSize, null, 0 );
+	}
+
+	/**
+	 * Constructs a BatchingBatch
+	 *
+	 * @param key The batch key
+	 * @param jdbcCoordinator The JDBC jdbcCoordinator
+	 * @param batchSize The batch size.
+	 * @param pipelineExecutor The executor of full batches, or {@code null} to execute them synchronously
+	 * @param pipelineDepth The maximum number of full batches pending execution
+	 */
+	public BatchingBatch(
+			BatchKey key,
+			JdbcCoordinator jdbcCoordinator,
+			int batchSize,
+			Executor pipelineExecutor,
+			int pipelineDepth) {
 		super( key, jdbcCoordinator );
 		if ( ! key.getExpectation().canBeBatched() ) {
 			throw new HibernateException( "attempting to batch an operation which cannot be batched" );
 		}
 		this.batchSize = batchSize;
 		this.configuredBatchSize = batchSize;
+		if ( pipelineExecutor != null && pipelineDepth > 0 ) {
+			this.pipelineExecutor = pipelineExecutor;
+			this.pipelineDepth = pipelineDepth;
+			this.pipelinedExecutions = new ArrayDeque<>( pipelineDepth );
+		}
+		else {
+			this.pipelineExecutor = null;
+			this.pipelineDepth = 0;
+			this.pipelinedExecutions = null;
+		}
 	}
 
 	private String currentStatementSql;
@@ -87,7 +131,12 @@ public class BatchingBatch extends AbstractBatchImpl {
 			batchPosition++;
 			if ( batchPosition == batchSize ) {
 				notifyObserversImplicitExecution();
-				performExecution();
+				if ( pipelineExecutor != null ) {
+					submitExecution();
+				}
+				else {
+					performExecution();
+				}
 				batchPosition = 0;
 				batchExecuted = true;
 			}
@@ -95,8 +144,16 @@ public class BatchingBatch extends AbstractBatchImpl {
 		}
 	}
 
+	@Override
+	protected boolean hasPendingExecutions() {
+		return pipelinedExecutions != null && !pipelinedExecutions.isEmpty();
+	}
+
 	@Override
 	protected void doExecuteBatch() {
+		if ( pipelinedExecutions != null ) {
+			completePipelinedExecutions();
+		}
 		if (batchPosition == 0 ) {
 			if(! batchExecuted) {
 				LOG.debug( "No batched statements to execute" );
@@ -123,7 +180,7 @@ public class BatchingBatch extends AbstractBatchImpl {
 					finally {
 						observer.jdbcExecuteBatchEnd();
 					}
-					checkRowCounts( rowCounts, statement, sql );
+					checkRowCounts( rowCounts, statement, sql, batchPosition, getStatements().size() );
 				}
 				catch ( SQLException e ) {
 					abortBatch();
@@ -142,13 +199,158 @@ public class BatchingBatch extends AbstractBatchImpl {
 		}
 	}
 
-	private void checkRowCounts(int[] rowCounts, PreparedStatement ps, String statementSQL) throws SQLException, HibernateException {
+	private void checkRowCounts(
+			int[] rowCounts,
+			PreparedStatement ps,
+			String statementSQL,
+			int batchPosition,
+			int statementCount) throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
-		if ( batchPosition != 0 && numberOfRowCounts != batchPosition / getStatements().size() ) {
+		if ( batchPosition != 0 && numberOfRowCounts != batchPosition / statementCount ) {
 			LOG.unexpectedRowCounts();
 		}
 		for ( int i = 0; i < numberOfRowCounts; i++ ) {
 			getKey().getExpectation().verifyOutcome( rowCounts[i], ps, i, statementSQL );
 		}
 	}
+
+	private JdbcObserver observer() {
+		return getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+	}
+
+	private void submitExecution() {
+		while ( pipelinedExecutions.size() >= pipelineDepth ) {
+			completePipelinedExecution( pipelinedExecutions.poll() );
+		}
+		LOG.debugf( "Submitting batch size: %s", batchPosition );
+		final PipelinedExecution execution = new PipelinedExecution( getStatements(), batchPosition );
+		// the rows of the next batch are bound to new statements
+		getStatements().clear();
+		currentStatement = null;
+
+		observer().jdbcExecuteBatchStart();
+		final PipelinedExecution previous = pipelinedExecutions.peekLast();
+		// the executions of a batch must happen in order, in case its rows reference each other
+		execution.future = previous == null
+				? CompletableFuture.runAsync( execution, pipelineExecutor )
+				: previous.future.thenRunAsync( execution, pipelineExecutor );
+		pipelinedExecutions.add( execution );
+	}
+
+	private void completePipelinedExecutions() {
+		PipelinedExecution execution;
+		while ( ( execution = pipelinedExecutions.poll() ) != null ) {
+			completePipelinedExecution( execution );
+		}
+	}
+
+	private void completePipelinedExecution(PipelinedExecution execution) {
+		awaitPipelinedExecution( execution );
+		try {
+			if ( execution.failure != null ) {
+				abortBatch();
+				LOG.unableToExecuteBatch( execution.failure, execution.failedSql );
+				if ( execution.failure instanceof SQLException ) {
+					throw sqlExceptionHelper().convert(
+							(SQLException) execution.failure,
+							"could not execute batch",
+							execution.failedSql
+					);
+				}
+				throw (RuntimeException) execution.failure;
+			}
+			int i = 0;
+			for ( Map.Entry<String, PreparedStatement> entry : execution.statements.entrySet() ) {
+				final String sql = entry.getKey();
+				try {
+					checkRowCounts(
+							execution.rowCounts[i++],
+							entry.getValue(),
+							sql,
+							execution.batchPosition,
+							execution.statements.size()
+					);
+				}
+				catch ( SQLException e ) {
+					abortBatch();
+					throw sqlExceptionHelper().convert( e, "could not execute batch", sql );
+				}
+				catch ( RuntimeException re ) {
+					abortBatch();
+					throw re;
+				}
+			}
+		}
+		finally {
+			releaseStatements( execution );
+		}
+	}
+
+	private void awaitPipelinedExecution(PipelinedExecution execution) {
+		try {
+			execution.future.join();
+		}
+		catch (CompletionException | CancellationException e) {
+			// the failure is recorded by the execution which failed
+		}
+		finally {
+			observer().jdbcExecuteBatchEnd();
+		}
+	}
+
+	private void releaseStatements(PipelinedExecution execution) {
+		final ResourceRegistry resourceRegistry = getJdbcCoordinator().getResourceRegistry();
+		for ( PreparedStatement statement : execution.statements.values() ) {
+			clearBatch( statement );
+			resourceRegistry.release( statement );
+		}
+		execution.statements.clear();
+	}
+
+	@Override
+	public void release() {
+		if ( pipelinedExecutions != null ) {
+			// statements cannot be released while they are executing
+			PipelinedExecution execution;
+			while ( ( execution = pipelinedExecutions.poll() ) != null ) {
+				awaitPipelinedExecution( execution );
+				releaseStatements( execution );
+			}
+		}
+		super.release();
+	}
+
+	/**
+	 * The execution of the statements of a full batch by the pipeline executor.
+	 */
+	private static class PipelinedExecution implements Runnable {
+		private final LinkedHashMap<String, PreparedStatement> statements;
+		private final int batchPosition;
+		private final int[][] rowCounts;
+
+		private CompletableFuture<Void> future;
+		private String failedSql;
+		private Exception failure;
+
+		private PipelinedExecution(Map<String, PreparedStatement> statements, int batchPosition) {
+			this.statements = new LinkedHashMap<>( statements );
+			this.batchPosition = batchPosition;
+			this.rowCounts = new int[statements.size()][];
+		}
+
+		@Override
+		public void run() {
+			int i = 0;
+			for ( Map.Entry<String, PreparedStatement> entry : statements.entrySet() ) {
+				try {
+					rowCounts[i++] = entry.getValue().executeBatch();
+				}
+				catch (SQLException | RuntimeException e) {
+					failedSql = entry.getKey();
+					failure = e;
+					throw new CompletionException( e );
+				}
+			}
+		}
+	}
 }
@@ -0,0 +1,388 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * A {@link BatchBuilder} whose batches are executed concurrently, each on a JDBC connection
+ * other than the one of the session, so that the round trips of batches which do not depend
+ * on each other overlap.
+ * <p/>
+ * Statements are prepared, through the {@link org.hibernate.engine.jdbc.spi.StatementPreparer}
+ * of the session, and their parameters bound, by the thread of the session; only the
+ * execution of a full batch happens on the given {@link Executor}, which is shared by the
+ * sessions of the factory.  Batches are cut every {@code batchSize} rows as with
+ * {@link BatchingBatch}, and at most {@code parallelism} connections are in use at once:
+ * preparing a new batch waits for one of them to be done.
+ * <p/>
+ * Connections are obtained from the session's {@link JdbcConnectionAccess}, which is only
+ * meaningful within a JTA transaction, where the DataSource enlists them in the transaction of
+ * the session.  A connection is never used by two threads at once.  When the DataSource hands
+ * out the connection of the session for the first connection, {@link #start()} reports that
+ * this executor cannot be used.  When it later hands out a connection already obtained, no
+ * further connections are requested, and the batches share the connections obtained so far.
+ * <p/>
+ * Failures are reported by {@link #awaitCompletion()}, which must be called (by the thread of
+ * the session) before anything depending on the rows written by the batches is executed.  Even
+ * then, the rows inserted on the additional connections are not visible to the connection of
+ * the session until the transaction commits, unless the transaction manager couples the
+ * branches of the transaction tightly.  Foreign key checks, and later statements of the same
+ * transaction issued through the session, may therefore not see them.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#ORDER_INSERTS_PARALLELISM
+ */
+public class ConcurrentBatchExecutor implements BatchBuilder {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( ConcurrentBatchExecutor.class );
+
+	private final JdbcConnectionAccess connectionAccess;
+	private final Connection sessionConnection;
+	private final Executor executor;
+	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlExceptionHelper sqlExceptionHelper;
+	private final int batchSize;
+	private final int parallelism;
+
+	private final LinkedBlockingQueue<Connection> idleConnections = new LinkedBlockingQueue<>();
+	private final List<Connection> connections = new ArrayList<>();
+	private final ArrayDeque<Future<?>> executions = new ArrayDeque<>();
+	private boolean sharedConnections;
+
+	public ConcurrentBatchExecutor(
+			JdbcConnectionAccess connectionAccess,
+			Connection sessionConnection,
+			Executor executor,
+			SqlStatementLogger sqlStatementLogger,
+			SqlExceptionHelper sqlExceptionHelper,
+			int batchSize,
+			int parallelism) {
+		if ( parallelism < 1 ) {
+			throw new IllegalArgumentException( "Parallelism must be positive: " + parallelism );
+		}
+		this.connectionAccess = connectionAccess;
+		this.sessionConnection = sessionConnection;
+		this.executor = executor;
+		this.sqlStatementLogger = sqlStatementLogger;
+		this.sqlExceptionHelper = sqlExceptionHelper;
+		this.batchSize = Math.max( batchSize, 1 );
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Obtain the first connection of this executor.
+	 *
+	 * @return {@code false} if the connection source handed out the connection of the session,
+	 * in which case batches cannot be executed concurrently and this executor must not be used
+	 */
+	public boolean start() {
+		final Connection connection = obtainConnection();
+		if ( connection == null ) {
+			return false;
+		}
+		connections.add( connection );
+		idleConnections.add( connection );
+		return true;
+	}
+
+	@Override
+	public Batch buildBatch(BatchKey key, JdbcCoordinator jdbcCoordinator) {
+		if ( !key.getExpectation().canBeBatched() ) {
+			throw new HibernateException( "attempting to batch an operation which cannot be batched" );
+		}
+		return new ConcurrentBatch( key, jdbcCoordinator );
+	}
+
+	/**
+	 * Wait for the execution of all batches submitted so far, rethrowing the first failure.
+	 */
+	public void awaitCompletion() {
+		RuntimeException failure = null;
+		while ( !executions.isEmpty() ) {
+			final Future<?> execution = executions.poll();
+			try {
+				execution.get();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				failure = addFailure( failure, new HibernateException( "Interrupted while waiting for batch execution", e ) );
+			}
+			catch (ExecutionException e) {
+				final Throwable cause = e.getCause();
+				if ( cause instanceof Error ) {
+					throw (Error) cause;
+				}
+				failure = addFailure(
+						failure,
+						cause instanceof RuntimeException
+								? (RuntimeException) cause
+								: new HibernateException( "Could not execute batch", cause )
+				);
+			}
+		}
+		if ( failure != null ) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Wait for the execution of all batches and release the connections of this executor.
+	 */
+	public void close() {
+		try {
+			awaitCompletion();
+		}
+		finally {
+			for ( Connection connection : connections ) {
+				try {
+					connectionAccess.releaseConnection( connection );
+				}
+				catch (SQLException | RuntimeException e) {
+					LOG.unableToReleaseIsolatedConnection( e );
+				}
+			}
+			connections.clear();
+			idleConnections.clear();
+		}
+	}
+
+	private static RuntimeException addFailure(RuntimeException failure, RuntimeException e) {
+		if ( failure == null ) {
+			return e;
+		}
+		failure.addSuppressed( e );
+		return failure;
+	}
+
+	private Connection acquireConnection() {
+		Connection connection = idleConnections.poll();
+		if ( connection != null ) {
+			return connection;
+		}
+		if ( connections.size() < parallelism && !sharedConnections ) {
+			connection = obtainConnection();
+			if ( connection != null ) {
+				connections.add( connection );
+				return connection;
+			}
+			// make do with the connections obtained so far
+			sharedConnections = true;
+		}
+		try {
+			return idleConnections.take();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while waiting for a JDBC Connection for batch execution", e );
+		}
+	}
+
+	private Connection obtainConnection() {
+		final Connection connection;
+		try {
+			connection = connectionAccess.obtainConnection();
+		}
+		catch (SQLException e) {
+			throw sqlExceptionHelper.convert( e, "Unable to acquire JDBC Connection for batch execution" );
+		}
+		for ( Connection obtained : connections ) {
+			if ( obtained == connection ) {
+				return null;
+			}
+		}
+		// a connection shared with the session is not ours to release either
+		return connection == sessionConnection ? null : connection;
+	}
+
+	/**
+	 * The rows of a batch bound to one connection, executed as a unit by one of the threads.
+	 */
+	private class Chunk implements Runnable {
+		private final BatchKey key;
+		private final Connection connection;
+		private final LinkedHashMap<String, PreparedStatement> statements = new LinkedHashMap<>();
+
+		private Chunk(BatchKey key, Connection connection) {
+			this.key = key;
+			this.connection = connection;
+		}
+
+		private PreparedStatement getStatement(JdbcCoordinator jdbcCoordinator, String sql, boolean callable) {
+			PreparedStatement statement = statements.get( sql );
+			if ( statement == null ) {
+				// the StatementInspector, observer and timeout of the session apply as on its own connection
+				statement = jdbcCoordinator.getStatementPreparer().prepareStatement( connection, sql, callable );
+				statements.put( sql, statement );
+			}
+			else {
+				LOG.debug( "Reusing batch statement" );
+				sqlStatementLogger.logStatement( sql );
+			}
+			return statement;
+		}
+
+		@Override
+		public void run() {
+			try {
+				for ( Map.Entry<String, PreparedStatement> entry : statements.entrySet() ) {
+					final String sql = entry.getKey();
+					final PreparedStatement statement = entry.getValue();
+					try {
+						final int[] rowCounts = statement.executeBatch();
+						for ( int i = 0; i < rowCounts.length; i++ ) {
+							key.getExpectation().verifyOutcome( rowCounts[i], statement, i, sql );
+						}
+					}
+					catch (SQLException e) {
+						LOG.unableToExecuteBatch( e, sql );
+						throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+					}
+					catch (RuntimeException e) {
+						LOG.unableToExecuteBatch( e, sql );
+						throw e;
+					}
+				}
+			}
+			finally {
+				release();
+			}
+		}
+
+		private void release() {
+			for ( PreparedStatement statement : statements.values() ) {
+				try {
+					statement.close();
+				}
+				catch (SQLException e) {
+					LOG.unableToReleaseBatchStatement();
+				}
+			}
+			statements.clear();
+			idleConnections.add( connection );
+		}
+	}
+
+	private class ConcurrentBatch implements Batch {
+		private final BatchKey key;
+		private final JdbcCoordinator jdbcCoordinator;
+		private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+		private Chunk chunk;
+		private PreparedStatement currentStatement;
+		private String currentStatementSql;
+		private int statementPosition;
+		private int batchPosition;
+
+		private ConcurrentBatch(BatchKey key, JdbcCoordinator jdbcCoordinator) {
+			this.key = key;
+			this.jdbcCoordinator = jdbcCoordinator;
+		}
+
+		@Override
+		public BatchKey getKey() {
+			return key;
+		}
+
+		@Override
+		public void addObserver(BatchObserver observer) {
+			observers.add( observer );
+		}
+
+		@Override
+		public PreparedStatement getBatchStatement(String sql, boolean callable) {
+			if ( sql == null ) {
+				throw new IllegalArgumentException( "sql must be non-null." );
+			}
+			if ( chunk == null ) {
+				chunk = new Chunk( key, acquireConnection() );
+			}
+			currentStatementSql = sql;
+			currentStatement = chunk.getStatement( jdbcCoordinator, sql, callable );
+			return currentStatement;
+		}
+
+		@Override
+		public void addToBatch() {
+			try {
+				currentStatement.addBatch();
+			}
+			catch (SQLException e) {
+				LOG.debug( "SQLException escaped proxy", e );
+				throw sqlExceptionHelper.convert( e, "could not perform addBatch", currentStatementSql );
+			}
+			statementPosition++;
+			if ( statementPosition >= key.getBatchedStatementCount() ) {
+				statementPosition = 0;
+				batchPosition++;
+				if ( batchPosition == batchSize ) {
+					for ( BatchObserver observer : observers ) {
+						observer.batchImplicitlyExecuted();
+					}
+					submit();
+				}
+			}
+		}
+
+		@Override
+		public void execute() {
+			for ( BatchObserver observer : observers ) {
+				observer.batchExplicitlyExecuted();
+			}
+			if ( chunk != null ) {
+				if ( batchPosition == 0 ) {
+					release();
+				}
+				else {
+					submit();
+				}
+			}
+		}
+
+		private void submit() {
+			executions.add( CompletableFuture.runAsync( chunk, executor ) );
+			chunk = null;
+			currentStatement = null;
+			batchPosition = 0;
+		}
+
+		@Override
+		public void release() {
+			// only a chunk which was not submitted is left, when the batch is aborted
+			if ( chunk != null ) {
+				chunk.release();
+				chunk = null;
+				currentStatement = null;
+				batchPosition = 0;
+			}
+			observers.clear();
+		}
+	}
+}
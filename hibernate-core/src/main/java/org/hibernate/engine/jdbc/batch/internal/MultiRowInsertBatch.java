@@ -0,0 +1,448 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchedRow;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link org.hibernate.engine.jdbc.batch.spi.Batch} implementation which inserts the rows of
+ * a single-row {@code insert ... values (...)} statement several at a time, with statements of
+ * the form {@code insert ... values (...), (...), ...}.
+ * <p/>
+ * The rows {@linkplain #addToBatch(String, BatchedRow) added} to such an insert are kept rather
+ * than bound; once the batch size is reached, or on the explicit execution of the batch, they
+ * are bound one after the other to statements inserting up to {@code rowsPerStatement} rows
+ * each, each row at the index of its first parameter there, and the full statements are
+ * executed as a JDBC batch.  Other statements of the batch, including inserts which do not
+ * have this simple form, are batched as by {@link BatchingBatch}.  Statements are executed in
+ * the order in which they first joined the batch.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_ROWS_PER_INSERT
+ * @see Dialect#getMaxRowsPerInsert(int)
+ */
+public class MultiRowInsertBatch extends AbstractBatchImpl {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			MultiRowInsertBatch.class.getName()
+	);
+
+	private final int batchSize;
+	private final int rowsPerStatement;
+	private final Dialect dialect;
+
+	private final LinkedHashMap<String, StatementRows> statementRows = new LinkedHashMap<>();
+	private String currentStatementSql;
+	private PreparedStatement currentStatement;
+	private int batchPosition;
+	private int statementPosition;
+	private boolean batchExecuted;
+
+	/**
+	 * Constructs a MultiRowInsertBatch
+	 *
+	 * @param key The batch key
+	 * @param jdbcCoordinator The JDBC jdbcCoordinator
+	 * @param batchSize The batch size, in rows
+	 * @param rowsPerStatement The maximum number of rows inserted by each statement
+	 */
+	public MultiRowInsertBatch(
+			BatchKey key,
+			JdbcCoordinator jdbcCoordinator,
+			int batchSize,
+			int rowsPerStatement) {
+		super( key, jdbcCoordinator );
+		if ( !key.getExpectation().canBeBatched() ) {
+			throw new HibernateException( "attempting to batch an operation which cannot be batched" );
+		}
+		this.batchSize = batchSize;
+		this.rowsPerStatement = rowsPerStatement;
+		this.dialect = jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getServiceRegistry()
+				.getService( JdbcServices.class )
+				.getDialect();
+	}
+
+	@Override
+	public PreparedStatement getBatchStatement(String sql, boolean callable) {
+		StatementRows rows = statementRows.get( sql );
+		if ( rows == null ) {
+			rows = new StatementRows( null, 1 );
+			statementRows.put( sql, rows );
+		}
+		else if ( rows.isMultiRow() ) {
+			// executed ahead of the rows kept for the same insert
+			rows.bound = true;
+		}
+		currentStatementSql = sql;
+		currentStatement = super.getBatchStatement( sql, callable );
+		return currentStatement;
+	}
+
+	@Override
+	public void addToBatch() {
+		try {
+			currentStatement.addBatch();
+		}
+		catch (SQLException e) {
+			abortBatch();
+			LOG.debug( "SQLException escaped proxy", e );
+			throw sqlExceptionHelper().convert( e, "could not perform addBatch", currentStatementSql );
+		}
+		rowAdded();
+	}
+
+	@Override
+	public void addToBatch(String sql, BatchedRow row) throws SQLException {
+		StatementRows rows = statementRows.get( sql );
+		if ( rows == null ) {
+			final InsertTemplate template = InsertTemplate.parse( sql );
+			final int maxRows = template == null
+					? 1
+					: Math.min( rowsPerStatement, dialect.getMaxRowsPerInsert( template.parameterCount ) );
+			rows = new StatementRows( template, maxRows );
+			statementRows.put( sql, rows );
+		}
+		if ( rows.isMultiRow() ) {
+			rows.rows.add( row );
+			rowAdded();
+		}
+		else {
+			super.addToBatch( sql, row );
+		}
+	}
+
+	private void rowAdded() {
+		statementPosition++;
+		if ( statementPosition >= getKey().getBatchedStatementCount() ) {
+			batchPosition++;
+			if ( batchPosition == batchSize ) {
+				notifyObserversImplicitExecution();
+				performExecution();
+				batchExecuted = true;
+			}
+			statementPosition = 0;
+		}
+	}
+
+	@Override
+	protected boolean hasPendingExecutions() {
+		for ( StatementRows rows : statementRows.values() ) {
+			if ( !rows.rows.isEmpty() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	protected void doExecuteBatch() {
+		if ( batchPosition == 0 ) {
+			if ( !batchExecuted ) {
+				LOG.debug( "No batched statements to execute" );
+			}
+		}
+		else {
+			performExecution();
+		}
+	}
+
+	private void performExecution() {
+		LOG.debugf( "Executing batch size: %s", batchPosition );
+		try {
+			for ( Map.Entry<String, StatementRows> entry : statementRows.entrySet() ) {
+				final StatementRows rows = entry.getValue();
+				if ( !rows.isMultiRow() || rows.bound ) {
+					executeBatchedRows( entry.getKey() );
+					rows.bound = false;
+				}
+				if ( rows.isMultiRow() ) {
+					executeMultiRowInserts( rows );
+				}
+			}
+		}
+		finally {
+			batchPosition = 0;
+		}
+	}
+
+	private void executeBatchedRows(String sql) {
+		final PreparedStatement statement = getStatements().get( sql );
+		if ( statement == null ) {
+			return;
+		}
+		final JdbcObserver observer = observer();
+		try {
+			final int[] rowCounts;
+			try {
+				observer.jdbcExecuteBatchStart();
+				rowCounts = statement.executeBatch();
+			}
+			finally {
+				observer.jdbcExecuteBatchEnd();
+			}
+			for ( int i = 0; i < rowCounts.length; i++ ) {
+				getKey().getExpectation().verifyOutcome( rowCounts[i], statement, i, sql );
+			}
+		}
+		catch (SQLException e) {
+			abortBatch();
+			LOG.unableToExecuteBatch( e, sql );
+			throw sqlExceptionHelper().convert( e, "could not execute batch", sql );
+		}
+		catch (RuntimeException re) {
+			abortBatch();
+			LOG.unableToExecuteBatch( re, sql );
+			throw re;
+		}
+	}
+
+	private void executeMultiRowInserts(StatementRows rows) {
+		final List<BatchedRow> keptRows = rows.rows;
+		if ( keptRows.isEmpty() ) {
+			return;
+		}
+		final int rowCount = keptRows.size();
+		final int fullStatementCount = rowCount / rows.maxRows;
+		final int remainingRows = rowCount % rows.maxRows;
+		String sql = null;
+		try {
+			if ( fullStatementCount > 0 ) {
+				sql = rows.template.getSql( rows.maxRows );
+				final PreparedStatement statement = super.getBatchStatement( sql, false );
+				for ( int i = 0; i < fullStatementCount; i++ ) {
+					bindRows( statement, keptRows, i * rows.maxRows, rows.maxRows, rows.template.parameterCount );
+					statement.addBatch();
+				}
+				final JdbcObserver observer = observer();
+				final int[] rowCounts;
+				try {
+					observer.jdbcExecuteBatchStart();
+					rowCounts = statement.executeBatch();
+				}
+				finally {
+					observer.jdbcExecuteBatchEnd();
+				}
+				verifyRowCounts( rowCounts, rows.maxRows, statement, sql );
+			}
+			if ( remainingRows > 0 ) {
+				sql = rows.template.getSql( remainingRows );
+				final PreparedStatement statement = super.getBatchStatement( sql, false );
+				bindRows(
+						statement,
+						keptRows,
+						fullStatementCount * rows.maxRows,
+						remainingRows,
+						rows.template.parameterCount
+				);
+				statement.addBatch();
+				final JdbcObserver observer = observer();
+				final int[] rowCounts;
+				try {
+					observer.jdbcExecuteBatchStart();
+					rowCounts = statement.executeBatch();
+				}
+				finally {
+					observer.jdbcExecuteBatchEnd();
+				}
+				verifyRowCounts( rowCounts, remainingRows, statement, sql );
+			}
+		}
+		catch (SQLException e) {
+			abortBatch();
+			LOG.unableToExecuteBatch( e, sql );
+			throw sqlExceptionHelper().convert( e, "could not execute batch", sql );
+		}
+		catch (RuntimeException re) {
+			abortBatch();
+			LOG.unableToExecuteBatch( re, sql );
+			throw re;
+		}
+		finally {
+			keptRows.clear();
+		}
+	}
+
+	private static void bindRows(
+			PreparedStatement statement,
+			List<BatchedRow> rows,
+			int firstRow,
+			int rowCount,
+			int parameterCount) throws SQLException {
+		for ( int row = 0; row < rowCount; row++ ) {
+			rows.get( firstRow + row ).bind( statement, 1 + row * parameterCount );
+		}
+	}
+
+	private void verifyRowCounts(int[] rowCounts, int rowsPerStatement, PreparedStatement statement, String sql) {
+		if ( getKey().getExpectation() == Expectations.NONE ) {
+			return;
+		}
+		final Expectation expectation = new RowCountExpectation( rowsPerStatement );
+		for ( int i = 0; i < rowCounts.length; i++ ) {
+			expectation.verifyOutcome( rowCounts[i], statement, i, sql );
+		}
+	}
+
+	private JdbcObserver observer() {
+		return getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+	}
+
+	@Override
+	protected void releaseStatements() {
+		for ( StatementRows rows : statementRows.values() ) {
+			rows.rows.clear();
+		}
+		statementRows.clear();
+		currentStatement = null;
+		super.releaseStatements();
+	}
+
+	/**
+	 * A statement of the batch, along with the rows kept for it if it is a single-row insert
+	 * which can be turned into a multi-row one
+	 */
+	private static final class StatementRows {
+		private final InsertTemplate template;
+		private final int maxRows;
+		private final List<BatchedRow> rows;
+		// whether rows were also bound to the statement itself
+		private boolean bound;
+
+		private StatementRows(InsertTemplate template, int maxRows) {
+			this.template = template;
+			this.maxRows = maxRows;
+			this.rows = isMultiRow() ? new ArrayList<>() : new ArrayList<>( 0 );
+		}
+
+		private boolean isMultiRow() {
+			return template != null && maxRows > 1;
+		}
+	}
+
+	/**
+	 * A single-row {@code insert ... values (...)} statement, as a template of multi-row ones
+	 */
+	static final class InsertTemplate {
+		private final String sql;
+		private final String prefix;
+		private final String row;
+		private final int parameterCount;
+		private final Map<Integer, String> multiRowSql = new HashMap<>();
+
+		private InsertTemplate(String sql, String prefix, String row, int parameterCount) {
+			this.sql = sql;
+			this.prefix = prefix;
+			this.row = row;
+			this.parameterCount = parameterCount;
+		}
+
+		/**
+		 * @return The template, or {@code null} if the statement is not a single-row insert of
+		 * the form {@code insert into ... values (...)}
+		 */
+		static InsertTemplate parse(String sql) {
+			String statement = sql.trim();
+			if ( statement.startsWith( "/*" ) ) {
+				final int commentEnd = statement.indexOf( "*/" );
+				if ( commentEnd < 0 ) {
+					return null;
+				}
+				statement = statement.substring( commentEnd + 2 ).trim();
+			}
+			final String lowerCase = statement.toLowerCase( Locale.ROOT );
+			if ( !lowerCase.startsWith( "insert into " ) || !statement.endsWith( ")" ) ) {
+				return null;
+			}
+			final int valuesIndex = lowerCase.lastIndexOf( " values " );
+			if ( valuesIndex < 0 ) {
+				return null;
+			}
+			final String row = statement.substring( valuesIndex + " values ".length() ).trim();
+			if ( !row.startsWith( "(" ) ) {
+				return null;
+			}
+
+			// the row must be a single parenthesized list, without any quoted literal
+			int depth = 0;
+			int parameterCount = 0;
+			for ( int i = 0; i < row.length(); i++ ) {
+				final char c = row.charAt( i );
+				if ( c == '(' ) {
+					depth++;
+				}
+				else if ( c == ')' ) {
+					depth--;
+					if ( depth == 0 && i != row.length() - 1 ) {
+						return null;
+					}
+				}
+				else if ( c == '?' ) {
+					parameterCount++;
+				}
+				else if ( c == '\'' || c == '"' ) {
+					return null;
+				}
+			}
+			if ( depth != 0 || parameterCount == 0 ) {
+				return null;
+			}
+			return new InsertTemplate(
+					sql,
+					statement.substring( 0, valuesIndex + " values ".length() ),
+					row,
+					parameterCount
+			);
+		}
+
+		String getSql(int rowCount) {
+			if ( rowCount == 1 ) {
+				return sql;
+			}
+			return multiRowSql.computeIfAbsent(
+					rowCount,
+					count -> {
+						final StringBuilder buffer = new StringBuilder( prefix.length() + ( row.length() + 2 ) * count );
+						buffer.append( prefix ).append( row );
+						for ( int i = 1; i < count; i++ ) {
+							buffer.append( ", " ).append( row );
+						}
+						return buffer.toString();
+					}
+			);
+		}
+	}
+
+	/**
+	 * Expects each execution of a multi-row insert to insert all its rows
+	 */
+	private static final class RowCountExpectation extends Expectations.BasicExpectation {
+		private RowCountExpectation(int expectedRowCount) {
+			super( expectedRowCount );
+		}
+	}
+}
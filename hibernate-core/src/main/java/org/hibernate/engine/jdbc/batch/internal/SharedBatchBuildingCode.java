@@ -9,6 +9,7 @@ package org.hibernate.engine.jdbc.batch.internal;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
 
 /**
  * Common code across BatchBuilder service implementors
@@ -16,13 +17,42 @@ import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 final class SharedBatchBuildingCode {
 
 	static Batch buildBatch(final int defaultJdbcBatchSize, final BatchKey key, final JdbcCoordinator jdbcCoordinator) {
+		return buildBatch( defaultJdbcBatchSize, key, jdbcCoordinator, 0, 1 );
+	}
+
+	static Batch buildBatch(
+			final int defaultJdbcBatchSize,
+			final BatchKey key,
+			final JdbcCoordinator jdbcCoordinator,
+			final int pipelineDepth,
+			final int rowsPerInsert) {
 		final Integer sessionJdbcBatchSize = jdbcCoordinator.getJdbcSessionOwner()
 				.getJdbcBatchSize();
 		final int jdbcBatchSizeToUse = sessionJdbcBatchSize == null ?
 				defaultJdbcBatchSize :
 				sessionJdbcBatchSize;
-		return jdbcBatchSizeToUse > 1
-				? new BatchingBatch( key, jdbcCoordinator, jdbcBatchSizeToUse )
-				: new NonBatchingBatch( key, jdbcCoordinator );
+		if ( jdbcBatchSizeToUse <= 1 ) {
+			return new NonBatchingBatch( key, jdbcCoordinator );
+		}
+		if ( rowsPerInsert > 1 ) {
+			return new MultiRowInsertBatch( key, jdbcCoordinator, jdbcBatchSizeToUse, rowsPerInsert );
+		}
+		if ( pipelineDepth > 0 ) {
+			final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner()
+					.getJdbcSessionContext()
+					.getSessionFactory()
+					.getJdbcServices();
+			// unless the driver is not known to allow binding while another statement of the connection executes
+			if ( jdbcServices.getDialect().supportsPipelinedBatchExecution() ) {
+				return new BatchingBatch(
+						key,
+						jdbcCoordinator,
+						jdbcBatchSizeToUse,
+						jdbcServices.getBatchExecutor(),
+						pipelineDepth
+				);
+			}
+		}
+		return new BatchingBatch( key, jdbcCoordinator, jdbcBatchSizeToUse );
 	}
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.engine.jdbc.batch.spi;
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
 
 /**
  * Conceptually models a batch.
@@ -46,6 +47,20 @@ public interface Batch {
 	 */
 	void addToBatch();
 
+	/**
+	 * Add a row of a single-row {@code insert ... values (...)} statement to the batch, in place
+	 * of {@link #getBatchStatement} and {@link #addToBatch()}.  The row may be inserted along with
+	 * other rows of the same statement, and so be bound at another index than {@code 1}, as late
+	 * as the execution of the batch.
+	 *
+	 * @param sql The single-row insert
+	 * @param row The row
+	 */
+	default void addToBatch(String sql, BatchedRow row) throws SQLException {
+		row.bind( getBatchStatement( sql, false ), 1 );
+		addToBatch();
+	}
+
 	/**
 	 * Execute this batch.
 	 */
@@ -0,0 +1,25 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.spi;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * A row of a single-row insert {@linkplain Batch#addToBatch(String, BatchedRow) added} to a
+ * batch, which binds it to the statement inserting it.
+ */
+@FunctionalInterface
+public interface BatchedRow {
+	/**
+	 * Bind the parameters of the row, in the order of the parameters of the single-row insert.
+	 *
+	 * @param statement The statement to bind the parameters to
+	 * @param index The index of the first parameter of the row in the statement
+	 */
+	void bind(PreparedStatement statement, int index) throws SQLException;
+}
@@ -0,0 +1,159 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.bulk.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.hibernate.engine.jdbc.bulk.spi.BulkLoadRow;
+import org.hibernate.engine.jdbc.bulk.spi.BulkLoadTarget;
+import org.hibernate.engine.jdbc.bulk.spi.BulkLoader;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+
+/**
+ * The generic {@link BulkLoader}, inserting the rows with JDBC batches of
+ * {@code insert ... values (...), (...)} statements of as many rows as the
+ * dialect {@linkplain org.hibernate.dialect.Dialect#getMaxRowsPerInsert allows},
+ * up to a limit.
+ */
+public class StandardBulkLoader implements BulkLoader {
+	/**
+	 * Singleton access
+	 */
+	public static final StandardBulkLoader INSTANCE = new StandardBulkLoader( 100, 50 );
+
+	private final int maxRowsPerStatement;
+	private final int statementsPerBatch;
+
+	/**
+	 * @param maxRowsPerStatement The maximum number of rows inserted by a single statement
+	 * @param statementsPerBatch The number of statements executed by a single JDBC batch
+	 */
+	public StandardBulkLoader(int maxRowsPerStatement, int statementsPerBatch) {
+		this.maxRowsPerStatement = maxRowsPerStatement;
+		this.statementsPerBatch = statementsPerBatch;
+	}
+
+	@Override
+	public long load(BulkLoadTarget target, Iterator<BulkLoadRow> rows, SharedSessionContractImplementor session) {
+		final int columnCount = target.getColumnNames().length;
+		final int rowsPerStatement = Math.max(
+				1,
+				Math.min(
+						maxRowsPerStatement,
+						session.getJdbcServices().getDialect().getMaxRowsPerInsert( columnCount )
+				)
+		);
+
+		final List<BulkLoadRow> pending = new ArrayList<>( rowsPerStatement );
+		long count = 0;
+		String sql = getInsertString( target, rowsPerStatement );
+		try {
+			final PreparedStatement statement = prepareStatement( sql, session );
+			try {
+				int batchedStatements = 0;
+				while ( rows.hasNext() ) {
+					pending.add( rows.next() );
+					count++;
+					if ( pending.size() == rowsPerStatement ) {
+						bind( pending, statement, columnCount );
+						statement.addBatch();
+						if ( ++batchedStatements == statementsPerBatch ) {
+							executeBatch( statement, session );
+							batchedStatements = 0;
+						}
+					}
+				}
+				if ( batchedStatements > 0 ) {
+					executeBatch( statement, session );
+				}
+			}
+			finally {
+				release( statement, session );
+			}
+
+			if ( !pending.isEmpty() ) {
+				// the remaining rows do not fill a statement
+				sql = getInsertString( target, pending.size() );
+				final PreparedStatement remainder = prepareStatement( sql, session );
+				try {
+					bind( pending, remainder, columnCount );
+					session.getJdbcCoordinator().getResultSetReturn().executeUpdate( remainder );
+				}
+				finally {
+					release( remainder, session );
+				}
+			}
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"could not load rows into table " + target.getTableName(),
+					sql
+			);
+		}
+		return count;
+	}
+
+	private static void bind(List<BulkLoadRow> rows, PreparedStatement statement, int columnCount)
+			throws SQLException {
+		for ( int i = 0; i < rows.size(); i++ ) {
+			rows.get( i ).bind( statement, 1 + i * columnCount );
+		}
+		rows.clear();
+	}
+
+	private static void executeBatch(PreparedStatement statement, SharedSessionContractImplementor session)
+			throws SQLException {
+		final JdbcObserver observer = session.getJdbcCoordinator()
+				.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getObserver();
+		try {
+			observer.jdbcExecuteBatchStart();
+			statement.executeBatch();
+		}
+		finally {
+			observer.jdbcExecuteBatchEnd();
+		}
+	}
+
+	private static PreparedStatement prepareStatement(String sql, SharedSessionContractImplementor session) {
+		return session.getJdbcCoordinator().getStatementPreparer().prepareStatement( sql, false );
+	}
+
+	private static void release(PreparedStatement statement, SharedSessionContractImplementor session) {
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+		jdbcCoordinator.afterStatementExecution();
+	}
+
+	private static String getInsertString(BulkLoadTarget target, int rowCount) {
+		final String[] columnNames = target.getColumnNames();
+		final StringBuilder buf = new StringBuilder( "insert into " ).append( target.getTableName() )
+				.append( " (" ).append( String.join( ", ", columnNames ) ).append( ") values " );
+		for ( int i = 0; i < rowCount; i++ ) {
+			if ( i > 0 ) {
+				buf.append( ", " );
+			}
+			buf.append( '(' );
+			for ( int k = 0; k < columnNames.length; k++ ) {
+				if ( k > 0 ) {
+					buf.append( ", " );
+				}
+				buf.append( '?' );
+			}
+			buf.append( ')' );
+		}
+		return buf.toString();
+	}
+}
@@ -0,0 +1,25 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.bulk.spi;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * A row loaded by a {@link BulkLoader}.
+ */
+@FunctionalInterface
+public interface BulkLoadRow {
+	/**
+	 * Bind the values of the row, one JDBC parameter per column of the
+	 * {@link BulkLoadTarget}, in the order of its columns.
+	 *
+	 * @param statement The statement to bind the values to
+	 * @param index The index of the parameter of the first column
+	 */
+	void bind(PreparedStatement statement, int index) throws SQLException;
+}
@@ -0,0 +1,25 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.bulk.spi;
+
+/**
+ * Describes the table rows are loaded into by a {@link BulkLoader}.
+ *
+ * @see org.hibernate.persister.entity.EntityPersister#getBulkLoadTarget()
+ */
+public interface BulkLoadTarget {
+	/**
+	 * The name of the table
+	 */
+	String getTableName();
+
+	/**
+	 * The columns written for each row, in the order in which
+	 * {@link BulkLoadRow#bind} binds their values
+	 */
+	String[] getColumnNames();
+}
@@ -0,0 +1,36 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.bulk.spi;
+
+import java.util.Iterator;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Loads rows into a single table in bulk, for pure ingestion through
+ * {@link org.hibernate.StatelessSession#insertAll}, using whatever mechanism
+ * the database offers for it.
+ * <p/>
+ * Obtained from {@link org.hibernate.dialect.Dialect#getBulkLoader()}.
+ */
+public interface BulkLoader {
+	/**
+	 * Insert all the given rows into the table of the given target.
+	 * <p/>
+	 * Every row must be consumed.  The rows are not visible to the persistence
+	 * context, and no value generated by the database is read back.  Their
+	 * identifiers and versions are generated before the load starts, so that
+	 * binding a row does not execute any statement on the connection.
+	 *
+	 * @param target The table, and its columns
+	 * @param rows The rows to insert
+	 * @param session The session on whose connection the rows are inserted
+	 *
+	 * @return The number of rows inserted
+	 */
+	long load(BulkLoadTarget target, Iterator<BulkLoadRow> rows, SharedSessionContractImplementor session);
+}
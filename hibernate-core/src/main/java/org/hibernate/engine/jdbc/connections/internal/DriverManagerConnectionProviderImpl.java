@@ -6,6 +6,7 @@
  */
 package org.hibernate.engine.jdbc.connections.internal;
 
+import java.lang.ref.WeakReference;
 import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.DriverManager;
@@ -13,11 +14,15 @@ import java.sql.SQLException;
 import java.util.Enumeration;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedTransferQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -40,12 +45,12 @@ import static org.hibernate.internal.log.ConnectionPoolingLogger.CONNECTIONS_MES
 
 /**
  * A connection provider that uses the {@link DriverManager} directly to open connections and provides
- * a very rudimentary connection pool.
+ * a simple connection pool.
  * <p/>
- * IMPL NOTE : not intended for production use!
- * <p/>
- * Thanks to Oleg Varaksin and his article on object pooling using the {@link java.util.concurrent} package, from
- * which much of the pooling code here is derived.  See http://ovaraksin.blogspot.com/2013/08/simple-and-lightweight-pool.html
+ * Threads wait at most {@value #ACQUISITION_TIMEOUT} for a connection when the pool is exhausted.
+ * Connections are closed once they reach {@value #MAX_LIFETIME}, and connections in use for longer
+ * than {@value #LEAK_DETECTION_THRESHOLD} are reported along with the stack of their borrower.
+ * These checks are performed every {@value #VALIDATION_INTERVAL}.
  *
  * @author Gavin King
  * @author Steve Ebersole
@@ -57,6 +62,12 @@ public class DriverManagerConnectionProviderImpl
 	public static final String INITIAL_SIZE = "hibernate.connection.initial_pool_size";
 	// in TimeUnit.SECONDS
 	public static final String VALIDATION_INTERVAL = "hibernate.connection.pool_validation_interval";
+	// in TimeUnit.MILLISECONDS
+	public static final String ACQUISITION_TIMEOUT = "hibernate.connection.pool_acquisition_timeout";
+	// in TimeUnit.SECONDS
+	public static final String MAX_LIFETIME = "hibernate.connection.pool_max_lifetime";
+	// in TimeUnit.SECONDS
+	public static final String LEAK_DETECTION_THRESHOLD = "hibernate.connection.pool_leak_detection_threshold";
 	public static final String INIT_SQL ="hibernate.connection.init_sql";
 	public static final String CONNECTION_CREATOR_FACTORY ="hibernate.connection.creator_factory_class";
 
@@ -98,6 +109,13 @@ public class DriverManagerConnectionProviderImpl
 		pooledConnectionBuilder.initialSize( initialSize );
 		pooledConnectionBuilder.minSize( minSize );
 		pooledConnectionBuilder.maxSize( maxSize );
+		pooledConnectionBuilder.acquisitionTimeout(
+				ConfigurationHelper.getLong( ACQUISITION_TIMEOUT, configurationValues, 30_000 )
+		);
+		pooledConnectionBuilder.maxLifetime( ConfigurationHelper.getLong( MAX_LIFETIME, configurationValues, 1800 ) );
+		pooledConnectionBuilder.leakDetectionThreshold(
+				ConfigurationHelper.getLong( LEAK_DETECTION_THRESHOLD, configurationValues, 0 )
+		);
 		pooledConnectionBuilder.validator( this );
 		return pooledConnectionBuilder.build();
 	}
@@ -293,7 +311,7 @@ public class DriverManagerConnectionProviderImpl
 	}
 
 	protected void validateConnectionsReturned() {
-		int allocationCount = state.pool.allConnections.size() - state.pool.availableConnections.size();
+		int allocationCount = state.pool.getActiveCount();
 		if ( allocationCount != 0 ) {
 			CONNECTIONS_MESSAGE_LOGGER.error( "Connection leak detected: there are " + allocationCount + " unclosed connections!");
 		}
@@ -337,18 +355,47 @@ public class DriverManagerConnectionProviderImpl
 		state.pool.releasePooledConnections();
 	}
 
+	/**
+	 * The pool of connections, in the style of a concurrent bag: every connection is
+	 * either idle, in use or removed, and is borrowed by atomically switching it from
+	 * idle to in use, so that neither borrowing nor returning a connection takes a lock.
+	 * <p/>
+	 * A thread first tries to borrow the connection it last returned, which is most often
+	 * still idle when connections are not shared by more threads than there are connections,
+	 * then any idle connection, and then opens a new connection if the pool is not yet full.
+	 * Otherwise it waits, at most for the acquisition timeout, for a connection to be handed
+	 * over by a returning thread; waiting threads are served in order.  Returning a connection
+	 * never waits for a thread to take it.
+	 * <p/>
+	 * The connection last returned by each thread is only weakly referenced, so that neither
+	 * the connections removed from the pool nor those of a closed pool are kept reachable by
+	 * the threads which used them.
+	 */
 	public static class PooledConnections {
-
-		private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
-		private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
+		// in which waiting threads periodically check for connections having been removed,
+		// leaving room for a new one
+		private static final long MAX_WAIT_SLICE = TimeUnit.MILLISECONDS.toNanos( 100 );
+
+		private final CopyOnWriteArrayList<PoolEntry> entries = new CopyOnWriteArrayList<>();
+		private final Map<Connection, PoolEntry> entriesByConnection = new ConcurrentHashMap<>();
+		// the number of connections, including those being opened
+		private final AtomicInteger totalCount = new AtomicInteger();
+		private final AtomicInteger waitingCount = new AtomicInteger();
+		// connections returned while threads were waiting, which may have been borrowed since
+		private final LinkedTransferQueue<PoolEntry> handoffQueue = new LinkedTransferQueue<>();
+		private final ThreadLocal<WeakReference<PoolEntry>> lastReturned = new ThreadLocal<>();
 
 		private final ConnectionCreator connectionCreator;
 		private final ConnectionValidator connectionValidator;
 		private final boolean autoCommit;
 		private final int minSize;
 		private final int maxSize;
+		private final long acquisitionTimeout;
+		private final long maxLifetime;
+		private final long leakDetectionThreshold;
 
 		private volatile boolean primed;
+		private volatile boolean closed;
 
 		private PooledConnections(
 				Builder builder) {
@@ -360,11 +407,32 @@ public class DriverManagerConnectionProviderImpl
 			autoCommit = builder.autoCommit;
 			maxSize = builder.maxSize;
 			minSize = builder.minSize;
+			acquisitionTimeout = TimeUnit.MILLISECONDS.toNanos( builder.acquisitionTimeout );
+			maxLifetime = TimeUnit.SECONDS.toNanos( builder.maxLifetime );
+			leakDetectionThreshold = TimeUnit.SECONDS.toNanos( builder.leakDetectionThreshold );
 			CONNECTIONS_MESSAGE_LOGGER.hibernateConnectionPoolSize( maxSize, minSize );
 			addConnections( builder.initialSize );
 		}
 
 		public void validate() {
+			final long now = System.nanoTime();
+			for ( PoolEntry entry : entries ) {
+				if ( maxLifetime > 0 && now - entry.createdAt > maxLifetime && entry.remove() ) {
+					CONNECTIONS_LOGGER.debug( "Closing pooled connection which reached its maximum lifetime" );
+					closeConnection( entry.connection, null );
+				}
+				else if ( leakDetectionThreshold > 0 ) {
+					final Throwable borrowStack = entry.detectLeak( now, leakDetectionThreshold );
+					if ( borrowStack != null ) {
+						CONNECTIONS_MESSAGE_LOGGER.connectionLeakDetected(
+								getUrl(),
+								TimeUnit.NANOSECONDS.toSeconds( leakDetectionThreshold ),
+								borrowStack
+						);
+					}
+				}
+			}
+
 			final int size = size();
 
 			if ( !primed && size >= minSize ) {
@@ -389,7 +457,35 @@ public class DriverManagerConnectionProviderImpl
 		public void add(Connection conn) throws SQLException {
 			final Connection connection = releaseConnection( conn );
 			if ( connection != null ) {
-				availableConnections.offer( connection );
+				final PoolEntry entry = entriesByConnection.get( connection );
+				if ( entry == null ) {
+					// the connection was removed from the pool while in use
+					closeConnection( connection, null );
+				}
+				else if ( maxLifetime > 0 && System.nanoTime() - entry.createdAt > maxLifetime ) {
+					CONNECTIONS_LOGGER.debug( "Closing returned connection which reached its maximum lifetime" );
+					closeConnection( connection, null );
+				}
+				else {
+					entry.release();
+					rememberReturned( entry );
+					handOff( entry );
+				}
+			}
+		}
+
+		private void rememberReturned(PoolEntry entry) {
+			final WeakReference<PoolEntry> last = lastReturned.get();
+			if ( last == null || last.get() != entry ) {
+				lastReturned.set( new WeakReference<>( entry ) );
+			}
+		}
+
+		private void handOff(PoolEntry entry) {
+			if ( waitingCount.get() > 0 ) {
+				// wakes up the longest waiting thread, which borrows the connection unless
+				// another thread was faster
+				handoffQueue.offer( entry );
 			}
 		}
 
@@ -411,24 +507,136 @@ public class DriverManagerConnectionProviderImpl
 		}
 
 		public Connection poll() throws SQLException {
-			Connection conn;
-			do {
-				conn = availableConnections.poll();
-				if ( conn == null ) {
-					synchronized (allConnections) {
-						if ( allConnections.size() < maxSize ) {
-							addConnections( 1 );
-							return poll();
+			return poll( null );
+		}
+
+		/**
+		 * Borrow a connection, holding the given lock, if any, while borrowing or opening
+		 * it, but not while waiting for a connection to be returned.
+		 */
+		Connection poll(Lock lock) throws SQLException {
+			final long deadline = System.nanoTime() + acquisitionTimeout;
+			boolean waiting = false;
+			try {
+				while ( true ) {
+					lock( lock );
+					try {
+						if ( waiting ) {
+							checkNotClosed();
+						}
+						for ( PoolEntry entry = borrowIdleOrNewConnection(); entry != null; entry = borrowIdleOrNewConnection() ) {
+							final Connection conn = prepareBorrowed( entry );
+							if ( conn != null ) {
+								return conn;
+							}
 						}
 					}
-					throw new HibernateException(
-							"The internal connection pool has reached its maximum size and no connection is currently available!" );
+					finally {
+						unlock( lock );
+					}
+
+					if ( !waiting ) {
+						// a connection may be returned before we are counted as waiting: look again once counted
+						waitingCount.incrementAndGet();
+						waiting = true;
+						continue;
+					}
+					final long remaining = deadline - System.nanoTime();
+					if ( remaining <= 0 ) {
+						throw new HibernateException(
+								"The internal connection pool has reached its maximum size and no connection became available within "
+										+ TimeUnit.NANOSECONDS.toMillis( acquisitionTimeout ) + "ms" );
+					}
+					final PoolEntry entry = handoffQueue.poll( Math.min( remaining, MAX_WAIT_SLICE ), TimeUnit.NANOSECONDS );
+					if ( entry != null && entry.borrow() ) {
+						lock( lock );
+						try {
+							// the pool may have been closed while we were waiting
+							checkNotClosed();
+							final Connection conn = prepareBorrowed( entry );
+							if ( conn != null ) {
+								return conn;
+							}
+						}
+						finally {
+							unlock( lock );
+						}
+					}
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while waiting for a connection of the internal connection pool", e );
+			}
+			finally {
+				if ( waiting ) {
+					waitingCount.decrementAndGet();
 				}
-				conn = prepareConnection( conn );
-			} while ( conn == null );
+			}
+		}
+
+		private static void lock(Lock lock) {
+			if ( lock != null ) {
+				lock.lock();
+			}
+		}
+
+		private static void unlock(Lock lock) {
+			if ( lock != null ) {
+				lock.unlock();
+			}
+		}
+
+		private void checkNotClosed() {
+			if ( closed ) {
+				throw new IllegalStateException( "The internal connection pool was closed" );
+			}
+		}
+
+		private Connection prepareBorrowed(PoolEntry entry) {
+			final Connection conn = prepareConnection( entry.connection );
+			if ( conn != null && leakDetectionThreshold > 0 ) {
+				entry.recordBorrower();
+			}
 			return conn;
 		}
 
+		private PoolEntry borrowIdleOrNewConnection() {
+			final WeakReference<PoolEntry> lastReturnedReference = lastReturned.get();
+			if ( lastReturnedReference != null ) {
+				final PoolEntry last = lastReturnedReference.get();
+				if ( last != null && last.borrow() ) {
+					return last;
+				}
+			}
+			for ( PoolEntry entry : entries ) {
+				if ( entry.borrow() ) {
+					return entry;
+				}
+			}
+			return openConnectionIfBelowMaxSize( PoolEntry.IN_USE );
+		}
+
+		private PoolEntry openConnectionIfBelowMaxSize(int initialState) {
+			for ( int total = totalCount.get(); total < maxSize; total = totalCount.get() ) {
+				if ( totalCount.compareAndSet( total, total + 1 ) ) {
+					final Connection connection;
+					try {
+						connection = connectionCreator.createConnection();
+					}
+					catch (RuntimeException e) {
+						totalCount.decrementAndGet();
+						throw e;
+					}
+					final PoolEntry entry = new PoolEntry( connection, initialState );
+					entriesByConnection.put( connection, entry );
+					entries.add( entry );
+					return entry;
+				}
+			}
+			return null;
+		}
+
 		protected Connection prepareConnection(Connection conn) {
 			Exception t = null;
 			try {
@@ -456,48 +664,84 @@ public class DriverManagerConnectionProviderImpl
 				}
 			}
 			finally {
-				allConnections.remove( conn );
+				final PoolEntry entry = entriesByConnection.remove( conn );
+				if ( entry != null ) {
+					entry.state.set( PoolEntry.REMOVED );
+					entries.remove( entry );
+					totalCount.decrementAndGet();
+				}
 			}
 		}
 
 		public void close() throws SQLException {
 			try {
-				int allocationCount = allConnections.size() - availableConnections.size();
+				int allocationCount = getActiveCount();
 				if(allocationCount > 0) {
 					CONNECTIONS_LOGGER.error( "Connection leak detected: there are " + allocationCount + " unclosed connections upon shutting down pool " + getUrl());
 				}
 			}
 			finally {
-				for ( Connection connection : allConnections ) {
-					connection.close();
+				closed = true;
+				handoffQueue.clear();
+				for ( PoolEntry entry : entries ) {
+					entry.connection.close();
 				}
 			}
 		}
 
+		/**
+		 * The number of idle connections
+		 */
 		public int size() {
-			return availableConnections.size();
+			int size = 0;
+			for ( PoolEntry entry : entries ) {
+				if ( entry.isIdle() ) {
+					size++;
+				}
+			}
+			return size;
+		}
+
+		/**
+		 * The number of connections currently in use
+		 */
+		public int getActiveCount() {
+			int count = 0;
+			for ( PoolEntry entry : entries ) {
+				if ( entry.isInUse() ) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		/**
+		 * The number of threads currently waiting for a connection to become available
+		 */
+		public int getWaitingCount() {
+			return waitingCount.get();
 		}
 
 		protected void removeConnections(int numberToBeRemoved) {
-			for ( int i = 0; i < numberToBeRemoved; i++ ) {
-				Connection connection = availableConnections.poll();
-				try {
-					if ( connection != null ) {
-						connection.close();
-					}
-					allConnections.remove( connection );
+			int removed = 0;
+			for ( PoolEntry entry : entries ) {
+				if ( removed == numberToBeRemoved ) {
+					break;
 				}
-				catch (SQLException e) {
-					CONNECTIONS_MESSAGE_LOGGER.unableToCloseConnection( e );
+				if ( entry.remove() ) {
+					closeConnection( entry.connection, null );
+					removed++;
 				}
 			}
 		}
 
 		protected void addConnections(int numberOfConnections) {
 			for ( int i = 0; i < numberOfConnections; i++ ) {
-				Connection connection = connectionCreator.createConnection();
-				allConnections.add( connection );
-				availableConnections.add( connection );
+				final PoolEntry entry = openConnectionIfBelowMaxSize( PoolEntry.IDLE );
+				if ( entry == null ) {
+					break;
+				}
+				handOff( entry );
 			}
 		}
 
@@ -507,8 +751,9 @@ public class DriverManagerConnectionProviderImpl
 
 		@Internal
 		public void releasePooledConnections() {
-			for ( Connection connection : allConnections ) {
-				closeConnection( connection, null );
+			handoffQueue.clear();
+			for ( PoolEntry entry : entries ) {
+				closeConnection( entry.connection, null );
 			}
 		}
 
@@ -519,6 +764,9 @@ public class DriverManagerConnectionProviderImpl
 			private int initialSize = 1;
 			private int minSize = 1;
 			private int maxSize = 20;
+			private long acquisitionTimeout = 30_000;
+			private long maxLifetime = 1800;
+			private long leakDetectionThreshold;
 
 			public Builder(ConnectionCreator connectionCreator, boolean autoCommit) {
 				this.connectionCreator = connectionCreator;
@@ -540,6 +788,32 @@ public class DriverManagerConnectionProviderImpl
 				return this;
 			}
 
+			/**
+			 * @param acquisitionTimeout The maximum time, in milliseconds, to wait for a connection
+			 */
+			public Builder acquisitionTimeout(long acquisitionTimeout) {
+				this.acquisitionTimeout = acquisitionTimeout;
+				return this;
+			}
+
+			/**
+			 * @param maxLifetime The time, in seconds, after which connections are closed
+			 * once idle, or {@code 0} to keep them open
+			 */
+			public Builder maxLifetime(long maxLifetime) {
+				this.maxLifetime = maxLifetime;
+				return this;
+			}
+
+			/**
+			 * @param leakDetectionThreshold The time, in seconds, after which a connection
+			 * still in use is reported as a possible leak, or {@code 0} to disable leak detection
+			 */
+			public Builder leakDetectionThreshold(long leakDetectionThreshold) {
+				this.leakDetectionThreshold = leakDetectionThreshold;
+				return this;
+			}
+
 			public Builder validator(ConnectionValidator connectionValidator) {
 				this.connectionValidator = connectionValidator;
 				return this;
@@ -551,6 +825,64 @@ public class DriverManagerConnectionProviderImpl
 		}
 	}
 
+	private static class PoolEntry {
+		private static final int REMOVED = -1;
+		private static final int IDLE = 0;
+		private static final int IN_USE = 1;
+
+		private final Connection connection;
+		private final long createdAt = System.nanoTime();
+		private final AtomicInteger state;
+
+		// only recorded when leak detection is enabled
+		private volatile long borrowedAt;
+		private volatile Throwable borrowStack;
+
+		private PoolEntry(Connection connection, int state) {
+			this.connection = connection;
+			this.state = new AtomicInteger( state );
+		}
+
+		private boolean borrow() {
+			return state.compareAndSet( IDLE, IN_USE );
+		}
+
+		private void release() {
+			borrowStack = null;
+			state.set( IDLE );
+		}
+
+		private boolean remove() {
+			return state.compareAndSet( IDLE, REMOVED );
+		}
+
+		private boolean isIdle() {
+			return state.get() == IDLE;
+		}
+
+		private boolean isInUse() {
+			return state.get() == IN_USE;
+		}
+
+		private void recordBorrower() {
+			borrowedAt = System.nanoTime();
+			borrowStack = new Exception( "Connection acquired here" );
+		}
+
+		/**
+		 * The stack of the borrower, if in use for longer than the threshold; reported
+		 * at most once per borrowing
+		 */
+		private Throwable detectLeak(long now, long leakDetectionThreshold) {
+			final Throwable stack = borrowStack;
+			if ( stack != null && isInUse() && now - borrowedAt > leakDetectionThreshold ) {
+				borrowStack = null;
+				return stack;
+			}
+			return null;
+		}
+	}
+
 	private static class PoolState {
 
 		//Protecting any lifecycle state change:
@@ -615,13 +947,8 @@ public class DriverManagerConnectionProviderImpl
 
 		public Connection getConnection() throws SQLException {
 			startIfNeeded();
-			statelock.readLock().lock();
-			try {
-				return pool.poll();
-			}
-			finally {
-				statelock.readLock().unlock();
-			}
+			// not held while waiting for a connection, which would keep stop() waiting as well
+			return pool.poll( statelock.readLock() );
 		}
 
 		public void closeConnection(Connection conn) throws SQLException {
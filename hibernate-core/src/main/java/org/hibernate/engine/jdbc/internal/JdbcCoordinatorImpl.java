@@ -59,6 +59,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	private transient JdbcServices jdbcServices;
 
 	private transient Batch currentBatch;
+	private transient BatchBuilder batchBuilderOverride;
 
 	private transient long transactionTimeOutInstant = -1;
 
@@ -121,6 +122,9 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	}
 
 	protected BatchBuilder batchBuilder() {
+		if ( batchBuilderOverride != null ) {
+			return batchBuilderOverride;
+		}
 		return sessionFactory().getServiceRegistry().getService( BatchBuilder.class );
 	}
 
@@ -203,6 +207,21 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		}
 	}
 
+	@Override
+	public void overrideBatchBuilder(BatchBuilder batchBuilder) {
+		if ( currentBatch != null ) {
+			try {
+				currentBatch.execute();
+			}
+			finally {
+				currentBatch.release();
+				// the next batch has to come from the new builder, even for the same key
+				currentBatch = null;
+			}
+		}
+		batchBuilderOverride = batchBuilder;
+	}
+
 	private transient StatementPreparer statementPreparer;
 
 	@Override
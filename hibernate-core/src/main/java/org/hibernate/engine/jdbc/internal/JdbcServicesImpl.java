@@ -7,7 +7,13 @@
 package org.hibernate.engine.jdbc.internal;
 
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Environment;
 import org.hibernate.dialect.Dialect;
@@ -25,13 +31,18 @@ import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.service.spi.Configurable;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Stoppable;
+import org.hibernate.sql.exec.internal.AsyncJdbcMutationExecutorStandardImpl;
+import org.hibernate.sql.exec.internal.AsyncJdbcSelectExecutorStandardImpl;
+import org.hibernate.sql.exec.spi.AsyncJdbcMutationExecutor;
+import org.hibernate.sql.exec.spi.AsyncJdbcSelectExecutor;
 
 /**
  * Standard implementation of the {@link JdbcServices} contract
  *
  * @author Steve Ebersole
  */
-public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareService, Configurable {
+public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareService, Configurable, Stoppable {
 	private ServiceRegistryImplementor serviceRegistry;
 	private JdbcEnvironment jdbcEnvironment;
 
@@ -39,6 +50,12 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 
 	private SqlStatementLogger sqlStatementLogger;
 
+	private AsyncJdbcSelectExecutor asyncJdbcSelectExecutor;
+	private AsyncJdbcMutationExecutor asyncJdbcMutationExecutor;
+	// the default async executor, which we own and so have to shut down
+	private ExecutorService defaultAsyncExecutor;
+	private ExecutorService batchExecutor;
+
 	@Override
 	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 		this.serviceRegistry = serviceRegistry;
@@ -57,6 +74,22 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 		final long logSlowQuery = ConfigurationHelper.getLong( Environment.LOG_SLOW_QUERY, configValues, 0 );
 
 		this.sqlStatementLogger = new SqlStatementLogger( showSQL, formatSQL, highlightSQL, logSlowQuery );
+
+		final Executor asyncExecutor = resolveAsyncExecutor( configValues.get( AvailableSettings.JDBC_ASYNC_EXECUTOR ) );
+		this.asyncJdbcSelectExecutor = new AsyncJdbcSelectExecutorStandardImpl( getJdbcSelectExecutor(), asyncExecutor );
+		this.asyncJdbcMutationExecutor = new AsyncJdbcMutationExecutorStandardImpl( getJdbcMutationExecutor(), asyncExecutor );
+
+		// the number of batches in flight is bounded by the connections and the pipeline depth of each flush
+		this.batchExecutor = Executors.newCachedThreadPool( new DaemonThreadFactory( "hibernate-batch-" ) );
+	}
+
+	private Executor resolveAsyncExecutor(Object setting) {
+		if ( setting != null ) {
+			return serviceRegistry.getService( StrategySelector.class ).resolveStrategy( Executor.class, setting );
+		}
+		// threads are only created once operations are submitted
+		defaultAsyncExecutor = Executors.newCachedThreadPool( new DaemonThreadFactory( "hibernate-async-jdbc-" ) );
+		return defaultAsyncExecutor;
 	}
 
 	@Override
@@ -106,4 +139,45 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 		return null;
 	}
 
+	@Override
+	public AsyncJdbcSelectExecutor getAsyncJdbcSelectExecutor() {
+		return asyncJdbcSelectExecutor;
+	}
+
+	@Override
+	public AsyncJdbcMutationExecutor getAsyncJdbcMutationExecutor() {
+		return asyncJdbcMutationExecutor;
+	}
+
+	@Override
+	public Executor getBatchExecutor() {
+		return batchExecutor;
+	}
+
+	@Override
+	public void stop() {
+		if ( defaultAsyncExecutor != null ) {
+			defaultAsyncExecutor.shutdown();
+		}
+		if ( batchExecutor != null ) {
+			batchExecutor.shutdown();
+		}
+	}
+
+	private static class DaemonThreadFactory implements ThreadFactory {
+		private final String namePrefix;
+		private final AtomicInteger threadNumber = new AtomicInteger();
+
+		private DaemonThreadFactory(String namePrefix) {
+			this.namePrefix = namePrefix;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable, namePrefix + threadNumber.incrementAndGet() );
+			thread.setDaemon( true );
+			return thread;
+		}
+	}
+
 }
@@ -81,6 +81,23 @@ class StatementPreparerImpl implements StatementPreparer {
 		return buildPreparedStatementPreparationTemplate( sql, isCallable ).prepareStatement();
 	}
 
+	@Override
+	public PreparedStatement prepareStatement(final Connection connection, String sql, final boolean isCallable) {
+		return new StatementPreparationTemplate( sql ) {
+			@Override
+			protected PreparedStatement doPrepare() throws SQLException {
+				return isCallable
+						? connection.prepareCall( sql )
+						: connection.prepareStatement( sql );
+			}
+
+			@Override
+			public void postProcess(PreparedStatement preparedStatement) {
+				// the statement belongs to the caller, not to the resources of the session
+			}
+		}.prepareStatement();
+	}
+
 	private StatementPreparationTemplate buildPreparedStatementPreparationTemplate(String sql, final boolean isCallable) {
 		return new StatementPreparationTemplate( sql ) {
 			@Override
@@ -14,6 +14,7 @@ import java.sql.Statement;
 
 import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.jdbc.WorkExecutorVisitable;
 import org.hibernate.resource.jdbc.ResourceRegistry;
@@ -62,6 +63,15 @@ public interface JdbcCoordinator extends Serializable, TransactionCoordinatorOwn
 	 */
 	void abortBatch();
 
+	/**
+	 * Execute the currently managed batch (if any), then build subsequent batches
+	 * using the given builder instead of the {@link BatchBuilder} service, or
+	 * using the service again when {@code null} is passed.
+	 *
+	 * @param batchBuilder The builder to use, or {@code null}
+	 */
+	void overrideBatchBuilder(BatchBuilder batchBuilder);
+
 	/**
 	 * Obtain the statement preparer associated with this JDBC coordinator.
 	 *
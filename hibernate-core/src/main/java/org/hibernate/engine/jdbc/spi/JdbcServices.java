@@ -6,6 +6,8 @@
  */
 package org.hibernate.engine.jdbc.spi;
 
+import java.util.concurrent.Executor;
+
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.LobCreationContext;
 import org.hibernate.engine.jdbc.LobCreator;
@@ -15,6 +17,8 @@ import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.service.Service;
 import org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl;
 import org.hibernate.sql.exec.internal.StandardJdbcMutationExecutor;
+import org.hibernate.sql.exec.spi.AsyncJdbcMutationExecutor;
+import org.hibernate.sql.exec.spi.AsyncJdbcSelectExecutor;
 import org.hibernate.sql.exec.spi.JdbcMutationExecutor;
 import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
 
@@ -84,4 +88,27 @@ public interface JdbcServices extends Service {
 	default JdbcMutationExecutor getJdbcMutationExecutor() {
 		return StandardJdbcMutationExecutor.INSTANCE;
 	}
+
+	/**
+	 * Access the asynchronous executor for {@link org.hibernate.sql.exec.spi.JdbcSelect} operations
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#JDBC_ASYNC_EXECUTOR
+	 */
+	AsyncJdbcSelectExecutor getAsyncJdbcSelectExecutor();
+
+	/**
+	 * Access the asynchronous executor for {@link org.hibernate.sql.exec.spi.JdbcMutation} operations
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#JDBC_ASYNC_EXECUTOR
+	 */
+	AsyncJdbcMutationExecutor getAsyncJdbcMutationExecutor();
+
+	/**
+	 * Access the executor on which batches of independent inserts, and pipelined batches, are
+	 * executed concurrently with the thread of the session
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ORDER_INSERTS_PARALLELISM
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_PIPELINE_DEPTH
+	 */
+	Executor getBatchExecutor();
 }
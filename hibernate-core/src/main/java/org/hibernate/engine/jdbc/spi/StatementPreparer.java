@@ -6,6 +6,7 @@
  */
 package org.hibernate.engine.jdbc.spi;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.Statement;
 
@@ -44,6 +45,20 @@ public interface StatementPreparer {
 	 */
 	public PreparedStatement prepareStatement(String sql, boolean isCallable);
 
+	/**
+	 * Prepare a statement on a connection other than the connection of the session, as
+	 * {@link #prepareStatement(String, boolean)} would on the connection of the session,
+	 * except that pending batches are not executed, and that the statement is not registered
+	 * with the session: the caller is responsible for closing it.
+	 *
+	 * @param connection The connection to prepare the statement on
+	 * @param sql The SQL the statement to be prepared
+	 * @param isCallable Whether to prepare as a callable statement.
+	 *
+	 * @return the prepared statement
+	 */
+	public PreparedStatement prepareStatement(Connection connection, String sql, boolean isCallable);
+
 	/**
 	 * Prepare an INSERT statement, specifying how auto-generated (by the database) keys should be handled.  Really this
 	 * is a boolean, but JDBC opted to define it instead using 2 int constants:<ul>
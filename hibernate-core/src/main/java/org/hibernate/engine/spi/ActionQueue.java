@@ -11,6 +11,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -35,6 +36,7 @@ import org.hibernate.action.internal.EntityDeleteAction;
 import org.hibernate.action.internal.EntityIdentityInsertAction;
 import org.hibernate.action.internal.EntityInsertAction;
 import org.hibernate.action.internal.EntityUpdateAction;
+import org.hibernate.action.internal.EntityUpsertAction;
 import org.hibernate.action.internal.OrphanRemovalAction;
 import org.hibernate.action.internal.QueuedOperationCollectionAction;
 import org.hibernate.action.internal.UnresolvedEntityInsertActions;
@@ -43,6 +45,9 @@ import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
+import org.hibernate.engine.jdbc.batch.internal.ConcurrentBatchExecutor;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.CollectionHelper;
@@ -80,6 +85,7 @@ public class ActionQueue {
 	// they must happen in the right order so as to respect referential
 	// integrity
 	private ExecutableList<AbstractEntityInsertAction> insertions;
+	private transient InsertActionSorter insertActionSorter;
 	private ExecutableList<EntityDeleteAction> deletions;
 	private ExecutableList<EntityUpdateAction> updates;
 
@@ -98,6 +104,9 @@ public class ActionQueue {
 
 
 	private transient boolean isTransactionCoordinatorShared;
+	// the tables written by the actions executed in the current transaction, when inserts may
+	// be executed concurrently on other connections
+	private transient Set<Serializable> writtenSpaces;
 	private AfterTransactionCompletionProcessQueue afterTransactionProcesses;
 	private BeforeTransactionCompletionProcessQueue beforeTransactionProcesses;
 
@@ -128,8 +137,11 @@ public class ActionQueue {
 					}
 					ExecutableList<AbstractEntityInsertAction> init(ActionQueue instance) {
 						if ( instance.isOrderInsertsEnabled() ) {
+							instance.insertActionSorter = new InsertActionSorter(
+									instance.getOrderInsertsParallelism() > 1
+							);
 							return instance.insertions = new ExecutableList<>(
-									new InsertActionSorter()
+									instance.insertActionSorter
 							);
 						}
 						else {
@@ -318,6 +330,16 @@ public class ActionQueue {
 		addInsertAction( action );
 	}
 
+	/**
+	 * Adds an entity upsert action
+	 *
+	 * @param action The action representing the entity insertion or update
+	 */
+	public void addAction(EntityUpsertAction action) {
+		LOG.tracev( "Adding an EntityUpsertAction for [{0}] object", action.getEntityName() );
+		addInsertAction( action );
+	}
+
 	/**
 	 * Adds an entity delete action
 	 *
@@ -391,6 +413,7 @@ public class ActionQueue {
 	}
 
 	private void registerCleanupActions(Executable executable) {
+		recordWrittenSpaces( executable );
 		if ( executable.getBeforeTransactionCompletionProcess() != null ) {
 			if ( beforeTransactionProcesses == null ) {
 				beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
@@ -408,6 +431,15 @@ public class ActionQueue {
 		}
 	}
 
+	private void recordWrittenSpaces(Executable executable) {
+		if ( getOrderInsertsParallelism() > 1 ) {
+			if ( writtenSpaces == null ) {
+				writtenSpaces = new HashSet<>();
+			}
+			Collections.addAll( writtenSpaces, executable.getPropertySpaces() );
+		}
+	}
+
 	private static String[] convertTimestampSpaces(Serializable[] spaces) {
 		return (String[]) spaces;
 	}
@@ -508,6 +540,7 @@ public class ActionQueue {
 	 * @param success Was the transaction successful.
 	 */
 	public void afterTransactionCompletion(boolean success) {
+		writtenSpaces = null;
 		if ( !isTransactionCoordinatorShared ) {
 			// Execute completion actions only in transaction owner (aka parent session).
 			if ( afterTransactionProcesses != null ) {
@@ -599,12 +632,26 @@ public class ActionQueue {
 		// todo : consider ways to improve the double iteration of Executables here:
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
+		final ConcurrentBatchExecutor concurrentBatchExecutor = list == insertions
+				? createConcurrentBatchExecutor()
+				: null;
+		boolean success = false;
 		try {
+			boolean concurrentBatches = false;
 			for ( E e : list ) {
+				if ( concurrentBatchExecutor != null ) {
+					// inserts of the groups which are independent of the other groups go to other connections
+					final boolean independent = insertActionSorter.isIndependent( ( (AbstractEntityInsertAction) e ).getEntityName() );
+					if ( independent != concurrentBatches ) {
+						session.getJdbcCoordinator().overrideBatchBuilder( independent ? concurrentBatchExecutor : null );
+						concurrentBatches = independent;
+					}
+				}
 				try {
 					e.execute();
 				}
 				finally {
+					recordWrittenSpaces( e );
 					if ( e.getBeforeTransactionCompletionProcess() != null ) {
 						if ( beforeTransactionProcesses == null ) {
 							beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
@@ -619,8 +666,12 @@ public class ActionQueue {
 					}
 				}
 			}
+			success = true;
 		}
 		finally {
+			if ( concurrentBatchExecutor != null ) {
+				completeConcurrentBatches( concurrentBatchExecutor, success );
+			}
 			if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
 				// Strictly speaking, only a subset of the list may have been processed if a RuntimeException occurs.
 				// We still invalidate all spaces. I don't see this as a big deal - after all, RuntimeExceptions are
@@ -634,6 +685,66 @@ public class ActionQueue {
 		session.getJdbcCoordinator().executeBatch();
 	}
 
+	private ConcurrentBatchExecutor createConcurrentBatchExecutor() {
+		final int parallelism = getOrderInsertsParallelism();
+		if ( parallelism <= 1 || insertActionSorter == null ) {
+			return null;
+		}
+		if ( writtenSpaces != null ) {
+			// the side connections are other branches of the transaction, which may not see
+			// (or may wait on) the rows it wrote so far, so these rows must not be referenced
+			insertActionSorter.removeBatchesReferencing( writtenSpaces );
+		}
+		if ( !insertActionSorter.hasIndependentBatches() ) {
+			return null;
+		}
+		final Integer batchSize = session.getConfiguredJdbcBatchSize();
+		if ( batchSize == null || batchSize <= 1
+				|| !session.isTransactionInProgress()
+				|| !session.getTransactionCoordinator().getTransactionCoordinatorBuilder().isJta() ) {
+			return null;
+		}
+		final JdbcServices jdbcServices = session.getJdbcServices();
+		final ConcurrentBatchExecutor concurrentBatchExecutor = new ConcurrentBatchExecutor(
+				session.getJdbcConnectionAccess(),
+				session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection(),
+				jdbcServices.getBatchExecutor(),
+				jdbcServices.getSqlStatementLogger(),
+				jdbcServices.getSqlExceptionHelper(),
+				batchSize,
+				parallelism
+		);
+		if ( !concurrentBatchExecutor.start() ) {
+			LOG.debug( "Connections are shared with the session, inserts are not executed concurrently" );
+			return null;
+		}
+		return concurrentBatchExecutor;
+	}
+
+	private void completeConcurrentBatches(ConcurrentBatchExecutor concurrentBatchExecutor, boolean success) {
+		insertActionSorter.clearIndependentBatches();
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		if ( success ) {
+			try {
+				jdbcCoordinator.overrideBatchBuilder( null );
+			}
+			finally {
+				concurrentBatchExecutor.close();
+			}
+		}
+		else {
+			// an exception is already propagating, don't let the outcome of the batches hide it
+			try {
+				jdbcCoordinator.abortBatch();
+				jdbcCoordinator.overrideBatchBuilder( null );
+				concurrentBatchExecutor.close();
+			}
+			catch (RuntimeException e) {
+				LOG.debug( "Ignoring failure of concurrent batches after failed insert", e );
+			}
+		}
+	}
+
 	private static String[] convertTimestampSpaces(Set spaces) {
 		return (String[]) spaces.toArray( new String[ spaces.size() ] );
 	}
@@ -792,6 +903,10 @@ public class ActionQueue {
 		return session.getFactory().getSessionFactoryOptions().isOrderInsertsEnabled();
 	}
 
+	private int getOrderInsertsParallelism() {
+		return session.getFactory().getSessionFactoryOptions().getOrderInsertsParallelism();
+	}
+
 	public void clearFromFlushNeededCheck(int previousCollectionRemovalSize) {
 		if ( collectionCreations != null ) {
 			collectionCreations.clear();
@@ -1044,8 +1159,15 @@ public class ActionQueue {
 
 			private Set<String> childEntityNames = new HashSet<>( );
 
+			// the tables of the entities the rows of the batch may reference
+			private Set<Serializable> referencedSpaces = new HashSet<>( );
+
 			private BatchIdentifier parent;
 
+			private boolean selfReferencing;
+
+			private boolean ownsCollections;
+
 			BatchIdentifier(String entityName, String rootEntityName) {
 				this.entityName = entityName;
 				this.rootEntityName = rootEntityName;
@@ -1101,6 +1223,20 @@ public class ActionQueue {
 				return childEntityNames.contains( batchIdentifier.getEntityName() );
 			}
 
+			/**
+			 * Check if this {@link BatchIdentifier} is associated in any way with the given one.
+			 */
+			boolean isRelatedTo(BatchIdentifier batchIdentifier) {
+				return parent == batchIdentifier
+						|| batchIdentifier.parent == this
+						|| hasAnyParentEntityNames( batchIdentifier )
+						|| batchIdentifier.hasAnyParentEntityNames( this )
+						|| childEntityNames.contains( batchIdentifier.getEntityName() )
+						|| childEntityNames.contains( batchIdentifier.getRootEntityName() )
+						|| batchIdentifier.childEntityNames.contains( entityName )
+						|| batchIdentifier.childEntityNames.contains( rootEntityName );
+			}
+
 			/**
 			 * Check if this {@link BatchIdentifier} has a parent or grand parent
 			 * matching the given {@link BatchIdentifier} reference.
@@ -1133,7 +1269,42 @@ public class ActionQueue {
 		// the map of batch numbers to EntityInsertAction lists
 		private Map<BatchIdentifier, List<AbstractEntityInsertAction>> actionBatches;
 
+		private final boolean trackIndependentBatches;
+
+		// the tables referenced by the batches associated with no other batch of the last sort,
+		// by the names of their entities
+		private Map<String, Set<Serializable>> independentBatches = Collections.emptyMap();
+
+		// the names of the entities which are the elements of collections of the entities being sorted
+		private Set<String> collectionElementEntityNames;
+
 		public InsertActionSorter() {
+			this( false );
+		}
+
+		public InsertActionSorter(boolean trackIndependentBatches) {
+			this.trackIndependentBatches = trackIndependentBatches;
+		}
+
+		boolean hasIndependentBatches() {
+			return !independentBatches.isEmpty();
+		}
+
+		boolean isIndependent(String entityName) {
+			return independentBatches.containsKey( entityName );
+		}
+
+		/**
+		 * Stop considering the batches referencing any of the given tables as independent.
+		 */
+		void removeBatchesReferencing(Set<Serializable> spaces) {
+			independentBatches.values().removeIf(
+					referencedSpaces -> !Collections.disjoint( referencedSpaces, spaces )
+			);
+		}
+
+		void clearIndependentBatches() {
+			independentBatches = Collections.emptyMap();
 		}
 
 		/**
@@ -1142,6 +1313,8 @@ public class ActionQueue {
 		public void sort(List<AbstractEntityInsertAction> insertions) {
 			// optimize the hash size to eliminate a rehash.
 			this.actionBatches = new HashMap<>();
+			this.independentBatches = Collections.emptyMap();
+			this.collectionElementEntityNames = new HashSet<>();
 
 			// the mapping of entity names to their latest batch numbers.
 			final List<BatchIdentifier> latestBatches = new ArrayList<>();
@@ -1247,9 +1420,38 @@ public class ActionQueue {
 					List<AbstractEntityInsertAction> batch = actionBatches.get( rootIdentifier );
 					insertions.addAll( batch );
 				}
+
+				if ( trackIndependentBatches ) {
+					trackIndependentBatches( latestBatches );
+				}
 			}
 		}
 
+		private void trackIndependentBatches(List<BatchIdentifier> batchIdentifiers) {
+			final Map<String, Set<Serializable>> independent = new HashMap<>();
+			for ( BatchIdentifier batchIdentifier : batchIdentifiers ) {
+				// the rows of collections are written on the connection of the session, after the
+				// insertions, and reference both their owner and their elements
+				if ( batchIdentifier.selfReferencing
+						|| batchIdentifier.ownsCollections
+						|| collectionElementEntityNames.contains( batchIdentifier.getEntityName() )
+						|| collectionElementEntityNames.contains( batchIdentifier.getRootEntityName() ) ) {
+					continue;
+				}
+				boolean related = false;
+				for ( BatchIdentifier other : batchIdentifiers ) {
+					if ( other != batchIdentifier && batchIdentifier.isRelatedTo( other ) ) {
+						related = true;
+						break;
+					}
+				}
+				if ( !related ) {
+					independent.put( batchIdentifier.getEntityName(), batchIdentifier.referencedSpaces );
+				}
+			}
+			independentBatches = independent;
+		}
+
 		/**
 		 * Add parent and child entity names so that we know how to rearrange dependencies
 		 *
@@ -1287,6 +1489,9 @@ public class ActionQueue {
 				final EntityType entityType = (EntityType) type;
 				final String entityName = entityType.getName();
 				final String rootEntityName = action.getSession().getFactory().getMetamodel().entityPersister( entityName ).getRootEntityName();
+				if ( rootEntityName.equals( batchIdentifier.getRootEntityName() ) ) {
+					batchIdentifier.selfReferencing = true;
+				}
 
 				if ( entityType.isOneToOne() && OneToOneType.class.cast( entityType ).getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
 					if ( !entityType.isReferenceToPrimaryKey() ) {
@@ -1297,6 +1502,12 @@ public class ActionQueue {
 					}
 				}
 				else {
+					if ( trackIndependentBatches ) {
+						Collections.addAll(
+								batchIdentifier.referencedSpaces,
+								action.getSession().getFactory().getMetamodel().entityPersister( entityName ).getQuerySpaces()
+						);
+					}
 					if ( !batchIdentifier.getEntityName().equals( entityName ) ) {
 						batchIdentifier.getParentEntityNames().add( entityName );
 					}
@@ -1315,10 +1526,23 @@ public class ActionQueue {
 				CollectionType collectionType = (CollectionType) type;
 				final SessionFactoryImplementor sessionFactory = ( (SessionImplementor) action.getSession() )
 						.getSessionFactory();
+				if ( trackIndependentBatches ) {
+					batchIdentifier.ownsCollections = true;
+					if ( collectionType.getElementType( sessionFactory ).isEntityType() ) {
+						final String elementEntityName = collectionType.getAssociatedEntityName( sessionFactory );
+						collectionElementEntityNames.add( elementEntityName );
+						collectionElementEntityNames.add(
+								sessionFactory.getMetamodel().entityPersister( elementEntityName ).getRootEntityName()
+						);
+					}
+				}
 				if ( collectionType.getElementType( sessionFactory ).isEntityType() &&
 						!sessionFactory.getMetamodel().collectionPersister( collectionType.getRole() ).isManyToMany() ) {
 					String entityName = collectionType.getAssociatedEntityName( sessionFactory );
 					String rootEntityName = action.getSession().getFactory().getMetamodel().entityPersister( entityName ).getRootEntityName();
+					if ( rootEntityName.equals( batchIdentifier.getRootEntityName() ) ) {
+						batchIdentifier.selfReferencing = true;
+					}
 					batchIdentifier.getChildEntityNames().add( entityName );
 					if ( !rootEntityName.equals( entityName ) ) {
 						batchIdentifier.getChildEntityNames().add( rootEntityName );
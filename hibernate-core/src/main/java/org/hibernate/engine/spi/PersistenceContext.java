@@ -106,6 +106,32 @@ public interface PersistenceContext {
 	 */
 	void setEntryStatus(EntityEntry entry, Status status);
 
+	/**
+	 * Are flushes limited to the entities registered via {@link #markDirty}?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_DIRTY_SET_ONLY
+	 */
+	boolean isTrackingDirtyEntities();
+
+	/**
+	 * Register an entity as possibly modified, so that the next flush visits it.  Does
+	 * nothing unless {@link #isTrackingDirtyEntities() dirty entities are tracked}.
+	 *
+	 * @param entity The entity
+	 */
+	void markDirty(Object entity);
+
+	/**
+	 * The entities registered via {@link #markDirty} since the last flush, in registration
+	 * order, in a manner that is safe from reentrant access.
+	 */
+	Object[] reentrantSafeDirtyEntities();
+
+	/**
+	 * Forget the entities registered via {@link #markDirty}, once they were flushed.
+	 */
+	void clearDirtyEntities();
+
 	/**
 	 * Called after transactions end
 	 */
@@ -165,6 +191,19 @@ public interface PersistenceContext {
 	 */
 	Object getEntity(EntityKey key);
 
+	/**
+	 * Get the entity instance of the given type and identifier, like {@link #getEntity(EntityKey)}
+	 * but without the need to create an {@link EntityKey} for the lookup.
+	 *
+	 * @param id The identifier of the entity
+	 * @param persister The persister for the entity
+	 *
+	 * @return The matching entity, or {@code null}
+	 */
+	default Object getEntity(Object id, EntityPersister persister) {
+		return getEntity( new EntityKey( id, persister ) );
+	}
+
 	/**
 	 * Is there an entity with the given key in the persistence context
 	 *
@@ -980,6 +980,11 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		delegate.setReadOnly( entityOrProxy, readOnly );
 	}
 
+	@Override
+	public void markDirty(Object entityOrProxy) {
+		delegate.markDirty( entityOrProxy );
+	}
+
 	@Override
 	public void doWork(Work work) throws HibernateException {
 		delegate.doWork( work );
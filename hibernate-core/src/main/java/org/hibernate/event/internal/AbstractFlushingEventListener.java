@@ -15,6 +15,7 @@ import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
 import org.hibernate.action.internal.QueuedOperationCollectionAction;
+import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.Cascade;
 import org.hibernate.engine.internal.CascadePoint;
 import org.hibernate.engine.internal.Collections;
@@ -22,9 +23,11 @@ import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.ActionQueue;
 import org.hibernate.engine.spi.CascadingAction;
 import org.hibernate.engine.spi.CascadingActions;
+import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.service.spi.EventListenerGroup;
@@ -37,6 +40,10 @@ import org.hibernate.event.spi.FlushEntityEventListener;
 import org.hibernate.event.spi.FlushEvent;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.EntityPrinter;
+import org.hibernate.internal.util.collections.IdentitySet;
+import org.hibernate.jpa.event.spi.CallbackRegistry;
+import org.hibernate.jpa.event.spi.CallbackRegistryConsumer;
+import org.hibernate.jpa.event.spi.CallbackType;
 import org.hibernate.persister.entity.EntityPersister;
 
 import org.jboss.logging.Logger;
@@ -46,17 +53,23 @@ import org.jboss.logging.Logger;
  *
  * @author Steve Ebersole
  */
-public abstract class AbstractFlushingEventListener implements JpaBootstrapSensitive {
+public abstract class AbstractFlushingEventListener implements JpaBootstrapSensitive, CallbackRegistryConsumer {
 
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, AbstractFlushingEventListener.class.getName() );
 
 	private boolean jpaBootstrap;
+	private CallbackRegistry callbackRegistry;
 
 	@Override
 	public void wasJpaBootstrap(boolean wasJpaBootstrap) {
 		this.jpaBootstrap = wasJpaBootstrap;
 	}
 
+	@Override
+	public void injectCallbackRegistry(CallbackRegistry callbackRegistry) {
+		this.callbackRegistry = callbackRegistry;
+	}
+
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Pre-flushing section
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -89,8 +102,13 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 		persistenceContext.setFlushing( true );
 		try {
-			int entityCount = flushEntities( event, persistenceContext );
-			int collectionCount = flushCollections( session, persistenceContext );
+			final Object[] dirtyEntities = persistenceContext.isTrackingDirtyEntities()
+					? persistenceContext.reentrantSafeDirtyEntities()
+					: null;
+			int entityCount = dirtyEntities == null
+					? flushEntities( event, persistenceContext )
+					: flushDirtyEntities( event, persistenceContext, dirtyEntities );
+			int collectionCount = flushCollections( session, persistenceContext, dirtyEntities );
 
 			event.setNumberOfEntitiesProcessed( entityCount );
 			event.setNumberOfCollectionsProcessed( collectionCount );
@@ -139,6 +157,21 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		LOG.debug( "Processing flush-time cascades" );
 
 		final Object anything = getAnything();
+		if ( persistenceContext.isTrackingDirtyEntities() ) {
+			markSelfDirtyEntities( persistenceContext );
+			markOwnersOfDirtyCollections( persistenceContext );
+			for ( Object entity : persistenceContext.reentrantSafeDirtyEntities() ) {
+				final EntityEntry entry = persistenceContext.getEntry( entity );
+				if ( entry != null ) {
+					final Status status = entry.getStatus();
+					if ( status == Status.MANAGED || status == Status.SAVING || status == Status.READ_ONLY ) {
+						cascadeOnFlush( session, entry.getPersister(), entity, anything );
+					}
+				}
+			}
+			return;
+		}
+
 		//safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
 		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
 //		for ( Map.Entry me : IdentityMap.concurrentEntries( persistenceContext.getEntityEntries() ) ) {
@@ -150,6 +183,37 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		}
 	}
 
+	/**
+	 * When flushes only visit the dirty entities, an entity enhanced for dirty tracking
+	 * whose attributes were set since it was loaded must be visited too, since setting
+	 * them does not pass through the session
+	 */
+	private void markSelfDirtyEntities(PersistenceContext persistenceContext) {
+		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
+			final Object entity = me.getKey();
+			if ( entity instanceof SelfDirtinessTracker
+					&& ( (SelfDirtinessTracker) entity ).$$_hibernate_hasDirtyAttributes() ) {
+				persistenceContext.markDirty( entity );
+			}
+		}
+	}
+
+	/**
+	 * When flushes only visit the dirty entities, the owner of a modified collection
+	 * must be visited too, to cascade to its elements
+	 */
+	private void markOwnersOfDirtyCollections(PersistenceContext persistenceContext) {
+		persistenceContext.forEachCollectionEntry(
+				(collection, collectionEntry) -> {
+					final Object owner = collection.getOwner();
+					if ( owner != null && collection.isDirty() && persistenceContext.isEntryFor( owner ) ) {
+						persistenceContext.markDirty( owner );
+					}
+				},
+				false
+		);
+	}
+
 	private void cascadeOnFlush(EventSource session, EntityPersister persister, Object object, Object anything)
 	throws HibernateException {
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
@@ -217,15 +281,27 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
 		final int count = entityEntries.length;
 
-		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
+		// the entities found unmodified on other threads are still flushed here, in order
+		boolean[] unmodified = callbackRegistry != null && ParallelDirtyCheck.isEnabled( count, source )
+				? ParallelDirtyCheck.findUnmodified( entityEntries )
+				: null;
+
+		for ( int i = 0; i < count; i++ ) {
 			// Update the status of the object and if necessary, schedule an update
 
+			final Map.Entry<Object,EntityEntry> me = entityEntries[i];
 			EntityEntry entry = me.getValue();
 			Status status = entry.getStatus();
 
 			if ( status != Status.LOADING && status != Status.GONE ) {
 				final FlushEntityEvent entityEvent = new FlushEntityEvent( source, me.getKey(), entry );
+				final boolean knownUnmodified = unmodified != null && unmodified[i];
+				entityEvent.setKnownUnmodified( knownUnmodified );
 				flushListeners.fireEventOnEachListener( entityEvent, FlushEntityEventListener::onFlushEntity );
+				if ( unmodified != null && !knownUnmodified && hasPreUpdateCallbacks( entry.getPersister() ) ) {
+					// the callbacks may have modified entities found unmodified before they ran
+					unmodified = null;
+				}
 			}
 		}
 
@@ -234,20 +310,74 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		return count;
 	}
 
+	private boolean hasPreUpdateCallbacks(EntityPersister persister) {
+		return callbackRegistry.hasRegisteredCallbacks( persister.getMappedClass(), CallbackType.PRE_UPDATE );
+	}
+
+	/**
+	 * Same as {@link #flushEntities}, for the given entities only
+	 */
+	private int flushDirtyEntities(
+			final FlushEvent event,
+			final PersistenceContext persistenceContext,
+			final Object[] dirtyEntities) throws HibernateException {
+
+		LOG.trace( "Flushing dirty entities and processing referenced collections" );
+
+		final EventSource source = event.getSession();
+		final EventListenerGroup<FlushEntityEventListener> flushListeners = source.getFactory()
+				.getFastSessionServices().eventListenerGroup_FLUSH_ENTITY;
+
+		for ( Object entity : dirtyEntities ) {
+			final EntityEntry entry = persistenceContext.getEntry( entity );
+			if ( entry != null ) {
+				final Status status = entry.getStatus();
+				if ( status != Status.LOADING && status != Status.GONE ) {
+					final FlushEntityEvent entityEvent = new FlushEntityEvent( source, entity, entry );
+					flushListeners.fireEventOnEachListener( entityEvent, FlushEntityEventListener::onFlushEntity );
+				}
+			}
+		}
+
+		source.getActionQueue().sortActions();
+
+		return dirtyEntities.length;
+	}
+
 	/**
 	 * process any unreferenced collections and then inspect all known collections,
 	 * scheduling creates/removes/updates
 	 */
 	@SuppressWarnings("unchecked")
-	private int flushCollections(final EventSource session, final PersistenceContext persistenceContext) throws HibernateException {
+	private int flushCollections(
+			final EventSource session,
+			final PersistenceContext persistenceContext,
+			final Object[] dirtyEntities) throws HibernateException {
 		LOG.trace( "Processing unreferenced collections" );
 
 		final int count = persistenceContext.getCollectionEntriesSize();
 
+		// the collections of the entities which were not visited are still referenced by them
+		final IdentitySet visitedEntities = dirtyEntities == null ? null : toIdentitySet( dirtyEntities );
 		persistenceContext.forEachCollectionEntry(
 				(persistentCollection, collectionEntry) -> {
 					if ( !collectionEntry.isReached() && !collectionEntry.isIgnore() ) {
-						Collections.processUnreachableCollection( persistentCollection, session );
+						if ( visitedEntities != null && isReferencedByUnvisitedOwner(
+								persistentCollection,
+								collectionEntry,
+								visitedEntities,
+								persistenceContext
+						) ) {
+							Collections.processReachableCollection(
+									persistentCollection,
+									collectionEntry.getLoadedPersister().getCollectionType(),
+									persistentCollection.getOwner(),
+									session
+							);
+						}
+						else {
+							Collections.processUnreachableCollection( persistentCollection, session );
+						}
 					}
 				}, true );
 
@@ -312,6 +442,28 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		return count;
 	}
 
+	private static IdentitySet toIdentitySet(Object[] entities) {
+		final IdentitySet set = new IdentitySet( entities.length );
+		for ( Object entity : entities ) {
+			set.add( entity );
+		}
+		return set;
+	}
+
+	private static boolean isReferencedByUnvisitedOwner(
+			PersistentCollection collection,
+			CollectionEntry collectionEntry,
+			IdentitySet visitedEntities,
+			PersistenceContext persistenceContext) {
+		final Object owner = collection.getOwner();
+		if ( owner == null || collectionEntry.getLoadedPersister() == null || visitedEntities.contains( owner ) ) {
+			return false;
+		}
+		final EntityEntry ownerEntry = persistenceContext.getEntry( owner );
+		return ownerEntry != null
+				&& ( ownerEntry.getStatus() == Status.MANAGED || ownerEntry.getStatus() == Status.READ_ONLY );
+	}
+
 	/**
 	 * Execute all SQL (and second-level cache updates) in a special order so that foreign-key constraints cannot
 	 * be violated: <ol>
@@ -364,6 +516,7 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		persistenceContext.clearCollectionsByKey();
+		persistenceContext.clearDirtyEntities();
 		
 		// the database has changed now, so the subselect results need to be invalidated
 		// the batch fetching queues should also be cleared - especially the collection batch fetching one
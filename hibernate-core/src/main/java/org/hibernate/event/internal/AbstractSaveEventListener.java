@@ -259,6 +259,7 @@ public abstract class AbstractSaveEventListener
 				persister,
 				false
 		);
+		persistenceContext.markDirty( entity );
 
 		cascadeBeforeSave( source, persister, entity, anything );
 
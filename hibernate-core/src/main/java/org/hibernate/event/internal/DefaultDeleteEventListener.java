@@ -274,6 +274,7 @@ public class DefaultDeleteEventListener implements DeleteEventListener,	Callback
 
 		// before any callbacks, etc, so subdeletions see that this deletion happened first
 		persistenceContext.setEntryStatus( entityEntry, Status.DELETED );
+		persistenceContext.markDirty( entity );
 		final EntityKey key = session.generateEntityKey( entityEntry.getId(), persister );
 
 		cascadeBeforeDelete( session, persister, entity, entityEntry, transientEntities );
@@ -10,13 +10,16 @@ import java.util.Arrays;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.CustomEntityDirtinessStrategy;
+import org.hibernate.EmptyInterceptor;
 import org.hibernate.HibernateException;
 import org.hibernate.SessionFactory;
 import org.hibernate.StaleObjectStateException;
 import org.hibernate.action.internal.DelayedPostInsertIdentifier;
 import org.hibernate.action.internal.EntityUpdateAction;
+import org.hibernate.boot.internal.DefaultCustomEntityDirtinessStrategy;
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
 import org.hibernate.engine.internal.Nullability;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.spi.EntityEntry;
@@ -126,7 +129,12 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		final Status status = entry.getStatus();
 		final Type[] types = persister.getPropertyTypes();
 
-		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
+		boolean mightBeDirty = entry.requiresDirtyCheck( entity );
+		if ( mightBeDirty && ( event.isKnownUnmodified() || isUnmodified( entity, entry, session ) ) ) {
+			// the current state is the loaded state, there is no need to extract it
+			checkId( entity, persister, entry.getId(), session );
+			mightBeDirty = false;
+		}
 
 		final Object[] values = getValues( entity, entry, mightBeDirty, session );
 
@@ -155,6 +163,21 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 	}
 
+	/**
+	 * Whether the generated dirty check optimizer of the entity finds all its properties unmodified,
+	 * when neither an Interceptor nor a CustomEntityDirtinessStrategy takes part in the dirty check
+	 */
+	private static boolean isUnmodified(Object entity, EntityEntry entry, EventSource session) {
+		final DirtyCheckOptimizer dirtyCheckOptimizer = entry.getPersister().getDirtyCheckOptimizer();
+		final Object[] loadedState = entry.getLoadedState();
+		return dirtyCheckOptimizer != null
+				&& loadedState != null
+				&& entry.getStatus() == Status.MANAGED
+				&& session.getInterceptor() == EmptyInterceptor.INSTANCE
+				&& session.getFactory().getCustomEntityDirtinessStrategy() == DefaultCustomEntityDirtinessStrategy.INSTANCE
+				&& dirtyCheckOptimizer.isUnmodified( entity, loadedState );
+	}
+
 	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
 		final Object[] loadedState = entry.getLoadedState();
 		final Status status = entry.getStatus();
@@ -13,6 +13,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.ObjectDeletedException;
 import org.hibernate.StaleObjectStateException;
 import org.hibernate.WrongClassException;
+import org.hibernate.action.internal.EntityUpsertAction;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.engine.internal.Cascade;
 import org.hibernate.engine.internal.CascadePoint;
@@ -140,6 +141,7 @@ public class DefaultMergeEventListener extends AbstractSaveEventListener impleme
 				}
 				event.setEntity( entity );
 				EntityState entityState = null;
+				boolean upsert = false;
 
 				// Check the persistence context for an entry relating to this
 				// entity to be merged...
@@ -160,6 +162,13 @@ public class DefaultMergeEventListener extends AbstractSaveEventListener impleme
 							// under a different entity instance
 							entityState = EntityState.DETACHED;
 						}
+						else if ( isUpsertEnabled( event, persister ) ) {
+							// the entity is not associated with the persistence context,
+							// and there is no need to find out whether it exists in the
+							// database, detached and transient are written the same way
+							entityState = EntityState.DETACHED;
+							upsert = true;
+						}
 					}
 				}
 
@@ -169,7 +178,12 @@ public class DefaultMergeEventListener extends AbstractSaveEventListener impleme
 
 				switch ( entityState ) {
 					case DETACHED:
-						entityIsDetached( event, copyCache );
+						if ( upsert ) {
+							entityIsUpserted( event, copyCache );
+						}
+						else {
+							entityIsDetached( event, copyCache );
+						}
 						break;
 					case TRANSIENT:
 						entityIsTransient( event, copyCache );
@@ -258,6 +272,59 @@ public class DefaultMergeEventListener extends AbstractSaveEventListener impleme
 		}
 	}
 
+	private boolean isUpsertEnabled(MergeEvent event, EntityPersister persister) {
+		return event.getRequestedId() == null
+				&& persister.isUpsertable()
+				&& event.getSession().getFactory().getSessionFactoryOptions().isMergeUpsertEnabled();
+	}
+
+	/**
+	 * Merge an instance which is not associated with the persistence context by
+	 * scheduling an upsert of a managed copy, instead of loading it.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MERGE_UPSERT
+	 */
+	protected void entityIsUpserted(MergeEvent event, Map copyCache) {
+
+		LOG.trace( "Merging instance by upsert" );
+
+		final Object entity = event.getEntity();
+		final EventSource session = event.getSession();
+		final EntityPersister persister = session.getEntityPersister( event.getEntityName(), entity );
+
+		// we must clone embedded composite identifiers or we will get back the same instance that we pass in
+		final Object id = persister.getIdentifierType().deepCopy(
+				persister.getIdentifier( entity, session ),
+				session.getFactory()
+		);
+
+		final Object copy;
+		final Object existingCopy = copyCache.get( entity );
+		if ( existingCopy != null ) {
+			persister.setIdentifier( existingCopy, id, session );
+			copy = existingCopy;
+		}
+		else {
+			copy = session.instantiate( persister, id );
+
+			//before cascade!
+			( (MergeContext) copyCache ).put( entity, copy, true );
+		}
+
+		super.cascadeBeforeSave( session, persister, entity, copyCache );
+		copyValues( persister, entity, copy, session, copyCache, ForeignKeyDirection.FROM_PARENT );
+
+		// makes the copy managed, before the entities cascaded to may reference it
+		session.getActionQueue().addAction(
+				new EntityUpsertAction( id, persister.getValues( copy ), copy, persister, session )
+		);
+
+		super.cascadeAfterSave( session, persister, entity, copyCache );
+		copyValues( persister, entity, copy, session, copyCache, ForeignKeyDirection.TO_PARENT );
+
+		event.setResult( copy );
+	}
+
 	private void saveTransientEntity(
 			Object entity,
 			String entityName,
@@ -348,6 +415,7 @@ public class DefaultMergeEventListener extends AbstractSaveEventListener impleme
 
 			//copyValues works by reflection, so explicitly mark the entity instance dirty
 			markInterceptorDirty( entity, target, persister );
+			source.getPersistenceContextInternal().markDirty( target );
 
 			event.setResult( result );
 		}
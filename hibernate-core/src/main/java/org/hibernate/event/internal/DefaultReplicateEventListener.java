@@ -194,6 +194,7 @@ public class DefaultReplicateEventListener extends AbstractSaveEventListener imp
 				persister,
 				true
 		);
+		source.getPersistenceContextInternal().markDirty( entity );
 
 		cascadeAfterReplicate( entity, persister, replicationMode, source );
 	}
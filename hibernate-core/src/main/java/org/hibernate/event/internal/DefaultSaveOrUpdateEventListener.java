@@ -316,6 +316,7 @@ public class DefaultSaveOrUpdateEventListener extends AbstractSaveEventListener
 				persister,
 				false
 		);
+		persistenceContext.markDirty( entity );
 
 		persister.afterReassociate( entity, source );
 
@@ -0,0 +1,165 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.boot.internal.DefaultCustomEntityDirtinessStrategy;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistentAttributeInterceptable;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.Type;
+
+/**
+ * Finds, on a dedicated fork-join pool, the entities of a flush whose state is certainly
+ * equal to their loaded state, so that the flush skips their dirty check.  The pool is
+ * shared by all session factories, and its threads only live while flushes use them.
+ * <p/>
+ * The entity entries are split in chunks, and each chunk reads the current state of its
+ * entities and compares it to their loaded state, without touching the session.  Only basic
+ * values are compared: a property of any other type is considered modified unless it still
+ * holds the loaded instance, leaving its dirty check to the thread of the flush.  So are the
+ * entities whose dirtiness the Interceptor, a custom dirtiness strategy or bytecode enhancement
+ * may decide on.
+ * <p/>
+ * The flush itself, including the dirty check of all other entities and the creation of the
+ * actions, still happens on the thread of the session in the order of the entries.  Since the
+ * state is read before the flush, the flush stops relying on it once it invoked the
+ * {@link jakarta.persistence.PreUpdate} callbacks of an entity, which may modify the others.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD
+ */
+final class ParallelDirtyCheck {
+	private static final int CHUNK_SIZE = 1024;
+
+	private ParallelDirtyCheck() {
+	}
+
+	/**
+	 * Whether the entries of a flush should be checked in parallel
+	 */
+	static boolean isEnabled(int numberOfEntries, EventSource session) {
+		final int threshold = session.getFactory().getSessionFactoryOptions().getParallelDirtyCheckingThreshold();
+		return threshold > 0
+				&& numberOfEntries >= threshold
+				&& session.getInterceptor() == EmptyInterceptor.INSTANCE
+				&& session.getFactory().getCustomEntityDirtinessStrategy() == DefaultCustomEntityDirtinessStrategy.INSTANCE;
+	}
+
+	/**
+	 * @return For each entry, whether its entity is certainly unmodified
+	 */
+	static boolean[] findUnmodified(Map.Entry<Object,EntityEntry>[] entityEntries) {
+		final boolean[] unmodified = new boolean[entityEntries.length];
+		PoolHolder.POOL.invoke( new Chunk( entityEntries, unmodified, 0, entityEntries.length ) );
+		return unmodified;
+	}
+
+	private static boolean isUnmodified(Object entity, EntityEntry entry) {
+		final Object[] loadedState = entry.getLoadedState();
+		if ( entry.getStatus() != Status.MANAGED
+				|| loadedState == null
+				|| entity instanceof SelfDirtinessTracker
+				|| entity instanceof PersistentAttributeInterceptable ) {
+			return false;
+		}
+
+		final EntityPersister persister = entry.getPersister();
+		final Type[] types = persister.getPropertyTypes();
+		final Object[] values;
+		try {
+			values = persister.getPropertyValues( entity );
+		}
+		catch (RuntimeException e) {
+			// reported by the dirty check of the flush
+			return false;
+		}
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( !isUnmodified( types[i], values[i], loadedState[i] ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isUnmodified(Type type, Object value, Object loadedValue) {
+		if ( value == loadedValue ) {
+			return true;
+		}
+		if ( value == null
+				|| loadedValue == null
+				|| !( type instanceof BasicType )
+				|| isMarker( value )
+				|| isMarker( loadedValue ) ) {
+			return false;
+		}
+		return type.isEqual( loadedValue, value );
+	}
+
+	private static boolean isMarker(Object value) {
+		return value == LazyPropertyInitializer.UNFETCHED_PROPERTY
+				|| value == PropertyAccessStrategyBackRefImpl.UNKNOWN;
+	}
+
+	/**
+	 * Creates the pool on first use only
+	 */
+	private static final class PoolHolder {
+		// entity getters must not run on the common pool, where they would compete with unrelated tasks
+		private static final ForkJoinPool POOL = new ForkJoinPool(
+				Runtime.getRuntime().availableProcessors(),
+				pool -> {
+					final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( pool );
+					thread.setName( "hibernate-dirty-check-" + thread.getPoolIndex() );
+					thread.setDaemon( true );
+					return thread;
+				},
+				null,
+				false
+		);
+	}
+
+	private static final class Chunk extends RecursiveAction {
+		private final Map.Entry<Object,EntityEntry>[] entityEntries;
+		private final boolean[] unmodified;
+		private final int from;
+		private final int to;
+
+		private Chunk(Map.Entry<Object,EntityEntry>[] entityEntries, boolean[] unmodified, int from, int to) {
+			this.entityEntries = entityEntries;
+			this.unmodified = unmodified;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if ( to - from > CHUNK_SIZE ) {
+				final int middle = ( from + to ) >>> 1;
+				invokeAll(
+						new Chunk( entityEntries, unmodified, from, middle ),
+						new Chunk( entityEntries, unmodified, middle, to )
+				);
+			}
+			else {
+				for ( int i = from; i < to; i++ ) {
+					unmodified[i] = isUnmodified( entityEntries[i].getKey(), entityEntries[i].getValue() );
+				}
+			}
+		}
+	}
+}
@@ -19,6 +19,7 @@ public class FlushEntityEvent extends AbstractEvent {
 	private boolean hasDirtyCollection;
 	private boolean dirtyCheckPossible;
 	private boolean dirtyCheckHandledByInterceptor;
+	private boolean knownUnmodified;
 	private EntityEntry entityEntry;
 	
 	public FlushEntityEvent(EventSource source, Object entity, EntityEntry entry) {
@@ -57,6 +58,16 @@ public class FlushEntityEvent extends AbstractEvent {
 	public void setDirtyProperties(int[] dirtyProperties) {
 		this.dirtyProperties = dirtyProperties;
 	}
+	/**
+	 * Whether the state of the entity was already found equal to its loaded state,
+	 * so that no dirty check is needed
+	 */
+	public boolean isKnownUnmodified() {
+		return knownUnmodified;
+	}
+	public void setKnownUnmodified(boolean knownUnmodified) {
+		this.knownUnmodified = knownUnmodified;
+	}
 	public boolean hasDirtyCollection() {
 		return hasDirtyCollection;
 	}
@@ -12,6 +12,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
@@ -53,6 +54,7 @@ public class IncrementGenerator implements StandardGenerator {
 	private String sql;
 
 	private IntegralDataTypeHolder previousValueHolder;
+	private final ReentrantLock generationLock = new ReentrantLock();
 
 	/**
 	 * @deprecated Exposed for tests only.
@@ -63,11 +65,17 @@ public class IncrementGenerator implements StandardGenerator {
 	}
 
 	@Override
-	public synchronized Object generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
-		if ( sql != null ) {
-			initializePreviousValueHolder( session );
+	public Object generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
+		generationLock.lock();
+		try {
+			if ( sql != null ) {
+				initializePreviousValueHolder( session );
+			}
+			return previousValueHolder.makeValueThenIncrement();
+		}
+		finally {
+			generationLock.unlock();
 		}
-		return previousValueHolder.makeValueThenIncrement();
 	}
 
 	@Override
@@ -27,8 +27,11 @@ public interface Optimizer {
 	/**
 	 * Generate an identifier value accounting for this specific optimization.
 	 *
-	 * All known implementors are synchronized. Consider carefully if a new
-	 * implementation could drop this requirement.
+	 * Implementors must be thread-safe.  Since the callback may access the
+	 * database, they should not hold a monitor while calling it: a virtual
+	 * thread blocked on I/O inside a {@code synchronized} block pins its
+	 * carrier thread.  The standard implementations use a
+	 * {@link java.util.concurrent.locks.ReentrantLock} instead.
 	 *
 	 * @param callback Callback to access the underlying value source.
 	 * @return The generated identifier value.
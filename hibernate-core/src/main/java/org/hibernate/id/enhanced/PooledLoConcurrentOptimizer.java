@@ -0,0 +1,172 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledLoOptimizer} which hands out the values of the current block without any
+ * locking, and which reads the next block from the database before the current one is exhausted.
+ * <p/>
+ * Values are claimed from the current block by atomically incrementing an offset.  The thread which
+ * claims the value half-way through the block reads the next block from the underlying
+ * {@link DatabaseStructure} while the other threads keep on drawing values from the current block,
+ * so that, as long as a block is not consumed faster than a database round trip, no thread ever waits
+ * for the sequence or table.  The read happens on the claiming thread, since the {@link AccessCallback}
+ * is bound to the session (and so to the connection) of its caller.
+ *
+ * @see PooledLoOptimizer
+ */
+public class PooledLoConcurrentOptimizer extends AbstractOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			PooledLoConcurrentOptimizer.class.getName()
+	);
+
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String, GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a PooledLoConcurrentOptimizer.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledLoConcurrentOptimizer(Class returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		LOG.creatingPooledLoOptimizer( incrementSize, returnClass.getName() );
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		return locateGenerationState( callback.getTenantIdentifier() )
+				.generate( callback, incrementSize );
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		if ( tenantIdentifier == null ) {
+			return noTenantState;
+		}
+		else {
+			return tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p/>
+	 * This is the source value of the block values are currently handed out from, not that of
+	 * the block read ahead of time, if any.
+	 */
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		final Block block = noTenantState.currentBlock;
+		return block == null ? null : block.sourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	private static class Block {
+		// the value read from the db source
+		private final IntegralDataTypeHolder sourceValue;
+		// the first value of the block
+		private final IntegralDataTypeHolder firstValue;
+		// the value at which the block is exhausted
+		private final IntegralDataTypeHolder upperLimitValue;
+		// the offset (from firstValue) of the next value to hand out
+		private final AtomicLong nextOffset = new AtomicLong();
+
+		private Block(IntegralDataTypeHolder sourceValue, int incrementSize) {
+			this.sourceValue = sourceValue;
+			upperLimitValue = sourceValue.copy().add( incrementSize );
+			firstValue = sourceValue.copy();
+			// handle cases where initial-value is less that one (hsqldb for instance).
+			while ( firstValue.lt( 1 ) ) {
+				firstValue.increment();
+			}
+		}
+	}
+
+	private static class GenerationState {
+		// guards the reads from the db source, never the handing out of values
+		private final ReentrantLock sourceLock = new ReentrantLock();
+		// the block values are currently handed out from
+		private volatile Block currentBlock;
+		// the block read ahead of time, to be used once the current one is exhausted
+		private Block nextBlock;
+
+		private Serializable generate(AccessCallback callback, int incrementSize) {
+			while ( true ) {
+				final Block block = currentBlock;
+				if ( block != null ) {
+					final long offset = block.nextOffset.getAndIncrement();
+					final IntegralDataTypeHolder value = block.firstValue.copy().add( offset );
+					if ( value.lt( block.upperLimitValue ) ) {
+						if ( offset == incrementSize / 2 ) {
+							prefetch( callback, incrementSize, block );
+						}
+						return value.makeValue();
+					}
+				}
+				advance( callback, incrementSize, block );
+			}
+		}
+
+		private void prefetch(AccessCallback callback, int incrementSize, Block block) {
+			sourceLock.lock();
+			try {
+				// the current block may already have been exhausted and replaced while we waited
+				if ( currentBlock == block && nextBlock == null ) {
+					nextBlock = readBlock( callback, incrementSize );
+				}
+			}
+			finally {
+				sourceLock.unlock();
+			}
+		}
+
+		private void advance(AccessCallback callback, int incrementSize, Block exhaustedBlock) {
+			sourceLock.lock();
+			try {
+				if ( currentBlock != exhaustedBlock ) {
+					// another thread already moved on to the next block
+					return;
+				}
+				if ( nextBlock != null ) {
+					currentBlock = nextBlock;
+					nextBlock = null;
+				}
+				else {
+					currentBlock = readBlock( callback, incrementSize );
+				}
+			}
+			finally {
+				sourceLock.unlock();
+			}
+		}
+
+		private Block readBlock(AccessCallback callback, int incrementSize) {
+			return new Block( callback.getNextValue(), incrementSize );
+		}
+	}
+}
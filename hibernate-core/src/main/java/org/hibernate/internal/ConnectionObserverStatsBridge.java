@@ -31,6 +31,19 @@ public class ConnectionObserverStatsBridge implements ConnectionObserver, Serial
 		}
 	}
 
+	/**
+	 * Callback about a connection being obtained, with the time it took
+	 *
+	 * @param connection The connection, or {@code null} if it could not be obtained
+	 * @param nanoseconds The time spent obtaining it
+	 */
+	public void physicalConnectionObtained(Connection connection, long nanoseconds) {
+		final StatisticsImplementor statistics = sessionFactory.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.connect( nanoseconds );
+		}
+	}
+
 	@Override
 	public void physicalConnectionReleased() {
 	}
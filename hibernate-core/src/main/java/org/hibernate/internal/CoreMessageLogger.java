@@ -1829,4 +1829,8 @@ public interface CoreMessageLogger extends BasicLogger {
 	@Message(value = "Multi-table insert is not available due to missing identity and window function support for: %s", id = 509)
 	void multiTableInsertNotAvailable(String entityName);
 
+	@LogMessage(level = INFO)
+	@Message(value = "Query plan cache evictions: %s", id = 510)
+	void queryPlanCacheEvictions(long queryPlanCacheEvictionCount);
+
 }
@@ -21,6 +21,8 @@ public final class JdbcObserverImpl implements JdbcObserver {
 	private final SessionEventListenerManager eventListenerManager;
 	private final SharedSessionContractImplementor session;
 
+	private long connectionAcquisitionStart = -1;
+
 	public JdbcObserverImpl(SharedSessionContractImplementor session, FastSessionServices fastSessionServices) {
 		this.session = session;
 		this.observer = fastSessionServices.getDefaultJdbcObserver();
@@ -29,11 +31,18 @@ public final class JdbcObserverImpl implements JdbcObserver {
 
 	@Override
 	public void jdbcConnectionAcquisitionStart() {
+		connectionAcquisitionStart = System.nanoTime();
 	}
 
 	@Override
 	public void jdbcConnectionAcquisitionEnd(Connection connection) {
-		observer.physicalConnectionObtained( connection );
+		if ( connectionAcquisitionStart < 0 ) {
+			observer.physicalConnectionObtained( connection );
+		}
+		else {
+			observer.physicalConnectionObtained( connection, System.nanoTime() - connectionAcquisitionStart );
+			connectionAcquisitionStart = -1;
+		}
 	}
 
 	@Override
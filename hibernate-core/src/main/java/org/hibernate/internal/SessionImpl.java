@@ -1803,6 +1803,27 @@ public class SessionImpl
 		persistenceContext.setReadOnly( entity, readOnly );
 	}
 
+	@Override
+	public void markDirty(Object entityOrProxy) {
+		checkOpen();
+		final Object entity;
+		if ( entityOrProxy instanceof HibernateProxy ) {
+			final LazyInitializer lazyInitializer = ( (HibernateProxy) entityOrProxy ).getHibernateLazyInitializer();
+			if ( lazyInitializer.isUninitialized() ) {
+				// could not have been modified
+				return;
+			}
+			entity = lazyInitializer.getImplementation();
+		}
+		else {
+			entity = entityOrProxy;
+		}
+		if ( !persistenceContext.isEntryFor( entity ) ) {
+			throw new TransientObjectException( "Instance was not associated with this persistence context" );
+		}
+		persistenceContext.markDirty( entity );
+	}
+
 	@Override
 	public void afterScrollOperation() {
 		// nothing to do in a stateful session
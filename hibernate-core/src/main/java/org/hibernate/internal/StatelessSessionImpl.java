@@ -6,7 +6,11 @@
  */
 package org.hibernate.internal;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
@@ -20,11 +24,15 @@ import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.internal.Versioning;
+import org.hibernate.engine.jdbc.bulk.spi.BulkLoadRow;
+import org.hibernate.engine.jdbc.bulk.spi.BulkLoadTarget;
+import org.hibernate.engine.jdbc.bulk.spi.BulkLoader;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.transaction.internal.jta.JtaStatusHelper;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.id.IdentifierGenerationException;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
@@ -40,6 +48,9 @@ import jakarta.transaction.SystemException;
 public class StatelessSessionImpl extends AbstractSharedSessionContract implements StatelessSession {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( StatelessSessionImpl.class );
 
+	// the number of rows prepared ahead of each load by the bulk loader
+	private static final int BULK_LOAD_CHUNK_SIZE = 5000;
+
 	private static LoadQueryInfluencers NO_INFLUENCERS = new LoadQueryInfluencers( null ) {
 		@Override
 		public String getInternalFetchProfile() {
@@ -101,6 +112,71 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	}
 
 
+	@Override
+	public long insertAll(Stream<?> entities) {
+		checkOpen();
+		// rows loaded in bulk must follow any row already batched
+		getJdbcCoordinator().executeBatch();
+		final BulkLoader loader = getJdbcServices().getDialect().getBulkLoader();
+		final Iterator<?> iterator = entities.iterator();
+		long count = 0;
+		Object next = nextEntity( iterator );
+		while ( next != null ) {
+			final EntityPersister persister = getEntityPersister( null, next );
+			final BulkLoadTarget target = persister.getBulkLoadTarget();
+			if ( target == null ) {
+				insert( next );
+				count++;
+				next = nextEntity( iterator );
+			}
+			else {
+				// generating ids may use the connection, which the loader may not share while loading
+				final List<BulkLoadRow> rows = new ArrayList<>();
+				do {
+					rows.add( prepareBulkLoadRow( persister, next ) );
+					next = nextEntity( iterator );
+				}
+				while ( next != null
+						&& rows.size() < BULK_LOAD_CHUNK_SIZE
+						&& getEntityPersister( null, next ) == persister );
+				count += loader.load( target, rows.iterator(), this );
+			}
+		}
+		return count;
+	}
+
+	private static Object nextEntity(Iterator<?> entities) {
+		if ( !entities.hasNext() ) {
+			return null;
+		}
+		final Object entity = entities.next();
+		if ( entity == null ) {
+			throw new IllegalArgumentException( "Attempt to insert a null entity" );
+		}
+		return entity;
+	}
+
+	/**
+	 * Generate the identifier of an entity loaded in bulk, and seed its version
+	 */
+	private BulkLoadRow prepareBulkLoadRow(EntityPersister persister, Object entity) {
+		final Object id = persister.getIdentifierGenerator().generate( this, entity );
+		final Object[] state = persister.getPropertyValues( entity );
+		if ( persister.isVersioned() ) {
+			boolean substitute = Versioning.seedVersion(
+					state,
+					persister.getVersionProperty(),
+					persister.getVersionJavaTypeDescriptor(),
+					this
+			);
+			if ( substitute ) {
+				persister.setPropertyValues( entity, state );
+			}
+		}
+		persister.setIdentifier( entity, id, this );
+		return (statement, index) -> persister.bindBulkLoadRow( id, state, statement, index, this );
+	}
+
 	// deletes ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override
@@ -147,6 +223,28 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	}
 
 
+	// upserts ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void upsert(Object entity) {
+		checkOpen();
+		upsert( null, entity );
+	}
+
+	@Override
+	public void upsert(String entityName, Object entity) {
+		checkOpen();
+		EntityPersister persister = getEntityPersister( entityName, entity );
+		Object id = persister.getIdentifier( entity, this );
+		if ( id == null ) {
+			throw new IdentifierGenerationException(
+					"ids for this class must be manually assigned before calling upsert(): " + persister.getEntityName()
+			);
+		}
+		persister.upsert( id, persister.getPropertyValues( entity ), entity, this );
+	}
+
+
 	// loading ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override
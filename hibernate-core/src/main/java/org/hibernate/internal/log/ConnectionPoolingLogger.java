@@ -40,7 +40,7 @@ public interface ConnectionPoolingLogger extends BasicLogger {
 	void connectionProperties(Properties connectionProps);
 
 	@LogMessage(level = WARN)
-	@Message(value = "Using built-in connection pool (not intended for production use)", id = 10001002)
+	@Message(value = "Using built-in connection pool", id = 10001002)
 	void usingHibernateBuiltInConnectionPool();
 
 	@LogMessage(level = INFO)
@@ -89,4 +89,8 @@ public interface ConnectionPoolingLogger extends BasicLogger {
 	@LogMessage(level = ERROR)
 	@Message(value = "Error closing connection", id = 10001284)
 	void unableToCloseConnection(@Cause Exception e);
+
+	@LogMessage(level = WARN)
+	@Message(value = "Possible connection leak: a connection of pool [%s] has been in use for more than %s seconds", id = 10001013)
+	void connectionLeakDetected(String url, long leakDetectionThreshold, @Cause Throwable borrowStack);
 }
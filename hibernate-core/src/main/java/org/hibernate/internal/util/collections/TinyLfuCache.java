@@ -0,0 +1,314 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A bounded, concurrent cache which decides what to keep based on how frequently
+ * keys are requested, in the spirit of the TinyLFU admission policy.
+ * <p/>
+ * Reads never lock: they are a {@link ConcurrentHashMap} lookup plus a CAS-based
+ * increment of a compact count-min sketch which approximates the access frequency
+ * of every key requested recently (hits and misses alike).  The sketch is aged by
+ * halving all counters periodically, so that formerly popular keys eventually
+ * make room for new ones.
+ * <p/>
+ * Once the cache is full, adding an entry samples a few resident entries and
+ * picks the least frequently used one as the victim.  The new entry is only
+ * admitted if it was requested more often than that victim; otherwise the new
+ * entry is dropped.  Entries are assigned a slot in a fixed size array, which is
+ * what allows the random sampling; evicting a victim is a CAS of its slot.
+ * <p/>
+ * Values are never {@code null}.  The size may temporarily exceed the maximum
+ * by the number of concurrent writers.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class TinyLfuCache<K, V> {
+	private static final int SAMPLE_SIZE = 8;
+	private static final int MAX_EVICTION_ATTEMPTS = 4;
+
+	private final int maxSize;
+	private final ConcurrentHashMap<K, Node<K, V>> data;
+	private final AtomicReferenceArray<Node<K, V>> slots;
+	private final AtomicInteger filledSlots = new AtomicInteger();
+	private final FrequencySketch sketch;
+	private final Consumer<K> evictionListener;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	public TinyLfuCache(int maxSize) {
+		this( maxSize, null );
+	}
+
+	/**
+	 * @param maxSize the maximum number of entries to keep
+	 * @param evictionListener notified with the key of each entry which is evicted,
+	 * or not admitted in the first place; may be {@code null}
+	 */
+	public TinyLfuCache(int maxSize, Consumer<K> evictionListener) {
+		if ( maxSize <= 0 ) {
+			throw new IllegalArgumentException( "maxSize must be positive: " + maxSize );
+		}
+		this.maxSize = maxSize;
+		this.data = new ConcurrentHashMap<>( Math.min( maxSize, 1024 ) );
+		this.slots = new AtomicReferenceArray<>( maxSize );
+		this.sketch = new FrequencySketch( maxSize );
+		this.evictionListener = evictionListener;
+	}
+
+	/**
+	 * Get the value cached for the given key, recording the access.
+	 */
+	public V get(K key) {
+		sketch.increment( key.hashCode() );
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			missCount.increment();
+			return null;
+		}
+		hitCount.increment();
+		return node.value;
+	}
+
+	/**
+	 * Get the value cached for the given key, or create and cache it.  The
+	 * creator may be called concurrently for the same key; only one of the
+	 * results is cached and returned to all callers which lost the race.
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> creator) {
+		final V cached = get( key );
+		if ( cached != null ) {
+			return cached;
+		}
+		return put( key, creator.apply( key ) );
+	}
+
+	/**
+	 * Add the given entry, unless the key is already cached.  The frequency of
+	 * the key is not recorded by this call, it is expected to have been requested
+	 * through {@link #get} first.
+	 *
+	 * @return the value now associated with the key: the existing value if there
+	 * was one, the given value otherwise (even if it was not admitted)
+	 */
+	public V put(K key, V value) {
+		if ( value == null ) {
+			throw new NullPointerException( "null values are not supported" );
+		}
+		final Node<K, V> node = new Node<>( key, value );
+		final Node<K, V> existing = data.putIfAbsent( key, node );
+		if ( existing != null ) {
+			return existing.value;
+		}
+
+		if ( filledSlots.get() < maxSize ) {
+			final int slot = filledSlots.getAndIncrement();
+			if ( slot < maxSize ) {
+				node.slot = slot;
+				slots.set( slot, node );
+				return value;
+			}
+		}
+
+		if ( !replaceVictim( node ) ) {
+			// not admitted
+			data.remove( key, node );
+			evicted( key );
+		}
+		return value;
+	}
+
+	private boolean replaceVictim(Node<K, V> candidate) {
+		final int candidateFrequency = sketch.frequency( candidate.key.hashCode() );
+		for ( int attempt = 0; attempt < MAX_EVICTION_ATTEMPTS; attempt++ ) {
+			final Node<K, V> victim = sampleVictim();
+			if ( victim == null ) {
+				return false;
+			}
+			if ( candidateFrequency <= sketch.frequency( victim.key.hashCode() ) ) {
+				return false;
+			}
+			candidate.slot = victim.slot;
+			if ( slots.compareAndSet( victim.slot, victim, candidate ) ) {
+				data.remove( victim.key, victim );
+				evicted( victim.key );
+				return true;
+			}
+			// lost a race for that slot, sample again
+		}
+		return false;
+	}
+
+	private Node<K, V> sampleVictim() {
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		Node<K, V> victim = null;
+		int victimFrequency = Integer.MAX_VALUE;
+		for ( int i = 0; i < SAMPLE_SIZE; i++ ) {
+			final Node<K, V> node = slots.get( random.nextInt( maxSize ) );
+			if ( node != null ) {
+				final int frequency = sketch.frequency( node.key.hashCode() );
+				if ( frequency < victimFrequency ) {
+					victim = node;
+					victimFrequency = frequency;
+				}
+			}
+		}
+		return victim;
+	}
+
+	private void evicted(K key) {
+		evictionCount.increment();
+		if ( evictionListener != null ) {
+			evictionListener.accept( key );
+		}
+	}
+
+	public int size() {
+		return data.size();
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Remove all entries.  Not meant to be called concurrently with writes.
+	 */
+	public void clear() {
+		data.clear();
+		for ( int i = 0; i < maxSize; i++ ) {
+			slots.set( i, null );
+		}
+		filledSlots.set( 0 );
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	private static final class Node<K, V> {
+		private final K key;
+		private final V value;
+		private volatile int slot = -1;
+
+		private Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * Count-min sketch of 4-bit counters, 16 of them packed in each {@code long}.
+	 * Each key maps to 4 counters; its frequency is the smallest of them.  When the
+	 * number of increments reaches 10 times the cache size all counters are halved.
+	 */
+	static final class FrequencySketch {
+		private static final long[] SEEDS = {
+				0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+		};
+		private static final long RESET_MASK = 0x7777777777777777L;
+
+		private final AtomicLongArray table;
+		private final int tableMask;
+		private final int resetThreshold;
+		private final AtomicInteger additions = new AtomicInteger();
+
+		FrequencySketch(int maxSize) {
+			final int size = Math.max( maxSize, 16 );
+			final int length = Integer.highestOneBit( size - 1 ) << 1;
+			this.table = new AtomicLongArray( length );
+			this.tableMask = length - 1;
+			this.resetThreshold = (int) Math.min( 10L * size, Integer.MAX_VALUE );
+		}
+
+		int frequency(int hashCode) {
+			final int hash = spread( hashCode );
+			int frequency = 15;
+			for ( int i = 0; i < 4; i++ ) {
+				final long word = table.get( indexOf( hash, i ) );
+				final int count = (int) ( ( word >>> offsetOf( hash, i ) ) & 0xFL );
+				frequency = Math.min( frequency, count );
+			}
+			return frequency;
+		}
+
+		void increment(int hashCode) {
+			final int hash = spread( hashCode );
+			boolean added = false;
+			for ( int i = 0; i < 4; i++ ) {
+				added |= incrementAt( indexOf( hash, i ), offsetOf( hash, i ) );
+			}
+			if ( added && additions.incrementAndGet() >= resetThreshold ) {
+				reset();
+			}
+		}
+
+		private boolean incrementAt(int index, int offset) {
+			while ( true ) {
+				final long word = table.get( index );
+				if ( ( ( word >>> offset ) & 0xFL ) == 0xFL ) {
+					return false;
+				}
+				if ( table.compareAndSet( index, word, word + ( 1L << offset ) ) ) {
+					return true;
+				}
+			}
+		}
+
+		private void reset() {
+			final int current = additions.get();
+			// only the thread which wins this CAS ages the counters
+			if ( current < resetThreshold || !additions.compareAndSet( current, current >>> 1 ) ) {
+				return;
+			}
+			for ( int i = 0; i < table.length(); i++ ) {
+				while ( true ) {
+					final long word = table.get( i );
+					if ( table.compareAndSet( i, word, ( word >>> 1 ) & RESET_MASK ) ) {
+						break;
+					}
+				}
+			}
+		}
+
+		private int indexOf(int hash, int i) {
+			long h = ( hash + SEEDS[i] ) * SEEDS[i];
+			h += h >>> 32;
+			return (int) h & tableMask;
+		}
+
+		private static int offsetOf(int hash, int i) {
+			// one of the 16 counters of the word, a different group of bits per hash function
+			return ( ( hash >>> ( i << 3 ) ) & 0xF ) << 2;
+		}
+
+		private static int spread(int hashCode) {
+			int h = hashCode * 0x9E3779B9;
+			return h ^ ( h >>> 16 );
+		}
+	}
+}
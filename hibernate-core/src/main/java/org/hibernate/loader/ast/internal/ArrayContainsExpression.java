@@ -0,0 +1,57 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.Arrays;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
+import org.hibernate.query.sqm.produce.function.internal.PatternRenderer;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.expression.SelfRenderingExpression;
+
+/**
+ * Boolean expression restricting a column to the elements of an array bound
+ * to a single JDBC parameter, rendered using the
+ * {@linkplain org.hibernate.dialect.Dialect#getArrayContainsPattern() Dialect's pattern}
+ *
+ * @see LoaderSelectBuilder#createArraySelect
+ */
+class ArrayContainsExpression implements SelfRenderingExpression {
+	private final ColumnReference columnReference;
+	private final JdbcParameter arrayParameter;
+	private final JdbcMappingContainer expressionType;
+
+	ArrayContainsExpression(
+			ColumnReference columnReference,
+			JdbcParameter arrayParameter,
+			JdbcMappingContainer expressionType) {
+		this.columnReference = columnReference;
+		this.arrayParameter = arrayParameter;
+		this.expressionType = expressionType;
+	}
+
+	@Override
+	public void renderToSql(
+			SqlAppender sqlAppender,
+			SqlAstTranslator<?> walker,
+			SessionFactoryImplementor sessionFactory) {
+		new PatternRenderer( sessionFactory.getJdbcServices().getDialect().getArrayContainsPattern() ).render(
+				sqlAppender,
+				Arrays.asList( columnReference, arrayParameter ),
+				walker
+		);
+	}
+
+	@Override
+	public JdbcMappingContainer getExpressionType() {
+		return expressionType;
+	}
+}
@@ -68,9 +68,11 @@ import org.hibernate.sql.ast.tree.from.TableReference;
 import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
+import org.hibernate.sql.ast.tree.predicate.SelfRenderingPredicate;
 import org.hibernate.sql.ast.tree.select.QueryPart;
 import org.hibernate.sql.ast.tree.select.QuerySpec;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.ArrayJdbcParameter;
 import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.results.graph.BiDirectionalFetch;
 import org.hibernate.sql.results.graph.DomainResult;
@@ -201,6 +203,48 @@ public class LoaderSelectBuilder {
 		return process.generateSelect();
 	}
 
+	/**
+	 * Create an SQL AST select-statement based on matching the single-column restricted part
+	 * against the elements of an array, which is bound to a single JDBC parameter.  Unlike an
+	 * {@code IN} list, the statement is the same whatever the number of keys to load.
+	 *
+	 * @param loadable The root Loadable
+	 * @param restrictedPart Part to base the where-clause restriction on
+	 * @param loadQueryInfluencers Any influencers (entity graph, fetch profile) to account for
+	 * @param lockOptions Pessimistic lock options to apply
+	 * @param jdbcParameterConsumer Consumer for the (single) JdbcParameter created
+	 * @param sessionFactory The SessionFactory
+	 *
+	 * @see org.hibernate.dialect.Dialect#supportsStandardArrays()
+	 * @see ArrayJdbcParameter
+	 */
+	public static SelectStatement createArraySelect(
+			Loadable loadable,
+			ModelPart restrictedPart,
+			LoadQueryInfluencers loadQueryInfluencers,
+			LockOptions lockOptions,
+			Consumer<JdbcParameter> jdbcParameterConsumer,
+			SessionFactoryImplementor sessionFactory) {
+		assert restrictedPart.getJdbcTypeCount() == 1;
+
+		final LoaderSelectBuilder process = new LoaderSelectBuilder(
+				sessionFactory,
+				loadable,
+				null,
+				Collections.singletonList( restrictedPart ),
+				null,
+				-1,
+				true,
+				loadQueryInfluencers,
+				lockOptions != null ? lockOptions : LockOptions.NONE,
+				determineGraphTraversalState( loadQueryInfluencers ),
+				true,
+				jdbcParameterConsumer
+		);
+
+		return process.generateSelect();
+	}
+
 	/**
 	 * Create an SQL AST select-statement used for subselect-based CollectionLoader
 	 *
@@ -243,6 +287,7 @@ public class LoaderSelectBuilder {
 	private final List<ModelPart> restrictedParts;
 	private final DomainResult cachedDomainResult;
 	private final int numberOfKeysToLoad;
+	private final boolean restrictByArray;
 	private final boolean forceIdentifierSelection;
 	private final LoadQueryInfluencers loadQueryInfluencers;
 	private final LockOptions lockOptions;
@@ -261,6 +306,7 @@ public class LoaderSelectBuilder {
 			List<ModelPart> restrictedParts,
 			DomainResult cachedDomainResult,
 			int numberOfKeysToLoad,
+			boolean restrictByArray,
 			LoadQueryInfluencers loadQueryInfluencers,
 			LockOptions lockOptions,
 			EntityGraphTraversalState entityGraphTraversalState,
@@ -272,6 +318,7 @@ public class LoaderSelectBuilder {
 		this.restrictedParts = restrictedParts;
 		this.cachedDomainResult = cachedDomainResult;
 		this.numberOfKeysToLoad = numberOfKeysToLoad;
+		this.restrictByArray = restrictByArray;
 		this.loadQueryInfluencers = loadQueryInfluencers;
 		this.lockOptions = lockOptions;
 		this.entityGraphTraversalState = entityGraphTraversalState;
@@ -296,6 +343,7 @@ public class LoaderSelectBuilder {
 				restrictedParts,
 				cachedDomainResult,
 				numberOfKeysToLoad,
+				false,
 				loadQueryInfluencers,
 				lockOptions != null ? lockOptions : LockOptions.NONE,
 				determineGraphTraversalState( loadQueryInfluencers ),
@@ -519,7 +567,23 @@ public class LoaderSelectBuilder {
 										)
 
 								);
-						if ( numberOfKeysToLoad == 1 ) {
+						if ( restrictByArray ) {
+							final JdbcParameter jdbcParameter = new ArrayJdbcParameter( selection.getJdbcMapping() );
+							jdbcParameterConsumer.accept( jdbcParameter );
+
+							rootQuerySpec.applyPredicate(
+									new SelfRenderingPredicate(
+											new ArrayContainsExpression(
+													columnRef,
+													jdbcParameter,
+													creationContext.getSessionFactory()
+															.getTypeConfiguration()
+															.getBasicTypeForJavaType( Boolean.class )
+											)
+									)
+							);
+						}
+						else if ( numberOfKeysToLoad == 1 ) {
 							final JdbcParameter jdbcParameter = new JdbcParameterImpl( selection.getJdbcMapping() );
 							jdbcParameterConsumer.accept( jdbcParameter );
 
@@ -41,6 +41,7 @@ import org.hibernate.sql.ast.Clause;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.ArrayJdbcParameter;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
 import org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl;
 import org.hibernate.sql.exec.spi.Callback;
@@ -50,6 +51,7 @@ import org.hibernate.sql.exec.spi.JdbcSelect;
 import org.hibernate.sql.results.graph.entity.LoadingEntityEntry;
 import org.hibernate.sql.results.internal.RowTransformerPassThruImpl;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
 
 import org.jboss.logging.Logger;
 
@@ -113,8 +115,13 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 
 		final int maxBatchSize;
 		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
+			// the ids are still chunked, but each chunk is bound as an array parameter when enabled
 			maxBatchSize = loadOptions.getBatchSize();
 		}
+		else if ( isArrayParameterLoadingEnabled( dialect ) ) {
+			// all the ids are bound as a single array parameter
+			maxBatchSize = Integer.MAX_VALUE;
+		}
 		else {
 			maxBatchSize = dialect.getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
 					idJdbcTypeCount,
@@ -243,43 +250,76 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 			log.tracef( "#loadEntitiesById(`%s`, `%s`, ..)", entityDescriptor.getEntityName(), numberOfIdsInBatch );
 		}
 
-		final List<JdbcParameter> jdbcParameters = new ArrayList<>( numberOfIdsInBatch * idJdbcTypeCount);
-
-		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
-				getLoadable(),
-				// null here means to select everything
-				null,
-				getLoadable().getIdentifierMapping(),
-				null,
-				numberOfIdsInBatch,
-				session.getLoadQueryInfluencers(),
-				lockOptions,
-				jdbcParameters::add,
-				sessionFactory
-		);
-
 		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
 		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
 		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
 
-		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
-		int offset = 0;
+		final List<JdbcParameter> jdbcParameters;
+		final SelectStatement sqlAst;
+		final JdbcParameterBindings jdbcParameterBindings;
+
+		if ( isArrayParameterLoadingEnabled( jdbcEnvironment.getDialect() ) ) {
+			jdbcParameters = new ArrayList<>( 1 );
+			sqlAst = LoaderSelectBuilder.createArraySelect(
+					getLoadable(),
+					getLoadable().getIdentifierMapping(),
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					jdbcParameters::add,
+					sessionFactory
+			);
 
-		for ( int i = 0; i < numberOfIdsInBatch; i++ ) {
-			final Object id = idsInBatch.get( i );
+			final Object[] jdbcValues = new Object[numberOfIdsInBatch];
+			int offset = 0;
+			for ( int i = 0; i < numberOfIdsInBatch; i++ ) {
+				offset += entityDescriptor.getIdentifierMapping().forEachJdbcValue(
+						idsInBatch.get( i ),
+						Clause.WHERE,
+						offset,
+						(selectionIndex, jdbcValue, jdbcMapping) -> jdbcValues[selectionIndex] = jdbcValue,
+						session
+				);
+			}
 
-			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
-					id,
-					Clause.WHERE,
-					offset,
-					entityDescriptor.getIdentifierMapping(),
-					jdbcParameters,
-					session
+			final ArrayJdbcParameter arrayParameter = (ArrayJdbcParameter) jdbcParameters.get( 0 );
+			jdbcParameterBindings = new JdbcParameterBindingsImpl( 1 );
+			jdbcParameterBindings.addBinding( arrayParameter, arrayParameter.createBinding( jdbcValues ) );
+		}
+		else {
+			jdbcParameters = new ArrayList<>( numberOfIdsInBatch * idJdbcTypeCount );
+			sqlAst = LoaderSelectBuilder.createSelect(
+					getLoadable(),
+					// null here means to select everything
+					null,
+					getLoadable().getIdentifierMapping(),
+					null,
+					numberOfIdsInBatch,
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					jdbcParameters::add,
+					sessionFactory
 			);
+
+			jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
+			int offset = 0;
+
+			for ( int i = 0; i < numberOfIdsInBatch; i++ ) {
+				final Object id = idsInBatch.get( i );
+
+				offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+						id,
+						Clause.WHERE,
+						offset,
+						entityDescriptor.getIdentifierMapping(),
+						jdbcParameters,
+						session
+				);
+			}
+
+			// we should have used all the JdbcParameter references (created bindings for all)
+			assert offset == jdbcParameters.size();
 		}
 
-		// we should have used all the JdbcParameter references (created bindings for all)
-		assert offset == jdbcParameters.size();
 		final JdbcSelect jdbcSelect = sqlAstTranslatorFactory.buildSelectTranslator( sessionFactory, sqlAst )
 				.translate( jdbcParameterBindings, QueryOptions.NONE );
 
@@ -447,8 +487,13 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		int numberOfIdsLeft = ids.length;
 		final int maxBatchSize;
 		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
+			// the ids are still chunked, but each chunk is bound as an array parameter when enabled
 			maxBatchSize = loadOptions.getBatchSize();
 		}
+		else if ( isArrayParameterLoadingEnabled( session.getJdbcServices().getJdbcEnvironment().getDialect() ) ) {
+			// all the ids are bound as a single array parameter
+			maxBatchSize = numberOfIdsLeft;
+		}
 		else {
 			maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect().getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
 					entityDescriptor.getIdentifierType().getColumnSpan( session.getFactory() ),
@@ -475,6 +520,22 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		return result;
 	}
 
+	/**
+	 * Should the ids be bound as a single array parameter, rather than
+	 * split into {@code IN} lists?  Only used for single-column integral
+	 * or character ids, which every driver knows how to put in an array.
+	 */
+	private boolean isArrayParameterLoadingEnabled(Dialect dialect) {
+		if ( idJdbcTypeCount != 1 || !dialect.supportsStandardArrays() ) {
+			return false;
+		}
+		final JdbcType idJdbcType = entityDescriptor.getIdentifierMapping()
+				.getJdbcMappings()
+				.get( 0 )
+				.getJdbcTypeDescriptor();
+		return idJdbcType.isInteger() || idJdbcType.isString();
+	}
+
 	private Boolean getReadOnlyFromLoadQueryInfluencers(SharedSessionContractImplementor session) {
 		Boolean readOnly = null;
 		final LoadQueryInfluencers loadQueryInfluencers = session.getLoadQueryInfluencers();
@@ -163,9 +163,8 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 			BatchFetchQueueHelper.removeBatchLoadableEntityKey( id, getLoadable(), session );
 		}
 
-		final EntityKey entityKey = session.generateEntityKey( pkValue, getLoadable().getEntityPersister() );
 		//noinspection unchecked
-		return (T) session.getPersistenceContext().getEntity( entityKey );
+		return (T) session.getPersistenceContext().getEntity( pkValue, getLoadable().getEntityPersister() );
 
 	}
 
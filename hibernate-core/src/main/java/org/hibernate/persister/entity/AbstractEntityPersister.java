@@ -7,6 +7,7 @@
 package org.hibernate.persister.entity;
 
 import java.io.Serializable;
+import java.lang.reflect.Member;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -55,15 +56,18 @@ import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeDescriptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributesMetadata;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StructuredCacheEntry;
 import org.hibernate.cache.spi.entry.UnstructuredCacheEntry;
+import org.hibernate.cfg.Environment;
 import org.hibernate.classic.Lifecycle;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.dialect.Dialect;
@@ -76,6 +80,7 @@ import org.hibernate.engine.internal.MutableEntityEntryFactory;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.bulk.spi.BulkLoadTarget;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
@@ -144,6 +149,7 @@ import org.hibernate.mapping.DependantValue;
 import org.hibernate.mapping.Formula;
 import org.hibernate.mapping.IndexedConsumer;
 import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.PrimaryKey;
 import org.hibernate.mapping.Property;
 import org.hibernate.mapping.RootClass;
 import org.hibernate.mapping.Selectable;
@@ -192,6 +198,7 @@ import org.hibernate.metamodel.spi.EntityRepresentationStrategy;
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.collection.QueryableCollection;
+import org.hibernate.persister.entity.UpdateOperationCache.UpdateOperation;
 import org.hibernate.persister.internal.WhereFilterPredicate;
 import org.hibernate.persister.spi.PersisterCreationContext;
 import org.hibernate.persister.walking.internal.EntityIdentifierDefinitionHelper;
@@ -388,6 +395,9 @@ public abstract class AbstractEntityPersister
 	private Map<String, SingleIdArrayLoadPlan> sqlLazySelectStringsByFetchGroup;
 
 	private String sqlIdentityInsertString;
+	private String sqlUpsertString;
+	private final boolean hasUniqueKeys;
+	private BulkLoadTarget bulkLoadTarget;
 	private String sqlUpdateByRowIdString;
 	private String sqlLazyUpdateByRowIdString;
 
@@ -724,6 +734,7 @@ public abstract class AbstractEntityPersister
 		}
 
 		this.entityMetamodel = new EntityMetamodel( bootDescriptor, this, creationContext );
+		this.hasUniqueKeys = hasUniqueKeys( bootDescriptor.getTable() );
 
 		if ( entityMetamodel.isMutable() ) {
 			this.entityEntryFactory = MutableEntityEntryFactory.INSTANCE;
@@ -1170,6 +1181,10 @@ public abstract class AbstractEntityPersister
 			return new ReferenceCacheEntryHelper( this );
 		}
 
+		if ( factory.getSessionFactoryOptions().isCompactCacheEntriesEnabled() ) {
+			return new CompactCacheEntryHelper( this );
+		}
+
 		return factory.getSessionFactoryOptions().isStructuredCacheEntriesEnabled()
 				? new StructuredCacheEntryHelper( this )
 				: new StandardCacheEntryHelper( this );
@@ -3101,6 +3116,158 @@ public abstract class AbstractEntityPersister
 		return insert.toStatementString();
 	}
 
+	/**
+	 * Does the table have a unique key, or a unique column, other than its primary key?
+	 */
+	private static boolean hasUniqueKeys(Table table) {
+		if ( table.getUniqueKeyIterator().hasNext() ) {
+			return true;
+		}
+		final PrimaryKey primaryKey = table.getPrimaryKey();
+		final Iterator<Column> columns = table.getColumnIterator();
+		while ( columns.hasNext() ) {
+			final Column column = columns.next();
+			if ( column.isUnique()
+					&& !( primaryKey != null && primaryKey.getColumnSpan() == 1 && primaryKey.containsColumn( column ) ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Can the state of an instance be written by a single statement which does
+	 * not depend on the state previously stored, nor returns any generated value?
+	 */
+	private boolean canUseUpsert() {
+		final Dialect dialect = getFactory().getJdbcServices().getDialect();
+		if ( !dialect.supportsUpsert()
+				|| ( hasUniqueKeys && dialect.isUpsertMatchedOnAnyUniqueKey() )
+				|| getTableSpan() != 1
+				|| customSQLInsert[0] != null
+				|| customSQLUpdate[0] != null
+				|| entityMetamodel.isInherited()
+				|| entityMetamodel.isPolymorphic()
+				|| !entityMetamodel.isMutable()
+				|| isVersioned()
+				|| hasCollections()
+				|| hasNaturalIdentifier()
+				|| entityMetamodel.hasLazyProperties()
+				|| entityMetamodel.getBytecodeEnhancementMetadata().isEnhancedForLazyLoading()
+				|| entityMetamodel.hasPreInsertGeneratedValues()
+				|| entityMetamodel.hasPreUpdateGeneratedValues()
+				|| entityMetamodel.hasInsertGeneratedValues()
+				|| entityMetamodel.hasUpdateGeneratedValues()
+				|| !( getIdentifierGenerator() instanceof Assigned ) ) {
+			return false;
+		}
+		// every column written by an insert must be written by an update, and vice versa
+		final boolean[] propertyInsertability = getPropertyInsertability();
+		final boolean[] propertyUpdateability = getPropertyUpdateability();
+		for ( int i = 0; i < entityMetamodel.getPropertySpan(); i++ ) {
+			for ( int k = 0; k < propertyColumnInsertable[i].length; k++ ) {
+				if ( ( propertyInsertability[i] && propertyColumnInsertable[i][k] )
+						!= ( propertyUpdateability[i] && propertyColumnUpdateable[i][k] ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Generate the SQL that inserts a row, or updates the row with the same id,
+	 * binding its parameters in the same order as the insert
+	 */
+	private String generateUpsertString() {
+		final List<String> columns = new ArrayList<>();
+		final List<String> values = new ArrayList<>();
+		collectInsertedColumns( columns, values );
+
+		final String upsert = getFactory().getJdbcServices().getDialect().getUpsertString(
+				getTableName( 0 ),
+				getKeyColumns( 0 ),
+				ArrayHelper.toStringArray( columns ),
+				ArrayHelper.toStringArray( values )
+		);
+		return getFactory().getSessionFactoryOptions().isCommentsEnabled()
+				? "/* " + Dialect.escapeComment( "upsert " + getEntityName() ) + " */ " + upsert
+				: upsert;
+	}
+
+	/**
+	 * Collect the columns, and their value expressions, of the row of the
+	 * first table, in the order in which {@link #dehydrate} binds them
+	 */
+	private void collectInsertedColumns(List<String> columns, List<String> values) {
+		for ( int i = 0; i < entityMetamodel.getPropertySpan(); i++ ) {
+			if ( !lobProperties.contains( i ) ) {
+				addInsertedColumns( i, columns, values );
+			}
+		}
+		for ( String keyColumn : getKeyColumns( 0 ) ) {
+			columns.add( keyColumn );
+			values.add( "?" );
+		}
+		// HHH-4635
+		// Oracle expects all Lob properties to be last in inserts
+		// and updates.  Insert them at the end.
+		for ( int i : lobProperties ) {
+			addInsertedColumns( i, columns, values );
+		}
+	}
+
+	/**
+	 * Can instances be inserted as rows of a single table, whose values are
+	 * all bound parameters, without reading any generated value back?
+	 */
+	private boolean canUseBulkLoad() {
+		return getTableSpan() == 1
+				&& customSQLInsert[0] == null
+				&& !entityMetamodel.isInherited()
+				&& !entityMetamodel.isPolymorphic()
+				&& !isIdentifierAssignedByInsert()
+				&& !entityMetamodel.hasPreInsertGeneratedValues()
+				&& !entityMetamodel.hasInsertGeneratedValues();
+	}
+
+	private BulkLoadTarget createBulkLoadTarget() {
+		final List<String> columns = new ArrayList<>();
+		final List<String> values = new ArrayList<>();
+		collectInsertedColumns( columns, values );
+		for ( String value : values ) {
+			if ( !"?".equals( value ) ) {
+				// a custom write expression
+				return null;
+			}
+		}
+		final String tableName = getTableName( 0 );
+		final String[] columnNames = ArrayHelper.toStringArray( columns );
+		return new BulkLoadTarget() {
+			@Override
+			public String getTableName() {
+				return tableName;
+			}
+
+			@Override
+			public String[] getColumnNames() {
+				return columnNames;
+			}
+		};
+	}
+
+	private void addInsertedColumns(int i, List<String> columns, List<String> values) {
+		if ( getPropertyInsertability()[i] ) {
+			final String[] columnNames = getPropertyColumnNames( i );
+			for ( int k = 0; k < columnNames.length; k++ ) {
+				if ( propertyColumnInsertable[i][k] ) {
+					columns.add( columnNames[k] );
+					values.add( propertyColumnWriters[i][k] );
+				}
+			}
+		}
+	}
+
 	/**
 	 * Generate the SQL that deletes a row by id (and version)
 	 */
@@ -3177,6 +3344,58 @@ public abstract class AbstractEntityPersister
 
 	}
 
+	/**
+	 * Marshall the fields of a persistent instance to an UPDATE statement, in the order
+	 * of its cached bindings
+	 */
+	private int dehydrate(
+			final Object id,
+			final Object[] fields,
+			final Object rowId,
+			final UpdateOperation updateOperation,
+			final PreparedStatement ps,
+			final SharedSessionContractImplementor session,
+			int index) throws SQLException, HibernateException {
+
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev( "Dehydrating entity: {0}", MessageHelper.infoString( this, id, getFactory() ) );
+		}
+
+		final Type[] types = getPropertyTypes();
+		final int[] boundProperties = updateOperation.getBoundProperties();
+		final int[] boundColumnSpans = updateOperation.getBoundColumnSpans();
+		for ( int k = 0; k < boundProperties.length; k++ ) {
+			final int i = boundProperties[k];
+			types[i].nullSafeSet( ps, fields[i], index, propertyColumnUpdateable[i], session );
+			index += boundColumnSpans[k];
+		}
+
+		index += dehydrateId( id, rowId, ps, session, index );
+
+		return index;
+	}
+
+	/**
+	 * The properties bound by an UPDATE of the given table, in the order
+	 * {@link #dehydrate} binds them
+	 */
+	int[] resolveBoundUpdateProperties(boolean[] includeProperty, int j) {
+		final int[] boundProperties = new int[entityMetamodel.getPropertySpan()];
+		int count = 0;
+		for ( int i = 0; i < entityMetamodel.getPropertySpan(); i++ ) {
+			if ( includeProperty[i] && isPropertyOfTable( i, j ) && !lobProperties.contains( i ) ) {
+				boundProperties[count++] = i;
+			}
+		}
+		// LOB properties are bound last, see HHH-4635
+		for ( int i : lobProperties ) {
+			if ( includeProperty[i] && isPropertyOfTable( i, j ) ) {
+				boundProperties[count++] = i;
+			}
+		}
+		return ArrayHelper.trim( boundProperties, count );
+	}
+
 	private int dehydrateId(
 			final Object id,
 			final Object rowId,
@@ -3314,6 +3533,23 @@ public abstract class AbstractEntityPersister
 		final boolean callable = isInsertCallable( j );
 
 		try {
+			if ( useBatch && !callable ) {
+				// the batch binds the row, possibly along with others of a multi-row insert
+				final Object[] state = fields.clone();
+				try {
+					session.getJdbcCoordinator().getBatch( insertBatchKey ).addToBatch(
+							sql,
+							(statement, index) ->
+									dehydrate( id, state, null, notNull, propertyColumnInsertable, j, statement, session, index, false )
+					);
+				}
+				catch (SQLException | JDBCException e) {
+					session.getJdbcCoordinator().abortBatch();
+					throw e;
+				}
+				return;
+			}
+
 			// Render the SQL query
 			final PreparedStatement insert;
 			if ( useBatch ) {
@@ -3372,6 +3608,103 @@ public abstract class AbstractEntityPersister
 
 	}
 
+	@Override
+	public BulkLoadTarget getBulkLoadTarget() {
+		return bulkLoadTarget;
+	}
+
+	@Override
+	public void bindBulkLoadRow(
+			Object id,
+			Object[] fields,
+			PreparedStatement statement,
+			int index,
+			SharedSessionContractImplementor session) throws SQLException {
+		if ( bulkLoadTarget == null ) {
+			throw new UnsupportedOperationException( "Bulk loading is not supported for entity " + getEntityName() );
+		}
+		dehydrate( id, fields, null, getPropertyInsertability(), propertyColumnInsertable, 0, statement, session, index, false );
+	}
+
+	private BasicBatchKey upsertBatchKey;
+
+	@Override
+	public boolean isUpsertable() {
+		return sqlUpsertString != null;
+	}
+
+	/**
+	 * Perform an SQL INSERT, or an SQL UPDATE of the existing row, in one statement.
+	 * <p/>
+	 * The number of rows reported by the statement differs across databases, and is
+	 * not checked.
+	 */
+	@Override
+	public void upsert(Object id, Object[] fields, Object object, SharedSessionContractImplementor session) {
+		if ( sqlUpsertString == null ) {
+			throw new UnsupportedOperationException( "Upsert is not supported for entity " + getEntityName() );
+		}
+
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev( "Upserting entity: {0}", MessageHelper.infoString( this, id, getFactory() ) );
+		}
+
+		final Expectation expectation = Expectations.NONE;
+		final boolean useBatch = session.getConfiguredJdbcBatchSize() > 1;
+		if ( useBatch && upsertBatchKey == null ) {
+			upsertBatchKey = new BasicBatchKey(
+					getEntityName() + "#UPSERT",
+					expectation
+			);
+		}
+
+		try {
+			final PreparedStatement upsert;
+			if ( useBatch ) {
+				upsert = session
+						.getJdbcCoordinator()
+						.getBatch( upsertBatchKey )
+						.getBatchStatement( sqlUpsertString, false );
+			}
+			else {
+				upsert = session
+						.getJdbcCoordinator()
+						.getStatementPreparer()
+						.prepareStatement( sqlUpsertString, false );
+			}
+
+			try {
+				dehydrate( id, fields, null, getPropertyInsertability(), propertyColumnInsertable, 0, upsert, session, 1, false );
+
+				if ( useBatch ) {
+					session.getJdbcCoordinator().getBatch( upsertBatchKey ).addToBatch();
+				}
+				else {
+					session.getJdbcCoordinator().getResultSetReturn().executeUpdate( upsert );
+				}
+			}
+			catch (SQLException | JDBCException e) {
+				if ( useBatch ) {
+					session.getJdbcCoordinator().abortBatch();
+				}
+				throw e;
+			}
+			finally {
+				if ( !useBatch ) {
+					session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( upsert );
+					session.getJdbcCoordinator().afterStatementExecution();
+				}
+			}
+		}
+		catch (SQLException e) {
+			throw getFactory().getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"could not upsert: " + MessageHelper.infoString( this, id, getFactory() ),
+					sqlUpsertString
+			);
+		}
+	}
+
 	/**
 	 * Perform an SQL UPDATE or SQL INSERT
 	 */
@@ -3386,6 +3719,21 @@ public abstract class AbstractEntityPersister
 			final Object object,
 			final String sql,
 			final SharedSessionContractImplementor session) throws HibernateException {
+		updateOrInsert( id, fields, oldFields, rowId, includeProperty, j, oldVersion, object, sql, null, session );
+	}
+
+	private void updateOrInsert(
+			final Object id,
+			final Object[] fields,
+			final Object[] oldFields,
+			final Object rowId,
+			final boolean[] includeProperty,
+			final int j,
+			final Object oldVersion,
+			final Object object,
+			final String sql,
+			final UpdateOperation updateOperation,
+			final SharedSessionContractImplementor session) throws HibernateException {
 
 		if ( !isInverseTable( j ) ) {
 
@@ -3412,6 +3760,7 @@ public abstract class AbstractEntityPersister
 						oldVersion,
 						object,
 						sql,
+						updateOperation,
 						session
 				);
 			}
@@ -3428,6 +3777,7 @@ public abstract class AbstractEntityPersister
 	}
 
 	private BasicBatchKey updateBatchKey;
+	private final UpdateOperationCache updateOperationCache = new UpdateOperationCache( this );
 
 	public boolean update(
 			final Object id,
@@ -3440,6 +3790,21 @@ public abstract class AbstractEntityPersister
 			final Object object,
 			final String sql,
 			final SharedSessionContractImplementor session) throws HibernateException {
+		return update( id, fields, oldFields, rowId, includeProperty, j, oldVersion, object, sql, null, session );
+	}
+
+	private boolean update(
+			final Object id,
+			final Object[] fields,
+			final Object[] oldFields,
+			final Object rowId,
+			final boolean[] includeProperty,
+			final int j,
+			final Object oldVersion,
+			final Object object,
+			final String sql,
+			final UpdateOperation updateOperation,
+			final SharedSessionContractImplementor session) throws HibernateException {
 
 		final Expectation expectation = Expectations.appropriateExpectation( updateResultCheckStyles[j] );
 		final int jdbcBatchSizeToUse = session.getConfiguredJdbcBatchSize();
@@ -3491,18 +3856,9 @@ public abstract class AbstractEntityPersister
 				index += expectation.prepare( update );
 
 				//Now write the values of fields onto the prepared statement
-				index = dehydrate(
-						id,
-						fields,
-						rowId,
-						includeProperty,
-						propertyColumnUpdateable,
-						j,
-						update,
-						session,
-						index,
-						true
-				);
+				index = updateOperation == null
+						? dehydrate( id, fields, rowId, includeProperty, propertyColumnUpdateable, j, update, session, index, true )
+						: dehydrate( id, fields, rowId, updateOperation, update, session, index );
 
 				// Write any appropriate versioning conditional parameters
 				if ( useVersion && entityMetamodel.getOptimisticLockStyle().isVersion()) {
@@ -3766,6 +4122,7 @@ public abstract class AbstractEntityPersister
 
 		final boolean[] propsToUpdate;
 		final String[] updateStrings;
+		final UpdateOperation[] updateOperations = new UpdateOperation[span];
 		EntityEntry entry = session.getPersistenceContextInternal().getEntry( object );
 
 		// Ensure that an immutable or non-modifiable entity is not being updated unless it is
@@ -3777,12 +4134,7 @@ public abstract class AbstractEntityPersister
 			// We need to generate the UPDATE SQL when dynamic-update="true"
 			propsToUpdate = getPropertiesToUpdate( dirtyFields, hasDirtyCollection );
 			// don't need to check laziness (dirty checking algorithm handles that)
-			updateStrings = new String[span];
-			for ( int j = 0; j < span; j++ ) {
-				updateStrings[j] = tableUpdateNeeded[j] ?
-						generateUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
-						null;
-			}
+			updateStrings = generateUpdateStrings( propsToUpdate, tableUpdateNeeded, oldFields, rowId, updateOperations );
 		}
 		else if ( !isModifiableEntity( entry ) ) {
 			// We need to generate UPDATE SQL when a non-modifiable entity (e.g., read-only or immutable)
@@ -3797,12 +4149,7 @@ public abstract class AbstractEntityPersister
 					hasDirtyCollection
 			);
 			// don't need to check laziness (dirty checking algorithm handles that)
-			updateStrings = new String[span];
-			for ( int j = 0; j < span; j++ ) {
-				updateStrings[j] = tableUpdateNeeded[j] ?
-						generateUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
-						null;
-			}
+			updateStrings = generateUpdateStrings( propsToUpdate, tableUpdateNeeded, oldFields, rowId, updateOperations );
 		}
 		else {
 			// For the case of dynamic-update="false", or no snapshot, we use the static SQL
@@ -3811,6 +4158,11 @@ public abstract class AbstractEntityPersister
 					hasUninitializedLazyProperties( object )
 			);
 			propsToUpdate = getPropertyUpdateability( object );
+			for ( int j = 0; j < span; j++ ) {
+				if ( tableUpdateNeeded[j] ) {
+					updateOperations[j] = updateOperationCache.getStaticUpdate( propsToUpdate, j );
+				}
+			}
 		}
 
 		for ( int j = 0; j < span; j++ ) {
@@ -3826,12 +4178,40 @@ public abstract class AbstractEntityPersister
 						oldVersion,
 						object,
 						updateStrings[j],
+						updateOperations[j],
 						session
 				);
 			}
 		}
 	}
 
+	/**
+	 * Generate the SQL updating the given properties of each table needing an update, reusing
+	 * the statements generated by previous updates of the same properties where possible
+	 */
+	private String[] generateUpdateStrings(
+			final boolean[] propsToUpdate,
+			final boolean[] tableUpdateNeeded,
+			final Object[] oldFields,
+			final Object rowId,
+			final UpdateOperation[] updateOperations) {
+		// with optimistic locking on all or dirty properties, the SQL depends on the old values
+		final boolean cacheable = !isAllOrDirtyOptLocking() || oldFields == null;
+		final String[] updateStrings = new String[tableUpdateNeeded.length];
+		for ( int j = 0; j < tableUpdateNeeded.length; j++ ) {
+			if ( tableUpdateNeeded[j] ) {
+				if ( cacheable ) {
+					updateOperations[j] = updateOperationCache.getGeneratedUpdate( propsToUpdate, j, j == 0 && rowId != null );
+					updateStrings[j] = updateOperations[j].getSql();
+				}
+				else {
+					updateStrings[j] = generateUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null );
+				}
+			}
+		}
+		return updateStrings;
+	}
+
 	public Object insert(Object[] fields, Object object, SharedSessionContractImplementor session)
 			throws HibernateException {
 		// apply any pre-insert in-memory value generation
@@ -3902,9 +4282,8 @@ public abstract class AbstractEntityPersister
 			// first we need to locate the "loaded" state
 			//
 			// Note, it potentially could be a proxy, so doAfterTransactionCompletion the location the safe way...
-			final EntityKey key = session.generateEntityKey( id, this );
 			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-			Object entity = persistenceContext.getEntity( key );
+			Object entity = persistenceContext.getEntity( id, this );
 			if ( entity != null ) {
 				EntityEntry entry = persistenceContext.getEntry( entity );
 				loadedState = entry.getLoadedState();
@@ -3981,6 +4360,9 @@ public abstract class AbstractEntityPersister
 			if ( sqlIdentityInsertString != null ) {
 				LOG.debugf( " Identity insert: %s", sqlIdentityInsertString );
 			}
+			if ( sqlUpsertString != null ) {
+				LOG.debugf( " Upsert: %s", sqlUpsertString );
+			}
 			if ( sqlUpdateByRowIdString != null ) {
 				LOG.debugf( " Update by row id (all fields): %s", sqlUpdateByRowIdString );
 			}
@@ -4214,6 +4596,9 @@ public abstract class AbstractEntityPersister
 			tableHasColumns[j] = sqlUpdateStrings[j] != null;
 		}
 
+		sqlUpsertString = canUseUpsert() ? generateUpsertString() : null;
+		bulkLoadTarget = canUseBulkLoad() ? createBulkLoadTarget() : null;
+
 		//select SQL
 		sqlLazySelectStringsByFetchGroup = generateLazySelectStringsByFetchGroup();
 		sqlVersionSelectString = generateSelectVersionString();
@@ -5037,6 +5422,33 @@ public abstract class AbstractEntityPersister
 		setPropertyValue( object, propertyName, value );
 	}
 
+	@Override
+	public DirtyCheckOptimizer getDirtyCheckOptimizer() {
+		return dirtyCheckOptimizer;
+	}
+
+	private DirtyCheckOptimizer resolveDirtyCheckOptimizer() {
+		if ( getRepresentationStrategy().getMode() != RepresentationMode.POJO
+				|| SelfDirtinessTracker.class.isAssignableFrom( getMappedClass() )
+				|| entityMetamodel.hasMutableProperties() ) {
+			// enhanced entities track their dirtiness, and mutable values are not compared by identity
+			return null;
+		}
+
+		final Member[] members = new Member[ attributeMappings.size() ];
+		for ( int i = 0; i < members.length; i++ ) {
+			members[i] = attributeMappings.get( i ).getAttributeMetadataAccess()
+					.resolveAttributeMetadata( this )
+					.getPropertyAccess()
+					.getGetter()
+					.getMember();
+			if ( members[i] == null ) {
+				return null;
+			}
+		}
+		return Environment.getBytecodeProvider().getDirtyCheckOptimizer( getMappedClass(), members );
+	}
+
 	@Override
 	public Object[] getPropertyValues(Object object) {
 		if ( accessOptimizer != null ) {
@@ -5518,6 +5930,32 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	private static class CompactCacheEntryHelper implements CacheEntryHelper {
+		private final EntityPersister persister;
+		private final CompactCacheEntry structure;
+
+		private CompactCacheEntryHelper(EntityPersister persister) {
+			this.persister = persister;
+			this.structure = new CompactCacheEntry( persister );
+		}
+
+		@Override
+		public CacheEntryStructure getCacheEntryStructure() {
+			return structure;
+		}
+
+		@Override
+		public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SharedSessionContractImplementor session) {
+			return new StandardCacheEntryImpl(
+					state,
+					persister,
+					version,
+					session,
+					entity
+			);
+		}
+	}
+
 	private static class NoopCacheEntryHelper implements CacheEntryHelper {
 		public static final NoopCacheEntryHelper INSTANCE = new NoopCacheEntryHelper();
 
@@ -5553,6 +5991,7 @@ public abstract class AbstractEntityPersister
 	protected List<Fetchable> staticFetchableList;
 
 	protected ReflectionOptimizer.AccessOptimizer accessOptimizer;
+	private DirtyCheckOptimizer dirtyCheckOptimizer;
 
 	@Override
 	public void visitAttributeMappings(Consumer<? super AttributeMapping> action) {
@@ -5634,6 +6073,9 @@ public abstract class AbstractEntityPersister
 			accessOptimizer = null;
 		}
 
+		if ( getFactory().getSessionFactoryOptions().isDirtyCheckingOptimizerEnabled() ) {
+			dirtyCheckOptimizer = resolveDirtyCheckOptimizer();
+		}
 
 
 		// register a callback for after all `#prepareMappingModel` calls have finished.  here we want to delay the
@@ -7,6 +7,8 @@
 package org.hibernate.persister.entity;
 
 import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -18,10 +20,12 @@ import org.hibernate.MappingException;
 import org.hibernate.NotYetImplementedFor6Exception;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.engine.jdbc.bulk.spi.BulkLoadTarget;
 import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.EntityEntryFactory;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -553,6 +557,47 @@ public interface EntityPersister
 			Object rowId,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Can instances be written with {@link #upsert}?
+	 */
+	default boolean isUpsertable() {
+		return false;
+	}
+
+	/**
+	 * Persist an instance, or update the persistent instance with the same
+	 * identifier if there is one (optional operation)
+	 *
+	 * @see #isUpsertable()
+	 */
+	default void upsert(Object id, Object[] fields, Object object, SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException( "Upsert is not supported for entity " + getEntityName() );
+	}
+
+	/**
+	 * The table rows are written to when instances are inserted in bulk by
+	 * {@link org.hibernate.StatelessSession#insertAll}, or {@code null} if
+	 * instances must be inserted one at a time.
+	 */
+	default BulkLoadTarget getBulkLoadTarget() {
+		return null;
+	}
+
+	/**
+	 * Bind the state of an instance as a row of the {@linkplain #getBulkLoadTarget()
+	 * bulk load target} (optional operation)
+	 *
+	 * @param index The index of the parameter of the first column
+	 */
+	default void bindBulkLoadRow(
+			Object id,
+			Object[] fields,
+			PreparedStatement statement,
+			int index,
+			SharedSessionContractImplementor session) throws SQLException {
+		throw new UnsupportedOperationException( "Bulk loading is not supported for entity " + getEntityName() );
+	}
+
 	/**
 	 * Get the Hibernate types of the class properties
 	 */
@@ -935,6 +980,16 @@ public interface EntityPersister
 		return getInstrumentationMetadata();
 	}
 
+	/**
+	 * The generated comparison of the state of the instances of this entity to their
+	 * loaded state, if any.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_DIRTY_CHECKING_OPTIMIZER
+	 */
+	default DirtyCheckOptimizer getDirtyCheckOptimizer() {
+		return null;
+	}
+
 	FilterAliasGenerator getFilterAliasGenerator(final String rootAlias);
 
 	default FilterAliasGenerator getFilterAliasGenerator(TableGroup rootTableGroup) {
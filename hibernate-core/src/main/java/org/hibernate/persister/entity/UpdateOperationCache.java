@@ -0,0 +1,142 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.persister.entity;
+
+import java.util.Arrays;
+
+import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.internal.util.collections.TinyLfuCache;
+
+/**
+ * Caches, per set of updated properties, the UPDATE statements of the tables of an entity
+ * along with the properties they bind, so that only the first update of a given "shape"
+ * builds SQL and works out the position of each parameter.
+ * <p/>
+ * Statements whose SQL depends on the values being updated (optimistic locking on all or
+ * dirty properties, which checks old values for null) are not cached.
+ */
+final class UpdateOperationCache {
+	private static final int MAX_SHAPES = 128;
+
+	private final AbstractEntityPersister persister;
+	// shapes are never invalidated, and the frequent ones are worth keeping over the recent ones
+	private final TinyLfuCache<Shape, UpdateOperation> operations = new TinyLfuCache<>( MAX_SHAPES );
+
+	UpdateOperationCache(AbstractEntityPersister persister) {
+		this.persister = persister;
+	}
+
+	/**
+	 * The UPDATE of the given table generated for the given properties
+	 */
+	UpdateOperation getGeneratedUpdate(boolean[] includeProperty, int j, boolean useRowId) {
+		return resolve( new Shape( includeProperty, j, useRowId, true ) );
+	}
+
+	/**
+	 * The bindings of an UPDATE of the given table, the SQL of which is not generated per shape
+	 */
+	UpdateOperation getStaticUpdate(boolean[] includeProperty, int j) {
+		return resolve( new Shape( includeProperty, j, false, false ) );
+	}
+
+	private UpdateOperation resolve(Shape shape) {
+		final UpdateOperation cached = operations.get( shape );
+		if ( cached != null ) {
+			return cached;
+		}
+
+		final String sql = shape.generatedSql
+				? persister.generateUpdateString( shape.includeProperty, shape.table, null, shape.useRowId )
+				: null;
+		final int[] boundProperties = persister.resolveBoundUpdateProperties( shape.includeProperty, shape.table );
+		final int[] boundColumnSpans = new int[boundProperties.length];
+		final boolean[][] propertyColumnUpdateable = persister.getPropertyColumnUpdateable();
+		for ( int i = 0; i < boundProperties.length; i++ ) {
+			boundColumnSpans[i] = ArrayHelper.countTrue( propertyColumnUpdateable[boundProperties[i]] );
+		}
+		// the operation of a thread which raced us for the same shape, if it was cached first
+		return operations.put( shape.copy(), new UpdateOperation( sql, boundProperties, boundColumnSpans ) );
+	}
+
+	/**
+	 * An UPDATE statement of one table, with the properties it binds in the order of its parameters
+	 */
+	static final class UpdateOperation {
+		private final String sql;
+		private final int[] boundProperties;
+		private final int[] boundColumnSpans;
+
+		private UpdateOperation(String sql, int[] boundProperties, int[] boundColumnSpans) {
+			this.sql = sql;
+			this.boundProperties = boundProperties;
+			this.boundColumnSpans = boundColumnSpans;
+		}
+
+		/**
+		 * The SQL, or {@code null} if there is nothing to update in the table
+		 */
+		String getSql() {
+			return sql;
+		}
+
+		int[] getBoundProperties() {
+			return boundProperties;
+		}
+
+		int[] getBoundColumnSpans() {
+			return boundColumnSpans;
+		}
+	}
+
+	private static final class Shape {
+		private final boolean[] includeProperty;
+		private final int table;
+		private final boolean useRowId;
+		private final boolean generatedSql;
+		private final int hashCode;
+
+		private Shape(boolean[] includeProperty, int table, boolean useRowId, boolean generatedSql) {
+			this.includeProperty = includeProperty;
+			this.table = table;
+			this.useRowId = useRowId;
+			this.generatedSql = generatedSql;
+			int hashCode = Arrays.hashCode( includeProperty );
+			hashCode = 31 * hashCode + table;
+			hashCode = 31 * hashCode + ( useRowId ? 1 : 0 );
+			hashCode = 31 * hashCode + ( generatedSql ? 1 : 0 );
+			this.hashCode = hashCode;
+		}
+
+		/**
+		 * A shape which does not share the array of the caller, to be kept as a key
+		 */
+		private Shape copy() {
+			return new Shape( includeProperty.clone(), table, useRowId, generatedSql );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof Shape ) ) {
+				return false;
+			}
+			final Shape that = (Shape) o;
+			return table == that.table
+					&& useRowId == that.useRowId
+					&& generatedSql == that.generatedSql
+					&& Arrays.equals( includeProperty, that.includeProperty );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -15,6 +15,7 @@ import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import jakarta.persistence.FlushModeType;
 import jakarta.persistence.LockModeType;
@@ -833,6 +834,22 @@ public class ProcedureCallImpl<R>
 		}
 	}
 
+	/**
+	 * Procedure calls do not stream their results: the ResultSet of the current output is
+	 * read as a whole by the {@link ResultSetOutput}, and {@link #forEachResult} and
+	 * {@link #subscribe} then pass the results of that list one at a time.  The clear
+	 * interval is ignored since all of the results are already loaded.
+	 */
+	@Override
+	protected long doForEachResult(Consumer<? super R> action, int clearInterval) {
+		final List<R> results = doList();
+		if ( results == null ) {
+			return 0;
+		}
+		results.forEach( action );
+		return results.size();
+	}
+
 	@Override
 	public ScrollableResultsImplementor<R> scroll(ScrollMode scrollMode) {
 		throw new UnsupportedOperationException( "Query#scroll is not valid for ProcedureCall/StoredProcedureQuery" );
@@ -0,0 +1,37 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query;
+
+import org.hibernate.Incubating;
+import org.hibernate.sql.results.spi.PrimitiveRow;
+
+/**
+ * A {@link TupleTransformer} which reads the result elements through a
+ * {@link PrimitiveRow}.  For queries selecting only basic values, such as
+ * {@code select e.id, e.amount from Entity e}, numeric columns then reach
+ * the transformer without being boxed, which matters for queries reading
+ * very many rows.
+ *
+ * @see org.hibernate.sql.results.spi.PrimitiveRowTransformer
+ */
+@Incubating
+public interface PrimitiveTupleTransformer<T> extends TupleTransformer<T> {
+	/**
+	 * Transform the result elements into the final row shape.
+	 *
+	 * @param tuple The result elements, only valid during this call
+	 * @param aliases The result aliases ("parallel" to tuple)
+	 *
+	 * @return The transformed row.
+	 */
+	T transformTuple(PrimitiveRow tuple, String[] aliases);
+
+	@Override
+	default T transformTuple(Object[] tuple, String[] aliases) {
+		return transformTuple( PrimitiveRow.of( tuple ), aliases );
+	}
+}
@@ -13,9 +13,12 @@ import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import jakarta.persistence.FlushModeType;
 import jakarta.persistence.LockModeType;
@@ -31,11 +34,13 @@ import org.hibernate.LockOptions;
 import org.hibernate.NonUniqueResultException;
 import org.hibernate.ScrollMode;
 import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
 import org.hibernate.SharedSessionContract;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.RootGraph;
 import org.hibernate.metamodel.model.domain.AllowableParameterType;
+import org.hibernate.query.internal.ResultsSubscription;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.BasicTypeReference;
@@ -169,6 +174,71 @@ public interface Query<R> extends TypedQuery<R>, CommonQueryContract {
 	 */
 	Stream<R> stream();
 
+	/**
+	 * Execute the query, passing each result to the given action as soon as it is read
+	 * rather than collecting the results into a List.
+	 * <p/>
+	 * Each result is fully loaded before being passed to the action.  Unlike {@link #list()},
+	 * duplicate results are not filtered out; queries which require filtering (e.g. those
+	 * fetching collections) are executed through {@link #list()}.
+	 * <p/>
+	 * By default, the results are read from {@link #stream()}.
+	 *
+	 * @return the number of results passed to the action
+	 */
+	@Incubating
+	default long forEachResult(Consumer<? super R> action) {
+		return forEachResult( action, 0 );
+	}
+
+	/**
+	 * Execute the query, passing each result to the given action as soon as it is read
+	 * rather than collecting the results into a List, and clearing the persistence context
+	 * every {@code clearInterval} results so that the memory used stays bounded however
+	 * many entities are read.
+	 * <p/>
+	 * Clearing the persistence context detaches <em>all</em> entities of the session, as
+	 * {@link org.hibernate.Session#clear()} would, so this is meant for read-only processing
+	 * of large results.  Pending changes should be flushed beforehand.
+	 *
+	 * @param clearInterval The number of results after which to clear the persistence context,
+	 * or {@code 0} to never clear it
+	 *
+	 * @return the number of results passed to the action
+	 */
+	@Incubating
+	default long forEachResult(Consumer<? super R> action, int clearInterval) {
+		if ( clearInterval < 0 ) {
+			throw new IllegalArgumentException( "Clear interval must not be negative: " + clearInterval );
+		}
+		long count = 0;
+		try ( Stream<R> results = stream() ) {
+			final Iterator<R> iterator = results.iterator();
+			while ( iterator.hasNext() ) {
+				action.accept( iterator.next() );
+				count++;
+				if ( clearInterval > 0 && count % clearInterval == 0 && getSession() instanceof Session ) {
+					( (Session) getSession() ).clear();
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Execute the query, publishing the results to the given {@link Flow.Subscriber}
+	 * as they are read.
+	 * <p/>
+	 * The query is executed synchronously on the calling thread, which blocks whenever
+	 * the subscriber has no outstanding demand, since the JDBC ResultSet must be read on
+	 * the thread owning the session.  The subscriber is expected to request further results
+	 * from another thread, or from within {@link Flow.Subscriber#onNext}.
+	 */
+	@Incubating
+	default void subscribe(Flow.Subscriber<? super R> subscriber) {
+		new ResultsSubscription<R>( subscriber ).publish( this::forEachResult );
+	}
+
 	/**
 	 * Obtain the comment currently associated with this query.  Provided SQL commenting is enabled
 	 * (generally by enabling the {@code hibernate.use_sql_comments} config setting), this comment will also be added
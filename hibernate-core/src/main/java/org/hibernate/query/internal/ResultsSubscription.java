@@ -0,0 +1,147 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Publishes the results of a query to a {@link Flow.Subscriber}, honoring its demand
+ * by blocking the thread executing the query until more results are requested.
+ *
+ * @see org.hibernate.query.Query#subscribe
+ */
+public class ResultsSubscription<R> implements Flow.Subscription, Consumer<R> {
+	private final Flow.Subscriber<? super R> subscriber;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition demandAvailable = lock.newCondition();
+	private long demand;
+	private boolean cancelled;
+	private RuntimeException error;
+
+	public ResultsSubscription(Flow.Subscriber<? super R> subscriber) {
+		this.subscriber = subscriber;
+	}
+
+	/**
+	 * Subscribe the subscriber, run the given execution, which is expected to pass
+	 * each result to this subscription, and signal its outcome to the subscriber.
+	 */
+	public void publish(ToLongFunction<Consumer<? super R>> execution) {
+		subscriber.onSubscribe( this );
+		try {
+			if ( !isCancelled() ) {
+				execution.applyAsLong( this );
+			}
+		}
+		catch (SubscriptionCancelledException e) {
+			// nothing to do, unless the subscription was cancelled because of an invalid request
+		}
+		catch (RuntimeException e) {
+			subscriber.onError( e );
+			return;
+		}
+
+		lock.lock();
+		try {
+			if ( error != null ) {
+				subscriber.onError( error );
+				return;
+			}
+			if ( cancelled ) {
+				return;
+			}
+			cancelled = true;
+		}
+		finally {
+			lock.unlock();
+		}
+		subscriber.onComplete();
+	}
+
+	@Override
+	public void accept(R result) {
+		lock.lock();
+		try {
+			while ( demand == 0 && !cancelled ) {
+				demandAvailable.await();
+			}
+			if ( cancelled ) {
+				throw SubscriptionCancelledException.INSTANCE;
+			}
+			demand--;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			cancelled = true;
+			throw SubscriptionCancelledException.INSTANCE;
+		}
+		finally {
+			lock.unlock();
+		}
+		subscriber.onNext( result );
+	}
+
+	@Override
+	public void request(long n) {
+		lock.lock();
+		try {
+			if ( cancelled ) {
+				return;
+			}
+			if ( n <= 0 ) {
+				error = new IllegalArgumentException( "Number of requested results must be positive: " + n );
+				cancelled = true;
+			}
+			else {
+				demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+			}
+			demandAvailable.signalAll();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void cancel() {
+		lock.lock();
+		try {
+			cancelled = true;
+			demandAvailable.signalAll();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private boolean isCancelled() {
+		lock.lock();
+		try {
+			return cancelled;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Thrown from the result consumer to stop reading results once the subscription
+	 * is cancelled; it never reaches the caller
+	 */
+	private static class SubscriptionCancelledException extends RuntimeException {
+		private static final SubscriptionCancelledException INSTANCE = new SubscriptionCancelledException();
+
+		private SubscriptionCancelledException() {
+			super( "Subscription cancelled", null, false, false );
+		}
+	}
+}
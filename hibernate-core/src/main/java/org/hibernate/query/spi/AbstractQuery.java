@@ -22,6 +22,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import jakarta.persistence.CacheRetrieveMode;
@@ -1477,6 +1478,37 @@ public abstract class AbstractQuery<R> implements QueryImplementor<R> {
 
 	protected abstract List<R> doList();
 
+	@Override
+	public long forEachResult(Consumer<? super R> action, int clearInterval) {
+		if ( clearInterval < 0 ) {
+			throw new IllegalArgumentException( "Clear interval must not be negative: " + clearInterval );
+		}
+		beforeQuery( false );
+		boolean success = false;
+		try {
+			final long result = doForEachResult( action, clearInterval );
+			success = true;
+			return result;
+		}
+		catch (IllegalQueryOperationException e) {
+			throw new IllegalStateException( e );
+		}
+		catch (TypeMismatchException e) {
+			throw new IllegalArgumentException( e );
+		}
+		catch (HibernateException he) {
+			throw getSession().getExceptionConverter().convert( he, getLockOptions() );
+		}
+		finally {
+			afterQuery( success );
+		}
+	}
+
+	/**
+	 * Execute the query passing each result to the given action as it is read.
+	 */
+	protected abstract long doForEachResult(Consumer<? super R> action, int clearInterval);
+
 	@Override
 	public R uniqueResult() {
 		return uniqueElement( list() );
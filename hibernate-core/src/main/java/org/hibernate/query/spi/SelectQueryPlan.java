@@ -7,6 +7,7 @@
 package org.hibernate.query.spi;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.hibernate.Incubating;
 import org.hibernate.ScrollMode;
@@ -42,4 +43,33 @@ public interface SelectQueryPlan<R> extends QueryPlan {
 	 */
 	ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext);
 
+	/**
+	 * Perform (execute) the query handing each result to the given action, ideally
+	 * without collecting them.
+	 * <p/>
+	 * By default, the results are read through a {@link ScrollMode#FORWARD_ONLY forward-only}
+	 * {@link #performScroll scroll}, so they are not collected, but the persistence
+	 * context is never cleared.
+	 *
+	 * @param clearInterval The number of results after which to clear the persistence
+	 * context, or {@code 0} to never clear it.  Plans unable to stream may ignore it.
+	 *
+	 * @return the number of results
+	 *
+	 * @see org.hibernate.sql.results.spi.StreamingResultsConsumer
+	 */
+	default long performForEach(
+			Consumer<? super R> action,
+			int clearInterval,
+			DomainQueryExecutionContext executionContext) {
+		long count = 0;
+		try ( ScrollableResultsImplementor<R> results = performScroll( ScrollMode.FORWARD_ONLY, executionContext ) ) {
+			while ( results.next() ) {
+				action.accept( results.get() );
+				count++;
+			}
+		}
+		return count;
+	}
+
 }
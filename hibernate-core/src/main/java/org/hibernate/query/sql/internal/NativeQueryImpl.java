@@ -579,6 +579,11 @@ public class NativeQueryImpl<R>
 		return resolveSelectQueryPlan().performList( this );
 	}
 
+	@Override
+	protected long doForEachResult(Consumer<? super R> action, int clearInterval) {
+		return resolveSelectQueryPlan().performForEach( action, clearInterval, this );
+	}
+
 	private SelectQueryPlan<R> resolveSelectQueryPlan() {
 		final QueryInterpretationCache.Key cacheKey = generateSelectInterpretationsKey( resultSetMapping );
 		if ( cacheKey != null ) {
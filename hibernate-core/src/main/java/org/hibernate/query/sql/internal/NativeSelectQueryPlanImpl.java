@@ -11,6 +11,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.hibernate.ScrollMode;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -30,6 +31,7 @@ import org.hibernate.sql.exec.spi.JdbcSelect;
 import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.sql.results.spi.StreamingResultsConsumer;
 
 /**
  * @author Steve Ebersole
@@ -67,35 +69,15 @@ public class NativeSelectQueryPlanImpl<R> implements NativeSelectQueryPlan<R> {
 		if ( executionContext.getQueryOptions().getEffectiveLimit().getMaxRowsJpa() == 0 ) {
 			return Collections.emptyList();
 		}
-		final List<JdbcParameterBinder> jdbcParameterBinders;
-		final JdbcParameterBindings jdbcParameterBindings;
-
-		final QueryParameterBindings queryParameterBindings = executionContext.getQueryParameterBindings();
-		if ( parameterList == null || parameterList.isEmpty() ) {
-			jdbcParameterBinders = Collections.emptyList();
-			jdbcParameterBindings = JdbcParameterBindings.NO_BINDINGS;
-		}
-		else {
-			jdbcParameterBinders = new ArrayList<>( parameterList.size() );
-			jdbcParameterBindings = new JdbcParameterBindingsImpl( parameterList.size() );
-
-			jdbcParameterBindings.registerNativeQueryParameters(
-					queryParameterBindings,
-					parameterList,
-					jdbcParameterBinders,
-					executionContext.getSession().getFactory()
-			);
-		}
+		final List<JdbcParameterBinder> jdbcParameterBinders = createJdbcParameterBinders();
+		final JdbcParameterBindings jdbcParameterBindings = createJdbcParameterBindings(
+				jdbcParameterBinders,
+				executionContext
+		);
 
 		executionContext.getSession().autoFlushIfRequired( affectedTableNames );
 
-		final JdbcSelect jdbcSelect = new JdbcSelect(
-				sql,
-				jdbcParameterBinders,
-				resultSetMapping,
-				affectedTableNames,
-				Collections.emptySet()
-		);
+		final JdbcSelect jdbcSelect = createJdbcSelect( jdbcParameterBinders );
 
 		final JdbcSelectExecutor executor = JdbcSelectExecutorStandardImpl.INSTANCE;
 
@@ -114,38 +96,47 @@ public class NativeSelectQueryPlanImpl<R> implements NativeSelectQueryPlan<R> {
 	}
 
 	@Override
-	public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
+	public long performForEach(
+			Consumer<? super R> action,
+			int clearInterval,
+			DomainQueryExecutionContext executionContext) {
 		if ( executionContext.getQueryOptions().getEffectiveLimit().getMaxRowsJpa() == 0 ) {
-			return EmptyScrollableResults.INSTANCE;
+			return 0;
 		}
-		final List<JdbcParameterBinder> jdbcParameterBinders;
-		final JdbcParameterBindings jdbcParameterBindings;
+		final List<JdbcParameterBinder> jdbcParameterBinders = createJdbcParameterBinders();
+		final JdbcParameterBindings jdbcParameterBindings = createJdbcParameterBindings(
+				jdbcParameterBinders,
+				executionContext
+		);
 
-		final QueryParameterBindings queryParameterBindings = executionContext.getQueryParameterBindings();
-		if ( parameterList == null || parameterList.isEmpty() ) {
-			jdbcParameterBinders = Collections.emptyList();
-			jdbcParameterBindings = JdbcParameterBindings.NO_BINDINGS;
-		}
-		else {
-			jdbcParameterBinders = new ArrayList<>( parameterList.size() );
-			jdbcParameterBindings = new JdbcParameterBindingsImpl( parameterList.size() );
-
-			jdbcParameterBindings.registerNativeQueryParameters(
-					queryParameterBindings,
-					parameterList,
-					jdbcParameterBinders,
-					executionContext.getSession().getFactory()
-			);
-		}
+		executionContext.getSession().autoFlushIfRequired( affectedTableNames );
 
-		final JdbcSelect jdbcSelect = new JdbcSelect(
-				sql,
+		final JdbcSelect jdbcSelect = createJdbcSelect( jdbcParameterBinders );
+
+		final JdbcSelectExecutor executor = JdbcSelectExecutorStandardImpl.INSTANCE;
+
+		return executor.executeQuery(
+				jdbcSelect,
+				jdbcParameterBindings,
+				SqmJdbcExecutionContextAdapter.usingLockingAndPaging( executionContext ),
+				null,
+				new StreamingResultsConsumer<R>( action, clearInterval )
+		);
+	}
+
+	@Override
+	public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
+		if ( executionContext.getQueryOptions().getEffectiveLimit().getMaxRowsJpa() == 0 ) {
+			return EmptyScrollableResults.INSTANCE;
+		}
+		final List<JdbcParameterBinder> jdbcParameterBinders = createJdbcParameterBinders();
+		final JdbcParameterBindings jdbcParameterBindings = createJdbcParameterBindings(
 				jdbcParameterBinders,
-				resultSetMapping,
-				affectedTableNames,
-				Collections.emptySet()
+				executionContext
 		);
 
+		final JdbcSelect jdbcSelect = createJdbcSelect( jdbcParameterBinders );
+
 		final JdbcSelectExecutor executor = JdbcSelectExecutorStandardImpl.INSTANCE;
 
 		// todo (6.0): use configurable executor instead?
@@ -161,4 +152,38 @@ public class NativeSelectQueryPlanImpl<R> implements NativeSelectQueryPlan<R> {
 				null
 		);
 	}
+
+	private List<JdbcParameterBinder> createJdbcParameterBinders() {
+		if ( parameterList == null || parameterList.isEmpty() ) {
+			return Collections.emptyList();
+		}
+		return new ArrayList<>( parameterList.size() );
+	}
+
+	private JdbcParameterBindings createJdbcParameterBindings(
+			List<JdbcParameterBinder> jdbcParameterBinders,
+			DomainQueryExecutionContext executionContext) {
+		if ( parameterList == null || parameterList.isEmpty() ) {
+			return JdbcParameterBindings.NO_BINDINGS;
+		}
+		final QueryParameterBindings queryParameterBindings = executionContext.getQueryParameterBindings();
+		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( parameterList.size() );
+		jdbcParameterBindings.registerNativeQueryParameters(
+				queryParameterBindings,
+				parameterList,
+				jdbcParameterBinders,
+				executionContext.getSession().getFactory()
+		);
+		return jdbcParameterBindings;
+	}
+
+	private JdbcSelect createJdbcSelect(List<JdbcParameterBinder> jdbcParameterBinders) {
+		return new JdbcSelect(
+				sql,
+				jdbcParameterBinders,
+				resultSetMapping,
+				affectedTableNames,
+				Collections.emptySet()
+		);
+	}
 }
@@ -9,6 +9,7 @@ package org.hibernate.query.sqm.internal;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.hibernate.ScrollMode;
 import org.hibernate.internal.EmptyScrollableResults;
@@ -71,6 +72,17 @@ public class AggregatedSelectQueryPlanImpl<R> implements SelectQueryPlan<R> {
 		return overallResults;
 	}
 
+	@Override
+	public long performForEach(
+			Consumer<? super R> action,
+			int clearInterval,
+			DomainQueryExecutionContext executionContext) {
+		// the limit spans all the aggregated plans, and scrolling is not supported
+		final List<R> results = performList( executionContext );
+		results.forEach( action );
+		return results.size();
+	}
+
 	@Override
 	public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
 		if ( executionContext.getQueryOptions().getEffectiveLimit().getMaxRowsJpa() == 0 ) {
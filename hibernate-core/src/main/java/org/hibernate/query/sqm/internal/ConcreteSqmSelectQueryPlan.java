@@ -11,6 +11,7 @@ import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.hibernate.ScrollMode;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
@@ -21,9 +22,13 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.EmptyScrollableResults;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.MappingModelExpressable;
 import org.hibernate.query.IllegalQueryOperationException;
+import org.hibernate.query.PrimitiveTupleTransformer;
+import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.criteria.JpaSelection;
+import org.hibernate.query.spi.DelegatingQueryOptions;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryOptions;
@@ -49,10 +54,12 @@ import org.hibernate.sql.results.graph.entity.LoadingEntityEntry;
 import org.hibernate.sql.results.internal.RowTransformerJpaTupleImpl;
 import org.hibernate.sql.results.internal.RowTransformerPassThruImpl;
 import org.hibernate.sql.results.internal.RowTransformerSingularReturnImpl;
+import org.hibernate.sql.results.internal.RowTransformerPrimitiveTupleTransformerAdapter;
 import org.hibernate.sql.results.internal.RowTransformerTupleTransformerAdapter;
 import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.sql.results.spi.RowTransformer;
+import org.hibernate.sql.results.spi.StreamingResultsConsumer;
 
 import jakarta.persistence.Tuple;
 import jakarta.persistence.TupleElement;
@@ -74,6 +81,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final RowTransformer<R> rowTransformer;
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
+	private final SqmInterpreter<Long, StreamingResultsConsumer<R>> streamingInterpreter;
 
 	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
 
@@ -103,28 +111,29 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 
 				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
 
+				final EntityMappingType idsOnlyCachedEntity = isEntityReturn( rowTransformer )
+						? EntityIdsQueryResultsCaching.resolveCachedEntity( sqm, sqmInterpretation.selectStatement, executionContext )
+						: null;
+				if ( idsOnlyCachedEntity != null ) {
+					return EntityIdsQueryResultsCaching.list(
+							executionContext,
+							jdbcSelect,
+							idsOnlyCachedEntity,
+							getQueryIdentifier( jdbcSelect.getSql() ),
+							() -> session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+									jdbcSelect,
+									jdbcParameterBindings,
+									createExecutionContext( executionContext, jdbcSelect, subSelectFetchKeyHandler, false ),
+									rowTransformer,
+									ListResultsConsumer.UniqueSemantic.FILTER
+							)
+					);
+				}
+
 				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
 						jdbcSelect,
 						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ) {
-							@Override
-							public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
-								subSelectFetchKeyHandler.addKey( entityKey );
-							}
-
-							@Override
-							public String getQueryIdentifier(String sql) {
-								if ( CRITERIA_HQL_STRING.equals( hql ) ) {
-									return "[CRITERIA] " + sql;
-								}
-								return hql;
-							}
-
-							@Override
-							public boolean hasQueryExecutionToBeAddedToStatistics() {
-								return true;
-							}
-						},
+						createExecutionContext( executionContext, jdbcSelect, subSelectFetchKeyHandler ),
 						rowTransformer,
 						ListResultsConsumer.UniqueSemantic.FILTER
 				);
@@ -134,6 +143,32 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			}
 		};
 
+		this.streamingInterpreter = (resultsConsumer, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
+			final SharedSessionContractImplementor session = executionContext.getSession();
+			final JdbcSelect jdbcSelect = sqmInterpretation.getJdbcSelect();
+			try {
+				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+						session.getPersistenceContext().getBatchFetchQueue(),
+						sqmInterpretation.selectStatement,
+						Collections.emptyList(),
+						jdbcParameterBindings
+				);
+
+				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
+
+				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().executeQuery(
+						jdbcSelect,
+						jdbcParameterBindings,
+						createExecutionContext( executionContext, jdbcSelect, subSelectFetchKeyHandler ),
+						rowTransformer,
+						resultsConsumer
+				);
+			}
+			finally {
+				domainParameterXref.clearExpansions();
+			}
+		};
+
 		this.scrollInterpreter = (scrollMode, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			try {
 				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
@@ -174,6 +209,66 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		//		`#performList` and `#performScroll`.
 	}
 
+	private SqmJdbcExecutionContextAdapter createExecutionContext(
+			DomainQueryExecutionContext executionContext,
+			JdbcSelect jdbcSelect,
+			SubselectFetch.RegistrationHandler subSelectFetchKeyHandler) {
+		return createExecutionContext( executionContext, jdbcSelect, subSelectFetchKeyHandler, true );
+	}
+
+	/**
+	 * @param resultCaching Whether the rows may be read from and put into the query cache,
+	 * as specified by the query options
+	 */
+	private SqmJdbcExecutionContextAdapter createExecutionContext(
+			DomainQueryExecutionContext executionContext,
+			JdbcSelect jdbcSelect,
+			SubselectFetch.RegistrationHandler subSelectFetchKeyHandler,
+			boolean resultCaching) {
+		return new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ) {
+			@Override
+			public QueryOptions getQueryOptions() {
+				if ( resultCaching ) {
+					return super.getQueryOptions();
+				}
+				return new DelegatingQueryOptions( super.getQueryOptions() ) {
+					@Override
+					public Boolean isResultCachingEnabled() {
+						return false;
+					}
+				};
+			}
+
+			@Override
+			public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
+				subSelectFetchKeyHandler.addKey( entityKey );
+			}
+
+			@Override
+			public String getQueryIdentifier(String sql) {
+				return ConcreteSqmSelectQueryPlan.this.getQueryIdentifier( sql );
+			}
+
+			@Override
+			public boolean hasQueryExecutionToBeAddedToStatistics() {
+				return true;
+			}
+		};
+	}
+
+	private String getQueryIdentifier(String sql) {
+		if ( CRITERIA_HQL_STRING.equals( hql ) ) {
+			return "[CRITERIA] " + sql;
+		}
+		return hql;
+	}
+
+	private static boolean isEntityReturn(RowTransformer<?> rowTransformer) {
+		// the other transformers would not hand the entities themselves to the results consumer
+		return rowTransformer instanceof RowTransformerSingularReturnImpl
+				|| rowTransformer instanceof RowTransformerPassThruImpl;
+	}
+
 	@SuppressWarnings("unchecked")
 	private RowTransformer<R> determineRowTransformer(
 			SqmSelectStatement sqm,
@@ -252,8 +347,15 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			}
 		}
 
+		//noinspection unchecked
+		final TupleTransformer<R> tupleTransformer = (TupleTransformer<R>) queryOptions.getTupleTransformer();
+		if ( tupleTransformer instanceof PrimitiveTupleTransformer ) {
+			return new RowTransformerPrimitiveTupleTransformerAdapter<>(
+					ArrayHelper.toStringArray( aliases ), (PrimitiveTupleTransformer<R>) tupleTransformer
+			);
+		}
 		return new RowTransformerTupleTransformerAdapter<>(
-				ArrayHelper.toStringArray( aliases ), queryOptions.getTupleTransformer()
+				ArrayHelper.toStringArray( aliases ), tupleTransformer
 		);
 	}
 
@@ -265,6 +367,21 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return withCacheableSqmInterpretation( executionContext, null, listInterpreter );
 	}
 
+	@Override
+	public long performForEach(
+			Consumer<? super R> action,
+			int clearInterval,
+			DomainQueryExecutionContext executionContext) {
+		if ( executionContext.getQueryOptions().getEffectiveLimit().getMaxRowsJpa() == 0 ) {
+			return 0;
+		}
+		return withCacheableSqmInterpretation(
+				executionContext,
+				new StreamingResultsConsumer<>( action, clearInterval ),
+				streamingInterpreter
+		);
+	}
+
 	@Override
 	public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
 		if ( executionContext.getQueryOptions().getEffectiveLimit().getMaxRowsJpa() == 0 ) {
@@ -0,0 +1,245 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.hibernate.CacheMode;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.sqm.tree.from.SqmAttributeJoin;
+import org.hibernate.query.sqm.tree.from.SqmFrom;
+import org.hibernate.query.sqm.tree.from.SqmJoin;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.select.SqmQueryPart;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.JdbcExecHelper;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.entity.EntityResult;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Caches the results of a query returning a single entity as the identifiers of
+ * the returned entities, rather than as the JDBC values of the rows.  On a hit,
+ * the entities are loaded by id in a single batch, which goes through the entity
+ * cache region before hitting the database.  The entities this load adds to the
+ * persistence context are made read-only, or not, as the query asks, just like
+ * the ones the query itself would have loaded.
+ * <p/>
+ * The ids are cached under a key distinct from the one of the full rows, so that
+ * both kinds of entries never get mixed up in a region.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_IDS_ONLY
+ */
+class EntityIdsQueryResultsCaching {
+	private static final String KEY_PREFIX = "[IDS] ";
+
+	private EntityIdsQueryResultsCaching() {
+	}
+
+	/**
+	 * Determine the entity whose ids should be cached for the given query, if any.
+	 *
+	 * @return The entity returned by the query, or {@code null} if the results
+	 * of the query should be cached as rows
+	 */
+	static EntityMappingType resolveCachedEntity(
+			SqmSelectStatement<?> sqm,
+			SelectStatement selectStatement,
+			DomainQueryExecutionContext executionContext) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		if ( queryOptions.isResultCachingEnabled() != Boolean.TRUE
+				|| !session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled()
+				|| !session.getFactory().getSessionFactoryOptions().isQueryCacheIdsOnlyEnabled()
+				|| !( session instanceof SessionImplementor ) ) {
+			return null;
+		}
+
+		// the entities loaded by id would neither be locked, nor have the same associations fetched
+		final AppliedGraph appliedGraph = queryOptions.getAppliedGraph();
+		if ( !queryOptions.getLockOptions().isEmpty()
+				|| appliedGraph != null && appliedGraph.getSemantic() != null
+				|| hasFetchJoin( sqm.getQueryPart() ) ) {
+			return null;
+		}
+
+		final List<DomainResult<?>> domainResults = selectStatement.getDomainResultDescriptors();
+		if ( domainResults.size() != 1 || !( domainResults.get( 0 ) instanceof EntityResult ) ) {
+			return null;
+		}
+		final EntityMappingType entityDescriptor = ( (EntityResult) domainResults.get( 0 ) ).getReferencedMappingContainer();
+		if ( !( entityDescriptor.getIdentifierMapping() instanceof BasicEntityIdentifierMapping ) ) {
+			return null;
+		}
+		return entityDescriptor;
+	}
+
+	private static boolean hasFetchJoin(SqmQueryPart<?> queryPart) {
+		if ( !( queryPart instanceof SqmQuerySpec<?> ) ) {
+			return true;
+		}
+		for ( SqmRoot<?> root : ( (SqmQuerySpec<?>) queryPart ).getFromClause().getRoots() ) {
+			if ( hasFetchJoin( root ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean hasFetchJoin(SqmFrom<?, ?> from) {
+		for ( SqmJoin<?, ?> join : from.getSqmJoins() ) {
+			if ( join instanceof SqmAttributeJoin<?, ?> && ( (SqmAttributeJoin<?, ?>) join ).isFetched()
+					|| hasFetchJoin( join ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Get the results of the query from the cached ids, or execute it and cache the ids
+	 *
+	 * @param executor Executes the query, without caching its rows
+	 */
+	static <R> List<R> list(
+			DomainQueryExecutionContext executionContext,
+			JdbcSelect jdbcSelect,
+			EntityMappingType entityDescriptor,
+			String queryIdentifier,
+			Supplier<List<R>> executor) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final SessionFactoryImplementor factory = session.getFactory();
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		final CacheMode cacheMode = JdbcExecHelper.resolveCacheMode( queryOptions, session );
+		final QueryResultsCache queryCache = factory.getCache()
+				.getQueryResultsCache( queryOptions.getResultCacheRegionName() );
+		final QueryKey queryKey = QueryKey.from(
+				KEY_PREFIX + jdbcSelect.getSql(),
+				queryOptions.getLimit(),
+				executionContext.getQueryParameterBindings(),
+				session
+		);
+		final StatisticsImplementor statistics = factory.getStatistics();
+
+		if ( cacheMode.isGetEnabled() ) {
+			final List<?> cachedIds = queryCache.get( queryKey, jdbcSelect.getAffectedTableNames(), session );
+			final List<R> results = cachedIds == null
+					? null
+					: loadEntities( cachedIds, entityDescriptor, queryOptions, cacheMode, (SessionImplementor) session );
+			if ( statistics.isStatisticsEnabled() ) {
+				if ( results == null ) {
+					statistics.queryCacheMiss( queryIdentifier, queryCache.getRegion().getName() );
+				}
+				else {
+					statistics.queryCacheHit( queryIdentifier, queryCache.getRegion().getName() );
+				}
+			}
+			if ( results != null ) {
+				return results;
+			}
+		}
+
+		final List<R> results = executor.get();
+		if ( cacheMode.isPutEnabled() ) {
+			final EntityPersister persister = entityDescriptor.getEntityPersister();
+			final List<Object> ids = new ArrayList<>( results.size() );
+			for ( R result : results ) {
+				ids.add( result == null ? null : persister.getIdentifier( result, session ) );
+			}
+			final boolean put = queryCache.put( queryKey, ids, session );
+			if ( put && statistics.isStatisticsEnabled() ) {
+				statistics.queryCachePut( queryIdentifier, queryCache.getRegion().getName() );
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * @return The entities with the given ids, in the same order, or {@code null}
+	 * if one of them does not exist anymore
+	 */
+	@SuppressWarnings("unchecked")
+	private static <R> List<R> loadEntities(
+			List<?> ids,
+			EntityMappingType entityDescriptor,
+			QueryOptions queryOptions,
+			CacheMode cacheMode,
+			SessionImplementor session) {
+		final Set<Object> distinctIds = new LinkedHashSet<>( ids.size() );
+		for ( Object id : ids ) {
+			if ( id != null ) {
+				distinctIds.add( id );
+			}
+		}
+		if ( distinctIds.isEmpty() ) {
+			return new ArrayList<>( (List<R>) ids );
+		}
+
+		// the read-only state of the entities already in the persistence context is left alone
+		final Boolean readOnly = queryOptions.isReadOnly();
+		final Set<Object> managedIds = readOnly == null ? null : managedIds( distinctIds, entityDescriptor, session );
+
+		final List<?> entities = session.byMultipleIds( entityDescriptor.getEntityName() )
+				.with( cacheMode )
+				.enableSessionCheck( true )
+				.multiLoad( new ArrayList<>( distinctIds ) );
+
+		final Map<Object, Object> entitiesById = new HashMap<>( distinctIds.size() );
+		int i = 0;
+		for ( Object id : distinctIds ) {
+			final Object entity = entities.get( i++ );
+			if ( entity == null ) {
+				return null;
+			}
+			if ( readOnly != null && !managedIds.contains( id ) ) {
+				session.setReadOnly( entity, readOnly );
+			}
+			entitiesById.put( id, entity );
+		}
+
+		final List<R> results = new ArrayList<>( ids.size() );
+		for ( Object id : ids ) {
+			results.add( id == null ? null : (R) entitiesById.get( id ) );
+		}
+		return results;
+	}
+
+	private static Set<Object> managedIds(Set<Object> ids, EntityMappingType entityDescriptor, SessionImplementor session) {
+		final EntityPersister persister = entityDescriptor.getEntityPersister();
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Set<Object> managedIds = new HashSet<>();
+		for ( Object id : ids ) {
+			final EntityKey key = session.generateEntityKey( id, persister );
+			if ( persistenceContext.getEntity( key ) != null || persistenceContext.getProxy( key ) != null ) {
+				managedIds.add( id );
+			}
+		}
+		return managedIds;
+	}
+}
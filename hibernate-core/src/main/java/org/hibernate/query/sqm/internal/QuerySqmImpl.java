@@ -15,6 +15,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
@@ -749,6 +750,22 @@ public class QuerySqmImpl<R>
 		return list;
 	}
 
+	@Override
+	protected long doForEachResult(Consumer<? super R> action, int clearInterval) {
+		SqmUtil.verifyIsSelectStatement( getSqmStatement(), hqlString );
+		final SqmSelectStatement<?> selectStatement = (SqmSelectStatement<?>) getSqmStatement();
+		if ( selectStatement.containsCollectionFetches() ) {
+			// rows of a fetched collection span several rows of the result and need
+			// distincting, which requires collecting the results
+			final List<R> results = doList();
+			results.forEach( action );
+			return results.size();
+		}
+
+		getSession().prepareForQueryExecution( requiresTxn( getLockOptions().findGreatestLockMode() ) );
+		return resolveSelectQueryPlan().performForEach( action, clearInterval, this );
+	}
+
 	private boolean requiresTxn(LockMode lockMode) {
 		return lockMode != null && lockMode.greaterThan( LockMode.READ );
 	}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.resource.jdbc;
 
+import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
@@ -72,6 +73,18 @@ public interface ResourceRegistry {
 	void register(NClob nclob);
 	void release(NClob nclob);
 
+	/**
+	 * Register a JDBC array bound as a parameter of the given statement, to be
+	 * {@linkplain Array#free() freed} once the statement is released.
+	 * <p/>
+	 * By default, the array is not tracked, and is left to the driver to release.
+	 *
+	 * @param array The array to register.
+	 * @param statement The statement the array is bound to.
+	 */
+	default void register(Array array, Statement statement) {
+	}
+
 	void cancelLastQuery();
 
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.resource.jdbc.internal;
 
+import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
@@ -57,6 +58,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	private ArrayList<Blob> blobs;
 	private ArrayList<Clob> clobs;
 	private ArrayList<NClob> nclobs;
+	private HashMap<Statement, ArrayList<Array>> arrays;
 
 	private Statement lastQuery;
 
@@ -74,7 +76,8 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 				|| hasRegistered( unassociatedResultSets )
 				|| hasRegistered( blobs )
 				|| hasRegistered( clobs )
-				|| hasRegistered( nclobs );
+				|| hasRegistered( nclobs )
+				|| hasRegistered( arrays );
 	}
 
 	@Override
@@ -108,6 +111,13 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 		close( statement );
 
+		if ( arrays != null ) {
+			final ArrayList<Array> statementArrays = arrays.remove( statement );
+			if ( statementArrays != null ) {
+				statementArrays.forEach( ResourceRegistryStandardImpl::free );
+			}
+		}
+
 		if ( lastQuery == statement ) {
 			lastQuery = null;
 		}
@@ -302,6 +312,23 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		nclobs.remove( nclob );
 	}
 
+	@Override
+	public void register(Array array, Statement statement) {
+		if ( arrays == null ) {
+			arrays = new HashMap<>();
+		}
+		arrays.computeIfAbsent( statement, s -> new ArrayList<>() ).add( array );
+	}
+
+	private static void free(Array array) {
+		try {
+			array.free();
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to free JDBC Array reference [%s]", e.getMessage() );
+		}
+	}
+
 	@Override
 	public void cancelLastQuery() {
 		try {
@@ -366,6 +393,11 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			} );
 			nclobs = null;
 		}
+
+		if ( arrays != null ) {
+			arrays.forEach( (statement, statementArrays) -> statementArrays.forEach( ResourceRegistryStandardImpl::free ) );
+			arrays = null;
+		}
 	}
 
 	private boolean hasRegistered(final HashMap resource) {
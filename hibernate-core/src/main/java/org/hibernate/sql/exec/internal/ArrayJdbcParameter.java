@@ -0,0 +1,88 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.sql.exec.ExecutionException;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcParameterBinding;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcTypeJavaClassMappings;
+
+/**
+ * A JDBC parameter which binds an array of values, each of the given
+ * {@link JdbcMapping}, as a single {@link java.sql.Array}.
+ * <p/>
+ * The bound value is expected to be an {@code Object[]} of the (domain-level)
+ * JDBC values, for example as produced by
+ * {@link org.hibernate.metamodel.mapping.Bindable#forEachJdbcValue}.
+ *
+ * @see org.hibernate.dialect.Dialect#supportsStandardArrays()
+ */
+public class ArrayJdbcParameter extends JdbcParameterImpl {
+
+	public ArrayJdbcParameter(JdbcMapping elementJdbcMapping) {
+		super( elementJdbcMapping );
+	}
+
+	/**
+	 * Create the binding of the given values to this parameter
+	 */
+	public JdbcParameterBinding createBinding(Object[] values) {
+		return new JdbcParameterBinding() {
+			@Override
+			public JdbcMapping getBindType() {
+				return getJdbcMapping();
+			}
+
+			@Override
+			public Object getBindValue() {
+				return values;
+			}
+		};
+	}
+
+	@Override
+	public void bindParameterValue(
+			PreparedStatement statement,
+			int startPosition,
+			JdbcParameterBindings jdbcParamBindings,
+			ExecutionContext executionContext) throws SQLException {
+		final JdbcParameterBinding binding = jdbcParamBindings.getBinding( this );
+		if ( binding == null ) {
+			throw new ExecutionException( "JDBC parameter value not bound - " + this );
+		}
+
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final JdbcType elementJdbcType = getJdbcMapping().getJdbcTypeDescriptor();
+		final JavaType<Object> elementJavaType = getJdbcMapping().getJavaTypeDescriptor();
+		final Class<?> elementJdbcJavaType = JdbcTypeJavaClassMappings.INSTANCE.determineJavaClassForJdbcTypeCode(
+				elementJdbcType.getJdbcTypeCode()
+		);
+
+		final Object[] values = (Object[]) binding.getBindValue();
+		final Object[] elements = new Object[values.length];
+		for ( int i = 0; i < values.length; i++ ) {
+			elements[i] = elementJavaType.unwrap( values[i], elementJdbcJavaType, session );
+		}
+
+		final Array array = statement.getConnection().createArrayOf(
+				session.getJdbcServices().getDialect().getRawTypeName( elementJdbcType ),
+				elements
+		);
+		statement.setArray( startPosition, array );
+		// freed once the statement has been executed and is released
+		session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().register( array, statement );
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.sql.PreparedStatement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.hibernate.sql.exec.spi.AsyncJdbcMutationExecutor;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcMutation;
+import org.hibernate.sql.exec.spi.JdbcMutationExecutor;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+
+/**
+ * Standard {@link AsyncJdbcMutationExecutor}, running a blocking {@link JdbcMutationExecutor}
+ * on an {@link Executor}
+ */
+public class AsyncJdbcMutationExecutorStandardImpl implements AsyncJdbcMutationExecutor {
+	private final JdbcMutationExecutor jdbcMutationExecutor;
+	private final Executor executor;
+
+	public AsyncJdbcMutationExecutorStandardImpl(JdbcMutationExecutor jdbcMutationExecutor, Executor executor) {
+		this.jdbcMutationExecutor = jdbcMutationExecutor;
+		this.executor = executor;
+	}
+
+	@Override
+	public CompletionStage<Integer> execute(
+			JdbcMutation jdbcMutation,
+			JdbcParameterBindings jdbcParameterBindings,
+			Function<String, PreparedStatement> statementCreator,
+			BiConsumer<Integer, PreparedStatement> expectationCheck,
+			ExecutionContext executionContext) {
+		return CompletableFuture.supplyAsync(
+				() -> jdbcMutationExecutor.execute(
+						jdbcMutation,
+						jdbcParameterBindings,
+						statementCreator,
+						expectationCheck,
+						executionContext
+				),
+				executor
+		);
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import org.hibernate.sql.exec.spi.AsyncJdbcSelectExecutor;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.sql.results.spi.ResultsConsumer;
+import org.hibernate.sql.results.spi.RowTransformer;
+
+/**
+ * Standard {@link AsyncJdbcSelectExecutor}, running a blocking {@link JdbcSelectExecutor}
+ * on an {@link Executor}, so that the statement preparation, parameter binding and row
+ * reading are the same as for synchronous execution.
+ */
+public class AsyncJdbcSelectExecutorStandardImpl implements AsyncJdbcSelectExecutor {
+	private final JdbcSelectExecutor jdbcSelectExecutor;
+	private final Executor executor;
+
+	public AsyncJdbcSelectExecutorStandardImpl(JdbcSelectExecutor jdbcSelectExecutor, Executor executor) {
+		this.jdbcSelectExecutor = jdbcSelectExecutor;
+		this.executor = executor;
+	}
+
+	@Override
+	public <R> CompletionStage<List<R>> list(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			ListResultsConsumer.UniqueSemantic uniqueSemantic) {
+		return CompletableFuture.supplyAsync(
+				() -> jdbcSelectExecutor.list(
+						jdbcSelect,
+						jdbcParameterBindings,
+						executionContext,
+						rowTransformer,
+						uniqueSemantic
+				),
+				executor
+		);
+	}
+
+	@Override
+	public <T, R> CompletionStage<T> executeQuery(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			ResultsConsumer<T, R> resultsConsumer) {
+		return CompletableFuture.supplyAsync(
+				() -> jdbcSelectExecutor.executeQuery(
+						jdbcSelect,
+						jdbcParameterBindings,
+						executionContext,
+						rowTransformer,
+						resultsConsumer
+				),
+				executor
+		);
+	}
+}
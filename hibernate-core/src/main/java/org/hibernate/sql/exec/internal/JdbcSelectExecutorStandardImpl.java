@@ -12,7 +12,6 @@ import java.util.List;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -29,6 +28,7 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.spi.AppliedGraph;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.query.Limit;
+import org.hibernate.query.PrimitiveTupleTransformer;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.internal.ScrollableResultsIterator;
@@ -45,6 +45,7 @@ import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.internal.ResultsHelper;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
 import org.hibernate.sql.results.internal.RowTransformerPassThruImpl;
+import org.hibernate.sql.results.internal.RowTransformerPrimitiveTupleTransformerAdapter;
 import org.hibernate.sql.results.internal.RowTransformerTupleTransformerAdapter;
 import org.hibernate.sql.results.jdbc.internal.DeferredResultSetAccess;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit;
@@ -105,6 +106,26 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		);
 	}
 
+	@Override
+	public <T, R> T executeQuery(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			ResultsConsumer<T, R> resultsConsumer) {
+		return executeQuery(
+				jdbcSelect,
+				jdbcParameterBindings,
+				executionContext,
+				rowTransformer,
+				(sql) -> executionContext.getSession()
+						.getJdbcCoordinator()
+						.getStatementPreparer()
+						.prepareStatement( sql ),
+				resultsConsumer
+		);
+	}
+
 	@Override
 	public <R> ScrollableResultsImplementor<R> scroll(
 			JdbcSelect jdbcSelect,
@@ -356,7 +377,15 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				for ( int i = 0; i < domainResults.size(); i++ ) {
 					aliases[i] = domainResults.get( i ).getResultVariable();
 				}
-				rowTransformer = new RowTransformerTupleTransformerAdapter<>( aliases, tupleTransformer );
+				if ( tupleTransformer instanceof PrimitiveTupleTransformer ) {
+					rowTransformer = new RowTransformerPrimitiveTupleTransformerAdapter<>(
+							aliases,
+							(PrimitiveTupleTransformer<R>) tupleTransformer
+					);
+				}
+				else {
+					rowTransformer = new RowTransformerTupleTransformerAdapter<>( aliases, tupleTransformer );
+				}
 			}
 		}
 
@@ -436,11 +465,10 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 
 		if ( stats ) {
 			final long endTime = System.nanoTime();
-			final long milliseconds = TimeUnit.MILLISECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
-			statistics.queryExecuted(
+			statistics.queryExecutedNanoseconds(
 					executionContext.getQueryIdentifier( jdbcSelect.getSql() ),
 					getResultSize( result ),
-					milliseconds
+					endTime - startTime
 			);
 		}
 
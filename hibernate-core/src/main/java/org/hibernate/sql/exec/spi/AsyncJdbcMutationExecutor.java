@@ -0,0 +1,38 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.exec.spi;
+
+import java.sql.PreparedStatement;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.hibernate.Incubating;
+
+/**
+ * An asynchronous executor for JdbcDelete and JdbcUpdate operations, the
+ * non-blocking counterpart of {@link JdbcMutationExecutor}.
+ * <p/>
+ * As for {@link AsyncJdbcSelectExecutor}, the {@link ExecutionContext} must not be
+ * used by the caller until the returned stage completes.
+ *
+ * @see org.hibernate.engine.jdbc.spi.JdbcServices#getAsyncJdbcMutationExecutor()
+ */
+@Incubating
+public interface AsyncJdbcMutationExecutor {
+	/**
+	 * Perform the execution, completing with the affected row count
+	 *
+	 * @see JdbcMutationExecutor#execute
+	 */
+	CompletionStage<Integer> execute(
+			JdbcMutation jdbcMutation,
+			JdbcParameterBindings jdbcParameterBindings,
+			Function<String, PreparedStatement> statementCreator,
+			BiConsumer<Integer, PreparedStatement> expectationCheck,
+			ExecutionContext executionContext);
+}
@@ -0,0 +1,54 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.exec.spi;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.Incubating;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.sql.results.spi.ResultsConsumer;
+import org.hibernate.sql.results.spi.RowTransformer;
+
+/**
+ * An asynchronous executor for JdbcSelect operations, the non-blocking counterpart
+ * of {@link JdbcSelectExecutor}: the returned stage completes with the results
+ * once the select has been executed and its rows read.
+ * <p/>
+ * The {@link ExecutionContext} (and so the Session) is used by the execution until
+ * the returned stage completes, and must not be used by the caller in the meantime.
+ * Concurrent selects therefore require distinct Sessions.
+ *
+ * @see org.hibernate.engine.jdbc.spi.JdbcServices#getAsyncJdbcSelectExecutor()
+ */
+@Incubating
+public interface AsyncJdbcSelectExecutor {
+	/**
+	 * Execute the select, completing with the list of its results
+	 *
+	 * @see JdbcSelectExecutor#list
+	 */
+	<R> CompletionStage<List<R>> list(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			ListResultsConsumer.UniqueSemantic uniqueSemantic);
+
+	/**
+	 * Execute the select, handing the rows to the given {@link ResultsConsumer}
+	 * and completing with its result
+	 *
+	 * @see JdbcSelectExecutor#executeQuery
+	 */
+	<T, R> CompletionStage<T> executeQuery(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			ResultsConsumer<T, R> resultsConsumer);
+}
@@ -13,6 +13,7 @@ import org.hibernate.Incubating;
 import org.hibernate.ScrollMode;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.RowTransformer;
 
 /**
@@ -43,4 +44,16 @@ public interface JdbcSelectExecutor {
 			JdbcParameterBindings jdbcParameterBindings,
 			ExecutionContext executionContext,
 			RowTransformer<R> rowTransformer);
+
+	/**
+	 * Execute the select, handing the rows to the given {@link ResultsConsumer}.
+	 * Unlike {@link #list}, the consumer decides what to do with the rows, e.g.
+	 * push them to a callback without collecting them.
+	 */
+	<T, R> T executeQuery(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			ResultsConsumer<T, R> resultsConsumer);
 }
@@ -89,6 +89,13 @@ public class BasicResultAssembler<J> implements DomainResultAssembler<J> {
 		return assembledJavaTypeDescriptor;
 	}
 
+	/**
+	 * The position of the raw value in the "current JDBC values array"
+	 */
+	public int getValuesArrayPosition() {
+		return valuesArrayPosition;
+	}
+
 	/**
 	 * Exposed for testing purposes
 	 */
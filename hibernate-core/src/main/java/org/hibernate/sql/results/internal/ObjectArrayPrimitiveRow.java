@@ -0,0 +1,47 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.internal;
+
+import org.hibernate.sql.results.spi.PrimitiveRow;
+
+/**
+ * PrimitiveRow over an array of already boxed values
+ */
+public class ObjectArrayPrimitiveRow implements PrimitiveRow {
+	private final Object[] row;
+
+	public ObjectArrayPrimitiveRow(Object[] row) {
+		this.row = row;
+	}
+
+	@Override
+	public int size() {
+		return row.length;
+	}
+
+	@Override
+	public boolean isNull(int index) {
+		return row[index] == null;
+	}
+
+	@Override
+	public long getLong(int index) {
+		final Object value = row[index];
+		return value == null ? 0L : ( (Number) value ).longValue();
+	}
+
+	@Override
+	public double getDouble(int index) {
+		final Object value = row[index];
+		return value == null ? 0d : ( (Number) value ).doubleValue();
+	}
+
+	@Override
+	public Object getObject(int index) {
+		return row[index];
+	}
+}
@@ -0,0 +1,33 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.internal;
+
+import org.hibernate.query.PrimitiveTupleTransformer;
+import org.hibernate.sql.results.spi.PrimitiveRow;
+import org.hibernate.sql.results.spi.PrimitiveRowTransformer;
+
+/**
+ * An adapter for treating a {@link PrimitiveTupleTransformer} as a {@link PrimitiveRowTransformer}
+ */
+public class RowTransformerPrimitiveTupleTransformerAdapter<T>
+		extends RowTransformerTupleTransformerAdapter<T>
+		implements PrimitiveRowTransformer<T> {
+	private final String[] aliases;
+	private final PrimitiveTupleTransformer<T> tupleTransformer;
+
+	public RowTransformerPrimitiveTupleTransformerAdapter(String[] aliases, PrimitiveTupleTransformer<T> tupleTransformer) {
+		super( aliases, tupleTransformer );
+		this.aliases = aliases;
+		this.tupleTransformer = tupleTransformer;
+	}
+
+	@Override
+	public T transformRow(PrimitiveRow row) {
+		assert aliases == null || row.size() == aliases.length;
+		return tupleTransformer.transformTuple( row, aliases );
+	}
+}
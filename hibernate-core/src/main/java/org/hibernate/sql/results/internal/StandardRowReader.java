@@ -15,11 +15,14 @@ import org.hibernate.query.named.RowReaderMemento;
 import org.hibernate.sql.results.LoadingLogger;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
 import org.hibernate.sql.results.graph.collection.CollectionInitializer;
 import org.hibernate.sql.results.graph.entity.internal.EntityDelayedFetchInitializer;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.sql.results.spi.PrimitiveRow;
+import org.hibernate.sql.results.spi.PrimitiveRowTransformer;
 import org.hibernate.sql.results.spi.RowReader;
 import org.hibernate.sql.results.spi.RowTransformer;
 import org.hibernate.type.descriptor.java.JavaType;
@@ -35,6 +38,8 @@ public class StandardRowReader<T> implements RowReader<T> {
 
 	private final int assemblerCount;
 
+	// non-null when rows are handed to a PrimitiveRowTransformer without building an Object[]
+	private final CurrentPrimitiveRow primitiveRow;
 
 	@SuppressWarnings("WeakerAccess")
 	public StandardRowReader(
@@ -46,10 +51,34 @@ public class StandardRowReader<T> implements RowReader<T> {
 		this.rowTransformer = rowTransformer;
 
 		this.assemblerCount = resultAssemblers.size();
+		this.primitiveRow = resolvePrimitiveRow( resultAssemblers, initializers, rowTransformer );
 
 		logDebugInfo();
 	}
 
+	/**
+	 * The assemblers can be bypassed when they would simply return the JDBC values:
+	 * no initializers, and only basic results without conversion.
+	 */
+	private static CurrentPrimitiveRow resolvePrimitiveRow(
+			List<DomainResultAssembler> resultAssemblers,
+			List<Initializer> initializers,
+			RowTransformer<?> rowTransformer) {
+		if ( !( rowTransformer instanceof PrimitiveRowTransformer ) || !initializers.isEmpty() ) {
+			return null;
+		}
+		final int[] valuesArrayPositions = new int[ resultAssemblers.size() ];
+		for ( int i = 0; i < valuesArrayPositions.length; i++ ) {
+			final DomainResultAssembler assembler = resultAssemblers.get( i );
+			if ( assembler.getClass() != BasicResultAssembler.class
+					|| ( (BasicResultAssembler) assembler ).getValueConverter() != null ) {
+				return null;
+			}
+			valuesArrayPositions[i] = ( (BasicResultAssembler) assembler ).getValuesArrayPosition();
+		}
+		return new CurrentPrimitiveRow( valuesArrayPositions );
+	}
+
 	protected void logDebugInfo() {
 		// we'd really need some form of description for the assemblers and initializers for this
 		// to be useful.
@@ -90,6 +119,16 @@ public class StandardRowReader<T> implements RowReader<T> {
 	public T readRow(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
 		LoadingLogger.LOGGER.trace( "StandardRowReader#readRow" );
 
+		if ( primitiveRow != null ) {
+			primitiveRow.rowProcessingState = rowProcessingState;
+			try {
+				return ( (PrimitiveRowTransformer<T>) rowTransformer ).transformRow( primitiveRow );
+			}
+			finally {
+				primitiveRow.rowProcessingState = null;
+			}
+		}
+
 		coordinateInitializers( rowProcessingState, options );
 
 		final Object[] resultRow = new Object[ assemblerCount ];
@@ -165,6 +204,43 @@ public class StandardRowReader<T> implements RowReader<T> {
 		}
 	}
 
+	/**
+	 * PrimitiveRow view over the JDBC values of the row being read
+	 */
+	private static class CurrentPrimitiveRow implements PrimitiveRow {
+		private final int[] valuesArrayPositions;
+		private RowProcessingState rowProcessingState;
+
+		private CurrentPrimitiveRow(int[] valuesArrayPositions) {
+			this.valuesArrayPositions = valuesArrayPositions;
+		}
+
+		@Override
+		public int size() {
+			return valuesArrayPositions.length;
+		}
+
+		@Override
+		public boolean isNull(int index) {
+			return rowProcessingState.isJdbcValueNull( valuesArrayPositions[index] );
+		}
+
+		@Override
+		public long getLong(int index) {
+			return rowProcessingState.getJdbcLongValue( valuesArrayPositions[index] );
+		}
+
+		@Override
+		public double getDouble(int index) {
+			return rowProcessingState.getJdbcDoubleValue( valuesArrayPositions[index] );
+		}
+
+		@Override
+		public Object getObject(int index) {
+			return rowProcessingState.getJdbcValue( valuesArrayPositions[index] );
+		}
+	}
+
 	@Override
 	public RowReaderMemento toMemento(SessionFactoryImplementor factory) {
 		return new RowReaderMemento() {
@@ -6,6 +6,7 @@
  */
 package org.hibernate.sql.results.jdbc.internal;
 
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
 
@@ -23,9 +24,22 @@ import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImp
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.descriptor.JdbcExtractingLogging;
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.jdbc.BasicExtractor;
+import org.hibernate.type.descriptor.jdbc.BigIntJdbcType;
+import org.hibernate.type.descriptor.jdbc.DoubleJdbcType;
+import org.hibernate.type.descriptor.jdbc.IntegerJdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
 
 /**
  * JdbcValuesSource implementation for a JDBC ResultSet as the source
+ * <p/>
+ * Values of {@code BIGINT}, {@code INTEGER} and {@code DOUBLE} columns mapped
+ * to the corresponding wrapper types are read as primitives into a separate
+ * buffer, and only boxed if and when they are asked for as objects.  Consumers
+ * which use {@link #getCurrentRowLongValue} / {@link #getCurrentRowDoubleValue}
+ * hence read such rows without allocating.
  *
  * @author Steve Ebersole
  */
@@ -35,9 +49,25 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private final JdbcValuesMapping valuesMapping;
 	private final ExecutionContext executionContext;
 
+	/**
+	 * Marks a position of {@link #currentRowJdbcValues} whose value is held,
+	 * not yet boxed, in {@link #currentRowPrimitiveValues}
+	 */
+	private static final Object PRIMITIVE_VALUE = new Object();
+
+	private static final byte OBJECT = 0;
+	private static final byte LONG = 1;
+	private static final byte INT = 2;
+	private static final byte DOUBLE = 3;
+
 	private final SqlSelection[] sqlSelections;
 	private final Object[] currentRowJdbcValues;
 
+	// kinds indexed by the values array position
+	private final byte[] valueKinds;
+	private final int[] primitivePositions;
+	private final long[] currentRowPrimitiveValues;
+
 	public JdbcValuesResultSetImpl(
 			ResultSetAccess resultSetAccess,
 			QueryKey queryCacheKey,
@@ -53,6 +83,50 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 		this.sqlSelections = valuesMapping.getSqlSelections().toArray( new SqlSelection[0] );
 		this.currentRowJdbcValues = new Object[ valuesMapping.getRowSize() ];
+
+		this.valueKinds = new byte[ currentRowJdbcValues.length ];
+		int primitiveCount = 0;
+		if ( !JdbcExtractingLogging.TRACE_ENABLED ) {
+			// the primitive path bypasses the extractors, and so their logging
+			for ( SqlSelection sqlSelection : sqlSelections ) {
+				final byte kind = determineValueKind( sqlSelection.getJdbcValueExtractor() );
+				if ( kind != OBJECT ) {
+					valueKinds[ sqlSelection.getValuesArrayPosition() ] = kind;
+					primitiveCount++;
+				}
+			}
+		}
+		this.primitivePositions = new int[ primitiveCount ];
+		for ( int position = 0, i = 0; i < primitiveCount; position++ ) {
+			if ( valueKinds[ position ] != OBJECT ) {
+				primitivePositions[ i++ ] = position;
+			}
+		}
+		this.currentRowPrimitiveValues = primitiveCount == 0 ? null : new long[ currentRowJdbcValues.length ];
+	}
+
+	/**
+	 * Whether values extracted by the given extractor can be read as a primitive
+	 * and boxed later, with the same result as the extractor would produce.  Only
+	 * the standard JdbcTypes are considered, mapped to the plain wrapper types.
+	 */
+	private static byte determineValueKind(ValueExtractor<?> extractor) {
+		if ( !( extractor instanceof BasicExtractor ) ) {
+			return OBJECT;
+		}
+		final BasicExtractor<?> basicExtractor = (BasicExtractor<?>) extractor;
+		final JdbcType jdbcType = basicExtractor.getJdbcTypeDescriptor();
+		final Class<?> javaType = basicExtractor.getJavaTypeDescriptor().getJavaTypeClass();
+		if ( jdbcType.getClass() == BigIntJdbcType.class && javaType == Long.class ) {
+			return LONG;
+		}
+		if ( jdbcType.getClass() == IntegerJdbcType.class && javaType == Integer.class ) {
+			return INT;
+		}
+		if ( jdbcType.getClass() == DoubleJdbcType.class && javaType == Double.class ) {
+			return DOUBLE;
+		}
+		return OBJECT;
 	}
 
 	private static QueryCachePutManager resolveQueryCachePutManager(
@@ -294,13 +368,31 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	}
 
 	private void readCurrentRowValues() throws SQLException {
+		final ResultSet resultSet = resultSetAccess.getResultSet();
 		for ( final SqlSelection sqlSelection : sqlSelections ) {
+			final int position = sqlSelection.getValuesArrayPosition();
 			try {
-				currentRowJdbcValues[ sqlSelection.getValuesArrayPosition() ] = sqlSelection.getJdbcValueExtractor().extract(
-						resultSetAccess.getResultSet(),
-						sqlSelection.getJdbcResultSetIndex(),
-						executionContext.getSession()
-				);
+				switch ( valueKinds[ position ] ) {
+					case LONG:
+						readPrimitiveValue( resultSet.getLong( sqlSelection.getJdbcResultSetIndex() ), position, resultSet );
+						break;
+					case INT:
+						readPrimitiveValue( resultSet.getInt( sqlSelection.getJdbcResultSetIndex() ), position, resultSet );
+						break;
+					case DOUBLE:
+						readPrimitiveValue(
+								Double.doubleToRawLongBits( resultSet.getDouble( sqlSelection.getJdbcResultSetIndex() ) ),
+								position,
+								resultSet
+						);
+						break;
+					default:
+						currentRowJdbcValues[ position ] = sqlSelection.getJdbcValueExtractor().extract(
+								resultSet,
+								sqlSelection.getJdbcResultSetIndex(),
+								executionContext.getSession()
+						);
+				}
 			}
 			catch (Exception e) {
 				throw new HibernateException(
@@ -311,6 +403,33 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		}
 	}
 
+	private void readPrimitiveValue(long value, int position, ResultSet resultSet) throws SQLException {
+		if ( resultSet.wasNull() ) {
+			currentRowJdbcValues[ position ] = null;
+		}
+		else {
+			currentRowPrimitiveValues[ position ] = value;
+			currentRowJdbcValues[ position ] = PRIMITIVE_VALUE;
+		}
+	}
+
+	private Object box(int position) {
+		final long value = currentRowPrimitiveValues[ position ];
+		final Object boxed;
+		switch ( valueKinds[ position ] ) {
+			case LONG:
+				boxed = value;
+				break;
+			case INT:
+				boxed = (int) value;
+				break;
+			default:
+				boxed = Double.longBitsToDouble( value );
+		}
+		currentRowJdbcValues[ position ] = boxed;
+		return boxed;
+	}
+
 	@Override
 	protected void release() {
 		resultSetAccess.release();
@@ -323,6 +442,40 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	public Object[] getCurrentRowValuesArray() {
+		for ( int position : primitivePositions ) {
+			if ( currentRowJdbcValues[ position ] == PRIMITIVE_VALUE ) {
+				box( position );
+			}
+		}
 		return currentRowJdbcValues;
 	}
+
+	@Override
+	public Object getCurrentRowValue(int position) {
+		final Object value = currentRowJdbcValues[ position ];
+		return value == PRIMITIVE_VALUE ? box( position ) : value;
+	}
+
+	@Override
+	public boolean isCurrentRowValueNull(int position) {
+		return currentRowJdbcValues[ position ] == null;
+	}
+
+	@Override
+	public long getCurrentRowLongValue(int position) {
+		if ( currentRowJdbcValues[ position ] == PRIMITIVE_VALUE ) {
+			final long value = currentRowPrimitiveValues[ position ];
+			return valueKinds[ position ] == DOUBLE ? (long) Double.longBitsToDouble( value ) : value;
+		}
+		return super.getCurrentRowLongValue( position );
+	}
+
+	@Override
+	public double getCurrentRowDoubleValue(int position) {
+		if ( currentRowJdbcValues[ position ] == PRIMITIVE_VALUE ) {
+			final long value = currentRowPrimitiveValues[ position ];
+			return valueKinds[ position ] == DOUBLE ? Double.longBitsToDouble( value ) : value;
+		}
+		return super.getCurrentRowDoubleValue( position );
+	}
 }
@@ -74,6 +74,41 @@ public interface JdbcValues {
 	 */
 	Object[] getCurrentRowValuesArray();
 
+	/**
+	 * Get a single JDBC value of the row currently positioned at within this
+	 * source.  Unlike {@link #getCurrentRowValuesArray()}, this allows
+	 * implementations which read some values as primitives to box only
+	 * the values actually asked for.
+	 */
+	default Object getCurrentRowValue(int position) {
+		return getCurrentRowValuesArray()[ position ];
+	}
+
+	/**
+	 * Whether the JDBC value at the given position of the current row is null.
+	 */
+	default boolean isCurrentRowValueNull(int position) {
+		return getCurrentRowValue( position ) == null;
+	}
+
+	/**
+	 * Get a numeric JDBC value of the current row as a {@code long}, without boxing
+	 * when the implementation read it as a primitive.  A null value is returned as 0.
+	 */
+	default long getCurrentRowLongValue(int position) {
+		final Object value = getCurrentRowValue( position );
+		return value == null ? 0L : ( (Number) value ).longValue();
+	}
+
+	/**
+	 * Get a numeric JDBC value of the current row as a {@code double}, without boxing
+	 * when the implementation read it as a primitive.  A null value is returned as 0.
+	 */
+	default double getCurrentRowDoubleValue(int position) {
+		final Object value = getCurrentRowValue( position );
+		return value == null ? 0d : ( (Number) value ).doubleValue();
+	}
+
 	/**
 	 * Give implementations a chance to finish processing
 	 */
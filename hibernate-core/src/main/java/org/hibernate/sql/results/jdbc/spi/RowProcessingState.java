@@ -51,6 +51,33 @@ public interface RowProcessingState extends ExecutionContext {
 	 */
 	Object getJdbcValue(int position);
 
+	/**
+	 * Whether the value corresponding to the given index of the "current JDBC row" is null.
+	 */
+	default boolean isJdbcValueNull(int position) {
+		return getJdbcValue( position ) == null;
+	}
+
+	/**
+	 * Retrieve the numeric value corresponding to the given index of the
+	 * "current JDBC row" as a {@code long}, avoiding boxing where possible.
+	 * A null value is returned as 0.
+	 */
+	default long getJdbcLongValue(int position) {
+		final Object value = getJdbcValue( position );
+		return value == null ? 0L : ( (Number) value ).longValue();
+	}
+
+	/**
+	 * Retrieve the numeric value corresponding to the given index of the
+	 * "current JDBC row" as a {@code double}, avoiding boxing where possible.
+	 * A null value is returned as 0.
+	 */
+	default double getJdbcDoubleValue(int position) {
+		final Object value = getJdbcValue( position );
+		return value == null ? 0d : ( (Number) value ).doubleValue();
+	}
+
 	void registerNonExists(EntityFetch fetch);
 
 	boolean isQueryCacheHit();
@@ -0,0 +1,62 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.spi;
+
+import org.hibernate.Incubating;
+import org.hibernate.sql.results.internal.ObjectArrayPrimitiveRow;
+
+/**
+ * A view of a "raw" result row which gives access to numeric elements as
+ * primitives, so that they need not be boxed.
+ * <p/>
+ * An instance is only valid during the call it is passed to, and may be reused
+ * for the next row.
+ *
+ * @see PrimitiveRowTransformer
+ * @see org.hibernate.query.PrimitiveTupleTransformer
+ */
+@Incubating
+public interface PrimitiveRow {
+	/**
+	 * Wrap a row of (boxed) values.
+	 */
+	static PrimitiveRow of(Object[] row) {
+		return new ObjectArrayPrimitiveRow( row );
+	}
+
+	/**
+	 * The number of elements in the row
+	 */
+	int size();
+
+	/**
+	 * Whether the element at the given index is null
+	 */
+	boolean isNull(int index);
+
+	/**
+	 * The numeric element at the given index as a {@code long}; 0 if it is null.
+	 */
+	long getLong(int index);
+
+	/**
+	 * The numeric element at the given index as an {@code int}; 0 if it is null.
+	 */
+	default int getInt(int index) {
+		return (int) getLong( index );
+	}
+
+	/**
+	 * The numeric element at the given index as a {@code double}; 0 if it is null.
+	 */
+	double getDouble(int index);
+
+	/**
+	 * The element at the given index, boxed if needed.
+	 */
+	Object getObject(int index);
+}
@@ -0,0 +1,32 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * A {@link RowTransformer} which can consume the raw row through a {@link PrimitiveRow}.
+ * <p/>
+ * When every element of the row is a basic value without conversion, the row
+ * reader passes a view over the current JDBC values instead of building an
+ * {@code Object[]}, so that {@code BIGINT}, {@code INTEGER} and {@code DOUBLE}
+ * columns flow from the ResultSet to the transformer without being boxed.
+ * Otherwise {@link #transformRow(Object[])} is called, which by default adapts
+ * the array.
+ */
+@Incubating
+public interface PrimitiveRowTransformer<T> extends RowTransformer<T> {
+	/**
+	 * Transform the "raw" row into the ultimate query result (for a row)
+	 */
+	T transformRow(PrimitiveRow row);
+
+	@Override
+	default T transformRow(Object[] row) {
+		return transformRow( PrimitiveRow.of( row ) );
+	}
+}
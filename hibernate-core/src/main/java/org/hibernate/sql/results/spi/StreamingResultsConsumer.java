@@ -0,0 +1,122 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.spi;
+
+import java.util.function.Consumer;
+
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+
+/**
+ * ResultsConsumer which pushes each transformed row to a callback as soon as it
+ * is read, rather than collecting the rows, so that the memory needed does not
+ * grow with the number of results.  The loading of each row is completed
+ * (including post-load events) before it is passed to the callback.
+ * <p/>
+ * Entities loaded by the query still accumulate in the persistence context.
+ * When a clear interval is given, the persistence context is cleared after that
+ * many rows, detaching all entities of the Session exactly as
+ * {@link org.hibernate.Session#clear()} would, minus the action queue; this is
+ * meant for read-only processing of very large results, and pending changes
+ * should be flushed beforehand.
+ * <p/>
+ * Unlike {@link ListResultsConsumer}, duplicate rows are never filtered.  The
+ * consumed result is the number of rows read.
+ */
+public class StreamingResultsConsumer<R> implements ResultsConsumer<Long, R> {
+	private final Consumer<? super R> rowConsumer;
+	private final int clearInterval;
+
+	/**
+	 * @param rowConsumer The callback receiving each row
+	 * @param clearInterval The number of rows after which to clear the persistence
+	 * context, or {@code 0} to never clear it
+	 */
+	public StreamingResultsConsumer(Consumer<? super R> rowConsumer, int clearInterval) {
+		if ( clearInterval < 0 ) {
+			throw new IllegalArgumentException( "Clear interval must not be negative: " + clearInterval );
+		}
+		this.rowConsumer = rowConsumer;
+		this.clearInterval = clearInterval;
+	}
+
+	@Override
+	public Long consume(
+			JdbcValues jdbcValues,
+			SharedSessionContractImplementor session,
+			JdbcValuesSourceProcessingOptions processingOptions,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<R> rowReader) {
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+		RuntimeException ex = null;
+		try {
+			persistenceContext.getLoadContexts().register( jdbcValuesSourceProcessingState );
+			long rowCount = 0;
+			try {
+				while ( rowProcessingState.next() ) {
+					final R row = rowReader.readRow( rowProcessingState, processingOptions );
+					rowProcessingState.finishRowProcessing();
+					// complete the loading of the entities of this row, like ScrollableResults does
+					jdbcValuesSourceProcessingState.finishUp();
+					rowConsumer.accept( row );
+					rowCount++;
+					if ( clearInterval > 0 && rowCount % clearInterval == 0 ) {
+						clear( persistenceContext, jdbcValuesSourceProcessingState );
+					}
+				}
+			}
+			finally {
+				persistenceContext.getLoadContexts().deregister( jdbcValuesSourceProcessingState );
+			}
+			return rowCount;
+		}
+		catch (RuntimeException e) {
+			ex = e;
+		}
+		finally {
+			try {
+				rowReader.finishUp( jdbcValuesSourceProcessingState );
+				jdbcValues.finishUp( session );
+				persistenceContext.initializeNonLazyCollections();
+			}
+			catch (RuntimeException e) {
+				if ( ex != null ) {
+					ex.addSuppressed( e );
+				}
+				else {
+					ex = e;
+				}
+			}
+			finally {
+				if ( ex != null ) {
+					throw ex;
+				}
+			}
+		}
+		throw new IllegalStateException( "Should not reach this!" );
+	}
+
+	private static void clear(
+			PersistenceContext persistenceContext,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState) {
+		persistenceContext.initializeNonLazyCollections();
+		// clearing the persistence context drops all load contexts, re-register ours
+		persistenceContext.getLoadContexts().deregister( jdbcValuesSourceProcessingState );
+		persistenceContext.clear();
+		persistenceContext.getLoadContexts().register( jdbcValuesSourceProcessingState );
+	}
+
+	@Override
+	public boolean canResultsBeCached() {
+		return false;
+	}
+}
@@ -50,4 +50,17 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * The time, in milliseconds, which the given percentage of the loads of
+	 * this entity from the database by identifier did not exceed; for example
+	 * {@code 99} gives the p99 load time.  The value is approximate, within
+	 * 1/16 of the exact one.
+	 *
+	 * @param percentile a percentage, between 0 and 100
+	 */
+	default double getLoadTimePercentile(double percentile) {
+		//For backward compatibility
+		return 0;
+	}
 }
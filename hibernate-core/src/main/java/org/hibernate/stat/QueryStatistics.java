@@ -99,4 +99,17 @@ public interface QueryStatistics extends Serializable {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * The execution time, in milliseconds, which the given percentage of the
+	 * executions of this query did not exceed; for example {@code 99} gives
+	 * the p99 execution time.  The value is approximate, within 1/16 of the
+	 * exact one.
+	 *
+	 * @param percentile a percentage, between 0 and 100
+	 */
+	default double getExecutionTimePercentile(double percentile) {
+		//For backward compatibility
+		return 0;
+	}
 }
@@ -157,6 +157,20 @@ public interface Statistics {
 	 */
 	String getQueryExecutionMaxTimeQueryString();
 
+	/**
+	 * Get the time in milliseconds which the given percentage of all query
+	 * executions did not exceed; for example {@code 99} gives the p99 query
+	 * execution time.  The value is approximate, within 1/16 of the exact one.
+	 * Percentiles of a particular query are available from
+	 * {@link QueryStatistics#getExecutionTimePercentile}.
+	 *
+	 * @param percentile a percentage, between 0 and 100
+	 */
+	default double getQueryExecutionTimePercentile(double percentile) {
+		//For backward compatibility
+		return 0;
+	}
+
     /**
      * Get the global number of cached queries successfully retrieved from cache
      */
@@ -234,6 +248,29 @@ public interface Statistics {
 	 */
 	long getConnectCount();
 
+	/**
+	 * Get the time in milliseconds which the given percentage of the acquisitions of
+	 * JDBC connections by the sessions did not exceed.  This is mostly the time spent
+	 * waiting for a pooled connection to become available, so high percentiles reveal
+	 * an undersized connection pool.  The value is approximate, within 1/16 of the
+	 * exact one.
+	 *
+	 * @param percentile a percentage, between 0 and 100
+	 */
+	default double getConnectionAcquisitionTimePercentile(double percentile) {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Get the time in milliseconds of the slowest acquisition of a JDBC connection
+	 * by a session.
+	 */
+	default long getConnectionAcquisitionMaxTime() {
+		//For backward compatibility
+		return 0;
+	}
+
 	/**
      * Global number of cacheable entities/collections successfully retrieved from the cache
      */
@@ -386,4 +423,13 @@ public interface Statistics {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * Get the global number of entries evicted from (or not admitted to) the
+	 * query plan cache because it was full
+	 */
+	default long getQueryPlanCacheEvictionCount() {
+		//For backward compatibility
+		return 0;
+	}
 }
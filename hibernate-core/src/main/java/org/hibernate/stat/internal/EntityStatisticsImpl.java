@@ -26,6 +26,7 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 	private final LongAdder deleteCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
 	private final LongAdder optimisticFailureCount = new LongAdder();
+	private final LatencyHistogram loadTimes = new LatencyHistogram();
 
 	EntityStatisticsImpl(EntityPersister rootEntityDescriptor) {
 		super(
@@ -60,6 +61,15 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		return optimisticFailureCount.sum();
 	}
 
+	@Override
+	public double getLoadTimePercentile(double percentile) {
+		return loadTimes.getPercentileMilliseconds( percentile );
+	}
+
+	void loadExecuted(long nanoseconds) {
+		loadTimes.recordNanoseconds( nanoseconds );
+	}
+
 	void incrementLoadCount() {
 		loadCount.increment();
 	}
@@ -0,0 +1,138 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of latencies, used to derive percentiles of query execution
+ * and entity load times.
+ * <p/>
+ * Values are recorded in microseconds into log-linear buckets, in the manner of an
+ * HDR histogram: each power of two is divided into {@value #SUB_BUCKET_COUNT} equally
+ * sized buckets, so that the value reported for a percentile is within 1/16 of the
+ * exact one whatever its magnitude.  Values up to 15 microseconds are counted exactly;
+ * values larger than about 19 hours are counted in the last bucket.
+ * <p/>
+ * Recording a value is a single atomic increment.  Reading percentiles walks a
+ * snapshot of the buckets which concurrent recordings may make slightly inconsistent,
+ * which is fine for statistics.
+ */
+public class LatencyHistogram implements Serializable {
+	private static final int SUB_BUCKET_BITS = 3;
+	static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int EXACT_VALUE_COUNT = SUB_BUCKET_COUNT << 1;
+	private static final int MAX_EXPONENT = 36;
+	private static final long MAX_VALUE = ( 1L << MAX_EXPONENT ) - 1;
+	private static final int BUCKET_COUNT = EXACT_VALUE_COUNT + ( MAX_EXPONENT - SUB_BUCKET_BITS - 1 ) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray counts = new AtomicLongArray( BUCKET_COUNT );
+
+	/**
+	 * Record a latency expressed in nanoseconds.
+	 */
+	public void recordNanoseconds(long nanoseconds) {
+		recordMicroseconds( TimeUnit.NANOSECONDS.toMicros( nanoseconds ) );
+	}
+
+	/**
+	 * Record a latency expressed in milliseconds.
+	 */
+	public void recordMilliseconds(long milliseconds) {
+		recordMicroseconds( TimeUnit.MILLISECONDS.toMicros( milliseconds ) );
+	}
+
+	/**
+	 * Record a latency expressed in microseconds.
+	 */
+	public void recordMicroseconds(long microseconds) {
+		counts.incrementAndGet( bucketIndex( microseconds ) );
+	}
+
+	/**
+	 * The number of recorded values.
+	 */
+	public long getCount() {
+		long count = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			count += counts.get( i );
+		}
+		return count;
+	}
+
+	/**
+	 * The value, in microseconds, below which the given percentage of the recorded
+	 * values fall; {@code 0} if nothing was recorded.
+	 *
+	 * @param percentile a percentage, between 0 and 100
+	 */
+	public long getPercentileMicroseconds(double percentile) {
+		if ( percentile < 0 || percentile > 100 ) {
+			throw new IllegalArgumentException( "Percentile must be between 0 and 100: " + percentile );
+		}
+		final long[] snapshot = new long[BUCKET_COUNT];
+		long count = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			snapshot[i] = counts.get( i );
+			count += snapshot[i];
+		}
+		if ( count == 0 ) {
+			return 0;
+		}
+		final long rank = Math.max( 1, (long) Math.ceil( percentile / 100d * count ) );
+		long cumulated = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			cumulated += snapshot[i];
+			if ( cumulated >= rank ) {
+				return representativeValue( i );
+			}
+		}
+		return representativeValue( BUCKET_COUNT - 1 );
+	}
+
+	/**
+	 * The value, in milliseconds, below which the given percentage of the recorded
+	 * values fall; {@code 0} if nothing was recorded.
+	 *
+	 * @param percentile a percentage, between 0 and 100
+	 */
+	public double getPercentileMilliseconds(double percentile) {
+		return getPercentileMicroseconds( percentile ) / 1000d;
+	}
+
+	public void clear() {
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			counts.set( i, 0L );
+		}
+	}
+
+	static int bucketIndex(long value) {
+		if ( value < EXACT_VALUE_COUNT ) {
+			return value < 0 ? 0 : (int) value;
+		}
+		final long clamped = Math.min( value, MAX_VALUE );
+		final int exponent = 63 - Long.numberOfLeadingZeros( clamped );
+		final int subBucket = (int) ( clamped >>> ( exponent - SUB_BUCKET_BITS ) ) - SUB_BUCKET_COUNT;
+		return EXACT_VALUE_COUNT + ( exponent - SUB_BUCKET_BITS - 1 ) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	/**
+	 * The middle of the range of values counted by the given bucket.
+	 */
+	static long representativeValue(int index) {
+		if ( index < EXACT_VALUE_COUNT ) {
+			return index;
+		}
+		final int exponent = ( index - EXACT_VALUE_COUNT ) / SUB_BUCKET_COUNT + SUB_BUCKET_BITS + 1;
+		final int subBucket = ( index - EXACT_VALUE_COUNT ) % SUB_BUCKET_COUNT;
+		final int shift = exponent - SUB_BUCKET_BITS;
+		final long lowerBound = (long) ( SUB_BUCKET_COUNT + subBucket ) << shift;
+		return lowerBound + ( ( 1L << shift ) >>> 1 );
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.stat.internal;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
@@ -32,6 +33,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final AtomicLong executionMaxTime = new AtomicLong();
 	private final AtomicLong executionMinTime = new AtomicLong(Long.MAX_VALUE);
 	private final AtomicLong totalExecutionTime = new AtomicLong();
+	private final LatencyHistogram executionTimes = new LatencyHistogram();
 
 	private final LongAdder planCacheHitCount = new LongAdder();
 	private final LongAdder planCacheMissCount = new LongAdder();
@@ -132,6 +134,14 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		return totalExecutionTime.get();
 	}
 
+	/**
+	 * time in ms which the given percentage of the executions of this query did not exceed
+	 */
+	@Override
+	public double getExecutionTimePercentile(double percentile) {
+		return executionTimes.getPercentileMilliseconds( percentile );
+	}
+
 	/**
 	 * Query plan successfully fetched from the cache
 	 */
@@ -160,6 +170,18 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	 * @param time time taken
 	 */
 	public void executed(long rows, long time) {
+		executed( rows, time, TimeUnit.MILLISECONDS.toMicros( time ) );
+	}
+
+	/**
+	 * add statistics report of a DB query
+	 *
+	 * @param rows rows count returned
+	 * @param time time taken, in ms
+	 * @param microseconds time taken, in microseconds, for the latency histogram
+	 */
+	void executed(long rows, long time, long microseconds) {
+		executionTimes.recordMicroseconds( microseconds );
 		// read lock is enough, concurrent updates are supported by the underlying type AtomicLong
 		// this only guards executed(long, long) to be called, when another thread is executing getExecutionAvgTime()
 		readLock.lock();
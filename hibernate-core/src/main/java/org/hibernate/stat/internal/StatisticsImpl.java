@@ -7,6 +7,7 @@
 package org.hibernate.stat.internal;
 
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 
@@ -50,6 +51,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final LongAdder sessionCloseCount = new LongAdder();
 	private final LongAdder flushCount = new LongAdder();
 	private final LongAdder connectCount = new LongAdder();
+	private final AtomicLong connectionAcquisitionMaxTime = new AtomicLong();
+	private final LatencyHistogram connectionAcquisitionTimes = new LatencyHistogram();
 
 	private final LongAdder prepareStatementCount = new LongAdder();
 	private final LongAdder closeStatementCount = new LongAdder();
@@ -79,6 +82,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryExecutionCount = new LongAdder();
 	private final AtomicLong queryExecutionMaxTime = new AtomicLong();
+	private final LatencyHistogram queryExecutionTimes = new LatencyHistogram();
 	private volatile String queryExecutionMaxTimeQueryString;
 	private final LongAdder queryCacheHitCount = new LongAdder();
 	private final LongAdder queryCacheMissCount = new LongAdder();
@@ -86,6 +90,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanCacheEvictionCount = new LongAdder();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -149,6 +154,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		sessionOpenCount.reset();
 		flushCount.reset();
 		connectCount.reset();
+		connectionAcquisitionMaxTime.set( 0L );
+		connectionAcquisitionTimes.clear();
 
 		prepareStatementCount.reset();
 		closeStatementCount.reset();
@@ -168,6 +175,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		queryExecutionCount.reset();
 		queryCacheHitCount.reset();
 		queryExecutionMaxTime.set( 0L );
+		queryExecutionTimes.clear();
 		queryExecutionMaxTimeQueryString = null;
 		queryCacheMissCount.reset();
 		queryCachePutCount.reset();
@@ -190,6 +198,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanCacheEvictionCount.reset();
 
 		resetStartTime();
 	}
@@ -267,6 +276,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getEntityStatistics( entityName ).incrementLoadCount();
 	}
 
+	@Override
+	public void entityLoadExecuted(String entityName, long nanoseconds) {
+		getEntityStatistics( entityName ).loadExecuted( nanoseconds );
+	}
+
 	@Override
 	public void fetchEntity(String entityName) {
 		entityFetchCount.increment();
@@ -686,10 +700,30 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryExecutionMaxTime.get();
 	}
 
+	@Override
+	public double getQueryExecutionTimePercentile(double percentile) {
+		return queryExecutionTimes.getPercentileMilliseconds( percentile );
+	}
+
 	@Override
 	public void queryExecuted(String hql, int rows, long time) {
+		queryExecuted( hql, rows, time, TimeUnit.MILLISECONDS.toMicros( time ) );
+	}
+
+	@Override
+	public void queryExecutedNanoseconds(String hql, int rows, long nanoseconds) {
+		queryExecuted(
+				hql,
+				rows,
+				TimeUnit.NANOSECONDS.toMillis( nanoseconds ),
+				TimeUnit.NANOSECONDS.toMicros( nanoseconds )
+		);
+	}
+
+	private void queryExecuted(String hql, int rows, long time, long microseconds) {
 		LOG.hql( hql, time, (long) rows );
 		queryExecutionCount.increment();
+		queryExecutionTimes.recordMicroseconds( microseconds );
 
 		boolean isLongestQuery;
 		//noinspection StatementWithEmptyBody
@@ -704,7 +738,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 
 		if ( hql != null ) {
-			getQueryStatistics( hql ).executed( rows, time );
+			getQueryStatistics( hql ).executed( rows, time, microseconds );
 		}
 	}
 
@@ -757,6 +791,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.sum();
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -775,6 +814,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void queryPlanCacheEviction() {
+		queryPlanCacheEvictionCount.increment();
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return l2CacheStatsMap.getOrCompute(
 				regionName,
@@ -805,6 +849,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return connectCount.sum();
 	}
 
+	@Override
+	public double getConnectionAcquisitionTimePercentile(double percentile) {
+		return connectionAcquisitionTimes.getPercentileMilliseconds( percentile );
+	}
+
+	@Override
+	public long getConnectionAcquisitionMaxTime() {
+		return connectionAcquisitionMaxTime.get();
+	}
+
 	@Override
 	public long getSuccessfulTransactionCount() {
 		return committedTransactionCount.sum();
@@ -845,6 +899,20 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		connectCount.increment();
 	}
 
+	@Override
+	public void connect(long nanoseconds) {
+		connectCount.increment();
+		connectionAcquisitionTimes.recordNanoseconds( nanoseconds );
+
+		final long time = TimeUnit.NANOSECONDS.toMillis( nanoseconds );
+		//noinspection StatementWithEmptyBody
+		for ( long old = connectionAcquisitionMaxTime.get();
+				time > old && !connectionAcquisitionMaxTime.compareAndSet( old, time );
+				old = connectionAcquisitionMaxTime.get() ) {
+			// nothing to do here given the odd loop structure...
+		}
+	}
+
 	@Override
 	public void prepareStatement() {
 		prepareStatementCount.increment();
@@ -904,6 +972,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		LOG.maxQueryTime( queryExecutionMaxTime.get() );
 		LOG.queryPlanCacheHits( queryPlanCacheHitCount.sum() );
 		LOG.queryPlanCacheMisses( queryPlanCacheMissCount.sum() );
+		LOG.queryPlanCacheEvictions( queryPlanCacheEvictionCount.sum() );
 	}
 
 	@Override
@@ -918,6 +987,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				.append( ",optimistic lock failures=" ).append( optimisticFailureCount )
 				.append( ",flushes=" ).append( flushCount )
 				.append( ",connections obtained=" ).append( connectCount )
+				.append( ",max connection acquisition time=" ).append( connectionAcquisitionMaxTime )
 				.append( ",statements prepared=" ).append( prepareStatementCount )
 				.append( ",statements closed=" ).append( closeStatementCount )
 				.append( ",second level cache puts=" ).append( secondLevelCachePutCount )
@@ -948,6 +1018,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				.append( ",max query time=" ).append( queryExecutionMaxTime )
 				.append( ",query plan cache hits=" ).append( queryPlanCacheHitCount )
 				.append( ",query plan cache misses=" ).append( queryPlanCacheMissCount )
+				.append( ",query plan cache evictions=" ).append( queryPlanCacheEvictionCount )
 				.append( ']' )
 				.toString();
 	}
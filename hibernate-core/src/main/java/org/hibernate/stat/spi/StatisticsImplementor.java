@@ -6,6 +6,8 @@
  */
 package org.hibernate.stat.spi;
 
+import java.util.concurrent.TimeUnit;
+
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.service.Service;
 import org.hibernate.stat.Statistics;
@@ -37,6 +39,16 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void connect();
 
+	/**
+	 * Callback about a connection being obtained from {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider},
+	 * timed so that the distribution of connection acquisition times can be tracked.
+	 *
+	 * @param nanoseconds time spent obtaining the connection
+	 */
+	default void connect(long nanoseconds) {
+		connect();
+	}
+
 	/**
 	 * Callback about a statement being prepared.
 	 */
@@ -70,6 +82,17 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void fetchEntity(String entityName);
 
+	/**
+	 * Callback indicating that an entity was loaded from the database by identifier,
+	 * used to track the distribution of load times.
+	 *
+	 * @param entityName The name of the entity loaded.
+	 * @param nanoseconds The time taken by the load
+	 */
+	default void entityLoadExecuted(String entityName, long nanoseconds) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback about an entity being updated.
 	 *
@@ -233,6 +256,18 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void queryExecuted(String hql, int rows, long time);
 
+	/**
+	 * Callback indicating execution of a sql/hql query, timed with nanosecond
+	 * precision so that the distribution of short execution times can be tracked.
+	 *
+	 * @param hql The query
+	 * @param rows Number of rows returned
+	 * @param nanoseconds execution time
+	 */
+	default void queryExecutedNanoseconds(String hql, int rows, long nanoseconds) {
+		queryExecuted( hql, rows, TimeUnit.NANOSECONDS.toMillis( nanoseconds ) );
+	}
+
 	/**
 	 * Callback indicating a hit to the timestamp cache
 	 */
@@ -257,6 +292,14 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating an entry was evicted from, or not admitted to, the
+	 * query plan cache because it is full.
+	 */
+	default void queryPlanCacheEviction() {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
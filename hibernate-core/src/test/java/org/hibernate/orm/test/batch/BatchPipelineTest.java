@@ -0,0 +1,138 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PersistenceException;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link AvailableSettings#STATEMENT_BATCH_PIPELINE_DEPTH}
+ */
+@DomainModel( annotatedClasses = BatchPipelineTest.Node.class )
+@SessionFactory
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "5" ),
+				@Setting( name = AvailableSettings.STATEMENT_BATCH_PIPELINE_DEPTH, value = "2" )
+		}
+)
+public class BatchPipelineTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "update Node set parent = null" ).executeUpdate();
+					session.createQuery( "delete from Node" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testPipelinedInserts(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					Node parent = null;
+					for ( int i = 1; i <= 23; i++ ) {
+						final Node node = new Node( i, "node " + i, parent );
+						session.persist( node );
+						parent = node;
+					}
+				}
+		);
+		scope.inTransaction(
+				session -> {
+					assertEquals(
+							23L,
+							session.createQuery( "select count(*) from Node", Long.class ).getSingleResult()
+					);
+					assertEquals( "node 17", session.find( Node.class, 17 ).name );
+					assertEquals( 11, session.find( Node.class, 12 ).parent.id );
+				}
+		);
+	}
+
+	@Test
+	public void testPipelinedUpdates(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 23; i++ ) {
+						session.persist( new Node( i, "node " + i, null ) );
+					}
+				}
+		);
+		scope.inTransaction(
+				session -> session.createQuery( "from Node", Node.class )
+						.getResultList()
+						.forEach( node -> node.name = "updated " + node.id )
+		);
+		scope.inTransaction(
+				session -> assertEquals(
+						23L,
+						session.createQuery( "select count(*) from Node where name like 'updated %'", Long.class )
+								.getSingleResult()
+				)
+		);
+	}
+
+	@Test
+	public void testFailureOfPipelinedBatch(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.persist( new Node( 3, "existing", null ) )
+		);
+		assertThrows(
+				PersistenceException.class,
+				() -> scope.inTransaction(
+						session -> {
+							// the node inserted in the previous transaction has the same id as the third one
+							for ( int i = 1; i <= 17; i++ ) {
+								session.persist( new Node( i, "node " + i, null ) );
+							}
+						}
+				)
+		);
+		scope.inTransaction(
+				session -> assertEquals(
+						1L,
+						session.createQuery( "select count(*) from Node", Long.class ).getSingleResult()
+				)
+		);
+	}
+
+	@Entity( name = "Node" )
+	public static class Node {
+		@Id
+		private Integer id;
+		private String name;
+		@ManyToOne
+		private Node parent;
+
+		public Node() {
+		}
+
+		public Node(Integer id, String name, Node parent) {
+			this.id = id;
+			this.name = name;
+			this.parent = parent;
+		}
+	}
+}
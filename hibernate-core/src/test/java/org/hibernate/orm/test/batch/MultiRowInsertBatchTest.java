@@ -0,0 +1,242 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PersistenceException;
+
+import org.hibernate.annotations.JdbcType;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.jdbc.BasicBinder;
+import org.hibernate.type.descriptor.jdbc.ClobJdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcTypeDescriptorIndicators;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link AvailableSettings#STATEMENT_BATCH_ROWS_PER_INSERT}
+ */
+@DomainModel( annotatedClasses = { MultiRowInsertBatchTest.Node.class, MultiRowInsertBatchTest.Attachment.class } )
+@SessionFactory( statementInspectorClass = SQLStatementInspector.class )
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10" ),
+				@Setting( name = AvailableSettings.STATEMENT_BATCH_ROWS_PER_INSERT, value = "4" )
+		}
+)
+public class MultiRowInsertBatchTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete from Attachment" ).executeUpdate();
+					session.createQuery( "update Node set parent = null" ).executeUpdate();
+					session.createQuery( "delete from Node" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testMultiRowInserts(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getStatementInspector( SQLStatementInspector.class );
+		statementInspector.clear();
+		scope.inTransaction(
+				session -> {
+					Node parent = null;
+					for ( int i = 1; i <= 23; i++ ) {
+						final Node node = new Node( i, i % 5 == 0 ? null : "node " + i, parent );
+						session.persist( node );
+						parent = node;
+					}
+				}
+		);
+
+		if ( scope.getSessionFactory().getJdbcServices().getDialect().getMaxRowsPerInsert( 3 ) >= 4 ) {
+			boolean multiRowInsertExecuted = false;
+			for ( String sql : statementInspector.getSqlQueries() ) {
+				if ( sql.toLowerCase().startsWith( "insert" ) ) {
+					assertTrue( sql.split( "\\?" ).length - 1 <= 12, sql );
+					multiRowInsertExecuted = multiRowInsertExecuted || sql.split( "\\?" ).length - 1 == 12;
+				}
+			}
+			assertTrue( multiRowInsertExecuted );
+		}
+
+		scope.inTransaction(
+				session -> {
+					assertEquals(
+							23L,
+							session.createQuery( "select count(*) from Node", Long.class ).getSingleResult()
+					);
+					assertEquals( "node 17", session.find( Node.class, 17 ).name );
+					assertNull( session.find( Node.class, 20 ).name );
+					assertEquals( 11, session.find( Node.class, 12 ).parent.id );
+					assertEquals( 22, session.find( Node.class, 23 ).parent.id );
+				}
+		);
+	}
+
+	@Test
+	public void testMultiRowInsertsOfLobs(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getStatementInspector( SQLStatementInspector.class );
+		statementInspector.clear();
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 10; i++ ) {
+						final Attachment attachment = new Attachment();
+						attachment.id = i;
+						attachment.data = new byte[] { (byte) i, 0, (byte) -i };
+						attachment.text = "text " + i;
+						attachment.blob = session.getLobHelper().createBlob( new byte[] { 1, (byte) i } );
+						attachment.note = "note " + i;
+						session.persist( attachment );
+					}
+				}
+		);
+
+		if ( scope.getSessionFactory().getJdbcServices().getDialect().getMaxRowsPerInsert( 5 ) >= 4 ) {
+			boolean multiRowInsertExecuted = false;
+			for ( String sql : statementInspector.getSqlQueries() ) {
+				if ( sql.toLowerCase().startsWith( "insert" ) ) {
+					multiRowInsertExecuted = multiRowInsertExecuted || sql.split( "\\?" ).length - 1 == 20;
+				}
+			}
+			assertTrue( multiRowInsertExecuted );
+		}
+
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 10; i++ ) {
+						final Attachment attachment = session.find( Attachment.class, i );
+						assertArrayEquals( new byte[] { (byte) i, 0, (byte) -i }, attachment.data );
+						assertEquals( "text " + i, attachment.text );
+						try {
+							assertArrayEquals( new byte[] { 1, (byte) i }, attachment.blob.getBytes( 1, 2 ) );
+						}
+						catch (SQLException e) {
+							throw new RuntimeException( e );
+						}
+						assertEquals( "note " + i, attachment.note );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testFailureOfMultiRowInsert(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.persist( new Node( 3, "existing", null ) )
+		);
+		assertThrows(
+				PersistenceException.class,
+				() -> scope.inTransaction(
+						session -> {
+							// the node inserted in the previous transaction has the same id as the third one
+							for ( int i = 1; i <= 6; i++ ) {
+								session.persist( new Node( i, "node " + i, null ) );
+							}
+						}
+				)
+		);
+		scope.inTransaction(
+				session -> assertEquals(
+						1L,
+						session.createQuery( "select count(*) from Node", Long.class ).getSingleResult()
+				)
+		);
+	}
+
+	@Entity( name = "Node" )
+	public static class Node {
+		@Id
+		private Integer id;
+		private String name;
+		@ManyToOne
+		private Node parent;
+
+		public Node() {
+		}
+
+		public Node(Integer id, String name, Node parent) {
+			this.id = id;
+			this.name = name;
+			this.parent = parent;
+		}
+	}
+
+	@Entity( name = "Attachment" )
+	public static class Attachment {
+		@Id
+		private Integer id;
+		@Lob
+		private byte[] data;
+		@Lob
+		private String text;
+		@Lob
+		private Blob blob;
+		@Lob
+		@JdbcType( ConnectionClobJdbcType.class )
+		private String note;
+	}
+
+	/**
+	 * Binds a {@link Clob} created by the connection of the statement, through the driver's statement
+	 */
+	public static class ConnectionClobJdbcType extends ClobJdbcType {
+		@Override
+		public org.hibernate.type.descriptor.jdbc.JdbcType resolveIndicatedType(
+				JdbcTypeDescriptorIndicators indicators,
+				JavaType<?> domainJtd) {
+			return this;
+		}
+
+		@Override
+		protected <X> BasicBinder<X> getClobBinder(JavaType<X> javaTypeDescriptor) {
+			return new BasicBinder<X>( javaTypeDescriptor, this ) {
+				@Override
+				protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options)
+						throws SQLException {
+					final Clob clob = st.getConnection().createClob();
+					clob.setString( 1, javaTypeDescriptor.unwrap( value, String.class, options ) );
+					st.unwrap( PreparedStatement.class ).setClob( index, clob );
+				}
+
+				@Override
+				protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
+						throws SQLException {
+					final Clob clob = st.getConnection().createClob();
+					clob.setString( 1, javaTypeDescriptor.unwrap( value, String.class, options ) );
+					st.setClob( name, clob );
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bytecode;
+
+import java.lang.reflect.Member;
+
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
+import org.hibernate.cfg.Environment;
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class DirtyCheckOptimizerTest extends BaseUnitTestCase {
+
+	@Test
+	public void testComparisons() throws Exception {
+		BytecodeProvider provider = Environment.getBytecodeProvider();
+		DirtyCheckOptimizer optimizer = provider.getDirtyCheckOptimizer(
+				Item.class,
+				new Member[] {
+						Item.class.getDeclaredField( "count" ),
+						Item.class.getDeclaredField( "total" ),
+						Item.class.getDeclaredField( "ratio" ),
+						Item.class.getDeclaredField( "active" ),
+						Item.class.getDeclaredMethod( "getName" )
+				}
+		);
+		assertNotNull( optimizer );
+
+		Item item = new Item();
+		item.count = 3;
+		item.total = 42L;
+		item.ratio = Double.NaN;
+		item.active = true;
+		item.name = "item";
+		Object[] loadedState = new Object[] { 3, 42L, Double.NaN, true, item.name };
+		assertTrue( optimizer.isUnmodified( item, loadedState ) );
+
+		item.count = 4;
+		assertFalse( optimizer.isUnmodified( item, loadedState ) );
+		item.count = 3;
+
+		item.ratio = 0.5d;
+		assertFalse( optimizer.isUnmodified( item, loadedState ) );
+		item.ratio = Double.NaN;
+
+		// references are compared by identity
+		item.name = new String( "item" );
+		assertFalse( optimizer.isUnmodified( item, loadedState ) );
+		loadedState[4] = item.name;
+		assertTrue( optimizer.isUnmodified( item, loadedState ) );
+
+		loadedState[1] = null;
+		assertFalse( optimizer.isUnmodified( item, loadedState ) );
+	}
+
+	@Test
+	public void testPrivateMember() throws Exception {
+		BytecodeProvider provider = Environment.getBytecodeProvider();
+		assertNull(
+				provider.getDirtyCheckOptimizer(
+						Item.class,
+						new Member[] { Item.class.getDeclaredField( "secret" ) }
+				)
+		);
+	}
+
+	public static class Item {
+		int count;
+		long total;
+		double ratio;
+		boolean active;
+		String name;
+		private String secret;
+
+		String getName() {
+			return name;
+		}
+	}
+}
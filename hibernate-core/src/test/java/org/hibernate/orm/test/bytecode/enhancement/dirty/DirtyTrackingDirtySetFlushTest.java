@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bytecode.enhancement.dirty;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that a flush limited to the entities known to be dirty, per
+ * {@link AvailableSettings#FLUSH_DIRTY_SET_ONLY}, visits the enhanced entities
+ * whose attributes were set
+ */
+@RunWith( BytecodeEnhancerRunner.class )
+public class DirtyTrackingDirtySetFlushTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Item.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		configuration.setProperty( AvailableSettings.FLUSH_DIRTY_SET_ONLY, "true" );
+	}
+
+	@Before
+	public void prepare() {
+		doInHibernate( this::sessionFactory, s -> {
+			s.persist( new Item( 1L, "first" ) );
+			s.persist( new Item( 2L, "second" ) );
+		} );
+	}
+
+	@After
+	public void cleanup() {
+		doInHibernate( this::sessionFactory, s -> {
+			s.createQuery( "delete from Item" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testSetAttributeIsFlushedWithoutMarkDirty() {
+		doInHibernate( this::sessionFactory, s -> {
+			final Item item = s.get( Item.class, 1L );
+			s.get( Item.class, 2L );
+			assertTrue( item instanceof SelfDirtinessTracker );
+
+			item.name = "first, renamed";
+			s.flush();
+			s.clear();
+
+			assertEquals( "first, renamed", s.get( Item.class, 1L ).name );
+			assertEquals( "second", s.get( Item.class, 2L ).name );
+		} );
+
+		doInHibernate( this::sessionFactory, s -> {
+			// set again after a first flush, which cleared the dirty set
+			final Item item = s.get( Item.class, 2L );
+			item.name = "second, renamed";
+			s.flush();
+			item.name = "second, renamed twice";
+		} );
+
+		doInHibernate( this::sessionFactory, s -> {
+			assertEquals( "first, renamed", s.get( Item.class, 1L ).name );
+			assertEquals( "second, renamed twice", s.get( Item.class, 2L ).name );
+		} );
+	}
+
+	// --- //
+
+	@Entity( name = "Item" )
+	@Table( name = "DIRTY_SET_ITEM" )
+	private static class Item {
+
+		@Id
+		Long id;
+
+		String name;
+
+		Item() {
+		}
+
+		Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link CompactCacheEntry}
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory" ),
+				@Setting( name = AvailableSettings.USE_COMPACT_CACHE, value = "true" )
+		}
+)
+@DomainModel(
+		annotatedClasses = {
+				CompactCacheEntryTest.Owner.class,
+				CompactCacheEntryTest.Animal.class,
+				CompactCacheEntryTest.Dog.class
+		}
+)
+@SessionFactory( generateStatistics = true )
+public class CompactCacheEntryTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Owner owner = new Owner( 1, "owner" );
+					session.persist( owner );
+					final Animal animal = new Animal( 1, "animal", 1.5d, LocalDate.of( 2020, 1, 31 ) );
+					session.persist( animal );
+					final Dog dog = new Dog( 2, "dog", 12.25d, null );
+					dog.trained = true;
+					dog.size = Size.LARGE;
+					dog.license = new License( "L-42", new BigDecimal( "19.90" ) );
+					dog.owner = owner;
+					session.persist( dog );
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete from Animal" ).executeUpdate();
+					session.createQuery( "delete from Owner" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testCachedItemIsBinary(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory().getMetamodel().entityPersister( Animal.class );
+		assertTrue( persister.getCacheEntryStructure() instanceof CompactCacheEntry );
+
+		scope.inTransaction(
+				session -> {
+					final EntityDataAccess entityDataAccess = persister.getCacheAccessStrategy();
+					final Object cacheKey = entityDataAccess.generateCacheKey(
+							2,
+							persister,
+							scope.getSessionFactory(),
+							null
+					);
+					assertTrue( entityDataAccess.get( session, cacheKey ) instanceof byte[] );
+				}
+		);
+	}
+
+	@Test
+	public void testLoadFromCache(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction(
+				session -> {
+					final Animal animal = session.find( Animal.class, 1 );
+					assertEquals( "animal", animal.name );
+					assertEquals( 1.5d, animal.weight );
+					assertEquals( LocalDate.of( 2020, 1, 31 ), animal.birthDate );
+
+					final Dog dog = (Dog) session.find( Animal.class, 2 );
+					assertEquals( "dog", dog.name );
+					assertEquals( 12.25d, dog.weight );
+					assertNull( dog.birthDate );
+					assertTrue( dog.trained );
+					assertEquals( Size.LARGE, dog.size );
+					assertEquals( "L-42", dog.license.code );
+					assertEquals( new BigDecimal( "19.90" ), dog.license.fee );
+					assertEquals( 1, dog.owner.id );
+				}
+		);
+		assertEquals( 2, statistics.getSecondLevelCacheHitCount() );
+	}
+
+	@Test
+	public void testUpdatedEntry(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Dog dog = session.find( Dog.class, 2 );
+					dog.name = "renamed";
+					dog.license = null;
+				}
+		);
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction(
+				session -> {
+					final Dog dog = session.find( Dog.class, 2 );
+					assertEquals( "renamed", dog.name );
+					assertNull( dog.license );
+					assertEquals( 1, dog.version );
+				}
+		);
+		assertEquals( 1, statistics.getSecondLevelCacheHitCount() );
+	}
+
+	public enum Size {
+		SMALL,
+		LARGE
+	}
+
+	@Entity( name = "Owner" )
+	public static class Owner {
+		@Id
+		Integer id;
+		String name;
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Animal" )
+	@Cacheable
+	public static class Animal {
+		@Id
+		Integer id;
+		String name;
+		double weight;
+		LocalDate birthDate;
+		@Version
+		int version;
+
+		public Animal() {
+		}
+
+		public Animal(Integer id, String name, double weight, LocalDate birthDate) {
+			this.id = id;
+			this.name = name;
+			this.weight = weight;
+			this.birthDate = birthDate;
+		}
+	}
+
+	@Entity( name = "Dog" )
+	public static class Dog extends Animal {
+		boolean trained;
+		@Enumerated( EnumType.STRING )
+		Size size;
+		@Embedded
+		License license;
+		@ManyToOne
+		Owner owner;
+
+		public Dog() {
+		}
+
+		public Dog(Integer id, String name, double weight, LocalDate birthDate) {
+			super( id, name, weight, birthDate );
+		}
+	}
+
+	@Embeddable
+	public static class License {
+		String code;
+		BigDecimal fee;
+
+		public License() {
+		}
+
+		public License(String code, BigDecimal fee) {
+			this.code = code;
+			this.fee = fee;
+		}
+	}
+}
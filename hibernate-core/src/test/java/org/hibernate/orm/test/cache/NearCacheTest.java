@@ -0,0 +1,284 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.support.CacheInvalidationChannel;
+import org.hibernate.cache.spi.support.CacheInvalidationListener;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.NearCacheStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil2.inTransaction;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link NearCacheStorageAccess}, with two session factories standing
+ * for two nodes sharing a clustered second-level cache.
+ */
+@BaseUnitTest
+public class NearCacheTest {
+	private SessionFactoryImplementor firstNode;
+	private SessionFactoryImplementor secondNode;
+
+	@BeforeEach
+	public void startNodes() {
+		SharedStorageAccess.ENTRIES.clear();
+		SharedStorageAccess.READS.set( 0 );
+		firstNode = buildNode( "create-drop" );
+		secondNode = buildNode( "none" );
+	}
+
+	@AfterEach
+	public void stopNodes() {
+		if ( secondNode != null ) {
+			secondNode.close();
+		}
+		if ( firstNode != null ) {
+			firstNode.close();
+		}
+	}
+
+	@Test
+	public void testHotEntriesAreReadLocally() {
+		inTransaction( firstNode, session -> session.persist( new Country( "FR", "France" ) ) );
+
+		inTransaction( secondNode, session -> assertEquals( "France", session.find( Country.class, "FR" ).name ) );
+		final int reads = SharedStorageAccess.READS.get();
+		for ( int i = 0; i < 3; i++ ) {
+			inTransaction( secondNode, session -> assertEquals( "France", session.find( Country.class, "FR" ).name ) );
+		}
+
+		assertEquals( reads, SharedStorageAccess.READS.get() );
+		assertEquals( 1, nearCache( secondNode ).getLocalEntryCount() );
+	}
+
+	@Test
+	public void testUpdatesInvalidatePeers() {
+		inTransaction( firstNode, session -> session.persist( new Country( "FR", "France" ) ) );
+		inTransaction( secondNode, session -> assertEquals( "France", session.find( Country.class, "FR" ).name ) );
+		assertEquals( 1, nearCache( secondNode ).getLocalEntryCount() );
+
+		inTransaction( firstNode, session -> session.find( Country.class, "FR" ).name = "French Republic" );
+		assertEquals( 0, nearCache( secondNode ).getLocalEntryCount() );
+
+		final int reads = SharedStorageAccess.READS.get();
+		inTransaction(
+				secondNode,
+				session -> assertEquals( "French Republic", session.find( Country.class, "FR" ).name )
+		);
+		assertTrue( SharedStorageAccess.READS.get() > reads );
+		assertEquals( 0, secondNode.getStatistics().getSecondLevelCacheMissCount() );
+
+		inTransaction( firstNode, session -> session.remove( session.find( Country.class, "FR" ) ) );
+		assertEquals( 0, nearCache( secondNode ).getLocalEntryCount() );
+	}
+
+	@Test
+	public void testEvictionInvalidatesPeers() {
+		inTransaction( firstNode, session -> session.persist( new Country( "FR", "France" ) ) );
+		inTransaction( secondNode, session -> session.find( Country.class, "FR" ) );
+		assertEquals( 1, nearCache( secondNode ).getLocalEntryCount() );
+
+		firstNode.getCache().evictEntityData( Country.class );
+		assertEquals( 0, nearCache( secondNode ).getLocalEntryCount() );
+		assertFalse( secondNode.getCache().containsEntity( Country.class, "FR" ) );
+	}
+
+	@Test
+	public void testEntriesExpiredByTheUnderlyingStorageAreNotKeptForLongerThanMaxAge() throws InterruptedException {
+		final MapStorageAccessImpl underlyingStorage = new MapStorageAccessImpl();
+		final NearCacheStorageAccess nearCache = new NearCacheStorageAccess( "region", underlyingStorage, null, 10, 50 );
+		nearCache.putFromLoad( "FR", "France", null );
+
+		// the underlying storage expires the entry, without telling the near-cache
+		underlyingStorage.evictData( "FR" );
+		assertEquals( "France", nearCache.getFromCache( "FR", null ) );
+
+		Thread.sleep( 100 );
+		assertNull( nearCache.getFromCache( "FR", null ) );
+		assertFalse( nearCache.contains( "FR" ) );
+		assertEquals( 0, nearCache.getLocalEntryCount() );
+	}
+
+	private static NearCacheStorageAccess nearCache(SessionFactoryImplementor sessionFactory) {
+		final DomainDataRegionTemplate region = (DomainDataRegionTemplate) sessionFactory.getCache()
+				.getRegion( Country.class.getName() );
+		return (NearCacheStorageAccess) region.getCacheStorageAccess();
+	}
+
+	private static SessionFactoryImplementor buildNode(String schemaAction) {
+		final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" )
+				.applySetting( AvailableSettings.CACHE_REGION_FACTORY, SharedRegionFactory.class.getName() )
+				.applySetting( AvailableSettings.DEFAULT_CACHE_CONCURRENCY_STRATEGY, AccessType.READ_WRITE.getExternalName() )
+				.applySetting( AvailableSettings.CACHE_NEAR_CACHE_MAX_ENTRIES, "100" )
+				.applySetting( AvailableSettings.CACHE_INVALIDATION_CHANNEL, InJvmInvalidationChannel.class.getName() )
+				.applySetting( AvailableSettings.GENERATE_STATISTICS, "true" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, schemaAction )
+				.build();
+		try {
+			return (SessionFactoryImplementor) new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( Country.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+			throw e;
+		}
+	}
+
+	/**
+	 * Stands in for a clustered cache, shared by all the session factories of the JVM.
+	 */
+	public static class SharedRegionFactory extends RegionFactoryTemplate {
+		@Override
+		protected void prepareForUse(SessionFactoryOptions settings, Map configValues) {
+		}
+
+		@Override
+		protected DomainDataStorageAccess createDomainDataStorageAccess(
+				DomainDataRegionConfig regionConfig,
+				DomainDataRegionBuildingContext buildingContext) {
+			return new SharedStorageAccess();
+		}
+
+		@Override
+		protected StorageAccess createQueryResultsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return new MapStorageAccessImpl();
+		}
+
+		@Override
+		protected StorageAccess createTimestampsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return new MapStorageAccessImpl();
+		}
+
+		@Override
+		protected void releaseFromUse() {
+		}
+	}
+
+	private static class SharedStorageAccess implements DomainDataStorageAccess {
+		static final Map<Object, Object> ENTRIES = new ConcurrentHashMap<>();
+		static final AtomicInteger READS = new AtomicInteger();
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			READS.incrementAndGet();
+			return ENTRIES.get( key );
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			ENTRIES.put( key, value );
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return ENTRIES.containsKey( key );
+		}
+
+		@Override
+		public void evictData() {
+			ENTRIES.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			ENTRIES.remove( key );
+		}
+
+		@Override
+		public void release() {
+		}
+	}
+
+	/**
+	 * Delivers the invalidations to the near-caches of all the session factories of the JVM.
+	 */
+	public static class InJvmInvalidationChannel implements CacheInvalidationChannel {
+		private static final Map<String, Set<CacheInvalidationListener>> LISTENERS = new ConcurrentHashMap<>();
+
+		@Override
+		public void subscribe(String regionName, CacheInvalidationListener listener) {
+			LISTENERS.computeIfAbsent( regionName, name -> ConcurrentHashMap.newKeySet() ).add( listener );
+		}
+
+		@Override
+		public void unsubscribe(String regionName, CacheInvalidationListener listener) {
+			LISTENERS.getOrDefault( regionName, Collections.<CacheInvalidationListener>emptySet() ).remove( listener );
+		}
+
+		@Override
+		public void publishInvalidation(String regionName, Object key, CacheInvalidationListener publisher) {
+			for ( CacheInvalidationListener listener : LISTENERS.getOrDefault( regionName, Collections.<CacheInvalidationListener>emptySet() ) ) {
+				if ( listener != publisher ) {
+					listener.invalidate( key );
+				}
+			}
+		}
+
+		@Override
+		public void publishClear(String regionName, CacheInvalidationListener publisher) {
+			for ( CacheInvalidationListener listener : LISTENERS.getOrDefault( regionName, Collections.<CacheInvalidationListener>emptySet() ) ) {
+				if ( listener != publisher ) {
+					listener.invalidateAll();
+				}
+			}
+		}
+	}
+
+	@Entity( name = "Country" )
+	@Cacheable
+	public static class Country {
+		@Id
+		String code;
+		String name;
+
+		public Country() {
+		}
+
+		public Country(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+	}
+}
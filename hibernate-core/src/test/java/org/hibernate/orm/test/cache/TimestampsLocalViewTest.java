@@ -0,0 +1,228 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cache.spi.support.TimestampsLocalViewStorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil2.inTransaction;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link TimestampsLocalViewStorageAccess}, with two session factories standing
+ * for two nodes sharing a clustered timestamps region.
+ */
+@BaseUnitTest
+public class TimestampsLocalViewTest {
+	private static final String QUERY = "select c.name from Country c";
+
+	private SessionFactoryImplementor firstNode;
+	private SessionFactoryImplementor secondNode;
+
+	@BeforeEach
+	public void startNodes() {
+		SharedTimestampsStorageAccess.TIMESTAMPS.clear();
+		SharedTimestampsStorageAccess.READS.set( 0 );
+		firstNode = buildNode( "create-drop" );
+		secondNode = buildNode( "none" );
+	}
+
+	@AfterEach
+	public void stopNodes() {
+		if ( secondNode != null ) {
+			secondNode.close();
+		}
+		if ( firstNode != null ) {
+			firstNode.close();
+		}
+	}
+
+	@Test
+	public void testHitsAreValidatedLocally() {
+		inTransaction( firstNode, session -> session.persist( new Country( "FR", "France" ) ) );
+
+		assertCountryName( secondNode, "France" );
+		assertCountryName( secondNode, "France" );
+		assertEquals( 1, secondNode.getStatistics().getQueryCacheHitCount() );
+
+		final int reads = SharedTimestampsStorageAccess.READS.get();
+		for ( int i = 0; i < 3; i++ ) {
+			assertCountryName( secondNode, "France" );
+		}
+		assertEquals( 4, secondNode.getStatistics().getQueryCacheHitCount() );
+		assertEquals( reads, SharedTimestampsStorageAccess.READS.get() );
+	}
+
+	@Test
+	public void testUpdatesArePushedToPeers() {
+		inTransaction( firstNode, session -> session.persist( new Country( "FR", "France" ) ) );
+		assertCountryName( secondNode, "France" );
+		assertCountryName( secondNode, "France" );
+		assertEquals( 1, secondNode.getStatistics().getQueryCacheHitCount() );
+
+		inTransaction( firstNode, session -> session.find( Country.class, "FR" ).name = "French Republic" );
+
+		assertCountryName( secondNode, "French Republic" );
+		assertEquals( 1, secondNode.getStatistics().getQueryCacheHitCount() );
+		assertCountryName( secondNode, "French Republic" );
+		assertEquals( 2, secondNode.getStatistics().getQueryCacheHitCount() );
+	}
+
+	@Test
+	public void testLocalUpdatesAreSeenImmediately() {
+		inTransaction( firstNode, session -> session.persist( new Country( "FR", "France" ) ) );
+		assertCountryName( firstNode, "France" );
+		assertCountryName( firstNode, "France" );
+
+		inTransaction( firstNode, session -> session.find( Country.class, "FR" ).name = "French Republic" );
+
+		assertCountryName( firstNode, "French Republic" );
+		assertEquals( 1, firstNode.getStatistics().getQueryCacheHitCount() );
+	}
+
+	private static void assertCountryName(SessionFactoryImplementor node, String name) {
+		inTransaction(
+				node,
+				session -> assertEquals(
+						name,
+						session.createQuery( QUERY, String.class ).setCacheable( true ).getSingleResult()
+				)
+		);
+	}
+
+	private static SessionFactoryImplementor buildNode(String schemaAction) {
+		final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" )
+				.applySetting( AvailableSettings.USE_QUERY_CACHE, "true" )
+				.applySetting( AvailableSettings.CACHE_REGION_FACTORY, SharedTimestampsRegionFactory.class.getName() )
+				.applySetting( AvailableSettings.CACHE_TIMESTAMPS_LOCAL_VIEW_MAX_STALENESS, "60000" )
+				.applySetting(
+						AvailableSettings.CACHE_INVALIDATION_CHANNEL,
+						NearCacheTest.InJvmInvalidationChannel.class.getName()
+				)
+				.applySetting( AvailableSettings.GENERATE_STATISTICS, "true" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, schemaAction )
+				.build();
+		try {
+			return (SessionFactoryImplementor) new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( Country.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+			throw e;
+		}
+	}
+
+	/**
+	 * Stands in for a clustered timestamps region, shared by all the session factories of the JVM.
+	 */
+	public static class SharedTimestampsRegionFactory extends RegionFactoryTemplate {
+		@Override
+		protected void prepareForUse(SessionFactoryOptions settings, Map configValues) {
+		}
+
+		@Override
+		protected DomainDataStorageAccess createDomainDataStorageAccess(
+				DomainDataRegionConfig regionConfig,
+				DomainDataRegionBuildingContext buildingContext) {
+			return new MapStorageAccessImpl();
+		}
+
+		@Override
+		protected StorageAccess createQueryResultsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return new MapStorageAccessImpl();
+		}
+
+		@Override
+		protected StorageAccess createTimestampsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return new SharedTimestampsStorageAccess();
+		}
+
+		@Override
+		protected void releaseFromUse() {
+		}
+	}
+
+	private static class SharedTimestampsStorageAccess implements StorageAccess {
+		static final Map<Object, Object> TIMESTAMPS = new ConcurrentHashMap<>();
+		static final AtomicInteger READS = new AtomicInteger();
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			READS.incrementAndGet();
+			return TIMESTAMPS.get( key );
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			TIMESTAMPS.put( key, value );
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return TIMESTAMPS.containsKey( key );
+		}
+
+		@Override
+		public void evictData() {
+			TIMESTAMPS.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			TIMESTAMPS.remove( key );
+		}
+
+		@Override
+		public void release() {
+		}
+	}
+
+	@Entity( name = "Country" )
+	public static class Country {
+		@Id
+		String code;
+		String name;
+
+		public Country() {
+		}
+
+		public Country(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.connection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the pool of {@link DriverManagerConnectionProviderImpl}
+ */
+@BaseUnitTest
+public class DriverManagerConnectionProviderPoolTest {
+	private StandardServiceRegistry serviceRegistry;
+	private ConnectionProvider connectionProvider;
+
+	@BeforeEach
+	public void setUp() {
+		serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.CONNECTION_PROVIDER, DriverManagerConnectionProviderImpl.class.getName() )
+				.applySetting( AvailableSettings.POOL_SIZE, "2" )
+				.applySetting( DriverManagerConnectionProviderImpl.ACQUISITION_TIMEOUT, "200" )
+				.build();
+		connectionProvider = serviceRegistry.getService( ConnectionProvider.class );
+	}
+
+	@AfterEach
+	public void tearDown() {
+		StandardServiceRegistryBuilder.destroy( serviceRegistry );
+	}
+
+	@Test
+	public void testReturnedConnectionIsHandedToWaitingThread() throws Exception {
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+
+		final CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync( () -> getConnection( connectionProvider ) );
+		Thread.sleep( 50 );
+		connectionProvider.closeConnection( first );
+
+		assertSame( first, waiting.get( 1, TimeUnit.SECONDS ) );
+		connectionProvider.closeConnection( first );
+		connectionProvider.closeConnection( second );
+	}
+
+	@Test
+	public void testAcquisitionTimeout() throws Exception {
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+
+		final long start = System.nanoTime();
+		assertThrows( HibernateException.class, connectionProvider::getConnection );
+		assertTrue( System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos( 200 ) );
+
+		connectionProvider.closeConnection( first );
+		connectionProvider.closeConnection( second );
+	}
+
+	@Test
+	public void testThreadGetsBackItsConnection() throws Exception {
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+		connectionProvider.closeConnection( first );
+		connectionProvider.closeConnection( second );
+
+		assertSame( second, connectionProvider.getConnection() );
+		connectionProvider.closeConnection( second );
+	}
+
+	@Test
+	public void testStopDoesNotWaitForWaitingThreads() throws Exception {
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.CONNECTION_PROVIDER, DriverManagerConnectionProviderImpl.class.getName() )
+				.applySetting( AvailableSettings.POOL_SIZE, "1" )
+				.applySetting( DriverManagerConnectionProviderImpl.ACQUISITION_TIMEOUT, "10000" )
+				.build();
+		try {
+			final DriverManagerConnectionProviderImpl provider =
+					(DriverManagerConnectionProviderImpl) registry.getService( ConnectionProvider.class );
+			provider.getConnection();
+
+			final CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync( () -> getConnection( provider ) );
+			Thread.sleep( 50 );
+			final long start = System.nanoTime();
+			provider.stop();
+			assertTrue( System.nanoTime() - start < TimeUnit.SECONDS.toNanos( 5 ), "stop() waited for the waiting thread" );
+
+			// the waiting thread notices that the pool was closed rather than waiting for the timeout
+			final ExecutionException e = assertThrows( ExecutionException.class, () -> waiting.get( 5, TimeUnit.SECONDS ) );
+			assertTrue( e.getCause() instanceof IllegalStateException );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( registry );
+		}
+	}
+
+	private static Connection getConnection(ConnectionProvider connectionProvider) {
+		try {
+			return connectionProvider.getConnection();
+		}
+		catch (SQLException e) {
+			throw new RuntimeException( e );
+		}
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.dirtiness;
+
+import java.util.Date;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for {@link AvailableSettings#USE_DIRTY_CHECKING_OPTIMIZER}
+ */
+@DomainModel(
+		annotatedClasses = {
+				DirtyCheckOptimizerFlushTest.Owner.class,
+				DirtyCheckOptimizerFlushTest.Item.class,
+				DirtyCheckOptimizerFlushTest.Event.class
+		}
+)
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.USE_DIRTY_CHECKING_OPTIMIZER, value = "true" ) )
+public class DirtyCheckOptimizerFlushTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Owner owner = new Owner( 1, "owner 1" );
+					session.persist( owner );
+					session.persist( new Owner( 2, "owner 2" ) );
+					for ( int i = 1; i <= 10; i++ ) {
+						session.persist( new Item( i, "item " + i, i * 10L, owner ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete from Item" ).executeUpdate();
+					session.createQuery( "delete from Owner" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testOptimizerResolution(SessionFactoryScope scope) {
+		assertNotNull( scope.getSessionFactory().getMetamodel().entityPersister( Item.class ).getDirtyCheckOptimizer() );
+		// private fields
+		assertNull( scope.getSessionFactory().getMetamodel().entityPersister( Owner.class ).getDirtyCheckOptimizer() );
+		// mutable property
+		assertNull( scope.getSessionFactory().getMetamodel().entityPersister( Event.class ).getDirtyCheckOptimizer() );
+	}
+
+	@Test
+	public void testUnmodifiedEntities(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "from Item", Item.class ).getResultList();
+					session.flush();
+				}
+		);
+		assertEquals( 0, statistics.getEntityUpdateCount() );
+	}
+
+	@Test
+	public void testModifiedEntities(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction(
+				session -> {
+					final Owner otherOwner = session.find( Owner.class, 2 );
+					final Item priced = session.find( Item.class, 3 );
+					priced.price = 35L;
+					final Item renamed = session.find( Item.class, 4 );
+					// an equal but distinct value is compared by the regular dirty check
+					renamed.name = new String( "item 4" );
+					final Item moved = session.find( Item.class, 5 );
+					moved.owner = otherOwner;
+				}
+		);
+		assertEquals( 2, statistics.getEntityUpdateCount() );
+		scope.inTransaction(
+				session -> {
+					final Item priced = session.find( Item.class, 3 );
+					assertEquals( 35L, priced.price );
+					assertEquals( 1, priced.version );
+					assertEquals( 0, session.find( Item.class, 4 ).version );
+					assertEquals( 2, session.find( Item.class, 5 ).owner.id );
+				}
+		);
+	}
+
+	@Entity( name = "Owner" )
+	public static class Owner {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Item" )
+	public static class Item {
+		@Id
+		Integer id;
+		String name;
+		long price;
+		@ManyToOne
+		Owner owner;
+		@Version
+		int version;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name, long price, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+			this.owner = owner;
+		}
+	}
+
+	@Entity( name = "Event" )
+	public static class Event {
+		@Id
+		Integer id;
+		Date date;
+	}
+}
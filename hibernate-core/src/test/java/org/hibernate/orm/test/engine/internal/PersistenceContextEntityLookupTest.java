@@ -0,0 +1,234 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.engine.internal;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the entity lookups of the persistence context, for the different
+ * kinds of identifier types it stores specially.
+ */
+@DomainModel(
+		annotatedClasses = {
+				PersistenceContextEntityLookupTest.LongEntity.class,
+				PersistenceContextEntityLookupTest.IntegerEntity.class,
+				PersistenceContextEntityLookupTest.UuidEntity.class,
+				PersistenceContextEntityLookupTest.StringEntity.class,
+				PersistenceContextEntityLookupTest.SubLongEntity.class
+		}
+)
+@SessionFactory
+public class PersistenceContextEntityLookupTest {
+	private static final int COUNT = 100;
+
+	@AfterEach
+	public void cleanUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete from LongEntity" ).executeUpdate();
+					session.createQuery( "delete from IntegerEntity" ).executeUpdate();
+					session.createQuery( "delete from UuidEntity" ).executeUpdate();
+					session.createQuery( "delete from StringEntity" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testLookupsByIdentifierType(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Set<UUID> uuids = new HashSet<>();
+					for ( int i = 0; i < COUNT; i++ ) {
+						final UUID uuid = UUID.randomUUID();
+						uuids.add( uuid );
+						session.persist( new LongEntity( (long) i ) );
+						session.persist( new IntegerEntity( i ) );
+						session.persist( new UuidEntity( uuid ) );
+						session.persist( new StringEntity( "id" + i ) );
+					}
+
+					final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+					assertEquals( 4 * COUNT, persistenceContext.getEntitiesByKey().size() );
+
+					for ( int i = 0; i < COUNT; i++ ) {
+						assertFound( session, LongEntity.class, (long) i );
+						assertFound( session, IntegerEntity.class, i );
+						assertFound( session, StringEntity.class, "id" + i );
+					}
+					for ( UUID uuid : uuids ) {
+						assertFound( session, UuidEntity.class, uuid );
+					}
+
+					// identifiers of the wrong type never match
+					assertNull( persistenceContext.getEntity( 1, persister( session, LongEntity.class ) ) );
+					assertNull( persistenceContext.getEntity( (long) COUNT, persister( session, LongEntity.class ) ) );
+				}
+		);
+	}
+
+	@Test
+	public void testRemovalAndIteration(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < COUNT; i++ ) {
+						session.persist( new LongEntity( (long) i ) );
+					}
+					session.flush();
+
+					final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+					for ( int i = 0; i < COUNT; i += 2 ) {
+						session.detach( session.getReference( LongEntity.class, (long) i ) );
+					}
+					assertEquals( COUNT / 2, persistenceContext.getEntitiesByKey().size() );
+
+					final Set<Object> seen = new HashSet<>();
+					for ( Object o : persistenceContext.getEntitiesByKey().entrySet() ) {
+						final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+						final EntityKey key = (EntityKey) entry.getKey();
+						assertEquals( 1L, ( (Long) key.getIdentifier() ) % 2 );
+						assertSame( entry.getValue(), persistenceContext.getEntity( key ) );
+						assertTrue( seen.add( key.getIdentifier() ) );
+					}
+					assertEquals( COUNT / 2, seen.size() );
+
+					final Set<Object> keyIds = new HashSet<>();
+					for ( Object key : persistenceContext.getEntitiesByKey().keySet() ) {
+						assertTrue( persistenceContext.getEntitiesByKey().containsKey( key ) );
+						assertTrue( keyIds.add( ( (EntityKey) key ).getIdentifier() ) );
+					}
+					assertEquals( seen, keyIds );
+
+					final Set<Object> valueIds = new HashSet<>();
+					for ( Object value : persistenceContext.getEntitiesByKey().values() ) {
+						assertTrue( valueIds.add( ( (LongEntity) value ).id ) );
+					}
+					assertEquals( seen, valueIds );
+
+					for ( int i = 0; i < COUNT; i++ ) {
+						final Object entity = persistenceContext.getEntity( (long) i, persister( session, LongEntity.class ) );
+						assertEquals( i % 2 == 1, entity != null );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testSubclassSharesHierarchy(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final SubLongEntity sub = new SubLongEntity( 1L );
+					session.persist( sub );
+
+					final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+					assertSame( sub, persistenceContext.getEntity( 1L, persister( session, LongEntity.class ) ) );
+					assertSame( sub, persistenceContext.getEntity( 1L, persister( session, SubLongEntity.class ) ) );
+					assertTrue( persistenceContext.containsEntity( session.generateEntityKey( 1L, persister( session, LongEntity.class ) ) ) );
+					assertFalse( persistenceContext.containsEntity( session.generateEntityKey( 2L, persister( session, LongEntity.class ) ) ) );
+				}
+		);
+	}
+
+	private static void assertFound(SessionImplementor session, Class<?> entityClass, Object id) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final EntityPersister persister = persister( session, entityClass );
+		final Object entity = persistenceContext.getEntity( id, persister );
+		assertEquals( entityClass, entity.getClass() );
+		assertSame( entity, persistenceContext.getEntity( session.generateEntityKey( id, persister ) ) );
+	}
+
+	private static EntityPersister persister(SessionImplementor session, Class<?> entityClass) {
+		return session.getFactory().getMetamodel().entityPersister( entityClass );
+	}
+
+	@Entity(name = "LongEntity")
+	@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+	public static class LongEntity {
+		@Id
+		private Long id;
+
+		public LongEntity() {
+		}
+
+		public LongEntity(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "SubLongEntity")
+	public static class SubLongEntity extends LongEntity {
+		public SubLongEntity() {
+		}
+
+		public SubLongEntity(Long id) {
+			super( id );
+		}
+	}
+
+	@Entity(name = "IntegerEntity")
+	public static class IntegerEntity {
+		@Id
+		private Integer id;
+
+		public IntegerEntity() {
+		}
+
+		public IntegerEntity(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "UuidEntity")
+	public static class UuidEntity {
+		@Id
+		private UUID id;
+
+		public UuidEntity() {
+		}
+
+		public UuidEntity(UUID id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "StringEntity")
+	public static class StringEntity {
+		@Id
+		private String id;
+
+		public StringEntity() {
+		}
+
+		public StringEntity(String id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.ArrayList;
+import java.util.List;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests flushing only the entities known to be dirty, per {@link AvailableSettings#FLUSH_DIRTY_SET_ONLY}
+ */
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.FLUSH_DIRTY_SET_ONLY, value = "true" ) )
+@DomainModel( annotatedClasses = { DirtySetFlushTest.Parent.class, DirtySetFlushTest.Child.class } )
+@SessionFactory
+public class DirtySetFlushTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 3; i++ ) {
+						final Parent parent = new Parent( i, "parent #" + i );
+						parent.children.add( new Child( i * 10, "child #" + i ) );
+						session.persist( parent );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createQuery( "from Parent", Parent.class ).list().forEach( session::remove )
+		);
+	}
+
+	@Test
+	public void testOnlyMarkedEntitiesAreFlushed(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Parent> parents = session.createQuery( "from Parent order by id", Parent.class ).list();
+					parents.get( 0 ).name = "updated #1";
+					parents.get( 1 ).name = "updated #2";
+					session.markDirty( parents.get( 1 ) );
+					assertEquals( 1, session.getPersistenceContextInternal().reentrantSafeDirtyEntities().length );
+
+					session.flush();
+					assertEquals( 0, session.getPersistenceContextInternal().reentrantSafeDirtyEntities().length );
+				}
+		);
+
+		scope.inTransaction(
+				session -> {
+					assertEquals( "parent #1", session.find( Parent.class, 1 ).name );
+					assertEquals( "updated #2", session.find( Parent.class, 2 ).name );
+				}
+		);
+	}
+
+	@Test
+	public void testPersistAndRemoveAreFlushed(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new Parent( 4, "parent #4" ) );
+					session.remove( session.find( Parent.class, 1 ) );
+				}
+		);
+
+		scope.inTransaction(
+				session -> {
+					assertEquals( "parent #4", session.find( Parent.class, 4 ).name );
+					assertNull( session.find( Parent.class, 1 ) );
+					assertNull( session.find( Child.class, 10 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testModifiedCollectionsAreFlushed(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Parent parent = session.find( Parent.class, 1 );
+					parent.children.add( new Child( 11, "child #1.1" ) );
+					session.find( Parent.class, 2 ).children.clear();
+				}
+		);
+
+		scope.inTransaction(
+				session -> {
+					assertEquals( 2, session.find( Parent.class, 1 ).children.size() );
+					assertEquals( 0, session.find( Parent.class, 2 ).children.size() );
+					assertNull( session.find( Child.class, 20 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testCollectionsOfUnvisitedEntitiesAreKept(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Parent> parents = session.createQuery( "from Parent order by id", Parent.class ).list();
+					parents.forEach( parent -> Hibernate.initialize( parent.children ) );
+					parents.get( 0 ).name = "updated #1";
+					session.markDirty( parents.get( 0 ) );
+				}
+		);
+
+		scope.inTransaction(
+				session -> {
+					final Parent parent = session.find( Parent.class, 1 );
+					assertEquals( "updated #1", parent.name );
+					assertEquals( 1, parent.children.size() );
+					assertEquals( 1, session.find( Parent.class, 2 ).children.size() );
+					assertEquals( 1, session.find( Parent.class, 3 ).children.size() );
+				}
+		);
+	}
+
+	@Entity( name = "Parent" )
+	public static class Parent {
+		@Id
+		Integer id;
+		String name;
+		@OneToMany( cascade = CascadeType.ALL, orphanRemoval = true )
+		List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		public Parent(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Child" )
+	public static class Child {
+		@Id
+		Integer id;
+		String name;
+
+		public Child() {
+		}
+
+		public Child(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Transient;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.event.spi.FlushEntityEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.BootstrapServiceRegistry;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests dirty checking the entities of a flush in parallel, per
+ * {@link AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD}
+ */
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD, value = "100" ) )
+@BootstrapServiceRegistry( integrators = ParallelDirtyCheckingTest.KnownUnmodifiedCountingIntegrator.class )
+@DomainModel( annotatedClasses = { ParallelDirtyCheckingTest.Item.class, ParallelDirtyCheckingTest.Note.class } )
+@SessionFactory( generateStatistics = true )
+public class ParallelDirtyCheckingTest {
+	private static final int ITEMS = 5000;
+
+	private static final AtomicInteger knownUnmodified = new AtomicInteger();
+
+	public static class KnownUnmodifiedCountingIntegrator implements Integrator {
+		@Override
+		public void integrate(
+				Metadata metadata,
+				SessionFactoryImplementor sessionFactory,
+				SessionFactoryServiceRegistry serviceRegistry) {
+			serviceRegistry.getService( EventListenerRegistry.class ).appendListeners(
+					EventType.FLUSH_ENTITY,
+					(FlushEntityEventListener) ParallelDirtyCheckingTest::countKnownUnmodified
+			);
+		}
+
+		@Override
+		public void disintegrate(
+				SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+		}
+	}
+
+	private static void countKnownUnmodified(FlushEntityEvent event) {
+		if ( event.isKnownUnmodified() ) {
+			knownUnmodified.incrementAndGet();
+		}
+	}
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < ITEMS; i++ ) {
+						session.persist( new Item( i, "item #" + i ) );
+					}
+					session.persist( new Note( 1, "note" ) );
+				}
+		);
+		scope.getSessionFactory().getStatistics().clear();
+		knownUnmodified.set( 0 );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete from Note" ).executeUpdate();
+					session.createQuery( "delete from Item" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testOnlyModifiedEntitiesAreUpdated(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					final List<Item> items = session.createQuery( "from Item order by id", Item.class ).list();
+					items.get( 10 ).name = "updated #10";
+					items.get( 2000 ).quantity = 42;
+					items.get( 4999 ).parent = items.get( 0 );
+					// equal, but not the same instance
+					items.get( 3000 ).name = new String( items.get( 3000 ).name );
+				}
+		);
+		assertEquals( 3, statistics.getEntityUpdateCount() );
+		// all others, including the one with an equal name, were found unmodified in parallel
+		assertEquals( ITEMS - 3, knownUnmodified.get() );
+
+		scope.inTransaction(
+				session -> {
+					assertEquals( "updated #10", session.find( Item.class, 10 ).name );
+					assertEquals( 42, session.find( Item.class, 2000 ).quantity );
+					assertSame( session.find( Item.class, 0 ), session.find( Item.class, 4999 ).parent );
+				}
+		);
+	}
+
+	@Test
+	public void testFlushBelowThreshold(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					final List<Item> items = session.createQuery( "from Item where id < 10", Item.class ).list();
+					items.get( 0 ).name = "updated";
+				}
+		);
+		assertEquals( 1, statistics.getEntityUpdateCount() );
+		assertEquals( 0, knownUnmodified.get() );
+	}
+
+	@Test
+	public void testChangeOfPreUpdateCallbackIsFlushed(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					// flushed before the items
+					final Note note = session.find( Note.class, 1 );
+					final List<Item> items = session.createQuery( "from Item order by id", Item.class ).list();
+					note.text = "updated";
+					note.touch = items.get( 4000 );
+				}
+		);
+		assertEquals( 2, statistics.getEntityUpdateCount() );
+		assertEquals( 0, knownUnmodified.get() );
+
+		scope.inTransaction(
+				session -> assertEquals( "touched", session.find( Item.class, 4000 ).name )
+		);
+	}
+
+	@Entity( name = "Item" )
+	public static class Item {
+		@Id
+		Integer id;
+		String name;
+		int quantity;
+		@ManyToOne
+		Item parent;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Note" )
+	public static class Note {
+		@Id
+		Integer id;
+		String text;
+		@Transient
+		Item touch;
+
+		public Note() {
+		}
+
+		public Note(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		@PreUpdate
+		void touch() {
+			if ( touch != null ) {
+				touch.name = "touched";
+			}
+		}
+	}
+}
@@ -0,0 +1,591 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.insertordering;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PersistenceException;
+import jakarta.transaction.Transaction;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.internal.ConnectionProviderInitiator;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.Stoppable;
+
+import org.hibernate.testing.jta.TestingJtaPlatformImpl;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link AvailableSettings#ORDER_INSERTS_PARALLELISM}
+ */
+@DomainModel(
+		annotatedClasses = {
+				InsertOrderingParallelismTest.Author.class,
+				InsertOrderingParallelismTest.Tag.class,
+				InsertOrderingParallelismTest.Customer.class,
+				InsertOrderingParallelismTest.Purchase.class,
+				InsertOrderingParallelismTest.Category.class,
+				InsertOrderingParallelismTest.Shelf.class
+		}
+)
+@SessionFactory
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.ORDER_INSERTS, value = "true" ),
+				@Setting( name = AvailableSettings.ORDER_INSERTS_PARALLELISM, value = "3" ),
+				@Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "5" ),
+				@Setting( name = AvailableSettings.JTA_PLATFORM, value = "org.hibernate.testing.jta.TestingJtaPlatformImpl" ),
+				@Setting( name = AvailableSettings.CONNECTION_PROVIDER, value = "org.hibernate.orm.test.insertordering.InsertOrderingParallelismTest$DistinctConnectionProvider" ),
+				@Setting( name = AvailableSettings.CONNECTION_HANDLING, value = "DELAYED_ACQUISITION_AND_RELEASE_BEFORE_TRANSACTION_COMPLETION" ),
+				@Setting( name = "javax.persistence.transactionType", value = "jta" )
+		}
+)
+public class InsertOrderingParallelismTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete from Shelf" ).executeUpdate();
+					session.createQuery( "delete from Purchase" ).executeUpdate();
+					session.createQuery( "delete from Customer" ).executeUpdate();
+					session.createQuery( "update Category set parent = null" ).executeUpdate();
+					session.createQuery( "delete from Category" ).executeUpdate();
+					session.createQuery( "delete from Author" ).executeUpdate();
+					session.createQuery( "delete from Tag" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testIndependentAndDependentInserts(SessionFactoryScope scope) {
+		DistinctConnectionProvider.reset( false );
+		scope.inTransaction(
+				session -> {
+					Category parentCategory = null;
+					for ( int i = 1; i <= 23; i++ ) {
+						session.persist( new Author( i, "author " + i ) );
+						session.persist( new Tag( i, "tag " + i ) );
+						final Customer customer = new Customer( i );
+						session.persist( customer );
+						session.persist( new Purchase( i, customer ) );
+						final Category category = new Category( i, parentCategory );
+						session.persist( category );
+						parentCategory = category;
+					}
+				}
+		);
+		scope.inTransaction(
+				session -> {
+					assertEquals( 23L, count( session, "Author" ) );
+					assertEquals( 23L, count( session, "Tag" ) );
+					assertEquals( 23L, count( session, "Customer" ) );
+					assertEquals( 23L, count( session, "Purchase" ) );
+					assertEquals( 23L, count( session, "Category" ) );
+					assertEquals( "author 17", session.find( Author.class, 17 ).name );
+					assertEquals( 16, session.find( Purchase.class, 16 ).customer.id );
+					assertEquals( 11, session.find( Category.class, 12 ).parent.id );
+				}
+		);
+
+		assertFalse( DistinctConnectionProvider.CONCURRENT_USE.get(), "a connection was used by two threads at once" );
+		final Set<Object> connections = DistinctConnectionProvider.batchConnections();
+		assertTrue( connections.size() > 1, "inserts were not executed on other connections" );
+		assertEquals( 1, DistinctConnectionProvider.batchConnections( "author" ).size() );
+		assertFalse( DistinctConnectionProvider.batchConnections( "author" ).containsAll( DistinctConnectionProvider.batchConnections( "purchase" ) ) );
+	}
+
+	@Test
+	public void testReferencesToRowsOfEarlierFlush(SessionFactoryScope scope) {
+		DistinctConnectionProvider.reset( false );
+		scope.inTransaction(
+				session -> {
+					// the purchases reference the customers, which are inserted on the connection of the session
+					for ( int i = 1; i <= 7; i++ ) {
+						final Customer customer = new Customer( i );
+						session.persist( customer );
+						session.persist( new Purchase( i, customer ) );
+					}
+					session.flush();
+
+					// the only purchases of the flush reference rows the transaction inserted
+					for ( int i = 1; i <= 7; i++ ) {
+						session.persist( new Author( i, "author " + i ) );
+						session.persist( new Purchase( 10 + i, session.getReference( Customer.class, i ) ) );
+					}
+				}
+		);
+		scope.inTransaction(
+				session -> {
+					assertEquals( 14L, count( session, "Purchase" ) );
+					assertEquals( 3, session.find( Purchase.class, 13 ).customer.id );
+				}
+		);
+
+		final Set<Object> sessionConnection = DistinctConnectionProvider.batchConnections( "customer" );
+		assertEquals( 1, sessionConnection.size() );
+		assertEquals( sessionConnection, DistinctConnectionProvider.batchConnections( "purchase" ) );
+		assertFalse( sessionConnection.containsAll( DistinctConnectionProvider.batchConnections( "author" ) ) );
+	}
+
+	@Test
+	public void testSharedConnections(SessionFactoryScope scope) {
+		// a DataSource handing out the connection of the transaction for each request
+		DistinctConnectionProvider.reset( true );
+		try {
+			scope.inTransaction(
+					session -> {
+						for ( int i = 1; i <= 23; i++ ) {
+							session.persist( new Author( i, "author " + i ) );
+							session.persist( new Tag( i, "tag " + i ) );
+						}
+					}
+			);
+		}
+		finally {
+			DistinctConnectionProvider.SHARED_CONNECTIONS.set( false );
+		}
+		scope.inTransaction(
+				session -> {
+					assertEquals( 23L, count( session, "Author" ) );
+					assertEquals( 23L, count( session, "Tag" ) );
+				}
+		);
+
+		assertFalse( DistinctConnectionProvider.CONCURRENT_USE.get(), "a connection was used by two threads at once" );
+		assertEquals( 1, DistinctConnectionProvider.batchConnections().size() );
+	}
+
+	@Test
+	public void testCollectionsStayOnSessionConnection(SessionFactoryScope scope) {
+		DistinctConnectionProvider.reset( false );
+		scope.inTransaction(
+				session -> {
+					final Tag[] tags = new Tag[7];
+					for ( int i = 1; i <= 7; i++ ) {
+						session.persist( new Author( i, "author " + i ) );
+						tags[i - 1] = new Tag( i, "tag " + i );
+						session.persist( tags[i - 1] );
+					}
+					for ( int i = 1; i <= 6; i++ ) {
+						final Shelf shelf = new Shelf( i );
+						shelf.tags.add( tags[i - 1] );
+						shelf.tags.add( tags[i] );
+						session.persist( shelf );
+					}
+				}
+		);
+		scope.inTransaction(
+				session -> assertEquals( 2, session.find( Shelf.class, 4 ).tags.size() )
+		);
+
+		// the rows of the collection reference both the shelves and the tags
+		final Set<Object> sessionConnection = DistinctConnectionProvider.batchConnections( "shelf_tag" );
+		assertEquals( 1, sessionConnection.size() );
+		assertEquals( sessionConnection, DistinctConnectionProvider.batchConnections( "shelf" ) );
+		assertEquals( sessionConnection, DistinctConnectionProvider.batchConnections( "tag" ) );
+		assertFalse( sessionConnection.containsAll( DistinctConnectionProvider.batchConnections( "author" ) ) );
+	}
+
+	@Test
+	public void testFailureOfIndependentBatch(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.persist( new Tag( 3, "existing" ) )
+		);
+		DistinctConnectionProvider.reset( false );
+		assertThrows(
+				PersistenceException.class,
+				() -> scope.inTransaction(
+						session -> {
+							for ( int i = 1; i <= 7; i++ ) {
+								session.persist( new Author( i, "author " + i ) );
+								session.persist( new Tag( 10 * i, "tag " + i ) );
+							}
+							// the tag inserted in the previous transaction has the same id
+							session.persist( new Tag( 3, "duplicate" ) );
+						}
+				)
+		);
+		scope.inTransaction(
+				session -> {
+					assertEquals( 0L, count( session, "Author" ) );
+					assertEquals( 1L, count( session, "Tag" ) );
+				}
+		);
+		assertTrue( DistinctConnectionProvider.batchConnections().size() > 1, "inserts were not executed on other connections" );
+	}
+
+	private static Long count(org.hibernate.Session session, String entityName) {
+		return session.createQuery( "select count(*) from " + entityName, Long.class ).getSingleResult();
+	}
+
+	@Entity( name = "Shelf" )
+	public static class Shelf {
+		@Id
+		private Integer id;
+		@ManyToMany
+		private Set<Tag> tags = new HashSet<>();
+
+		public Shelf() {
+		}
+
+		public Shelf(Integer id) {
+			this.id = id;
+		}
+	}
+
+	/**
+	 * Hands out, within a transaction, the connection of the transaction when it is not in use, and
+	 * other connections enlisted in the transaction otherwise, as a DataSource of unshareable
+	 * connections does; or always the connection of the transaction, as a sharing DataSource does.
+	 * Records the connections which executed batches, and whether one executed two batches at once.
+	 */
+	public static class DistinctConnectionProvider implements ConnectionProvider, Configurable, Stoppable {
+		private static final String CONNECTION_KEY = "_parallelism_test_connection";
+
+		static final AtomicBoolean SHARED_CONNECTIONS = new AtomicBoolean();
+		static final AtomicBoolean CONCURRENT_USE = new AtomicBoolean();
+		private static final Map<String, Set<Object>> BATCH_CONNECTIONS = new ConcurrentHashMap<>();
+
+		private final Set<Connection> nonEnlistedConnections = ConcurrentHashMap.newKeySet();
+		private DriverManagerConnectionProviderImpl delegate;
+
+		static void reset(boolean sharedConnections) {
+			SHARED_CONNECTIONS.set( sharedConnections );
+			CONCURRENT_USE.set( false );
+			BATCH_CONNECTIONS.clear();
+		}
+
+		static Set<Object> batchConnections() {
+			final Set<Object> connections = new HashSet<>();
+			BATCH_CONNECTIONS.values().forEach( connections::addAll );
+			return connections;
+		}
+
+		static Set<Object> batchConnections(String table) {
+			return BATCH_CONNECTIONS.getOrDefault( table, Set.of() );
+		}
+
+		@Override
+		public void configure(Map configurationValues) {
+			final Map<String, Object> connectionSettings = new HashMap<>();
+			for ( String setting : new String[] { AvailableSettings.DRIVER, AvailableSettings.URL, AvailableSettings.USER, AvailableSettings.PASS, AvailableSettings.ISOLATION } ) {
+				if ( configurationValues.get( setting ) != null ) {
+					connectionSettings.put( setting, configurationValues.get( setting ) );
+				}
+			}
+			final Properties passThroughSettings = ConnectionProviderInitiator.getConnectionProperties( configurationValues );
+			if ( passThroughSettings != null ) {
+				for ( String setting : passThroughSettings.stringPropertyNames() ) {
+					connectionSettings.put( AvailableSettings.CONNECTION_PREFIX + '.' + setting, passThroughSettings.getProperty( setting ) );
+				}
+			}
+			connectionSettings.put( AvailableSettings.AUTOCOMMIT, "false" );
+			delegate = new DriverManagerConnectionProviderImpl();
+			delegate.configure( connectionSettings );
+		}
+
+		@Override
+		public void stop() {
+			delegate.stop();
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			try {
+				final Transaction transaction = TestingJtaPlatformImpl.transactionManager().getTransaction();
+				if ( transaction == null ) {
+					final Connection connection = delegate.getConnection();
+					nonEnlistedConnections.add( connection );
+					return connection;
+				}
+				final TransactionSynchronizationRegistry registry = TestingJtaPlatformImpl.synchronizationRegistry();
+				final EnlistedConnection primary = (EnlistedConnection) registry.getResource( CONNECTION_KEY );
+				if ( primary != null && ( SHARED_CONNECTIONS.get() || !primary.inUse ) ) {
+					primary.inUse = true;
+					return primary.proxy;
+				}
+				final EnlistedConnection connection = new EnlistedConnection( delegate.getConnection() );
+				transaction.enlistResource( connection );
+				if ( primary == null ) {
+					registry.putResource( CONNECTION_KEY, connection );
+				}
+				connection.inUse = true;
+				return connection.proxy;
+			}
+			catch (SQLException e) {
+				throw e;
+			}
+			catch (Exception e) {
+				throw new SQLException( e );
+			}
+		}
+
+		@Override
+		public void closeConnection(Connection connection) throws SQLException {
+			if ( nonEnlistedConnections.remove( connection ) ) {
+				delegate.closeConnection( connection );
+			}
+			else {
+				// the connection is closed when the transaction completes
+				( (EnlistedConnection) Proxy.getInvocationHandler( connection ) ).inUse = false;
+			}
+		}
+
+		@Override
+		public boolean supportsAggressiveRelease() {
+			return true;
+		}
+
+		@Override
+		public boolean isUnwrappableAs(Class unwrapType) {
+			return false;
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> unwrapType) {
+			return null;
+		}
+
+		private class EnlistedConnection implements InvocationHandler, XAResource {
+			private final Connection connection;
+			private final Connection proxy;
+			private final AtomicInteger executingBatches = new AtomicInteger();
+			private volatile boolean inUse;
+
+			private EnlistedConnection(Connection connection) {
+				this.connection = connection;
+				this.proxy = (Connection) Proxy.newProxyInstance(
+						Connection.class.getClassLoader(),
+						new Class[] { Connection.class },
+						this
+				);
+			}
+
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+				final Object result = invoke( connection, method, args );
+				if ( "prepareStatement".equals( method.getName() ) ) {
+					final String sql = (String) args[0];
+					return Proxy.newProxyInstance(
+							PreparedStatement.class.getClassLoader(),
+							new Class[] { PreparedStatement.class },
+							(statementProxy, statementMethod, statementArgs) -> {
+								if ( !"executeBatch".equals( statementMethod.getName() ) ) {
+									return invoke( result, statementMethod, statementArgs );
+								}
+								final String table = sql.split( " " )[2].toLowerCase( Locale.ROOT );
+								BATCH_CONNECTIONS.computeIfAbsent( table, t -> ConcurrentHashMap.newKeySet() ).add( this );
+								if ( executingBatches.incrementAndGet() > 1 ) {
+									CONCURRENT_USE.set( true );
+								}
+								try {
+									// leave time for another thread to use the connection
+									Thread.sleep( 10 );
+									return invoke( result, statementMethod, statementArgs );
+								}
+								finally {
+									executingBatches.decrementAndGet();
+								}
+							}
+					);
+				}
+				return result;
+			}
+
+			private Object invoke(Object target, Method method, Object[] args) throws Throwable {
+				try {
+					return method.invoke( target, args );
+				}
+				catch (InvocationTargetException e) {
+					throw e.getCause();
+				}
+			}
+
+			@Override
+			public int prepare(Xid xid) {
+				return XA_OK;
+			}
+
+			@Override
+			public void commit(Xid xid, boolean onePhase) throws XAException {
+				try {
+					connection.commit();
+				}
+				catch (SQLException e) {
+					throw (XAException) new XAException( XAException.XA_RBROLLBACK ).initCause( e );
+				}
+				finally {
+					close();
+				}
+			}
+
+			@Override
+			public void rollback(Xid xid) throws XAException {
+				try {
+					connection.rollback();
+				}
+				catch (SQLException e) {
+					throw (XAException) new XAException( XAException.XAER_RMERR ).initCause( e );
+				}
+				finally {
+					close();
+				}
+			}
+
+			private void close() {
+				try {
+					delegate.closeConnection( connection );
+				}
+				catch (SQLException ignore) {
+				}
+			}
+
+			@Override
+			public void start(Xid xid, int flags) {
+			}
+
+			@Override
+			public void end(Xid xid, int flags) {
+			}
+
+			@Override
+			public void forget(Xid xid) {
+			}
+
+			@Override
+			public Xid[] recover(int flag) {
+				return new Xid[0];
+			}
+
+			@Override
+			public boolean isSameRM(XAResource xaResource) {
+				return xaResource == this;
+			}
+
+			@Override
+			public int getTransactionTimeout() {
+				return 0;
+			}
+
+			@Override
+			public boolean setTransactionTimeout(int seconds) {
+				return false;
+			}
+		}
+	}
+
+	@Entity( name = "Author" )
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Tag" )
+	public static class Tag {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Tag() {
+		}
+
+		public Tag(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Customer" )
+	public static class Customer {
+		@Id
+		private Integer id;
+
+		public Customer() {
+		}
+
+		public Customer(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity( name = "Purchase" )
+	public static class Purchase {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Customer customer;
+
+		public Purchase() {
+		}
+
+		public Purchase(Integer id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+
+	@Entity( name = "Category" )
+	public static class Category {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Category parent;
+
+		public Category() {
+		}
+
+		public Category(Integer id, Category parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+}
@@ -61,6 +61,12 @@ public class MultiLoadSubSelectCollectionDialectWithLimitTest {
 		public int getInExpressionCountLimit() {
 			return 50;
 		}
+
+		@Override
+		public boolean supportsStandardArrays() {
+			// force the ids into IN lists
+			return false;
+		}
 	}
 
 	@BeforeEach
@@ -22,9 +22,11 @@ import org.hibernate.stat.Statistics;
 
 import org.hibernate.testing.TestForIssue;
 import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
 import org.hibernate.testing.orm.junit.DomainModel;
 import org.hibernate.testing.orm.junit.FailureExpected;
 import org.hibernate.testing.orm.junit.NotImplementedYet;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
 import org.hibernate.testing.orm.junit.ServiceRegistry;
 import org.hibernate.testing.orm.junit.SessionFactory;
 import org.hibernate.testing.orm.junit.SessionFactoryScope;
@@ -102,7 +104,39 @@ public class MultiLoadTest {
 							statementInspector.getSqlQueries().get( 0 ),
 							'?'
 					);
-					assertThat( paramCount, is( 5 ) );
+					assertThat( paramCount, is( expectedParameterCount( scope, 5 ) ) );
+				}
+		);
+	}
+
+	@Test
+	@RequiresDialectFeature( feature = DialectFeatureChecks.SupportsStandardArrays.class )
+	public void testMultiLoadWithArrayParameter(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					statementInspector.clear();
+
+					List<SimpleEntity> list = session.byMultipleIds( SimpleEntity.class ).multiLoad( ids( 7 ) );
+					assertEquals( 7, list.size() );
+					session.clear();
+
+					list = session.byMultipleIds( SimpleEntity.class ).multiLoad( ids( 60 ) );
+					assertEquals( 60, list.size() );
+					for ( int i = 0; i < 60; i++ ) {
+						assertEquals( Integer.valueOf( i + 1 ), list.get( i ).getId() );
+					}
+					session.clear();
+
+					list = session.byMultipleIds( SimpleEntity.class ).enableOrderedReturn( false ).multiLoad( ids( 60 ) );
+					assertEquals( 60, list.size() );
+
+					// a single statement per load, whatever the number of ids
+					assertEquals( 3, statementInspector.getSqlQueries().size() );
+					final String sql = statementInspector.getSqlQueries().get( 0 );
+					assertEquals( 1, StringHelper.countUnquoted( sql, '?' ) );
+					assertEquals( sql, statementInspector.getSqlQueries().get( 1 ) );
+					assertEquals( sql, statementInspector.getSqlQueries().get( 2 ) );
 				}
 		);
 	}
@@ -255,7 +289,7 @@ public class MultiLoadTest {
 							statementInspector.getSqlQueries().get( 0 ),
 							'?'
 					);
-					assertThat( paramCount, is( 2 ) );
+					assertThat( paramCount, is( expectedParameterCount( scope, 2 ) ) );
 				}
 		);
 	}
@@ -311,7 +345,7 @@ public class MultiLoadTest {
 							statementInspector.getSqlQueries().get( 0 ),
 							'?'
 					);
-					assertThat( paramCount, is( 2 ) );
+					assertThat( paramCount, is( expectedParameterCount( scope, 2 ) ) );
 				}
 		);
 	}
@@ -342,7 +376,7 @@ public class MultiLoadTest {
 							statementInspector.getSqlQueries().get( 0 ),
 							'?'
 					);
-					assertThat( paramCount, is( 2 ) );
+					assertThat( paramCount, is( expectedParameterCount( scope, 2 ) ) );
 				}
 		);
 	}
@@ -379,7 +413,7 @@ public class MultiLoadTest {
 							statementInspector.getSqlQueries().get( 0 ),
 							'?'
 					);
-					assertThat( paramCount, is( 2 ) );
+					assertThat( paramCount, is( expectedParameterCount( scope, 2 ) ) );
 				} );
 	}
 
@@ -409,7 +443,7 @@ public class MultiLoadTest {
 							statementInspector.getSqlQueries().get( 0 ),
 							'?'
 					);
-					assertThat( paramCount, is( 2 ) );
+					assertThat( paramCount, is( expectedParameterCount( scope, 2 ) ) );
 				} );
 	}
 
@@ -446,7 +480,7 @@ public class MultiLoadTest {
 							statementInspector.getSqlQueries().get( 0 ),
 							'?'
 					);
-					assertThat( paramCount, is( 2 ) );
+					assertThat( paramCount, is( expectedParameterCount( scope, 2 ) ) );
 				} );
 	}
 
@@ -501,6 +535,11 @@ public class MultiLoadTest {
 		);
 	}
 
+	private static int expectedParameterCount(SessionFactoryScope scope, int numberOfIds) {
+		// the ids are bound as a single array parameter, where supported
+		return scope.getSessionFactory().getJdbcServices().getDialect().supportsStandardArrays() ? 1 : numberOfIds;
+	}
+
 	private Integer[] ids(int count) {
 		Integer[] ids = new Integer[count];
 		for ( int i = 1; i <= count; i++ ) {
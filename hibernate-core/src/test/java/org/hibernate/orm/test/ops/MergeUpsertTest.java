@@ -0,0 +1,220 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.ops;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PersistenceException;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests merging entities by upsert, per {@link AvailableSettings#MERGE_UPSERT},
+ * and {@link org.hibernate.StatelessSession#upsert}
+ */
+@RequiresDialectFeature( feature = DialectFeatureChecks.SupportsUpsert.class )
+@DomainModel( annotatedClasses = {
+		MergeUpsertTest.FeedItem.class,
+		MergeUpsertTest.FeedCategory.class,
+		MergeUpsertTest.Subscriber.class
+} )
+@SessionFactory( statementInspectorClass = SQLStatementInspector.class )
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.MERGE_UPSERT, value = "true" ),
+				@Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10" )
+		}
+)
+public class MergeUpsertTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new FeedItem( 1, "first", null ) );
+					session.persist( new Subscriber( 1, "first@example.org", "First" ) );
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete from FeedItem" ).executeUpdate();
+					session.createQuery( "delete from FeedCategory" ).executeUpdate();
+					session.createQuery( "delete from Subscriber" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testMergeWithoutSelect(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getStatementInspector( SQLStatementInspector.class );
+		statementInspector.clear();
+		scope.inTransaction(
+				session -> {
+					final FeedItem existing = new FeedItem( 1, "first, updated", null );
+					final FeedItem merged = session.merge( existing );
+					assertNotSame( existing, merged );
+					assertTrue( session.contains( merged ) );
+					session.merge( new FeedItem( 2, "second", null ) );
+				}
+		);
+		for ( String sql : statementInspector.getSqlQueries() ) {
+			assertFalse( sql.toLowerCase().startsWith( "select" ), sql );
+		}
+
+		scope.inTransaction(
+				session -> {
+					assertEquals( "first, updated", session.find( FeedItem.class, 1 ).title );
+					assertEquals( "second", session.find( FeedItem.class, 2 ).title );
+				}
+		);
+	}
+
+	@Test
+	public void testMergeCascadeAndLaterChange(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final FeedItem merged = session.merge( new FeedItem( 3, "third", new FeedCategory( "news", "News" ) ) );
+					assertTrue( session.contains( merged.category ) );
+					// updated after the upsert, by the same flush
+					merged.title = "third, changed";
+				}
+		);
+
+		scope.inTransaction(
+				session -> {
+					final FeedItem item = session.find( FeedItem.class, 3 );
+					assertEquals( "third, changed", item.title );
+					assertEquals( "News", item.category.name );
+				}
+		);
+	}
+
+	@Test
+	public void testStatelessSessionUpsert(SessionFactoryScope scope) {
+		scope.inStatelessTransaction(
+				session -> {
+					session.upsert( new FeedItem( 1, "first, upserted", null ) );
+					session.upsert( new FeedItem( 4, "fourth", null ) );
+				}
+		);
+
+		scope.inTransaction(
+				session -> {
+					assertEquals( "first, upserted", session.find( FeedItem.class, 1 ).title );
+					assertEquals( "fourth", session.find( FeedItem.class, 4 ).title );
+					assertNull( session.find( FeedItem.class, 4 ).category );
+				}
+		);
+	}
+
+	@Test
+	public void testMergeCollidingOnUniqueKeyDoesNotOverwrite(SessionFactoryScope scope) {
+		final boolean matchedOnAnyUniqueKey = scope.getSessionFactory()
+				.getJdbcServices()
+				.getDialect()
+				.isUpsertMatchedOnAnyUniqueKey();
+		assertEquals(
+				!matchedOnAnyUniqueKey,
+				scope.getSessionFactory()
+						.getRuntimeMetamodels()
+						.getMappingMetamodel()
+						.getEntityDescriptor( Subscriber.class )
+						.isUpsertable()
+		);
+
+		assertThrows(
+				PersistenceException.class,
+				() -> scope.inTransaction(
+						session -> session.merge( new Subscriber( 2, "first@example.org", "Second" ) )
+				)
+		);
+
+		scope.inTransaction(
+				session -> {
+					assertEquals( "First", session.find( Subscriber.class, 1 ).name );
+					assertNull( session.find( Subscriber.class, 2 ) );
+				}
+		);
+	}
+
+	@Entity( name = "FeedItem" )
+	public static class FeedItem {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne( cascade = CascadeType.MERGE )
+		FeedCategory category;
+
+		public FeedItem() {
+		}
+
+		public FeedItem(Integer id, String title, FeedCategory category) {
+			this.id = id;
+			this.title = title;
+			this.category = category;
+		}
+	}
+
+	@Entity( name = "FeedCategory" )
+	public static class FeedCategory {
+		@Id
+		String code;
+		String name;
+
+		public FeedCategory() {
+		}
+
+		public FeedCategory(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Subscriber" )
+	public static class Subscriber {
+		@Id
+		Integer id;
+		@Column( unique = true )
+		String email;
+		String name;
+
+		public Subscriber() {
+		}
+
+		public Subscriber(Integer id, String email, String name) {
+			this.id = id;
+			this.email = email;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.persister.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.SecondaryTable;
+
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLockType;
+import org.hibernate.annotations.OptimisticLocking;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests updates of the same properties as previous updates, which reuse their statements
+ * (see {@code org.hibernate.persister.entity.UpdateOperationCacheTest}), writing the right values
+ */
+@DomainModel( annotatedClasses = {
+		DynamicUpdateOperationCacheTest.Document.class,
+		DynamicUpdateOperationCacheTest.LockedDocument.class
+} )
+@SessionFactory( statementInspectorClass = SQLStatementInspector.class )
+public class DynamicUpdateOperationCacheTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new Document( 1, "first", "draft", "text #1" ) );
+					session.persist( new Document( 2, "second", "draft", "text #2" ) );
+					session.persist( new LockedDocument( 1, "locked", null ) );
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete from Document" ).executeUpdate();
+					session.createQuery( "delete from LockedDocument" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testRepeatedShapesUpdateTheirOwnProperties(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getStatementInspector( SQLStatementInspector.class );
+
+		scope.inTransaction( session -> session.find( Document.class, 1 ).title = "first, updated" );
+		scope.inTransaction( session -> session.find( Document.class, 2 ).status = "published" );
+
+		statementInspector.clear();
+		scope.inTransaction( session -> session.find( Document.class, 2 ).title = "second, updated" );
+		final String titleUpdate = lastUpdate( statementInspector );
+		assertTrue( titleUpdate.contains( "title" ) );
+		assertFalse( titleUpdate.contains( "status" ) );
+
+		scope.inTransaction(
+				session -> {
+					final Document document = session.find( Document.class, 1 );
+					document.status = "published";
+					document.text = "text #1, updated";
+				}
+		);
+
+		scope.inTransaction(
+				session -> {
+					final Document first = session.find( Document.class, 1 );
+					assertEquals( "first, updated", first.title );
+					assertEquals( "published", first.status );
+					assertEquals( "text #1, updated", first.text );
+					final Document second = session.find( Document.class, 2 );
+					assertEquals( "second, updated", second.title );
+					assertEquals( "published", second.status );
+					assertEquals( "text #2", second.text );
+				}
+		);
+	}
+
+	@Test
+	public void testDirtyOptimisticLockingChecksOldValues(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.find( LockedDocument.class, 1 ).status = "draft" );
+		scope.inTransaction( session -> session.find( LockedDocument.class, 1 ).status = "published" );
+		scope.inTransaction( session -> session.find( LockedDocument.class, 1 ).status = null );
+
+		scope.inTransaction(
+				session -> {
+					final LockedDocument document = session.find( LockedDocument.class, 1 );
+					assertNull( document.status );
+					assertEquals( "locked", document.title );
+				}
+		);
+	}
+
+	private static String lastUpdate(SQLStatementInspector statementInspector) {
+		String update = null;
+		for ( String sql : statementInspector.getSqlQueries() ) {
+			if ( sql.toLowerCase().startsWith( "update" ) ) {
+				update = sql.toLowerCase();
+			}
+		}
+		return update;
+	}
+
+	@Entity( name = "Document" )
+	@DynamicUpdate
+	@SecondaryTable( name = "document_text" )
+	public static class Document {
+		@Id
+		Integer id;
+		String title;
+		String status;
+		@Lob
+		@Column( table = "document_text" )
+		String text;
+
+		public Document() {
+		}
+
+		public Document(Integer id, String title, String status, String text) {
+			this.id = id;
+			this.title = title;
+			this.status = status;
+			this.text = text;
+		}
+	}
+
+	@Entity( name = "LockedDocument" )
+	@DynamicUpdate
+	@OptimisticLocking( type = OptimisticLockType.DIRTY )
+	public static class LockedDocument {
+		@Id
+		Integer id;
+		String title;
+		String status;
+
+		public LockedDocument() {
+		}
+
+		public LockedDocument(Integer id, String title, String status) {
+			this.id = id;
+			this.title = title;
+			this.status = status;
+		}
+	}
+}
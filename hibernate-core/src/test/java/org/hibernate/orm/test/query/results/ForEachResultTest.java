@@ -0,0 +1,174 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.results;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link org.hibernate.query.Query#forEachResult} and
+ * {@link org.hibernate.query.Query#subscribe}
+ */
+@DomainModel( annotatedClasses = ForEachResultTest.Item.class )
+@SessionFactory
+public class ForEachResultTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 10; i++ ) {
+						session.persist( new Item( i, "item " + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createQuery( "delete from Item" ).executeUpdate()
+		);
+	}
+
+	@Test
+	public void testForEachEntity(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Item> items = new ArrayList<>();
+					final long count = session.createQuery( "from Item i order by i.id", Item.class )
+							.forEachResult( item -> {
+								assertTrue( session.contains( item ) );
+								items.add( item );
+							} );
+					assertEquals( 10, count );
+					assertEquals( 10, items.size() );
+					assertEquals( "item 1", items.get( 0 ).name );
+					assertTrue( session.contains( items.get( 9 ) ) );
+				}
+		);
+	}
+
+	@Test
+	public void testForEachWithClearInterval(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Item> items = new ArrayList<>();
+					final long count = session.createQuery( "from Item i order by i.id", Item.class )
+							.forEachResult( items::add, 4 );
+					assertEquals( 10, count );
+					// the first 8 items were detached, the last 2 are still managed
+					for ( int i = 0; i < 8; i++ ) {
+						assertFalse( session.contains( items.get( i ) ) );
+					}
+					assertTrue( session.contains( items.get( 8 ) ) );
+					assertTrue( session.contains( items.get( 9 ) ) );
+				}
+		);
+	}
+
+	@Test
+	public void testForEachScalarWithParameter(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<String> names = new ArrayList<>();
+					final long count = session.createQuery( "select i.name from Item i where i.id > :id order by i.id", String.class )
+							.setParameter( "id", 8 )
+							.forEachResult( names::add );
+					assertEquals( 2, count );
+					assertEquals( "item 9", names.get( 0 ) );
+					assertEquals( "item 10", names.get( 1 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testForEachNative(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Object> ids = new ArrayList<>();
+					final long count = session.createNativeQuery( "select id from Item" ).forEachResult( ids::add );
+					assertEquals( 10, count );
+					assertEquals( 10, ids.size() );
+				}
+		);
+	}
+
+	@Test
+	public void testSubscribe(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Integer> ids = new ArrayList<>();
+					final Throwable[] error = new Throwable[1];
+					session.createQuery( "select i.id from Item i order by i.id", Integer.class )
+							.subscribe( new Flow.Subscriber<Integer>() {
+								private Flow.Subscription subscription;
+
+								@Override
+								public void onSubscribe(Flow.Subscription subscription) {
+									this.subscription = subscription;
+									subscription.request( 2 );
+								}
+
+								@Override
+								public void onNext(Integer id) {
+									ids.add( id );
+									if ( id == 5 ) {
+										subscription.cancel();
+									}
+									else if ( ids.size() % 2 == 0 ) {
+										subscription.request( 2 );
+									}
+								}
+
+								@Override
+								public void onError(Throwable throwable) {
+									error[0] = throwable;
+								}
+
+								@Override
+								public void onComplete() {
+									throw new AssertionError( "Cancelled subscription should not complete" );
+								}
+							} );
+					assertNull( error[0] );
+					assertEquals( 5, ids.size() );
+					assertEquals( 5, ids.get( 4 ) );
+				}
+		);
+	}
+
+	@Entity( name = "Item" )
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.results;
+
+import java.util.List;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.query.PrimitiveTupleTransformer;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for reading basic results through a {@link PrimitiveTupleTransformer}
+ */
+@DomainModel( annotatedClasses = PrimitiveTupleTransformerTest.Measurement.class )
+@SessionFactory
+public class PrimitiveTupleTransformerTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new Measurement( 1L, 10, 1.5d, 100L ) );
+					session.persist( new Measurement( 2L, 20, 2.5d, null ) );
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createQuery( "delete from Measurement" ).executeUpdate()
+		);
+	}
+
+	@Test
+	public void testPrimitiveColumns(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					//noinspection unchecked
+					final List<String> results = session.createQuery(
+							"select m.id, m.quantity, m.amount, m.reference from Measurement m order by m.id"
+					)
+							.setTupleTransformer(
+									(PrimitiveTupleTransformer<String>) (tuple, aliases) -> {
+										assertEquals( 4, tuple.size() );
+										assertFalse( tuple.isNull( 0 ) );
+										assertEquals( tuple.getObject( 0 ), tuple.getLong( 0 ) );
+										return tuple.getLong( 0 ) + ":" + tuple.getInt( 1 ) + ":" + tuple.getDouble( 2 )
+												+ ":" + ( tuple.isNull( 3 ) ? "null" : tuple.getLong( 3 ) );
+									}
+							)
+							.list();
+					assertEquals( 2, results.size() );
+					assertEquals( "1:10:1.5:100", results.get( 0 ) );
+					assertEquals( "2:20:2.5:null", results.get( 1 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testNullValues(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Long> results = session.createQuery(
+							"select m.reference from Measurement m where m.id = 2",
+							Long.class
+					)
+							.setTupleTransformer(
+									(PrimitiveTupleTransformer<Long>) (tuple, aliases) -> {
+										assertTrue( tuple.isNull( 0 ) );
+										assertNull( tuple.getObject( 0 ) );
+										return tuple.getLong( 0 );
+									}
+							)
+							.list();
+					assertEquals( 0L, results.get( 0 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testEntityResult(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Measurement measurement = session.find( Measurement.class, 1L );
+					//noinspection unchecked
+					final List<Object> results = session.createQuery(
+							"select m, m.quantity from Measurement m where m.id = 1"
+					)
+							.setTupleTransformer(
+									(PrimitiveTupleTransformer<Object>) (tuple, aliases) -> {
+										assertEquals( 10, tuple.getInt( 1 ) );
+										return tuple.getObject( 0 );
+									}
+							)
+							.list();
+					assertSame( measurement, results.get( 0 ) );
+				}
+		);
+	}
+
+	@Entity( name = "Measurement" )
+	public static class Measurement {
+		@Id
+		private Long id;
+		private int quantity;
+		private double amount;
+		private Long reference;
+
+		public Measurement() {
+		}
+
+		public Measurement(Long id, int quantity, double amount, Long reference) {
+			this.id = id;
+			this.quantity = quantity;
+			this.amount = amount;
+			this.reference = reference;
+		}
+	}
+}
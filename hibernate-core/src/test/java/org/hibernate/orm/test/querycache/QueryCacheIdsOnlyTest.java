@@ -0,0 +1,167 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests caching the results of entity queries as ids, per {@link AvailableSettings#QUERY_CACHE_IDS_ONLY}
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.QUERY_CACHE_IDS_ONLY, value = "true" )
+		}
+)
+@DomainModel( annotatedClasses = QueryCacheIdsOnlyTest.Country.class )
+@SessionFactory( generateStatistics = true, statementInspectorClass = SQLStatementInspector.class )
+public class QueryCacheIdsOnlyTest {
+	private static final String QUERY = "from Country order by code";
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new Country( "DE", "Germany" ) );
+					session.persist( new Country( "FR", "France" ) );
+				}
+		);
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete from Country" ).executeUpdate() );
+	}
+
+	@Test
+	public void testEntitiesAreLoadedFromEntityCache(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final SQLStatementInspector statementInspector = scope.getStatementInspector( SQLStatementInspector.class );
+
+		assertCountryNames( scope, "Germany", "France" );
+		assertEquals( 1, statistics.getQueryCachePutCount() );
+		assertEquals( 2, statistics.getSecondLevelCachePutCount() );
+
+		statementInspector.clear();
+		assertCountryNames( scope, "Germany", "France" );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+		assertEquals( 2, statistics.getSecondLevelCacheHitCount() );
+		statementInspector.assertExecutedCount( 0 );
+	}
+
+	@Test
+	public void testEntitiesMissingFromEntityCacheAreLoadedInOneBatch(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final SQLStatementInspector statementInspector = scope.getStatementInspector( SQLStatementInspector.class );
+
+		assertCountryNames( scope, "Germany", "France" );
+		scope.getSessionFactory().getCache().evictEntityData( Country.class );
+
+		statementInspector.clear();
+		assertCountryNames( scope, "Germany", "France" );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+		statementInspector.assertExecutedCount( 1 );
+		statementInspector.assertIsSelect( 0 );
+	}
+
+	@Test
+	public void testUpdatesInvalidateCachedIds(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		assertCountryNames( scope, "Germany", "France" );
+		scope.inTransaction( session -> session.persist( new Country( "BE", "Belgium" ) ) );
+
+		assertCountryNames( scope, "Belgium", "Germany", "France" );
+		assertEquals( 0, statistics.getQueryCacheHitCount() );
+		assertEquals( 2, statistics.getQueryCachePutCount() );
+
+		assertCountryNames( scope, "Belgium", "Germany", "France" );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+	}
+
+	@Test
+	public void testReadOnlyQueryOnCacheHit(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		assertCountryNames( scope, "Germany", "France" );
+		scope.inTransaction(
+				session -> {
+					// already in the persistence context, so left as it is
+					final Country france = session.find( Country.class, "FR" );
+					final List<Country> countries = session.createQuery( QUERY, Country.class )
+							.setCacheable( true )
+							.setReadOnly( true )
+							.list();
+					assertEquals( 1, statistics.getQueryCacheHitCount() );
+					assertEquals( 2, countries.size() );
+					assertTrue( session.isReadOnly( countries.get( 0 ) ) );
+					assertFalse( session.isReadOnly( france ) );
+					countries.forEach( country -> country.name = country.name.toUpperCase() );
+				}
+		);
+		scope.inTransaction(
+				session -> {
+					assertEquals( "Germany", session.find( Country.class, "DE" ).name );
+					assertEquals( "FRANCE", session.find( Country.class, "FR" ).name );
+				}
+		);
+	}
+
+	private static void assertCountryNames(SessionFactoryScope scope, String... names) {
+		scope.inTransaction(
+				session -> {
+					final List<Country> countries = session.createQuery( QUERY, Country.class )
+							.setCacheable( true )
+							.list();
+					assertEquals( names.length, countries.size() );
+					for ( int i = 0; i < names.length; i++ ) {
+						assertEquals( names[i], countries.get( i ).name );
+					}
+				}
+		);
+	}
+
+	@Entity( name = "Country" )
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Country {
+		@Id
+		String code;
+		String name;
+
+		public Country() {
+		}
+
+		public Country(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+	}
+}
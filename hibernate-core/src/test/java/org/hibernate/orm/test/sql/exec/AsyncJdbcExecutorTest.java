@@ -0,0 +1,195 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.sql.exec;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.hql.spi.HqlQueryImplementor;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.sqm.internal.QuerySqmImpl;
+import org.hibernate.query.sqm.sql.internal.StandardSqmTranslator;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.CallbackImpl;
+import org.hibernate.sql.exec.spi.Callback;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.sql.exec.spi.NativeJdbcMutation;
+import org.hibernate.sql.results.internal.RowTransformerSingularReturnImpl;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for the asynchronous JDBC executors
+ */
+@ServiceRegistry(
+		settings = @Setting(
+				name = AvailableSettings.JDBC_ASYNC_EXECUTOR,
+				value = "org.hibernate.orm.test.sql.exec.AsyncJdbcExecutorTest$CountingExecutor"
+		)
+)
+@DomainModel( annotatedClasses = AsyncJdbcExecutorTest.AsyncItem.class )
+@SessionFactory
+public class AsyncJdbcExecutorTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new AsyncItem( 1, "first" ) );
+					session.persist( new AsyncItem( 2, "second" ) );
+				}
+		);
+		CountingExecutor.EXECUTIONS.set( 0 );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete from AsyncItem" ).executeUpdate() );
+	}
+
+	@Test
+	public void testAsyncSelect(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final HqlQueryImplementor<String> query = (HqlQueryImplementor<String>) session.createQuery(
+							"select i.name from AsyncItem i order by i.id",
+							String.class
+					);
+					final StandardSqmTranslator<SelectStatement> sqmConverter = new StandardSqmTranslator<>(
+							(SqmSelectStatement<String>) query.getSqmStatement(),
+							query.getQueryOptions(),
+							( (QuerySqmImpl<?>) query ).getDomainParameterXref(),
+							query.getParameterBindings(),
+							session.getLoadQueryInfluencers(),
+							scope.getSessionFactory()
+					);
+					final JdbcServices jdbcServices = scope.getSessionFactory().getJdbcServices();
+					final JdbcSelect jdbcSelect = jdbcServices.getJdbcEnvironment()
+							.getSqlAstTranslatorFactory()
+							.buildSelectTranslator( scope.getSessionFactory(), sqmConverter.translate().getSqlAst() )
+							.translate( null, QueryOptions.NONE );
+
+					final List<String> names = jdbcServices.getAsyncJdbcSelectExecutor()
+							.list(
+									jdbcSelect,
+									JdbcParameterBindings.NO_BINDINGS,
+									executionContext( session ),
+									RowTransformerSingularReturnImpl.<String>instance(),
+									ListResultsConsumer.UniqueSemantic.NONE
+							)
+							.toCompletableFuture()
+							.join();
+
+					assertEquals( Arrays.asList( "first", "second" ), names );
+					assertEquals( 1, CountingExecutor.EXECUTIONS.get() );
+				}
+		);
+	}
+
+	@Test
+	public void testAsyncMutation(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final JdbcServices jdbcServices = scope.getSessionFactory().getJdbcServices();
+					final int count = jdbcServices.getAsyncJdbcMutationExecutor()
+							.execute(
+									new NativeJdbcMutation(
+											"update async_item set name = 'renamed'",
+											Collections.emptyList(),
+											Collections.singleton( "async_item" )
+									),
+									JdbcParameterBindings.NO_BINDINGS,
+									sql -> session.getJdbcCoordinator().getStatementPreparer().prepareStatement( sql ),
+									(integer, preparedStatement) -> {},
+									executionContext( session )
+							)
+							.toCompletableFuture()
+							.join();
+
+					assertEquals( 2, count );
+					assertEquals( 1, CountingExecutor.EXECUTIONS.get() );
+				}
+		);
+		scope.inTransaction(
+				session -> assertEquals( "renamed", session.find( AsyncItem.class, 1 ).name )
+		);
+	}
+
+	private static ExecutionContext executionContext(SharedSessionContractImplementor session) {
+		final Callback callback = new CallbackImpl();
+		return new ExecutionContext() {
+			@Override
+			public SharedSessionContractImplementor getSession() {
+				return session;
+			}
+
+			@Override
+			public QueryOptions getQueryOptions() {
+				return QueryOptions.NONE;
+			}
+
+			@Override
+			public QueryParameterBindings getQueryParameterBindings() {
+				return QueryParameterBindings.NO_PARAM_BINDINGS;
+			}
+
+			@Override
+			public Callback getCallback() {
+				return callback;
+			}
+		};
+	}
+
+	public static class CountingExecutor implements Executor {
+		static final AtomicInteger EXECUTIONS = new AtomicInteger();
+
+		@Override
+		public void execute(Runnable command) {
+			EXECUTIONS.incrementAndGet();
+			new Thread( command ).start();
+		}
+	}
+
+	@Entity( name = "AsyncItem" )
+	@Table( name = "async_item" )
+	public static class AsyncItem {
+		@Id
+		Integer id;
+		String name;
+
+		public AsyncItem() {
+		}
+
+		public AsyncItem(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import org.hibernate.stat.internal.LatencyHistogram;
+import org.hibernate.stat.internal.QueryStatisticsImpl;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class LatencyHistogramTest extends BaseUnitTestCase {
+
+	@Test
+	public void testEmpty() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals( 0, histogram.getCount() );
+		assertEquals( 0, histogram.getPercentileMicroseconds( 99 ) );
+	}
+
+	@Test
+	public void testSmallValuesAreExact() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		for ( int i = 1; i <= 10; i++ ) {
+			histogram.recordMicroseconds( i );
+		}
+		assertEquals( 10, histogram.getCount() );
+		assertEquals( 5, histogram.getPercentileMicroseconds( 50 ) );
+		assertEquals( 9, histogram.getPercentileMicroseconds( 90 ) );
+		assertEquals( 10, histogram.getPercentileMicroseconds( 100 ) );
+		assertEquals( 1, histogram.getPercentileMicroseconds( 0 ) );
+	}
+
+	@Test
+	public void testRelativePrecision() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		for ( long value = 1; value < 10_000_000_000L; value = value * 3 + 7 ) {
+			histogram.clear();
+			histogram.recordMicroseconds( value );
+			final long reported = histogram.getPercentileMicroseconds( 50 );
+			assertEquals( "for " + value, value, reported, value / 16d );
+		}
+	}
+
+	@Test
+	public void testTail() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		for ( int i = 0; i < 990; i++ ) {
+			histogram.recordMilliseconds( 2 );
+		}
+		for ( int i = 0; i < 10; i++ ) {
+			histogram.recordMilliseconds( 500 );
+		}
+		assertEquals( 2, histogram.getPercentileMilliseconds( 50 ), 2 / 16d );
+		assertEquals( 2, histogram.getPercentileMilliseconds( 99 ), 2 / 16d );
+		assertEquals( 500, histogram.getPercentileMilliseconds( 99.9 ), 500 / 16d );
+	}
+
+	@Test
+	public void testHugeValuesAreClamped() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		histogram.recordNanoseconds( Long.MAX_VALUE );
+		histogram.recordMicroseconds( -1 );
+		assertEquals( 2, histogram.getCount() );
+		assertEquals( 0, histogram.getPercentileMicroseconds( 50 ) );
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidPercentile() {
+		new LatencyHistogram().getPercentileMicroseconds( 101 );
+	}
+
+	@Test
+	public void testQueryStatistics() {
+		final QueryStatisticsImpl stats = new QueryStatisticsImpl( "test" );
+		for ( int i = 0; i < 99; i++ ) {
+			stats.executed( 1, 10 );
+		}
+		stats.executed( 1, 1000 );
+
+		assertEquals( 10, stats.getExecutionTimePercentile( 99 ), 10 / 16d );
+		assertEquals( 1000, stats.getExecutionTimePercentile( 100 ), 1000 / 16d );
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.stream.IntStream;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+import jakarta.persistence.Version;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link org.hibernate.StatelessSession#insertAll} through {@code copy}, per
+ * {@link org.hibernate.dialect.PostgreSQLCopyBulkLoader}
+ */
+@RequiresDialect( PostgreSQLDialect.class )
+@DomainModel( annotatedClasses = PostgreSQLCopyInsertAllTest.Measurement.class )
+@SessionFactory( statementInspectorClass = SQLStatementInspector.class )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.JDBC_TIME_ZONE, value = "Asia/Kolkata" ) )
+public class PostgreSQLCopyInsertAllTest {
+	// more than one chunk of rows, and many blocks of the sequence
+	private static final int COUNT = 5003;
+
+	private static final String TEXT = "tab\there, new line\nthere, return\r, back\\slash and \\N";
+	private static final byte[] PAYLOAD = { 0, 9, 10, 13, 92, 127, -128, -1 };
+	private static final LocalDateTime TAKEN_AT = LocalDateTime.of( 2021, 6, 1, 23, 45, 15, 123_000_000 );
+	private static final LocalDate TAKEN_ON = LocalDate.of( 2021, 12, 31 );
+	private static final LocalTime TAKEN_TIME = LocalTime.of( 0, 15, 30 );
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete from Measurement" ).executeUpdate() );
+	}
+
+	@Test
+	public void testCopy(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getStatementInspector( SQLStatementInspector.class );
+		final Date recordedAt = new Date( 1_622_590_000_123L );
+		final Measurement[] measurements = IntStream.range( 0, COUNT )
+				.mapToObj( i -> new Measurement(
+						"measurement " + i,
+						new BigDecimal( "1234567890.0123456789" ).add( BigDecimal.valueOf( i ) ),
+						i % 2 == 0,
+						recordedAt
+				) )
+				.toArray( Measurement[]::new );
+		measurements[1].label = TEXT;
+		measurements[1].payload = PAYLOAD;
+		measurements[2].label = null;
+		measurements[2].amount = null;
+		measurements[2].valid = null;
+		measurements[2].takenAt = null;
+		measurements[2].recordedAt = null;
+
+		statementInspector.clear();
+		scope.inStatelessTransaction(
+				session -> assertEquals( COUNT, session.insertAll( Arrays.stream( measurements ) ) )
+		);
+
+		for ( Measurement measurement : measurements ) {
+			assertNotNull( measurement.id );
+		}
+		assertTrue(
+				statementInspector.getSqlQueries().stream()
+						.noneMatch( sql -> sql.toLowerCase().startsWith( "insert into measurement" ) ),
+				"rows were not copied"
+		);
+
+		scope.inTransaction(
+				session -> {
+					assertEquals(
+							(long) COUNT,
+							session.createQuery( "select count(distinct id) from Measurement", Long.class ).getSingleResult()
+					);
+
+					final Measurement escaped = session.find( Measurement.class, measurements[1].id );
+					assertEquals( TEXT, escaped.label );
+					assertArrayEquals( PAYLOAD, escaped.payload );
+					assertEquals( new BigDecimal( "1234567891.0123456789" ), escaped.amount );
+					assertEquals( Boolean.FALSE, escaped.valid );
+					assertEquals( TAKEN_AT, escaped.takenAt );
+					assertEquals( TAKEN_ON, escaped.takenOn );
+					assertEquals( TAKEN_TIME, escaped.takenTime );
+					assertEquals( recordedAt.getTime(), escaped.recordedAt.getTime() );
+					assertEquals( Integer.valueOf( 0 ), escaped.version );
+
+					final Measurement nulls = session.find( Measurement.class, measurements[2].id );
+					assertNull( nulls.label );
+					assertNull( nulls.payload );
+					assertNull( nulls.amount );
+					assertNull( nulls.valid );
+					assertNull( nulls.takenAt );
+					assertNull( nulls.recordedAt );
+
+					final Measurement last = session.find( Measurement.class, measurements[COUNT - 1].id );
+					assertEquals( "measurement " + ( COUNT - 1 ), last.label );
+					assertEquals( Boolean.TRUE, last.valid );
+				}
+		);
+	}
+
+	@Entity( name = "Measurement" )
+	public static class Measurement {
+		@Id
+		@GeneratedValue( strategy = GenerationType.SEQUENCE, generator = "measurement_seq" )
+		@SequenceGenerator( name = "measurement_seq", allocationSize = 5 )
+		Long id;
+		String label;
+		byte[] payload;
+		@Column( precision = 30, scale = 10 )
+		BigDecimal amount;
+		Boolean valid;
+		LocalDateTime takenAt;
+		LocalDate takenOn;
+		LocalTime takenTime;
+		@Temporal( TemporalType.TIMESTAMP )
+		Date recordedAt;
+		@Version
+		Integer version;
+
+		public Measurement() {
+		}
+
+		public Measurement(String label, BigDecimal amount, boolean valid, Date recordedAt) {
+			this.label = label;
+			this.amount = amount;
+			this.valid = valid;
+			this.takenAt = TAKEN_AT;
+			this.takenOn = TAKEN_ON;
+			this.takenTime = TAKEN_TIME;
+			this.recordedAt = recordedAt;
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SecondaryTable;
+import jakarta.persistence.Version;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link org.hibernate.StatelessSession#insertAll}
+ */
+@DomainModel( annotatedClasses = { StatelessSessionInsertAllTest.Reading.class, StatelessSessionInsertAllTest.Station.class } )
+@SessionFactory( statementInspectorClass = SQLStatementInspector.class )
+public class StatelessSessionInsertAllTest {
+
+	private static final LocalDateTime TAKEN_AT = LocalDateTime.of( 2021, 6, 1, 12, 30, 15 );
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete from Reading" ).executeUpdate();
+					session.createQuery( "delete from Station" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testInsertAll(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getStatementInspector( SQLStatementInspector.class );
+		final Reading[] readings = IntStream.range( 0, 250 )
+				.mapToObj( i -> new Reading( "sensor " + i, i * 0.5, i % 2 == 0 ) )
+				.toArray( Reading[]::new );
+		readings[7].note = "tab\tnew line\nback\\slash";
+		readings[8].note = null;
+		final Station station = new Station( 1, "north", "hill" );
+
+		statementInspector.clear();
+		scope.inStatelessTransaction(
+				session -> assertEquals(
+						251,
+						session.insertAll(
+								Stream.concat(
+										Stream.of( readings ).limit( 200 ),
+										Stream.concat( Stream.of( station ), Stream.of( readings ).skip( 200 ) )
+								)
+						)
+				)
+		);
+
+		for ( Reading reading : readings ) {
+			assertNotNull( reading.id );
+		}
+		final long readingInserts = statementInspector.getSqlQueries().stream()
+				.filter( sql -> sql.toLowerCase().startsWith( "insert into reading" ) )
+				.count();
+		assertTrue( readingInserts < 10, "rows were inserted one at a time" );
+
+		scope.inTransaction(
+				session -> {
+					assertEquals( 250L, session.createQuery( "select count(*) from Reading" ).getSingleResult() );
+					final Reading escaped = session.find( Reading.class, readings[7].id );
+					assertEquals( "tab\tnew line\nback\\slash", escaped.note );
+					assertEquals( "sensor 7", escaped.sensor );
+					assertEquals( 3.5, escaped.value );
+					assertFalse( escaped.valid );
+					assertEquals( TAKEN_AT, escaped.takenAt );
+					assertEquals( Integer.valueOf( 0 ), escaped.version );
+					assertNull( session.find( Reading.class, readings[8].id ).note );
+					assertEquals( "hill", session.find( Station.class, 1 ).location );
+				}
+		);
+	}
+
+	@Entity( name = "Reading" )
+	public static class Reading {
+		@Id
+		@GeneratedValue
+		Long id;
+		String sensor;
+		@Column( name = "reading_value" )
+		double value;
+		boolean valid;
+		LocalDateTime takenAt;
+		String note;
+		@Version
+		Integer version;
+
+		public Reading() {
+		}
+
+		public Reading(String sensor, double value, boolean valid) {
+			this.sensor = sensor;
+			this.value = value;
+			this.valid = valid;
+			this.takenAt = TAKEN_AT;
+			this.note = "note of " + sensor;
+		}
+	}
+
+	@Entity( name = "Station" )
+	@SecondaryTable( name = "station_location" )
+	public static class Station {
+		@Id
+		Integer id;
+		String name;
+		@Column( table = "station_location" )
+		String location;
+
+		public Station() {
+		}
+
+		public Station(Integer id, String name, String location) {
+			this.id = id;
+			this.name = name;
+			this.location = location;
+		}
+	}
+}
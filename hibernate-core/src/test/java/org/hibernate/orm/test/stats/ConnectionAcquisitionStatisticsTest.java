@@ -0,0 +1,82 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stats;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the statistics of the acquisition of JDBC connections by sessions
+ */
+@ServiceRegistry(
+		settings = @Setting(
+				name = AvailableSettings.CONNECTION_PROVIDER,
+				value = "org.hibernate.orm.test.stats.ConnectionAcquisitionStatisticsTest$SlowConnectionProvider"
+		)
+)
+@DomainModel( annotatedClasses = ConnectionAcquisitionStatisticsTest.Thing.class )
+@SessionFactory( generateStatistics = true )
+public class ConnectionAcquisitionStatisticsTest {
+
+	@Test
+	public void testConnectionAcquisitionTime(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inTransaction( session -> session.find( Thing.class, 1 ) );
+		}
+
+		assertEquals( 3, statistics.getConnectCount() );
+		assertTrue( statistics.getConnectionAcquisitionMaxTime() >= SlowConnectionProvider.DELAY );
+		assertTrue( statistics.getConnectionAcquisitionTimePercentile( 50 ) >= SlowConnectionProvider.DELAY * 15 / 16 );
+
+		statistics.clear();
+		assertEquals( 0, statistics.getConnectionAcquisitionMaxTime() );
+		assertEquals( 0, statistics.getConnectionAcquisitionTimePercentile( 50 ) );
+	}
+
+	public static class SlowConnectionProvider extends DriverManagerConnectionProviderImpl {
+		// in milliseconds
+		static final long DELAY = 20;
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			try {
+				TimeUnit.MILLISECONDS.sleep( DELAY );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return super.getConnection();
+		}
+	}
+
+	@Entity( name = "Thing" )
+	public static class Thing {
+		@Id
+		Integer id;
+		String name;
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.internal.util.collections.TinyLfuCache;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TinyLfuCacheTest extends BaseUnitTestCase {
+	@Test
+	public void testBasicOperations() {
+		final TinyLfuCache<String, String> cache = new TinyLfuCache<>( 10 );
+		assertNull( cache.get( "a" ) );
+		assertEquals( "A", cache.computeIfAbsent( "a", String::toUpperCase ) );
+		assertEquals( "A", cache.get( "a" ) );
+		// an existing value is never replaced
+		assertEquals( "A", cache.put( "a", "other" ) );
+		assertEquals( 1, cache.size() );
+		assertEquals( 1, cache.getHitCount() );
+		assertEquals( 2, cache.getMissCount() );
+
+		cache.clear();
+		assertEquals( 0, cache.size() );
+		assertNull( cache.get( "a" ) );
+	}
+
+	@Test
+	public void testBoundedAndFrequentEntriesRetained() {
+		final List<String> evicted = new ArrayList<>();
+		final TinyLfuCache<String, String> cache = new TinyLfuCache<>( 100, evicted::add );
+
+		// a working set of hot entries interleaved with a scan of entries requested only once
+		for ( int i = 0; i < 10_000; i++ ) {
+			cache.computeIfAbsent( "hot" + ( i % 50 ), key -> key );
+			cache.computeIfAbsent( "cold" + i, key -> key );
+			assertTrue( cache.size() <= 100 );
+		}
+
+		for ( int i = 0; i < 50; i++ ) {
+			assertEquals( "hot" + i, cache.get( "hot" + i ) );
+		}
+		assertEquals( 100, cache.size() );
+		assertEquals( cache.getEvictionCount(), evicted.size() );
+		for ( String key : evicted ) {
+			assertTrue( key.startsWith( "cold" ) );
+		}
+	}
+
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		final TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>( 64 );
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		final Thread[] threads = new Thread[8];
+		for ( int t = 0; t < threads.length; t++ ) {
+			threads[t] = new Thread( () -> {
+				try {
+					final ThreadLocalRandom random = ThreadLocalRandom.current();
+					for ( int i = 0; i < 50_000; i++ ) {
+						final Integer key = random.nextInt( 256 );
+						assertEquals( key, cache.computeIfAbsent( key, k -> k ) );
+					}
+				}
+				catch (Throwable e) {
+					failure.set( e );
+				}
+			} );
+			threads[t].start();
+		}
+		for ( Thread thread : threads ) {
+			thread.join();
+		}
+		assertNull( failure.get() );
+		assertTrue( cache.size() <= 64 + threads.length );
+		assertSame( cache.get( 1 ), cache.get( 1 ) );
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.virtualthreads;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Version;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.consumer.RecordedEvent;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs the basic entity operations on virtual threads, checking that Hibernate
+ * does not pin them while blocked.
+ * <p/>
+ * Pinning caused by the monitors of the JDBC driver itself is ignored.  On platform
+ * threads, the statements are checked to be prepared while Hibernate holds no monitor.
+ */
+@DomainModel( annotatedClasses = CrudOnVirtualThreadsTest.Item.class )
+@SessionFactory( statementInspectorClass = CrudOnVirtualThreadsTest.MonitorCheckingInspector.class )
+public class CrudOnVirtualThreadsTest {
+	// less than the size of the connection pool used by the tests
+	private static final int THREADS = 4;
+	private static final int ITERATIONS = 10;
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testCrudDoesNotPinVirtualThreads(SessionFactoryScope scope) {
+		assumeTrue( VirtualThreads.isSupported(), "Virtual threads are not available" );
+
+		final List<RecordedEvent> events = VirtualThreads.runConcurrently( THREADS, () -> crud( scope ) );
+
+		final List<RecordedEvent> pinned = events.stream()
+				.filter( VirtualThreads::isParkedInHibernate )
+				.collect( toList() );
+		assertTrue( pinned.isEmpty(), "Virtual threads pinned by Hibernate:\n" + VirtualThreads.describe( pinned ) );
+	}
+
+	@Test
+	public void testCrudHoldsNoMonitorWhilePreparingStatements(SessionFactoryScope scope) {
+		MonitorCheckingInspector.MONITORS_HELD.clear();
+
+		VirtualThreads.runConcurrentlyOnPlatformThreads( THREADS, () -> crud( scope ) );
+
+		assertTrue(
+				MonitorCheckingInspector.MONITORS_HELD.isEmpty(),
+				"Monitors held by Hibernate:\n" + MonitorCheckingInspector.MONITORS_HELD
+		);
+	}
+
+	private final AtomicInteger counter = new AtomicInteger();
+
+	private void crud(SessionFactoryScope scope) {
+		for ( int i = 0; i < ITERATIONS; i++ ) {
+			final String name = "item-" + counter.incrementAndGet();
+			final Item item = new Item( name );
+			scope.inTransaction( session -> session.persist( item ) );
+			scope.inTransaction(
+					session -> session.find( Item.class, item.id ).name = name + "-renamed"
+			);
+			scope.inTransaction(
+					session -> {
+						final Item found = session.createQuery( "from Item where name = :name", Item.class )
+								.setParameter( "name", name + "-renamed" )
+								.getSingleResult();
+						assertEquals( 1, found.version );
+						session.remove( found );
+					}
+			);
+			scope.inTransaction( session -> assertNull( session.find( Item.class, item.id ) ) );
+		}
+	}
+
+	/**
+	 * Records the monitors held by Hibernate when a statement is prepared, which
+	 * would pin a virtual thread for the duration of its execution.
+	 */
+	public static class MonitorCheckingInspector implements StatementInspector {
+		static final ConcurrentLinkedQueue<String> MONITORS_HELD = new ConcurrentLinkedQueue<>();
+
+		@Override
+		public String inspect(String sql) {
+			for ( String monitor : VirtualThreads.hibernateMonitorsHeld() ) {
+				MONITORS_HELD.add( monitor + " preparing " + sql );
+			}
+			return sql;
+		}
+	}
+
+	@Entity( name = "Item" )
+	public static class Item {
+		@Id
+		@GeneratedValue( strategy = GenerationType.SEQUENCE, generator = "item_seq" )
+		@SequenceGenerator( name = "item_seq", allocationSize = 5 )
+		Long id;
+		String name;
+		@Version
+		int version;
+
+		public Item() {
+		}
+
+		public Item(String name) {
+			this.name = name;
+		}
+	}
+}
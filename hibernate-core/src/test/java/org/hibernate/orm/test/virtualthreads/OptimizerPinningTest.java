@@ -0,0 +1,144 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.virtualthreads;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.id.enhanced.OptimizerFactory;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.consumer.RecordedEvent;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks that the optimizers do not pin the virtual threads calling them
+ * while the database structure is accessed, and, on platform threads, that
+ * they hold no monitor while it is.
+ */
+@BaseUnitTest
+public class OptimizerPinningTest {
+	private static final int THREADS = 32;
+	private static final int VALUES_PER_THREAD = 20;
+	private static final int INCREMENT_SIZE = 5;
+
+	@Test
+	public void testOptimizersDoNotPinVirtualThreads() {
+		assumeTrue( VirtualThreads.isSupported(), "Virtual threads are not available" );
+
+		for ( StandardOptimizerDescriptor descriptor : StandardOptimizerDescriptor.values() ) {
+			if ( descriptor == StandardOptimizerDescriptor.NONE ) {
+				continue;
+			}
+			final Optimizer optimizer = OptimizerFactory.buildOptimizer(
+					descriptor.getExternalName(),
+					Long.class,
+					INCREMENT_SIZE,
+					1
+			);
+			final SlowSource source = new SlowSource( optimizer.applyIncrementSizeToSourceValues() ? INCREMENT_SIZE : 1 );
+			final Set<Long> values = ConcurrentHashMap.newKeySet();
+
+			final List<RecordedEvent> events = VirtualThreads.runConcurrently(
+					THREADS,
+					() -> {
+						for ( int i = 0; i < VALUES_PER_THREAD; i++ ) {
+							values.add( (Long) optimizer.generate( source ) );
+						}
+					}
+			);
+
+			assertEquals( THREADS * VALUES_PER_THREAD, values.size(), descriptor + " generated duplicate values" );
+			final List<RecordedEvent> pinned = events.stream()
+					.filter( event -> VirtualThreads.hasFrame( event, name -> name.startsWith( "org.hibernate.id." ) ) )
+					.collect( toList() );
+			assertTrue( pinned.isEmpty(), descriptor + " pinned virtual threads:\n" + VirtualThreads.describe( pinned ) );
+		}
+	}
+
+	@Test
+	public void testOptimizersHoldNoMonitorWhileAccessingSource() {
+		for ( StandardOptimizerDescriptor descriptor : StandardOptimizerDescriptor.values() ) {
+			if ( descriptor == StandardOptimizerDescriptor.NONE ) {
+				continue;
+			}
+			final Optimizer optimizer = OptimizerFactory.buildOptimizer(
+					descriptor.getExternalName(),
+					Long.class,
+					INCREMENT_SIZE,
+					1
+			);
+			final SlowSource source = new SlowSource( optimizer.applyIncrementSizeToSourceValues() ? INCREMENT_SIZE : 1 );
+			final Set<Long> values = ConcurrentHashMap.newKeySet();
+
+			VirtualThreads.runConcurrentlyOnPlatformThreads(
+					THREADS,
+					() -> {
+						for ( int i = 0; i < VALUES_PER_THREAD; i++ ) {
+							values.add( (Long) optimizer.generate( source ) );
+						}
+					}
+			);
+
+			assertEquals( THREADS * VALUES_PER_THREAD, values.size(), descriptor + " generated duplicate values" );
+			assertTrue( source.monitorsHeld.isEmpty(), descriptor + " held monitors:\n" + source.monitorsHeld );
+		}
+	}
+
+	/**
+	 * Simulates a sequence, each access taking a while as a database round trip would.
+	 */
+	private static class SlowSource implements AccessCallback {
+		private final ReentrantLock lock = new ReentrantLock();
+		private final IdentifierGeneratorHelper.BasicHolder value = new IdentifierGeneratorHelper.BasicHolder( Long.class );
+		private final int increment;
+		// the monitors Hibernate held while the sequence was accessed
+		private final ConcurrentLinkedQueue<String> monitorsHeld = new ConcurrentLinkedQueue<>();
+
+		private SlowSource(int increment) {
+			this.increment = increment;
+			this.value.initialize( 1 - increment );
+		}
+
+		@Override
+		public IntegralDataTypeHolder getNextValue() {
+			monitorsHeld.addAll( VirtualThreads.hibernateMonitorsHeld() );
+			lock.lock();
+			try {
+				TimeUnit.MILLISECONDS.sleep( 1 );
+				return value.add( increment ).copy();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException( e );
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public String getTenantIdentifier() {
+			return null;
+		}
+	}
+}
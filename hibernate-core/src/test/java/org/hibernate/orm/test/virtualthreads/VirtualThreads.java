@@ -0,0 +1,203 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.virtualthreads;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MonitorInfo;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Runs tasks on virtual threads, recording the {@code jdk.VirtualThreadPinned}
+ * JFR events they trigger.
+ * <p/>
+ * Virtual threads are obtained reflectively, so that the tests compile
+ * against the baseline JDK and are skipped when not supported.  On platform
+ * threads, the same behavior is checked through {@link #hibernateMonitorsHeld()}:
+ * a virtual thread is pinned when it blocks while holding a monitor.
+ */
+public final class VirtualThreads {
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	private static final ThreadFactory FACTORY = resolveFactory();
+
+	private VirtualThreads() {
+	}
+
+	private static ThreadFactory resolveFactory() {
+		try {
+			final Object builder = Thread.class.getMethod( "ofVirtual" ).invoke( null );
+			return (ThreadFactory) Class.forName( "java.lang.Thread$Builder" ).getMethod( "factory" ).invoke( builder );
+		}
+		catch (Exception e) {
+			// not available, or a preview feature which is not enabled
+			return null;
+		}
+	}
+
+	public static boolean isSupported() {
+		return FACTORY != null;
+	}
+
+	/**
+	 * Run the task on the given number of virtual threads at once, and
+	 * return the pinning events recorded meanwhile.  Any failure of a
+	 * task is rethrown.
+	 */
+	public static List<RecordedEvent> runConcurrently(int threadCount, Runnable task) {
+		try ( Recording recording = new Recording() ) {
+			recording.enable( PINNED_EVENT ).withThreshold( Duration.ZERO ).withStackTrace();
+			recording.start();
+
+			final Throwable failure = run( FACTORY, threadCount, task );
+
+			recording.stop();
+			final Path file = Files.createTempFile( "pinned", ".jfr" );
+			try {
+				recording.dump( file );
+				if ( failure != null ) {
+					throw new AssertionError( "Task failed on a virtual thread", failure );
+				}
+				return RecordingFile.readAllEvents( file )
+						.stream()
+						.filter( event -> PINNED_EVENT.equals( event.getEventType().getName() ) )
+						.collect( Collectors.toList() );
+			}
+			finally {
+				Files.deleteIfExists( file );
+			}
+		}
+		catch (IOException e) {
+			throw new RuntimeException( "Could not read the JFR recording", e );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException( e );
+		}
+	}
+
+	/**
+	 * Run the task on the given number of platform threads at once.  Any
+	 * failure of a task is rethrown.
+	 */
+	public static void runConcurrentlyOnPlatformThreads(int threadCount, Runnable task) {
+		final Throwable failure;
+		try {
+			failure = run( Thread::new, threadCount, task );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException( e );
+		}
+		if ( failure != null ) {
+			throw new AssertionError( "Task failed on a platform thread", failure );
+		}
+	}
+
+	private static Throwable run(ThreadFactory factory, int threadCount, Runnable task) throws InterruptedException {
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		final List<Thread> threads = new ArrayList<>( threadCount );
+		for ( int i = 0; i < threadCount; i++ ) {
+			threads.add(
+					factory.newThread(
+							() -> {
+								try {
+									task.run();
+								}
+								catch (Throwable t) {
+									failure.compareAndSet( null, t );
+								}
+							}
+					)
+			);
+		}
+		threads.forEach( Thread::start );
+		for ( Thread thread : threads ) {
+			thread.join();
+		}
+		return failure.get();
+	}
+
+	/**
+	 * The monitors held by the current thread which Hibernate code locked, described with
+	 * the frame locking them.  A virtual thread blocking at this point would be pinned by them.
+	 */
+	public static List<String> hibernateMonitorsHeld() {
+		final MonitorInfo[] monitors = ManagementFactory.getThreadMXBean()
+				.getThreadInfo( new long[] { Thread.currentThread().getId() }, true, false )[0]
+				.getLockedMonitors();
+		return Arrays.stream( monitors )
+				// the frame is unknown for monitors locked by JNI code
+				.filter( monitor -> monitor.getLockedStackFrame() != null
+						&& isHibernateClass( monitor.getLockedStackFrame().getClassName() ) )
+				.map( monitor -> monitor.getClassName() + " locked at " + monitor.getLockedStackFrame() )
+				.collect( Collectors.toList() );
+	}
+
+	/**
+	 * Does the stack of the pinned thread contain a frame of a class matching the predicate?
+	 */
+	public static boolean hasFrame(RecordedEvent event, Predicate<String> classNamePredicate) {
+		if ( event.getStackTrace() == null ) {
+			return false;
+		}
+		for ( RecordedFrame frame : event.getStackTrace().getFrames() ) {
+			if ( frame.isJavaFrame() && classNamePredicate.test( frame.getMethod().getType().getName() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Did the pinned thread park in Hibernate code itself, rather than in the JDBC driver
+	 * (whose own monitors we cannot do anything about) or in the test?  That is, is the
+	 * first frame which is not part of the JDK a Hibernate one?
+	 */
+	public static boolean isParkedInHibernate(RecordedEvent event) {
+		if ( event.getStackTrace() == null ) {
+			return false;
+		}
+		for ( RecordedFrame frame : event.getStackTrace().getFrames() ) {
+			if ( !frame.isJavaFrame() ) {
+				continue;
+			}
+			final String className = frame.getMethod().getType().getName();
+			if ( className.startsWith( "java." ) || className.startsWith( "jdk." ) || className.startsWith( "sun." ) ) {
+				continue;
+			}
+			return isHibernateClass( className );
+		}
+		return false;
+	}
+
+	public static boolean isHibernateClass(String className) {
+		return className.startsWith( "org.hibernate." )
+				&& !className.startsWith( "org.hibernate.orm.test." )
+				&& !className.startsWith( "org.hibernate.testing." );
+	}
+
+	public static String describe(List<RecordedEvent> events) {
+		return events.stream()
+				.map( event -> String.valueOf( event.getStackTrace() ) )
+				.collect( Collectors.joining( "\n\n" ) );
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.persister.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.persister.entity.UpdateOperationCache.UpdateOperation;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the sharing of the UPDATE statements of an entity between updates of the same properties
+ */
+@DomainModel( annotatedClasses = UpdateOperationCacheTest.Document.class )
+@SessionFactory
+public class UpdateOperationCacheTest {
+
+	@Test
+	public void testRepeatedShapeReturnsSameOperation(SessionFactoryScope scope) {
+		final AbstractEntityPersister persister = persister( scope );
+		final UpdateOperationCache cache = new UpdateOperationCache( persister );
+
+		final UpdateOperation titleUpdate = cache.getGeneratedUpdate( include( persister, "title" ), 0, false );
+		assertTrue( titleUpdate.getSql().contains( "title" ) );
+		assertFalse( titleUpdate.getSql().contains( "status" ) );
+		assertArrayEquals( new int[] { persister.getPropertyIndex( "title" ) }, titleUpdate.getBoundProperties() );
+
+		// an equal array, not the same instance
+		assertSame( titleUpdate, cache.getGeneratedUpdate( include( persister, "title" ), 0, false ) );
+
+		final UpdateOperation statusUpdate = cache.getGeneratedUpdate( include( persister, "status" ), 0, false );
+		assertNotSame( titleUpdate, statusUpdate );
+		assertSame( statusUpdate, cache.getGeneratedUpdate( include( persister, "status" ), 0, false ) );
+		assertSame( titleUpdate, cache.getGeneratedUpdate( include( persister, "title" ), 0, false ) );
+	}
+
+	@Test
+	public void testCachedShapeDoesNotShareArrayOfCaller(SessionFactoryScope scope) {
+		final AbstractEntityPersister persister = persister( scope );
+		final UpdateOperationCache cache = new UpdateOperationCache( persister );
+
+		final boolean[] includeProperty = include( persister, "title" );
+		final UpdateOperation titleUpdate = cache.getGeneratedUpdate( includeProperty, 0, false );
+		includeProperty[persister.getPropertyIndex( "title" )] = false;
+		includeProperty[persister.getPropertyIndex( "status" )] = true;
+
+		assertNotSame( titleUpdate, cache.getGeneratedUpdate( includeProperty, 0, false ) );
+		assertSame( titleUpdate, cache.getGeneratedUpdate( include( persister, "title" ), 0, false ) );
+	}
+
+	@Test
+	public void testStaticAndGeneratedUpdatesAreDistinct(SessionFactoryScope scope) {
+		final AbstractEntityPersister persister = persister( scope );
+		final UpdateOperationCache cache = new UpdateOperationCache( persister );
+
+		final UpdateOperation staticUpdate = cache.getStaticUpdate( include( persister, "title" ), 0 );
+		assertNull( staticUpdate.getSql() );
+		assertSame( staticUpdate, cache.getStaticUpdate( include( persister, "title" ), 0 ) );
+		assertNotSame( staticUpdate, cache.getGeneratedUpdate( include( persister, "title" ), 0, false ) );
+	}
+
+	private static AbstractEntityPersister persister(SessionFactoryScope scope) {
+		return (AbstractEntityPersister) scope.getSessionFactory()
+				.getRuntimeMetamodels()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Document.class );
+	}
+
+	private static boolean[] include(AbstractEntityPersister persister, String propertyName) {
+		final boolean[] includeProperty = new boolean[persister.getPropertySpan()];
+		includeProperty[persister.getPropertyIndex( propertyName )] = true;
+		return includeProperty;
+	}
+
+	@Entity( name = "Document" )
+	@DynamicUpdate
+	public static class Document {
+		@Id
+		Integer id;
+		String title;
+		String status;
+	}
+}
@@ -69,7 +69,7 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 		return new JCacheDomainDataRegionImpl(
 				regionConfig,
 				this,
-				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				buildDomainDataStorageAccess( regionConfig, buildingContext ),
 				cacheKeysFactory,
 				buildingContext
 		);
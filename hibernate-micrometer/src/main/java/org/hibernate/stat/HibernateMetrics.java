@@ -35,6 +35,12 @@ public class HibernateMetrics implements MeterBinder {
 
 	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
 
+	/**
+	 * The percentiles of query execution times which are published, as a fraction
+	 * like the {@code phi} tag of Micrometer's own percentile gauges.
+	 */
+	static final double[] PUBLISHED_PERCENTILES = { 0.5, 0.95, 0.99, 0.999 };
+
 	private final String cacheFactoryPrefix;
 	private final Iterable<Tag> tags;
 
@@ -292,6 +298,19 @@ public class HibernateMetrics implements MeterBinder {
 				.tags( tags )
 				.register( registry );
 
+		for ( double percentile : PUBLISHED_PERCENTILES ) {
+			TimeGauge.builder(
+					"hibernate.query.executions.percentile",
+					statistics,
+					TimeUnit.MILLISECONDS,
+					s -> s.getQueryExecutionTimePercentile( percentile * 100 )
+			)
+					.description( "The query execution time which the given fraction of the executed queries did not exceed" )
+					.tags( tags )
+					.tags( "phi", Double.toString( percentile ) )
+					.register( registry );
+		}
+
 		// Update timestamp cache
 		counter(registry,
 				"hibernate.cache.update.timestamps.requests",
@@ -335,6 +354,9 @@ public class HibernateMetrics implements MeterBinder {
 		counter(registry, "hibernate.cache.query.plan", "The global number of query plans lookups not found in cache",
 				Statistics::getQueryPlanCacheMissCount, "result", "miss"
 		);
+		counter(registry, "hibernate.cache.query.plan.evictions", "The global number of query plans evicted from or not admitted to the cache",
+				Statistics::getQueryPlanCacheEvictionCount
+		);
 	}
 
 	private boolean hasDomainDataRegionStatistics(String regionName) {
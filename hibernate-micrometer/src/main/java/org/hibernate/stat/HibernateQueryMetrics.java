@@ -173,6 +173,19 @@ public class HibernateQueryMetrics implements MeterBinder {
 						.description( "Query minimum execution time" )
 						.register( meterRegistry );
 
+				for ( double percentile : HibernateMetrics.PUBLISHED_PERCENTILES ) {
+					TimeGauge.builder(
+							"hibernate.query.execution.percentile",
+							queryStatistics,
+							TimeUnit.MILLISECONDS,
+							q -> q.getExecutionTimePercentile( percentile * 100 )
+					)
+							.tags( tags )
+							.tags( "query", query, "phi", Double.toString( percentile ) )
+							.description( "Query execution time which the given fraction of the executions did not exceed" )
+							.register( meterRegistry );
+				}
+
 				FunctionCounter.builder(
 						"hibernate.query.execution.rows",
 						queryStatistics,
@@ -100,6 +100,7 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 
 		Assert.assertNotNull(registry.get("hibernate.query.executions").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.query.executions.max").timeGauge());
+		Assert.assertNotNull(registry.get("hibernate.query.executions.percentile").tags("phi", "0.99").timeGauge());
 
 		Assert.assertNotNull(registry.get("hibernate.cache.update.timestamps.requests").tags("result", "hit").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.update.timestamps.requests").tags("result", "miss").functionCounter());
@@ -110,6 +111,7 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 		Assert.assertNotNull(registry.get("hibernate.cache.query.puts").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "hit").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "miss").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.cache.query.plan.evictions").functionCounter());
 
 		// prepare some test data...
 		Session session = openSession();
@@ -0,0 +1,33 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.offheap;
+
+/**
+ * The configuration settings of `hibernate-offheap`
+ */
+public interface ConfigSettings {
+	String SIMPLE_FACTORY_NAME = "offheap";
+
+	String PROP_PREFIX = "hibernate.cache.offheap.";
+
+	/**
+	 * The maximum amount of native memory, in bytes, used to store the cached
+	 * entries of all the regions of a {@link org.hibernate.SessionFactory}.
+	 * The memory is allocated lazily, one slab at a time.
+	 *
+	 * Default value is 256 MB.
+	 */
+	String MAX_SIZE = PROP_PREFIX + "max_size";
+
+	/**
+	 * The size, in bytes, of the slabs the native memory is allocated and evicted by.
+	 * Entries larger than a slab are not cached.
+	 *
+	 * Default value is 4 MB.
+	 */
+	String SLAB_SIZE = PROP_PREFIX + "slab_size";
+}
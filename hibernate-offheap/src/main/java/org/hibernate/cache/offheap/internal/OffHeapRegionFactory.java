@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.offheap.internal;
+
+import java.util.Map;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.cache.offheap.ConfigSettings;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+/**
+ * RegionFactory storing the disassembled entity and collection entries, and
+ * the query results, in native memory shared by all the regions.
+ *
+ * @see OffHeapStore
+ */
+public class OffHeapRegionFactory extends RegionFactoryTemplate {
+	public static final int DEFAULT_MAX_SIZE = 256 * 1024 * 1024;
+	public static final int DEFAULT_SLAB_SIZE = 4 * 1024 * 1024;
+
+	private final CacheKeysFactory cacheKeysFactory;
+
+	private volatile OffHeapStore store;
+
+	@SuppressWarnings("unused")
+	public OffHeapRegionFactory() {
+		this( DefaultCacheKeysFactory.INSTANCE );
+	}
+
+	public OffHeapRegionFactory(CacheKeysFactory cacheKeysFactory) {
+		this.cacheKeysFactory = cacheKeysFactory;
+	}
+
+	public OffHeapStore getStore() {
+		return store;
+	}
+
+	@Override
+	protected CacheKeysFactory getImplicitCacheKeysFactory() {
+		return cacheKeysFactory;
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return new OffHeapStorageAccess( regionConfig.getRegionName(), store );
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new OffHeapStorageAccess( regionName, store );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new TimestampsStorageAccess();
+	}
+
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Lifecycle
+
+	@Override
+	protected boolean isStarted() {
+		return super.isStarted() && store != null;
+	}
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map configValues) {
+		final long maxSize = ConfigurationHelper.getLong( ConfigSettings.MAX_SIZE, configValues, DEFAULT_MAX_SIZE );
+		final int slabSize = ConfigurationHelper.getInt( ConfigSettings.SLAB_SIZE, configValues, DEFAULT_SLAB_SIZE );
+		if ( slabSize <= 0 || maxSize < slabSize ) {
+			throw new CacheException(
+					"Invalid off-heap cache sizes [" + ConfigSettings.MAX_SIZE + "=" + maxSize
+							+ ", " + ConfigSettings.SLAB_SIZE + "=" + slabSize + "]"
+			);
+		}
+		this.store = new OffHeapStore( maxSize, slabSize );
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		try {
+			store.release();
+		}
+		finally {
+			store = null;
+		}
+	}
+}
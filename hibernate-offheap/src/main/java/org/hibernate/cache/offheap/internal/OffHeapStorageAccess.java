@@ -0,0 +1,116 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.offheap.internal;
+
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+
+import org.jboss.logging.Logger;
+
+/**
+ * StorageAccess implementation keeping the serialized form of the cached
+ * values in an {@link OffHeapStore}.  Only the keys, and the location of
+ * the values, are kept on the heap.
+ * <p/>
+ * Values which are not {@link Serializable} are not cached.
+ */
+public class OffHeapStorageAccess implements DomainDataStorageAccess {
+	private static final Logger LOG = Logger.getLogger( OffHeapStorageAccess.class );
+
+	private final String regionName;
+	private final OffHeapStore store;
+	private final ConcurrentMap<Object, OffHeapStore.Entry> index = new ConcurrentHashMap<>();
+
+	public OffHeapStorageAccess(String regionName, OffHeapStore store) {
+		this.regionName = regionName;
+		this.store = store;
+	}
+
+	public String getRegionName() {
+		return regionName;
+	}
+
+	/**
+	 * The number of entries of the region
+	 */
+	public int getElementCount() {
+		return index.size();
+	}
+
+	/**
+	 * The number of bytes used by the serialized values of the region
+	 */
+	public long getSizeInBytes() {
+		long size = 0;
+		for ( OffHeapStore.Entry entry : index.values() ) {
+			size += entry.getLength();
+		}
+		return size;
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return index.containsKey( key );
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final OffHeapStore.Entry entry = index.get( key );
+		if ( entry == null ) {
+			return null;
+		}
+		final byte[] bytes = store.read( entry );
+		if ( bytes == null ) {
+			index.remove( key, entry );
+			return null;
+		}
+		return SerializationHelper.deserialize( bytes );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		if ( !( value instanceof Serializable ) ) {
+			LOG.debugf( "Not caching non-serializable value in region [%s] : %s", regionName, value );
+			index.remove( key );
+			return;
+		}
+		if ( !store.write( index, key, SerializationHelper.serialize( (Serializable) value ) ) ) {
+			LOG.debugf( "Not caching value larger than the slab size in region [%s] : %s", regionName, key );
+			index.remove( key );
+		}
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		index.remove( key );
+	}
+
+	@Override
+	public void evictData(Object key) {
+		index.remove( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		index.clear();
+	}
+
+	@Override
+	public void evictData() {
+		index.clear();
+	}
+
+	@Override
+	public void release() {
+		index.clear();
+	}
+}
@@ -0,0 +1,234 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.offheap.internal;
+
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Native memory shared by the regions of an {@link OffHeapRegionFactory}.
+ * <p/>
+ * The memory is split into fixed size slabs, allocated lazily as direct
+ * {@link ByteBuffer}s, which are filled in turn by appending the bytes of
+ * the written entries.  Once all the slabs are allocated, the oldest one
+ * is recycled: the entries it contains are dropped from the on-heap index
+ * of their region, except those read since they were written which are
+ * given a second chance and copied back at the start of the slab.
+ * <p/>
+ * Writes are serialized, reads are lock-free: an entry is only considered
+ * valid if the generation of its slab did not change while it was copied.
+ */
+public class OffHeapStore {
+	private final Slab[] slabs;
+	private final int slabSize;
+	private final ReentrantLock writeLock = new ReentrantLock();
+
+	private int current = -1;
+
+	public OffHeapStore(long maxSize, int slabSize) {
+		if ( slabSize <= 0 ) {
+			throw new IllegalArgumentException( "The slab size must be positive: " + slabSize );
+		}
+		this.slabSize = slabSize;
+		this.slabs = new Slab[(int) Math.max( 1, Math.min( Integer.MAX_VALUE, maxSize / slabSize ) )];
+	}
+
+	public int getSlabSize() {
+		return slabSize;
+	}
+
+	/**
+	 * The amount of native memory allocated so far
+	 */
+	public long getAllocatedSize() {
+		writeLock.lock();
+		try {
+			long size = 0;
+			for ( Slab slab : slabs ) {
+				if ( slab != null ) {
+					size += slabSize;
+				}
+			}
+			return size;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Copies the bytes into the store and maps the key to them in the index.
+	 *
+	 * @return {@code false} if the bytes are larger than a slab and were not stored
+	 */
+	public boolean write(ConcurrentMap<Object, Entry> index, Object key, byte[] bytes) {
+		if ( bytes.length > slabSize ) {
+			return false;
+		}
+		writeLock.lock();
+		try {
+			Slab slab = current < 0 ? null : slabs[current];
+			if ( slab == null || slab.remaining() < bytes.length ) {
+				slab = nextSlab( bytes.length );
+			}
+			index.put( key, slab.append( index, key, bytes ) );
+			return true;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Copies the bytes of the entry out of the store.
+	 *
+	 * @return the bytes, or {@code null} if the slab holding the entry was recycled
+	 */
+	public byte[] read(Entry entry) {
+		final Slab slab = entry.slab;
+		if ( slab.generation != entry.generation ) {
+			return null;
+		}
+		final byte[] bytes = new byte[entry.length];
+		final ByteBuffer view = slab.buffer.duplicate();
+		view.position( entry.offset );
+		view.get( bytes );
+		// the bytes must be copied before the generation is checked again
+		VarHandle.acquireFence();
+		if ( slab.generation != entry.generation ) {
+			return null;
+		}
+		entry.accessed = true;
+		return bytes;
+	}
+
+	/**
+	 * Drops all the slabs, their native memory being reclaimed along with the buffers.
+	 */
+	public void release() {
+		writeLock.lock();
+		try {
+			for ( int i = 0; i < slabs.length; i++ ) {
+				if ( slabs[i] != null ) {
+					slabs[i].recycle( 0 );
+					slabs[i] = null;
+				}
+			}
+			current = -1;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	private Slab nextSlab(int required) {
+		current = ( current + 1 ) % slabs.length;
+		Slab slab = slabs[current];
+		if ( slab == null ) {
+			slab = new Slab( ByteBuffer.allocateDirect( slabSize ) );
+			slabs[current] = slab;
+		}
+		else {
+			slab.recycle( slabSize - required );
+		}
+		return slab;
+	}
+
+	/**
+	 * The location of the bytes of a cached value
+	 */
+	public static final class Entry {
+		private final ConcurrentMap<Object, Entry> index;
+		private final Object key;
+		private final Slab slab;
+		private final int generation;
+		private final int offset;
+		private final int length;
+
+		private volatile boolean accessed;
+
+		private Entry(ConcurrentMap<Object, Entry> index, Object key, Slab slab, int generation, int offset, int length) {
+			this.index = index;
+			this.key = key;
+			this.slab = slab;
+			this.generation = generation;
+			this.offset = offset;
+			this.length = length;
+		}
+
+		public int getLength() {
+			return length;
+		}
+
+		private boolean isLive() {
+			return index.get( key ) == this;
+		}
+	}
+
+	private static final class Slab {
+		private final ByteBuffer buffer;
+		private final List<Entry> entries = new ArrayList<>();
+
+		private volatile int generation;
+
+		private Slab(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		private int remaining() {
+			return buffer.remaining();
+		}
+
+		private Entry append(ConcurrentMap<Object, Entry> index, Object key, byte[] bytes) {
+			final Entry entry = new Entry( index, key, this, generation, buffer.position(), bytes.length );
+			buffer.put( bytes );
+			entries.add( entry );
+			return entry;
+		}
+
+		/**
+		 * Empties the slab, keeping up to {@code keptSize} bytes of the live entries read since they were written.
+		 */
+		private void recycle(int keptSize) {
+			final List<Entry> kept = new ArrayList<>();
+			final List<byte[]> keptBytes = new ArrayList<>();
+			int size = 0;
+			for ( Entry entry : entries ) {
+				if ( !entry.isLive() ) {
+					continue;
+				}
+				if ( entry.accessed && size + entry.length <= keptSize ) {
+					final byte[] bytes = new byte[entry.length];
+					final ByteBuffer view = buffer.duplicate();
+					view.position( entry.offset );
+					view.get( bytes );
+					kept.add( entry );
+					keptBytes.add( bytes );
+					size += entry.length;
+				}
+				else {
+					entry.index.remove( entry.key, entry );
+				}
+			}
+
+			generation++;
+			// readers must see the new generation before the bytes are overwritten
+			VarHandle.fullFence();
+			entries.clear();
+			buffer.clear();
+
+			for ( int i = 0; i < kept.size(); i++ ) {
+				final Entry entry = kept.get( i );
+				entry.index.replace( entry.key, entry, append( entry.index, entry.key, keptBytes.get( i ) ) );
+			}
+		}
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.offheap.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * StorageAccess for the update timestamps region, kept on the heap.
+ * <p/>
+ * There is one small entry per query space, and none of them may be evicted:
+ * a missing timestamp would make the cached query results over that space
+ * be considered up-to-date.
+ */
+public class TimestampsStorageAccess implements StorageAccess {
+	private final ConcurrentMap<Object, Object> data = new ConcurrentHashMap<>();
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		return data.get( key );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		data.put( key, value );
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return data.containsKey( key );
+	}
+
+	@Override
+	public void evictData() {
+		data.clear();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		data.remove( key );
+	}
+
+	@Override
+	public void release() {
+		data.clear();
+	}
+}
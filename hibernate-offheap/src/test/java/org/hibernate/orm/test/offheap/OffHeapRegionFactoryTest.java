@@ -0,0 +1,150 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.offheap;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.offheap.ConfigSettings;
+import org.hibernate.cache.offheap.internal.OffHeapRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests caching entities, collections and query results with {@link OffHeapRegionFactory}
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.CACHE_REGION_FACTORY, value = ConfigSettings.SIMPLE_FACTORY_NAME ),
+				@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+				@Setting( name = ConfigSettings.MAX_SIZE, value = "1048576" ),
+				@Setting( name = ConfigSettings.SLAB_SIZE, value = "65536" )
+		}
+)
+@DomainModel( annotatedClasses = OffHeapRegionFactoryTest.Country.class )
+@SessionFactory( generateStatistics = true )
+public class OffHeapRegionFactoryTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Country country = new Country( "FR", "France" );
+					country.languages.add( "French" );
+					session.persist( country );
+				}
+		);
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete from Country" ).executeUpdate() );
+	}
+
+	@Test
+	public void testRegionFactoryIsUsed(SessionFactoryScope scope) {
+		final OffHeapRegionFactory regionFactory = (OffHeapRegionFactory) scope.getSessionFactory()
+				.getCache()
+				.getRegionFactory();
+		assertEquals( 65536, regionFactory.getStore().getSlabSize() );
+	}
+
+	@Test
+	public void testEntityAndCollectionCaching(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		final Country loaded = scope.fromTransaction(
+				session -> {
+					final Country country = session.find( Country.class, "FR" );
+					Hibernate.initialize( country.languages );
+					return country;
+				}
+		);
+		assertEquals( 2, statistics.getSecondLevelCachePutCount() );
+		assertEquals( 0, statistics.getSecondLevelCacheHitCount() );
+
+		scope.inTransaction(
+				session -> {
+					final Country country = session.find( Country.class, "FR" );
+					assertNotSame( loaded, country );
+					assertEquals( "France", country.name );
+					assertFalse( Hibernate.isInitialized( country.languages ) );
+					assertTrue( country.languages.contains( "French" ) );
+				}
+		);
+		assertEquals( 2, statistics.getSecondLevelCacheHitCount() );
+		assertTrue( scope.getSessionFactory().getCache().containsEntity( Country.class, "FR" ) );
+	}
+
+	@Test
+	public void testQueryCaching(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction(
+					session -> {
+						final List<Country> countries = session.createQuery( "from Country", Country.class )
+								.setCacheable( true )
+								.list();
+						assertEquals( 1, countries.size() );
+					}
+			);
+		}
+		assertEquals( 1, statistics.getQueryCachePutCount() );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+
+		scope.inTransaction( session -> session.find( Country.class, "FR" ).name = "French Republic" );
+		scope.inTransaction(
+				session -> session.createQuery( "from Country", Country.class ).setCacheable( true ).list()
+		);
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+		assertEquals( 2, statistics.getQueryCachePutCount() );
+	}
+
+	@Entity( name = "Country" )
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Country {
+		@Id
+		String code;
+		String name;
+		@ElementCollection
+		@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+		Set<String> languages = new HashSet<>();
+
+		public Country() {
+		}
+
+		public Country(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+	}
+}
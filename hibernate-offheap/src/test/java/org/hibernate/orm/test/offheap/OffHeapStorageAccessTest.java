@@ -0,0 +1,121 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.offheap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.cache.offheap.internal.OffHeapStorageAccess;
+import org.hibernate.cache.offheap.internal.OffHeapStore;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link OffHeapStorageAccess} and the eviction of {@link OffHeapStore}
+ */
+@BaseUnitTest
+public class OffHeapStorageAccessTest {
+	private static final int SLAB_SIZE = 4096;
+	private static final int SLABS = 4;
+
+	@Test
+	public void testValuesAreCopiedOutOfTheHeap() {
+		final OffHeapStore store = new OffHeapStore( SLABS * SLAB_SIZE, SLAB_SIZE );
+		final OffHeapStorageAccess access = new OffHeapStorageAccess( "region", store );
+
+		final List<String> value = new ArrayList<>( Arrays.asList( "a", "b" ) );
+		access.putIntoCache( "key", value, null );
+		value.add( "c" );
+
+		final Object cached = access.getFromCache( "key", null );
+		assertEquals( Arrays.asList( "a", "b" ), cached );
+		assertNotSame( cached, access.getFromCache( "key", null ) );
+		assertEquals( SLAB_SIZE, store.getAllocatedSize() );
+
+		access.removeFromCache( "key", null );
+		assertFalse( access.contains( "key" ) );
+		assertNull( access.getFromCache( "key", null ) );
+
+		store.release();
+	}
+
+	@Test
+	public void testValuesWhichCannotBeStoredAreNotCached() {
+		final OffHeapStore store = new OffHeapStore( SLABS * SLAB_SIZE, SLAB_SIZE );
+		final OffHeapStorageAccess access = new OffHeapStorageAccess( "region", store );
+
+		access.putIntoCache( "key", "value", null );
+		access.putIntoCache( "key", new Object(), null );
+		assertFalse( access.contains( "key" ) );
+
+		access.putIntoCache( "key", new byte[SLAB_SIZE], null );
+		assertFalse( access.contains( "key" ) );
+		assertEquals( 0, access.getElementCount() );
+
+		store.release();
+	}
+
+	@Test
+	public void testOldestSlabIsEvicted() {
+		final OffHeapStore store = new OffHeapStore( SLABS * SLAB_SIZE, SLAB_SIZE );
+		final OffHeapStorageAccess access = new OffHeapStorageAccess( "region", store );
+
+		for ( int i = 0; i < 100; i++ ) {
+			access.putIntoCache( i, new byte[500], null );
+		}
+
+		assertEquals( SLABS * SLAB_SIZE, store.getAllocatedSize() );
+		assertTrue( access.getSizeInBytes() <= SLABS * SLAB_SIZE );
+		assertFalse( access.contains( 0 ) );
+		assertNotNull( access.getFromCache( 99, null ) );
+
+		store.release();
+	}
+
+	@Test
+	public void testRecentlyReadEntriesAreKept() {
+		final OffHeapStore store = new OffHeapStore( SLABS * SLAB_SIZE, SLAB_SIZE );
+		final OffHeapStorageAccess access = new OffHeapStorageAccess( "region", store );
+
+		access.putIntoCache( "hot", "value", null );
+		for ( int i = 0; i < 100; i++ ) {
+			access.putIntoCache( i, new byte[500], null );
+			assertEquals( "value", access.getFromCache( "hot", null ) );
+		}
+		assertFalse( access.contains( 0 ) );
+
+		store.release();
+	}
+
+	@Test
+	public void testRegionsShareTheStore() {
+		final OffHeapStore store = new OffHeapStore( SLABS * SLAB_SIZE, SLAB_SIZE );
+		final OffHeapStorageAccess first = new OffHeapStorageAccess( "first", store );
+		final OffHeapStorageAccess second = new OffHeapStorageAccess( "second", store );
+
+		first.putIntoCache( "key", "first", null );
+		second.putIntoCache( "key", "second", null );
+		assertEquals( "first", first.getFromCache( "key", null ) );
+		assertEquals( "second", second.getFromCache( "key", null ) );
+
+		first.evictData();
+		assertNull( first.getFromCache( "key", null ) );
+		assertEquals( "second", second.getFromCache( "key", null ) );
+
+		store.release();
+		assertNull( second.getFromCache( "key", null ) );
+	}
+}
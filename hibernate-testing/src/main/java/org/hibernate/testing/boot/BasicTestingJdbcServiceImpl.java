@@ -8,6 +8,7 @@ package org.hibernate.testing.boot;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.concurrent.Executor;
 
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.LobCreationContext;
@@ -24,6 +25,10 @@ import org.hibernate.service.ServiceRegistry;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.service.spi.Stoppable;
+import org.hibernate.sql.exec.internal.AsyncJdbcMutationExecutorStandardImpl;
+import org.hibernate.sql.exec.internal.AsyncJdbcSelectExecutorStandardImpl;
+import org.hibernate.sql.exec.spi.AsyncJdbcMutationExecutor;
+import org.hibernate.sql.exec.spi.AsyncJdbcSelectExecutor;
 
 import org.hibernate.testing.env.ConnectionProviderBuilder;
 
@@ -45,6 +50,13 @@ public class BasicTestingJdbcServiceImpl implements JdbcServices, ServiceRegistr
 	private JdbcConnectionAccess jdbcConnectionAccess;
 	private ServiceRegistry serviceRegistry;
 
+	// tests run the "asynchronous" operations on the calling thread
+	private final Executor executor = Runnable::run;
+	private final AsyncJdbcSelectExecutor asyncJdbcSelectExecutor =
+			new AsyncJdbcSelectExecutorStandardImpl( getJdbcSelectExecutor(), executor );
+	private final AsyncJdbcMutationExecutor asyncJdbcMutationExecutor =
+			new AsyncJdbcMutationExecutorStandardImpl( getJdbcMutationExecutor(), executor );
+
 	public void start() {
 	}
 
@@ -108,6 +120,21 @@ public class BasicTestingJdbcServiceImpl implements JdbcServices, ServiceRegistr
 		return jdbcEnvironment.getExtractedDatabaseMetaData();
 	}
 
+	@Override
+	public AsyncJdbcSelectExecutor getAsyncJdbcSelectExecutor() {
+		return asyncJdbcSelectExecutor;
+	}
+
+	@Override
+	public AsyncJdbcMutationExecutor getAsyncJdbcMutationExecutor() {
+		return asyncJdbcMutationExecutor;
+	}
+
+	@Override
+	public Executor getBatchExecutor() {
+		return executor;
+	}
+
 	@Override
 	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 		this.serviceRegistry = serviceRegistry;
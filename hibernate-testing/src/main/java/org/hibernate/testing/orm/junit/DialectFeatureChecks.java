@@ -321,6 +321,12 @@ abstract public class DialectFeatureChecks {
 		}
 	}
 
+	public static class SupportsUpsert implements DialectFeatureCheck {
+		public boolean apply(Dialect dialect) {
+			return dialect.supportsUpsert();
+		}
+	}
+
 	public static class SupportsFormat implements DialectFeatureCheck {
 		public boolean apply(Dialect dialect) {
 			try {
@@ -380,4 +386,10 @@ abstract public class DialectFeatureChecks {
 			return dialect.forceLobAsLastValue();
 		}
 	}
+
+	public static class SupportsStandardArrays implements DialectFeatureCheck {
+		public boolean apply(Dialect dialect) {
+			return dialect.supportsStandardArrays();
+		}
+	}
 }